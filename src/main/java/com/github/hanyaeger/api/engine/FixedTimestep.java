@@ -0,0 +1,117 @@
+package com.github.hanyaeger.api.engine;
+
+import com.github.hanyaeger.api.engine.exceptions.YaegerEngineException;
+import com.github.hanyaeger.api.javafx.animationtimer.AnimationTimerHandler;
+import javafx.animation.AnimationTimer;
+
+import java.util.function.DoubleConsumer;
+
+/**
+ * A {@link FixedTimestep} decouples the Game World Update from the refresh rate of the display. The
+ * {@link AnimationTimer} calls {@link #handle(long)} once per pulse, after which the time that has passed since the
+ * previous pulse is added to an accumulator. As long as the accumulator contains at least the duration of a single
+ * tick, the simulation is updated and the duration of that tick is taken from the accumulator. A pulse can thus lead
+ * to zero, one or more ticks, so the simulation runs at the same speed on every display.
+ * <p>
+ * The number of ticks per pulse is capped, so a stalled pulse does not lead to an ever growing backlog. After the
+ * ticks, the renderer receives the fraction of a tick that is left in the accumulator, which can be used to
+ * interpolate between the last two ticks.
+ * <p>
+ * Each tick receives a timestamp that grows by exactly the duration of a tick, so all instances of {@link Timer}
+ * also follow the simulation instead of the display.
+ */
+public class FixedTimestep implements AnimationTimerHandler {
+
+    /**
+     * The maximum number of ticks per pulse that is used if none is given.
+     */
+    public static final int DEFAULT_MAX_TICKS_PER_PULSE = 5;
+
+    private static final double NANOSECONDS_PER_SECOND = 1_000_000_000d;
+
+    private final Updatable simulation;
+    private final DoubleConsumer renderer;
+    private final int ticksPerSecond;
+    private final long tickDuration;
+    private final int maxTicksPerPulse;
+
+    private long previousPulse = -1;
+    private long accumulator;
+    private long simulationTime;
+
+    /**
+     * Create a new {@link FixedTimestep} that uses {@link #DEFAULT_MAX_TICKS_PER_PULSE}.
+     *
+     * @param ticksPerSecond the number of ticks per second
+     * @param simulation     the {@link Updatable} that should be updated on each tick
+     * @param renderer       the {@link DoubleConsumer} that receives the fraction of a tick that is left after each
+     *                       pulse, which is at least {@code 0} and smaller than {@code 1}
+     */
+    public FixedTimestep(final int ticksPerSecond, final Updatable simulation, final DoubleConsumer renderer) {
+        this(ticksPerSecond, DEFAULT_MAX_TICKS_PER_PULSE, simulation, renderer);
+    }
+
+    /**
+     * Create a new {@link FixedTimestep}.
+     *
+     * @param ticksPerSecond   the number of ticks per second, which should be larger than 0
+     * @param maxTicksPerPulse the maximum number of ticks per pulse, which should be larger than 0
+     * @param simulation       the {@link Updatable} that should be updated on each tick
+     * @param renderer         the {@link DoubleConsumer} that receives the fraction of a tick that is left after
+     *                         each pulse, which is at least {@code 0} and smaller than {@code 1}
+     */
+    public FixedTimestep(final int ticksPerSecond, final int maxTicksPerPulse, final Updatable simulation,
+                         final DoubleConsumer renderer) {
+        if (ticksPerSecond <= 0) {
+            throw new YaegerEngineException("The number of ticks per second should be larger than 0.");
+        }
+        if (maxTicksPerPulse <= 0) {
+            throw new YaegerEngineException("The maximum number of ticks per pulse should be larger than 0.");
+        }
+
+        this.ticksPerSecond = ticksPerSecond;
+        this.tickDuration = Math.round(NANOSECONDS_PER_SECOND / ticksPerSecond);
+        this.maxTicksPerPulse = maxTicksPerPulse;
+        this.simulation = simulation;
+        this.renderer = renderer;
+    }
+
+    /**
+     * @return the number of ticks per second
+     */
+    public int getTicksPerSecond() {
+        return ticksPerSecond;
+    }
+
+    @Override
+    public void handle(final long now) {
+        if (previousPulse < 0) {
+            previousPulse = now;
+            simulationTime = now;
+        }
+
+        accumulator += now - previousPulse;
+        previousPulse = now;
+
+        var ticks = 0;
+        while (accumulator >= tickDuration && ticks < maxTicksPerPulse) {
+            simulationTime += tickDuration;
+            simulation.update(simulationTime);
+            accumulator -= tickDuration;
+            ticks++;
+        }
+
+        if (accumulator >= tickDuration) {
+            accumulator = 0;
+        }
+
+        renderer.accept((double) accumulator / tickDuration);
+    }
+
+    /**
+     * @return the duration of a single tick in nanoseconds
+     */
+    public long getTickDuration() {
+        return tickDuration;
+    }
+}
@@ -4,7 +4,15 @@ import com.github.hanyaeger.api.engine.Updatable;
 import com.github.hanyaeger.api.engine.UpdateDelegator;
 import com.github.hanyaeger.api.engine.exceptions.YaegerEngineException;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
 
 /**
  * The {@link AnnotationProcessor} is responsible for processing Yaeger specific annotations. Currently
@@ -15,16 +23,51 @@ import java.lang.reflect.InvocationTargetException;
  *     <li>{@link OnPostActivation}</li>
  *     <li>{@link UpdatableProvider}</li>
  * </ul>
+ * <p>
+ * Each class is only scanned once. The annotated methods that are found are cached per class, as a
+ * {@link MethodHandle}, so all later instances of that class are processed without any reflective lookup.
+ * <p>
+ * If an {@link EntityWiring} has been generated at build time for a class, it can be obtained through
+ * {@link #getWiring(Object)}, so the reflective path can be skipped altogether.
  */
 public class AnnotationProcessor {
 
+    private static final MethodType ACTIVATOR_TYPE = MethodType.methodType(void.class, Object.class);
+    private static final MethodType PROVIDER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private static final ClassValue<Optional<EntityWiring<Object>>> WIRINGS = new ClassValue<>() {
+        @Override
+        protected Optional<EntityWiring<Object>> computeValue(final Class<?> type) {
+            return loadWiring(type);
+        }
+    };
+
+    private static final ClassValue<AnnotatedMethods> ANNOTATED_METHODS = new ClassValue<>() {
+        @Override
+        protected AnnotatedMethods computeValue(final Class<?> type) {
+            return new AnnotatedMethods(type);
+        }
+    };
+
+    /**
+     * Return the {@link EntityWiring} that has been generated for the class of the given {@link Object}. The
+     * generated class is only looked up once per class.
+     *
+     * @param gameObject The {@link Object} for which an {@link EntityWiring} should be returned.
+     * @return An {@link Optional} containing the {@link EntityWiring}, or an empty {@link Optional} if none
+     * has been generated.
+     */
+    public Optional<EntityWiring<Object>> getWiring(final Object gameObject) {
+        return WIRINGS.get(gameObject.getClass());
+    }
+
     /**
      * Invoke all methods annotated with the annotation {@link OnActivation} on the given {@link Object}.
      *
      * @param gameObject The {@link Object} that should be scanned for the {@link OnActivation} annotation.
      */
     public void invokeActivators(final Object gameObject) {
-        invoke(gameObject, OnActivation.class);
+        invoke(gameObject, ANNOTATED_METHODS.get(gameObject.getClass()).activators);
     }
 
     /**
@@ -33,17 +76,17 @@ public class AnnotationProcessor {
      * @param gameObject The {@link Object} that should be scanned for the {@link OnPostActivation} annotation.
      */
     public void invokePostActivators(final Object gameObject) {
-        invoke(gameObject, OnPostActivation.class);
+        invoke(gameObject, ANNOTATED_METHODS.get(gameObject.getClass()).postActivators);
     }
 
-    private void invoke(final Object gameObject, final Class annotation) {
-        for (var method : gameObject.getClass().getMethods()) {
-            if (method.isAnnotationPresent(annotation)) {
-                try {
-                    method.invoke(gameObject);
-                } catch (IllegalAccessException | InvocationTargetException e) {
-                    throw new YaegerEngineException(e);
-                }
+    private void invoke(final Object gameObject, final MethodHandle[] handles) {
+        for (var handle : handles) {
+            try {
+                handle.invokeExact(gameObject);
+            } catch (Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new YaegerEngineException(new InvocationTargetException(e));
             }
         }
     }
@@ -57,19 +100,98 @@ public class AnnotationProcessor {
     public void configureUpdateDelegators(final Object gameObject) {
         if (gameObject instanceof UpdateDelegator) {
             var updateDelegator = (UpdateDelegator) gameObject;
-            for (var method : gameObject.getClass().getMethods()) {
-                if (method.isAnnotationPresent(UpdatableProvider.class)) {
-                    UpdatableProvider annotation = method.getAnnotation(UpdatableProvider.class);
-                    try {
-                        var providedUpdatable = method.invoke(updateDelegator);
-                        if (providedUpdatable instanceof Updatable) {
-                            var delegatedUpdatable = (Updatable) providedUpdatable;
-                            updateDelegator.getUpdater().addUpdatable(delegatedUpdatable, annotation.asFirst());
-                        }
-                    } catch (IllegalAccessException | InvocationTargetException | ClassCastException e) {
-                        throw new YaegerEngineException(e);
+            var annotatedMethods = ANNOTATED_METHODS.get(gameObject.getClass());
+            for (var i = 0; i < annotatedMethods.updatableProviders.length; i++) {
+                try {
+                    var providedUpdatable = (Object) annotatedMethods.updatableProviders[i].invokeExact(gameObject);
+                    if (providedUpdatable instanceof Updatable) {
+                        var delegatedUpdatable = (Updatable) providedUpdatable;
+                        updateDelegator.getUpdater().addUpdatable(delegatedUpdatable, annotatedMethods.asFirst[i]);
                     }
+                } catch (Error e) {
+                    throw e;
+                } catch (ClassCastException e) {
+                    throw new YaegerEngineException(e);
+                } catch (Throwable e) {
+                    throw new YaegerEngineException(new InvocationTargetException(e));
+                }
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Optional<EntityWiring<Object>> loadWiring(final Class<?> type) {
+        var packageName = type.getPackageName();
+        var className = packageName.isEmpty() ? type.getName() : type.getName().substring(packageName.length() + 1);
+        var wiringName = (packageName.isEmpty() ? "" : packageName + ".")
+                + className.replace('$', '_') + EntityWiring.CLASS_NAME_SUFFIX;
+
+        try {
+            var wiringClass = Class.forName(wiringName, true, type.getClassLoader());
+            if (EntityWiring.class.isAssignableFrom(wiringClass)) {
+                return Optional.of((EntityWiring<Object>) wiringClass.getDeclaredConstructor().newInstance());
+            }
+        } catch (ReflectiveOperationException | LinkageError e) {
+            // No usable EntityWiring has been generated, so the reflective path is used.
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * The annotated methods of a single class, each as a {@link MethodHandle} that accepts the instance as its
+     * only parameter.
+     */
+    private static final class AnnotatedMethods {
+
+        private final MethodHandle[] activators;
+        private final MethodHandle[] postActivators;
+        private final MethodHandle[] updatableProviders;
+        private final boolean[] asFirst;
+
+        private AnnotatedMethods(final Class<?> type) {
+            var lookup = MethodHandles.lookup();
+            List<MethodHandle> foundActivators = new ArrayList<>();
+            List<MethodHandle> foundPostActivators = new ArrayList<>();
+            List<MethodHandle> foundProviders = new ArrayList<>();
+            List<Boolean> foundAsFirst = new ArrayList<>();
+
+            for (var method : type.getMethods()) {
+                if (method.isAnnotationPresent(OnActivation.class)) {
+                    foundActivators.add(unreflect(lookup, method).asType(ACTIVATOR_TYPE));
+                }
+                if (method.isAnnotationPresent(OnPostActivation.class)) {
+                    foundPostActivators.add(unreflect(lookup, method).asType(ACTIVATOR_TYPE));
+                }
+                if (method.isAnnotationPresent(UpdatableProvider.class)) {
+                    foundProviders.add(unreflect(lookup, method).asType(PROVIDER_TYPE));
+                    foundAsFirst.add(method.getAnnotation(UpdatableProvider.class).asFirst());
+                }
+            }
+
+            this.activators = foundActivators.toArray(new MethodHandle[0]);
+            this.postActivators = foundPostActivators.toArray(new MethodHandle[0]);
+            this.updatableProviders = foundProviders.toArray(new MethodHandle[0]);
+            this.asFirst = new boolean[foundAsFirst.size()];
+            for (var i = 0; i < asFirst.length; i++) {
+                asFirst[i] = foundAsFirst.get(i);
+            }
+        }
+
+        /**
+         * Unlike core reflection, a {@link MethodHandles.Lookup} only accesses classes in modules that are read by
+         * the module of the {@link AnnotationProcessor}. Since a game is usually packaged as a named module that is
+         * not read by default, the module that declares the method is read before it is unreflected.
+         */
+        private static MethodHandle unreflect(final MethodHandles.Lookup lookup, final Method method) {
+            AnnotationProcessor.class.getModule().addReads(method.getDeclaringClass().getModule());
+            try {
+                var handle = lookup.unreflect(method);
+                if (Modifier.isStatic(method.getModifiers())) {
+                    return MethodHandles.dropArguments(handle, 0, Object.class);
                 }
+                return handle;
+            } catch (IllegalAccessException e) {
+                throw new YaegerEngineException(e);
             }
         }
     }
@@ -0,0 +1,54 @@
+package com.github.hanyaeger.api.engine.annotations;
+
+import com.github.hanyaeger.api.engine.UpdateDelegator;
+import com.github.hanyaeger.api.engine.annotations.processing.EntityWiringProcessor;
+import com.github.hanyaeger.api.engine.entities.EntityCollection;
+import com.google.inject.Injector;
+
+/**
+ * An {@link EntityWiring} performs, for a single class, the work the {@link Injector} and the
+ * {@link AnnotationProcessor} would otherwise perform through reflection: it calls the setters and fills the fields
+ * annotated with {@code @Inject}, and calls the methods annotated with {@link OnActivation} and
+ * {@link UpdatableProvider}. {@link OnPostActivation} is only used by scenes, which are still processed through
+ * reflection.
+ * <p>
+ * Instances of {@link EntityWiring} are not written by hand, but generated at build time by the
+ * {@link EntityWiringProcessor}. The generated class is placed in the same package as the class it wires and is
+ * named after that class, followed by {@link #CLASS_NAME_SUFFIX}. If such a class exists, the
+ * {@link EntityCollection} uses it instead of the reflective path.
+ *
+ * @param <T> the class that is wired by this {@link EntityWiring}
+ */
+public interface EntityWiring<T> {
+
+    /**
+     * The suffix that is appended to the name of a class to obtain the name of its {@link EntityWiring}. The name of
+     * a nested class is flattened, by replacing each {@code $} with an {@code _}.
+     */
+    String CLASS_NAME_SUFFIX = "_YaegerWiring";
+
+    /**
+     * Inject all members of the given instance that are annotated with {@code @Inject}, in the same order
+     * {@link Injector#injectMembers(Object)} would use.
+     *
+     * @param instance the instance whose members should be injected
+     * @param injector the {@link Injector} that provides the instances to inject
+     */
+    void injectMembers(final T instance, final Injector injector);
+
+    /**
+     * Invoke all methods annotated with {@link OnActivation} on the given instance.
+     *
+     * @param instance the instance on which the methods should be invoked
+     */
+    void invokeActivators(final T instance);
+
+    /**
+     * Add the {@link com.github.hanyaeger.api.engine.Updatable} provided by each method annotated with
+     * {@link UpdatableProvider} to the {@link com.github.hanyaeger.api.engine.Updater} of the given instance, if it
+     * is an {@link UpdateDelegator}.
+     *
+     * @param instance the instance that should be configured
+     */
+    void configureUpdateDelegators(final T instance);
+}
@@ -0,0 +1,391 @@
+package com.github.hanyaeger.api.engine.annotations.processing;
+
+import com.github.hanyaeger.api.engine.annotations.EntityWiring;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.ExecutableType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * The {@link EntityWiringProcessor} is an annotation processor that generates, at build time, an
+ * {@link EntityWiring} for each concrete subclass of
+ * {@link com.github.hanyaeger.api.engine.entities.entity.YaegerEntity} that is compiled. The generated class calls
+ * the members annotated with {@code @Inject}, {@link com.github.hanyaeger.api.engine.annotations.OnActivation} and
+ * {@link com.github.hanyaeger.api.engine.annotations.UpdatableProvider} directly, so creating an entity requires
+ * no reflection.
+ * <p>
+ * The {@link EntityWiringProcessor} is optional and is not registered as a service, so it has to be enabled
+ * explicitly, for instance through the {@code -processor} option of {@code javac} or the
+ * {@code annotationProcessors} of the {@code maven-compiler-plugin}.
+ * <p>
+ * A class is skipped if its members cannot be wired without reflection. This is the case if it is generic, if it
+ * is not accessible from its own package, or if one of its injected members is private, final, optional, uses a
+ * binding annotation or requires a generic or primitive type. Each skipped class is reported as a note, and its
+ * instances are processed through reflection instead.
+ */
+@SupportedAnnotationTypes("*")
+public class EntityWiringProcessor extends AbstractProcessor {
+
+    private static final String YAEGER_ENTITY = "com.github.hanyaeger.api.engine.entities.entity.YaegerEntity";
+    private static final String UPDATE_DELEGATOR = "com.github.hanyaeger.api.engine.UpdateDelegator";
+    private static final String UPDATABLE = "com.github.hanyaeger.api.engine.Updatable";
+    private static final String ON_ACTIVATION = "com.github.hanyaeger.api.engine.annotations.OnActivation";
+    private static final String UPDATABLE_PROVIDER = "com.github.hanyaeger.api.engine.annotations.UpdatableProvider";
+    private static final String GUICE_INJECT = "com.google.inject.Inject";
+    private static final Set<String> INJECT = Set.of(GUICE_INJECT, "javax.inject.Inject");
+    private static final Set<String> QUALIFIERS = Set.of("com.google.inject.BindingAnnotation", "javax.inject.Qualifier");
+
+    private static final String INDENT = "        ";
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(final Set<? extends TypeElement> annotations, final RoundEnvironment roundEnv) {
+        var yaegerEntity = processingEnv.getElementUtils().getTypeElement(YAEGER_ENTITY);
+        if (yaegerEntity == null) {
+            return false;
+        }
+
+        for (var type : ElementFilter.typesIn(roundEnv.getRootElements())) {
+            processType(type, yaegerEntity.asType());
+        }
+        return false;
+    }
+
+    private void processType(final TypeElement type, final TypeMirror yaegerEntity) {
+        for (var nested : ElementFilter.typesIn(type.getEnclosedElements())) {
+            processType(nested, yaegerEntity);
+        }
+
+        var types = processingEnv.getTypeUtils();
+        if (type.getKind() != ElementKind.CLASS
+                || type.getModifiers().contains(Modifier.ABSTRACT)
+                || !types.isSubtype(types.erasure(type.asType()), yaegerEntity)) {
+            return;
+        }
+
+        try {
+            write(type, generate(type));
+        } catch (UnwirableException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE,
+                    "No EntityWiring is generated, since " + e.getMessage(), type);
+        }
+    }
+
+    private String generate(final TypeElement type) throws UnwirableException {
+        var packageName = getPackage(type).getQualifiedName().toString();
+        var entityName = type.getQualifiedName().toString();
+
+        for (Element element = type; element instanceof TypeElement; element = element.getEnclosingElement()) {
+            if (!((TypeElement) element).getTypeParameters().isEmpty()) {
+                throw new UnwirableException(element.getSimpleName() + " is generic");
+            }
+            if (element.getModifiers().contains(Modifier.PRIVATE)) {
+                throw new UnwirableException(element.getSimpleName() + " is private");
+            }
+        }
+
+        var source = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+        source.append("/**\n * Generated by the ").append(EntityWiringProcessor.class.getName()).append(".\n */\n")
+                .append("public final class ").append(getWiringName(type))
+                .append(" implements ").append(EntityWiring.class.getName()).append('<').append(entityName).append("> {\n\n");
+
+        appendMethod(source, "injectMembers", entityName, ", final com.google.inject.Injector injector",
+                generateInjection(type, packageName));
+        appendMethod(source, "invokeActivators", entityName, "", generateActivators(type, ON_ACTIVATION));
+        appendMethod(source, "configureUpdateDelegators", entityName, "", generateUpdateDelegators(type));
+
+        source.setLength(source.length() - 1);
+        return source.append("}\n").toString();
+    }
+
+    /**
+     * Generate the injection of all members annotated with {@code @Inject}. Just like Guice, the members of a
+     * superclass are injected before those of a subclass, fields are injected before methods and a method that
+     * is overridden is only injected if the overriding method is annotated as well.
+     */
+    private String generateInjection(final TypeElement type, final String packageName) throws UnwirableException {
+        var hierarchy = new ArrayList<TypeElement>();
+        for (var current = type; current != null; current = getSuperclass(current)) {
+            hierarchy.add(current);
+        }
+        Collections.reverse(hierarchy);
+
+        var types = processingEnv.getTypeUtils();
+        var entityType = (DeclaredType) type.asType();
+        var code = new StringBuilder();
+
+        for (var i = 0; i < hierarchy.size(); i++) {
+            var declaring = hierarchy.get(i);
+
+            for (var field : ElementFilter.fieldsIn(declaring.getEnclosedElements())) {
+                if (!isInjected(field)) {
+                    continue;
+                }
+                if (field.getModifiers().contains(Modifier.FINAL)) {
+                    throw new UnwirableException("the injected field " + field.getSimpleName() + " is final");
+                }
+                var fieldType = types.asMemberOf(entityType, field);
+                code.append(INDENT).append(getTarget(field, declaring, type, packageName)).append('.')
+                        .append(field.getSimpleName()).append(" = ").append(getInstance(field, fieldType, packageName))
+                        .append(";\n");
+            }
+
+            for (var method : ElementFilter.methodsIn(declaring.getEnclosedElements())) {
+                if (!isInjected(method) || isOverridden(method, hierarchy.subList(i + 1, hierarchy.size()), type)) {
+                    continue;
+                }
+                var methodType = (ExecutableType) types.asMemberOf(entityType, method);
+                var arguments = new ArrayList<String>();
+                for (var p = 0; p < method.getParameters().size(); p++) {
+                    arguments.add(getInstance(method.getParameters().get(p), methodType.getParameterTypes().get(p),
+                            packageName));
+                }
+                code.append(INDENT).append(getTarget(method, declaring, type, packageName)).append('.')
+                        .append(method.getSimpleName()).append('(').append(String.join(", ", arguments))
+                        .append(");\n");
+            }
+        }
+
+        return code.toString();
+    }
+
+    /**
+     * Generate the invocation of all public methods annotated with the given annotation, including those that are
+     * inherited, which are the methods {@link Class#getMethods()} would return.
+     */
+    private String generateActivators(final TypeElement type, final String annotation) throws UnwirableException {
+        var code = new StringBuilder();
+        for (var method : getPublicMethods(type, annotation)) {
+            code.append(INDENT).append("instance.").append(method.getSimpleName()).append("();\n");
+        }
+        return code.toString();
+    }
+
+    private String generateUpdateDelegators(final TypeElement type) throws UnwirableException {
+        var types = processingEnv.getTypeUtils();
+        var updateDelegator = processingEnv.getElementUtils().getTypeElement(UPDATE_DELEGATOR);
+        if (updateDelegator == null || !types.isSubtype(type.asType(), updateDelegator.asType())) {
+            return "";
+        }
+
+        var code = new StringBuilder();
+        var index = 0;
+        for (var method : getPublicMethods(type, UPDATABLE_PROVIDER)) {
+            if (method.getReturnType().getKind() == TypeKind.VOID) {
+                throw new UnwirableException("the UpdatableProvider " + method.getSimpleName() + " returns void");
+            }
+            var provided = "provided" + index++;
+            var asFirst = getAnnotationValue(getAnnotation(method, UPDATABLE_PROVIDER), "asFirst");
+            code.append(INDENT).append("Object ").append(provided).append(" = instance.")
+                    .append(method.getSimpleName()).append("();\n")
+                    .append(INDENT).append("if (").append(provided).append(" instanceof ").append(UPDATABLE)
+                    .append(") {\n")
+                    .append(INDENT).append("    instance.getUpdater().addUpdatable((").append(UPDATABLE).append(") ")
+                    .append(provided).append(", ").append(asFirst).append(");\n")
+                    .append(INDENT).append("}\n");
+        }
+        return code.toString();
+    }
+
+    private List<ExecutableElement> getPublicMethods(final TypeElement type, final String annotation)
+            throws UnwirableException {
+        var methods = new ArrayList<ExecutableElement>();
+        for (var method : ElementFilter.methodsIn(processingEnv.getElementUtils().getAllMembers(type))) {
+            if (!method.getModifiers().contains(Modifier.PUBLIC) || getAnnotation(method, annotation) == null) {
+                continue;
+            }
+            if (method.getModifiers().contains(Modifier.STATIC) || !method.getParameters().isEmpty()) {
+                throw new UnwirableException("the annotated method " + method.getSimpleName()
+                        + " is static or has parameters");
+            }
+            methods.add(method);
+        }
+        return methods;
+    }
+
+    private void appendMethod(final StringBuilder source, final String name, final String entityName,
+                              final String extraParameters, final String body) {
+        source.append("    @Override\n")
+                .append("    public void ").append(name).append("(final ").append(entityName).append(" instance")
+                .append(extraParameters).append(") {\n")
+                .append(body)
+                .append("    }\n\n");
+    }
+
+    private boolean isInjected(final Element member) throws UnwirableException {
+        if (member.getModifiers().contains(Modifier.STATIC)) {
+            return false;
+        }
+
+        for (var mirror : member.getAnnotationMirrors()) {
+            var name = getName(mirror);
+            if (!INJECT.contains(name)) {
+                continue;
+            }
+            if (member.getModifiers().contains(Modifier.PRIVATE)) {
+                throw new UnwirableException("the injected member " + member.getSimpleName() + " is private");
+            }
+            if (GUICE_INJECT.equals(name) && Boolean.TRUE.equals(getAnnotationValue(mirror, "optional"))) {
+                throw new UnwirableException("the injected member " + member.getSimpleName() + " is optional");
+            }
+            return true;
+        }
+        return false;
+    }
+
+    private boolean isOverridden(final ExecutableElement method, final List<TypeElement> subclasses,
+                                 final TypeElement type) {
+        var elements = processingEnv.getElementUtils();
+        for (var subclass : subclasses) {
+            for (var candidate : ElementFilter.methodsIn(subclass.getEnclosedElements())) {
+                if (elements.overrides(candidate, method, type)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Return the expression through which the given member is accessed. A public member is accessed through the
+     * instance itself, other members only if they are declared in the package of the generated class, through a
+     * cast to the class that declares them.
+     */
+    private String getTarget(final Element member, final TypeElement declaring, final TypeElement type,
+                             final String packageName) throws UnwirableException {
+        if (member.getModifiers().contains(Modifier.PUBLIC) || declaring.equals(type)) {
+            return "instance";
+        }
+        if (!getPackage(declaring).getQualifiedName().contentEquals(packageName)) {
+            throw new UnwirableException("the injected member " + member.getSimpleName()
+                    + " is not accessible from " + packageName);
+        }
+        return "((" + declaring.getQualifiedName() + ") instance)";
+    }
+
+    private String getInstance(final Element element, final TypeMirror type, final String packageName)
+            throws UnwirableException {
+        for (var mirror : element.getAnnotationMirrors()) {
+            for (var meta : mirror.getAnnotationType().asElement().getAnnotationMirrors()) {
+                if (QUALIFIERS.contains(getName(meta))) {
+                    throw new UnwirableException(element.getSimpleName() + " uses a binding annotation");
+                }
+            }
+        }
+
+        if (type.getKind() != TypeKind.DECLARED) {
+            throw new UnwirableException(element.getSimpleName() + " requires the type " + type);
+        }
+        var typeElement = (TypeElement) ((DeclaredType) type).asElement();
+        if (!typeElement.getTypeParameters().isEmpty() || !isAccessible(typeElement, packageName)) {
+            throw new UnwirableException(element.getSimpleName() + " requires the type " + type);
+        }
+        return "injector.getInstance(" + typeElement.getQualifiedName() + ".class)";
+    }
+
+    private boolean isAccessible(final TypeElement type, final String packageName) {
+        var samePackage = getPackage(type).getQualifiedName().contentEquals(packageName);
+        for (Element element = type; element instanceof TypeElement; element = element.getEnclosingElement()) {
+            var modifiers = element.getModifiers();
+            if (modifiers.contains(Modifier.PRIVATE) || !(modifiers.contains(Modifier.PUBLIC) || samePackage)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void write(final TypeElement type, final String source) {
+        var packageName = getPackage(type).getQualifiedName().toString();
+        var name = (packageName.isEmpty() ? "" : packageName + ".") + getWiringName(type);
+
+        try (var writer = processingEnv.getFiler().createSourceFile(name, type).openWriter()) {
+            writer.write(source);
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "The EntityWiring " + name + " could not be written: " + e.getMessage(), type);
+        }
+    }
+
+    /**
+     * Return the simple name of the {@link EntityWiring} of the given type, which is the binary name of the type
+     * within its package, with each {@code $} replaced by an {@code _}, followed by
+     * {@link EntityWiring#CLASS_NAME_SUFFIX}.
+     */
+    private String getWiringName(final TypeElement type) {
+        var binaryName = processingEnv.getElementUtils().getBinaryName(type).toString();
+        var packageName = getPackage(type).getQualifiedName().toString();
+        var className = packageName.isEmpty() ? binaryName : binaryName.substring(packageName.length() + 1);
+        return className.replace('$', '_') + EntityWiring.CLASS_NAME_SUFFIX;
+    }
+
+    private TypeElement getSuperclass(final TypeElement type) {
+        var superclass = type.getSuperclass();
+        if (superclass.getKind() != TypeKind.DECLARED) {
+            return null;
+        }
+        var element = (TypeElement) ((DeclaredType) superclass).asElement();
+        return element.getQualifiedName().contentEquals(Object.class.getName()) ? null : element;
+    }
+
+    private PackageElement getPackage(final Element element) {
+        return processingEnv.getElementUtils().getPackageOf(element);
+    }
+
+    private AnnotationMirror getAnnotation(final Element element, final String annotation) {
+        for (var mirror : element.getAnnotationMirrors()) {
+            if (getName(mirror).equals(annotation)) {
+                return mirror;
+            }
+        }
+        return null;
+    }
+
+    private Object getAnnotationValue(final AnnotationMirror mirror, final String name) {
+        for (var entry : processingEnv.getElementUtils().getElementValuesWithDefaults(mirror).entrySet()) {
+            if (entry.getKey().getSimpleName().contentEquals(name)) {
+                return entry.getValue().getValue();
+            }
+        }
+        return null;
+    }
+
+    private String getName(final AnnotationMirror mirror) {
+        return ((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().toString();
+    }
+
+    /**
+     * Thrown when a class cannot be wired without reflection.
+     */
+    private static class UnwirableException extends Exception {
+
+        UnwirableException(final String message) {
+            super(message);
+        }
+    }
+}
@@ -1,26 +1,42 @@
 package com.github.hanyaeger.api.engine.entities;
 
+import com.github.hanyaeger.api.engine.FixedTimestep;
 import com.github.hanyaeger.api.engine.Initializable;
+import com.github.hanyaeger.api.engine.Size;
 import com.github.hanyaeger.api.engine.Updatable;
 import com.github.hanyaeger.api.engine.annotations.AnnotationProcessor;
+import com.github.hanyaeger.api.engine.annotations.EntityWiring;
 import com.github.hanyaeger.api.engine.debug.StatisticsObserver;
+import com.github.hanyaeger.api.engine.entities.entity.BoundsCache;
+import com.github.hanyaeger.api.engine.entities.entity.EntityAccessor;
+import com.github.hanyaeger.api.engine.entities.entity.Poolable;
+import com.github.hanyaeger.api.engine.entities.entity.Computable;
 import com.github.hanyaeger.api.engine.entities.entity.Removeable;
+import com.github.hanyaeger.api.engine.entities.entity.SleepDelegate;
+import com.github.hanyaeger.api.engine.entities.entity.Sleepable;
 import com.github.hanyaeger.api.engine.entities.entity.collisions.AABBCollided;
 import com.github.hanyaeger.api.engine.entities.entity.collisions.AABBCollider;
+import com.github.hanyaeger.api.engine.entities.entity.collisions.Broadphase;
 import com.github.hanyaeger.api.engine.entities.entity.collisions.CollisionDelegate;
 import com.github.hanyaeger.api.engine.entities.entity.events.userinput.KeyListener;
+import com.github.hanyaeger.api.engine.entities.entity.motion.Moveable;
+import com.github.hanyaeger.api.engine.entities.entity.physics.Physical;
+import com.github.hanyaeger.api.engine.entities.entity.physics.PhysicsWorld;
 import com.github.hanyaeger.api.engine.scenes.YaegerScene;
 import com.google.inject.Inject;
 import com.google.inject.Injector;
 import com.github.hanyaeger.api.engine.entities.entity.YaegerEntity;
 import javafx.scene.Group;
+import javafx.scene.Node;
 import javafx.scene.input.KeyCode;
 import com.github.hanyaeger.api.engine.entities.entity.events.EventTypes;
 import javafx.scene.layout.Pane;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * An {@link EntityCollection} encapsulates all behaviour related to all instances of {@link YaegerEntity} that are part of
@@ -32,14 +48,27 @@ public class EntityCollection implements Initializable {
     private Injector injector;
     private final Pane pane;
     private final List<EntitySupplier> suppliers = new ArrayList<>();
-    private final List<YaegerEntity> statics = new ArrayList<>();
-    private final List<Updatable> updatables = new ArrayList<>();
-    private final List<KeyListener> keyListeners = new ArrayList<>();
+    private final SlotList<YaegerEntity> statics = new SlotList<>();
+    private final SlotList<Updatable> updatables = new SlotList<>();
+    private final SlotList<KeyListener> keyListeners = new SlotList<>();
     private final List<Removeable> garbage = new ArrayList<>();
+    private final Set<Node> removedNodes = new HashSet<>();
+    private final List<YaegerEntity> spawned = new ArrayList<>();
+    private final List<Node> spawnedNodes = new ArrayList<>();
+    private int spawnedInUpdate;
 
     private final List<StatisticsObserver> statisticsObservers = new ArrayList<>();
 
+    private final BoundsCache boundsCache;
+    private final SpatialIndex spatialIndex;
+    private final SleepDelegate sleepDelegate;
+    private final RenderInterpolator renderInterpolator;
+    private final UpdateScheduler updateScheduler;
+    private final EntityPool entityPool;
+    private Size sceneSize;
+    private boolean renderInterpolation;
     private CollisionDelegate collisionDelegate;
+    private PhysicsWorld physicsWorld;
     private AnnotationProcessor annotationProcessor;
 
     /**
@@ -50,6 +79,15 @@ public class EntityCollection implements Initializable {
     public EntityCollection(final Pane pane) {
         this.pane = pane;
         this.collisionDelegate = new CollisionDelegate();
+        this.boundsCache = new BoundsCache();
+        this.boundsCache.setRefreshListener(this::boundsChanged);
+        this.spatialIndex = new SpatialIndex();
+        this.sleepDelegate = new SleepDelegate();
+        this.sleepDelegate.setOnFallAsleep(this::fallAsleep);
+        this.sleepDelegate.setOnWakeUp(this::wakeUp);
+        this.renderInterpolator = new RenderInterpolator();
+        this.updateScheduler = new UpdateScheduler();
+        this.entityPool = new EntityPool();
         this.statistics = new EntityCollectionStatistics();
     }
 
@@ -80,6 +118,124 @@ public class EntityCollection implements Initializable {
         this.keyListeners.add(keyListener);
     }
 
+    /**
+     * Set the {@link Broadphase} that should be used during collision detection. By default no {@link Broadphase}
+     * is used and each {@link AABBCollided} is checked against all instances of {@link AABBCollider}.
+     *
+     * @param broadphase The {@link Broadphase} to be used, or {@code null} to check against all instances of
+     *                   {@link AABBCollider}.
+     */
+    public void setBroadphase(final Broadphase broadphase) {
+        collisionDelegate.setBroadphase(broadphase);
+    }
+
+    /**
+     * Set whether collision detection should be performed in parallel. The collisions are still reported on the
+     * thread that calls {@link #update(long)}, in a stable order.
+     *
+     * @param parallel {@code true} if collision detection should be performed in parallel.
+     */
+    public void setParallelCollisionDetection(final boolean parallel) {
+        collisionDelegate.setParallel(parallel);
+    }
+
+    /**
+     * Set whether the compute phase of all instances of {@link Computable} should be performed in parallel, on the
+     * common {@link ForkJoinPool}. All instances of {@link Updatable} are still called on the thread that calls
+     * {@link #update(long)}, after the compute phase has finished.
+     *
+     * @param parallel {@code true} if the compute phase should be performed in parallel.
+     */
+    public void setParallelUpdates(final boolean parallel) {
+        setParallelUpdates(parallel ? ForkJoinPool.commonPool() : null);
+    }
+
+    /**
+     * Set the {@link ForkJoinPool} on which the compute phase of all instances of {@link Computable} should be
+     * performed in parallel.
+     *
+     * @param pool The {@link ForkJoinPool} to be used, or {@code null} to perform the compute phase on the thread
+     *             that calls {@link #update(long)}.
+     * @see #setParallelUpdates(boolean)
+     */
+    public void setParallelUpdates(final ForkJoinPool pool) {
+        updateScheduler.setPool(pool);
+    }
+
+    /**
+     * Return the {@link SpatialIndex} that contains all instances of {@link YaegerEntity} that are part of this
+     * {@link EntityCollection}. It can be used to find entities within a region or radius, the nearest entity or the
+     * first entity in a line of sight, without looping over all entities.
+     *
+     * @return The {@link SpatialIndex} of this {@link EntityCollection}.
+     */
+    public SpatialIndex getSpatialIndex() {
+        return spatialIndex;
+    }
+
+    /**
+     * Return the {@link EntityPool} to which all instances of {@link Poolable} return after they have been removed
+     * from this {@link EntityCollection}.
+     *
+     * @return The {@link EntityPool} of this {@link EntityCollection}.
+     */
+    public EntityPool getEntityPool() {
+        return entityPool;
+    }
+
+    /**
+     * Set the {@link PhysicsWorld} that should simulate all instances of {@link Physical} that are part of this
+     * {@link EntityCollection}. By default no {@link PhysicsWorld} is used and each {@link Physical} is a regular
+     * {@link YaegerEntity}.
+     *
+     * @param physicsWorld The {@link PhysicsWorld} to be used, or {@code null} to disable physics simulation.
+     */
+    public void setPhysicsWorld(final PhysicsWorld physicsWorld) {
+        this.physicsWorld = physicsWorld;
+    }
+
+    /**
+     * Return the {@link PhysicsWorld} that is currently used.
+     *
+     * @return The {@link PhysicsWorld} that is used, or {@code null} if none is set.
+     */
+    public PhysicsWorld getPhysicsWorld() {
+        return physicsWorld;
+    }
+
+    /**
+     * Set the {@link Size} of the {@link com.github.hanyaeger.api.engine.scenes.YaegerScene} this
+     * {@link EntityCollection} belongs to. This is only required if that
+     * {@link com.github.hanyaeger.api.engine.scenes.YaegerScene} has no {@link javafx.scene.Scene}, since each
+     * {@link YaegerEntity} then reads the width and height of its scene from this {@link Size}.
+     *
+     * @param sceneSize The {@link Size} of the {@link com.github.hanyaeger.api.engine.scenes.YaegerScene}.
+     */
+    public void setSceneSize(final Size sceneSize) {
+        this.sceneSize = sceneSize;
+    }
+
+    /**
+     * Set whether the motion of all instances of {@link Moveable} should be interpolated when drawn. This should be
+     * enabled when this {@link EntityCollection} is updated at a {@link FixedTimestep}, before any
+     * {@link YaegerEntity} is added.
+     *
+     * @param renderInterpolation {@code true} if the motion should be interpolated.
+     */
+    public void setRenderInterpolation(final boolean renderInterpolation) {
+        this.renderInterpolation = renderInterpolation;
+    }
+
+    /**
+     * Draw each {@link Moveable} between its location before and after the last update. This only has effect if
+     * render interpolation is enabled, see {@link #setRenderInterpolation(boolean)}.
+     *
+     * @param alpha The fraction of the next update that has already passed, between {@code 0} and {@code 1}.
+     */
+    public void interpolate(final double alpha) {
+        renderInterpolator.interpolate(alpha);
+    }
+
     /**
      * Mark an {@link Removeable} as garbage. After this is done, the {@link Removeable} is set for Garbage Collection and will
      * be collected in the next Garbage Collection cycle.
@@ -113,16 +269,35 @@ public class EntityCollection implements Initializable {
      *
      * <ul>
      * <li>
-     * <b>Collect garbage</b> All EntityCollection that have been marked as Garbage will be removed.
-     *
+     * <b>Capture locations</b> The {@link RenderInterpolator} resets all offsets and remembers the current location
+     * of each instance of {@link Moveable}, so it can be drawn between this and the next cycle.
+     * </li>
+     * <li>
+     * <b>Collect garbage</b> All EntityCollection that have been marked as Garbage will be removed. Each is removed
+     * from all registries in constant time, and all their instances of {@link Node} are removed from the
+     * {@link Pane} in a single change. Each {@link Poolable} returns to the {@link EntityPool}.
+     * </li>
+     * <li>
+     * <b>Update sleep states</b> Each {@link Sleepable} that has been resting long enough falls asleep and is taken
+     * out of the Game World Update, each {@link Sleepable} that is no longer resting wakes up and is added again.
+     * </li>
+     * <li>
+     * <b>Compute</b> The {@link BoundsCache} is refreshed, after which compute() will be called on all Entities that
+     * implement the interface {@link Computable}, possibly in parallel, unless they are asleep.
+     * </li>
      * <li>
      * <b>Notify Entities</b> On all Entities that implement the interface {@link Updatable}, update()
-     * will be called.
+     * will be called, unless they are asleep.
      * </li>
-     * <li><b>Add supplied entities</b> Entities that should be added are so-called supplied. This means that
-     * an {@link EntitySupplier} is registered with this {@link EntityCollection}. Each cycle of the Game Loop all
-     * instances of {@link YaegerEntity} that are supplied by all registered {@link EntitySupplier} are transferred to
-     * the appropriate collection.
+     * <li>
+     * <b>Step the physics simulation</b> If a {@link PhysicsWorld} is set, it is advanced at its fixed rate and the
+     * new locations of all instances of {@link Physical} are written back in a single batch.
+     * </li>
+     * <li>
+     * <b>Refresh bounds</b> The transformed bounds of all instances of {@link YaegerEntity} that have changed are
+     * copied into the {@link BoundsCache}, from which they are read during collision detection. Each
+     * {@link Sleepable} among them wakes up and each {@link AABBCollider} among them is invalidated in the
+     * {@link CollisionDelegate}.
      * </li>
      * <li>
      * <b>Check for collisions</b> Check if collisions have occured between instances of
@@ -130,6 +305,16 @@ public class EntityCollection implements Initializable {
      * {@link AABBCollider}. In such a case, the {@link AABBCollided}
      * will be notified.
      * </li>
+     * <li><b>Add supplied entities</b> Entities that should be added are so-called supplied. This means that
+     * an {@link EntitySupplier} is registered with this {@link EntityCollection}. Each cycle of the Game Loop all
+     * instances of {@link YaegerEntity} that are supplied by all registered {@link EntitySupplier} are transferred to
+     * the appropriate collection. All their instances of {@link Node} are added to the {@link Pane} in a single
+     * change, in the order in which they were supplied.
+     * </li>
+     * <li>
+     * <b>Update spatial index</b> All instances of {@link YaegerEntity} that have moved are relocated in the
+     * {@link SpatialIndex}.
+     * </li>
      * <li>
      * <b>Update Statics</b> Update the {@link EntityCollectionStatistics}.
      * </li>
@@ -141,12 +326,23 @@ public class EntityCollection implements Initializable {
      * @param timestamp the timestamp of the update
      */
     public void update(final long timestamp) {
+        renderInterpolator.capture();
         collectGarbage();
+        sleepDelegate.update();
+        boundsCache.refresh();
+        updateScheduler.compute(timestamp);
 
-        updatables.forEach(updatable -> updatable.update(timestamp));
+        for (var i = 0; i < updatables.size(); i++) {
+            updatables.get(i).update(timestamp);
+        }
+        if (physicsWorld != null) {
+            physicsWorld.update(timestamp);
+        }
+        boundsCache.refresh();
         collisionDelegate.checkCollisions();
 
         addSuppliedEntities();
+        spatialIndex.update();
         updateStatistics();
         notifyStatisticsObservers();
     }
@@ -164,6 +360,15 @@ public class EntityCollection implements Initializable {
         updatables.clear();
         garbage.clear();
         keyListeners.clear();
+        boundsCache.clear();
+        spatialIndex.clear();
+        sleepDelegate.clear();
+        renderInterpolator.clear();
+        updateScheduler.clear();
+        entityPool.clear();
+        if (physicsWorld != null) {
+            physicsWorld.clear();
+        }
     }
 
     private void clearSuppliers() {
@@ -181,39 +386,153 @@ public class EntityCollection implements Initializable {
         }
 
         garbage.forEach(this::removeGameObject);
-        statics.removeAll(garbage);
-        updatables.removeAll(garbage);
+        pane.getChildren().removeAll(removedNodes);
+        removedNodes.clear();
         garbage.clear();
     }
 
     private void removeGameObject(final Removeable entity) {
-        this.pane.getChildren().remove(entity.getGameNode());
+        entity.getGameNode().ifPresent(removedNodes::add);
+        statics.remove(entity);
+        updatables.remove(entity);
+        keyListeners.remove(entity);
         this.collisionDelegate.remove(entity);
+
+        if (entity instanceof YaegerEntity) {
+            spatialIndex.remove((YaegerEntity) entity);
+            sleepDelegate.remove((YaegerEntity) entity);
+            renderInterpolator.remove((YaegerEntity) entity);
+            updateScheduler.remove((YaegerEntity) entity);
+            boundsCache.detach((YaegerEntity) entity);
+        }
+        if (physicsWorld != null && entity instanceof Physical) {
+            physicsWorld.remove((Physical) entity);
+        }
+        if (entity instanceof YaegerEntity) {
+            entityPool.release((YaegerEntity) entity);
+        }
+    }
+
+    /**
+     * Wake a sleeping {@link YaegerEntity} that has been moved, and invalidate each {@link AABBCollider} that has
+     * been moved in the {@link CollisionDelegate}.
+     */
+    private void boundsChanged(final YaegerEntity entity) {
+        if (entity instanceof Sleepable && ((Sleepable) entity).isSleeping()) {
+            ((Sleepable) entity).wakeUp();
+        }
+        if (entity instanceof AABBCollider) {
+            collisionDelegate.invalidate((AABBCollider) entity);
+        }
+    }
+
+    /**
+     * Take a {@link YaegerEntity} that has fallen asleep out of the Game World Update.
+     */
+    private void fallAsleep(final YaegerEntity entity) {
+        updatables.remove(entity);
+        updateScheduler.remove(entity);
+        collisionDelegate.fallAsleep(entity);
+    }
+
+    /**
+     * Add a {@link YaegerEntity} that has woken up to the Game World Update again.
+     */
+    private void wakeUp(final YaegerEntity entity) {
+        if (entity instanceof Updatable) {
+            updatables.add((Updatable) entity);
+        }
+        updateScheduler.register(entity);
+        collisionDelegate.wakeUp(entity);
     }
 
     private void addSuppliedEntities() {
         if (!suppliers.isEmpty()) {
             suppliers.forEach(supplier -> supplier.get().forEach(this::addToGameLoop));
         }
+
+        spawnedInUpdate = spawned.size();
+        if (spawned.isEmpty()) {
+            return;
+        }
+
+        pane.getChildren().addAll(spawnedNodes);
+        spawned.forEach(this::activate);
+        spawned.clear();
+        spawnedNodes.clear();
     }
 
+    /**
+     * Register a supplied {@link YaegerEntity} and collect its {@link Node}. All collected instances of {@link Node}
+     * are added to the {@link Pane} in a single change, after which each {@link YaegerEntity} is activated.
+     */
     private void addToGameLoop(final YaegerEntity entity) {
-        initialize(entity);
-
-        addToKeylisteners(entity);
-        entity.addToEntityCollection(this);
-        attachGameEventListeners(entity);
+        if (entityPool.reuse(entity)) {
+            addToKeylisteners(entity);
+            readdToEntityCollection(entity);
+        } else {
+            initialize(entity);
+
+            addToKeylisteners(entity);
+            entity.addToEntityCollection(this);
+            attachGameEventListeners(entity);
+        }
+        boundsCache.attach(entity);
         collisionDelegate.register(entity);
+        sleepDelegate.register(entity);
+        updateScheduler.register(entity);
 
+        if (sceneSize != null) {
+            EntityAccessor.setSceneSize(entity, sceneSize);
+        }
         entity.placeOnScene();
         addToScene(entity);
+    }
+
+    private void activate(final YaegerEntity entity) {
+        spatialIndex.add(entity);
+        addToPhysicsWorld(entity);
+        if (renderInterpolation) {
+            renderInterpolator.register(entity);
+        }
         entity.activate();
     }
 
+    /**
+     * Add a {@link Poolable} that was taken from the {@link EntityPool} to the appropriate collection again. Its
+     * instances of {@link Updatable} have already been configured and its {@link Node} still has its listeners.
+     */
+    private void readdToEntityCollection(final YaegerEntity entity) {
+        if (entity instanceof Updatable) {
+            updatables.add((Updatable) entity);
+        } else {
+            statics.add(entity);
+        }
+        entity.setVisible(true);
+    }
+
+    private void addToPhysicsWorld(final YaegerEntity entity) {
+        if (physicsWorld != null && entity instanceof Physical) {
+            physicsWorld.register((Physical) entity);
+        }
+    }
+
+    /**
+     * Inject the members of the given {@link YaegerEntity} and invoke its activators, through its generated
+     * {@link EntityWiring} if it has one, and through the {@link Injector} and the {@link AnnotationProcessor}
+     * otherwise.
+     */
     private void initialize(final YaegerEntity entity) {
-        injector.injectMembers(entity);
-        entity.init(injector);
-        annotationProcessor.invokeActivators(entity);
+        var wiring = annotationProcessor.getWiring(entity);
+        if (wiring.isPresent()) {
+            wiring.get().injectMembers(entity, injector);
+            entity.init(injector);
+            wiring.get().invokeActivators(entity);
+        } else {
+            injector.injectMembers(entity);
+            entity.init(injector);
+            annotationProcessor.invokeActivators(entity);
+        }
     }
 
     /**
@@ -224,7 +543,12 @@ public class EntityCollection implements Initializable {
      *                      {@link Updatable}.
      */
     public void addDynamicEntity(Updatable dynamicEntity) {
-        annotationProcessor.configureUpdateDelegators(dynamicEntity);
+        var wiring = annotationProcessor.getWiring(dynamicEntity);
+        if (wiring.isPresent()) {
+            wiring.get().configureUpdateDelegators(dynamicEntity);
+        } else {
+            annotationProcessor.configureUpdateDelegators(dynamicEntity);
+        }
         updatables.add(dynamicEntity);
     }
 
@@ -244,7 +568,8 @@ public class EntityCollection implements Initializable {
     }
 
     private void addToScene(final YaegerEntity entity) {
-        this.pane.getChildren().add(entity.getGameNode().get());
+        spawned.add(entity);
+        spawnedNodes.add(entity.getGameNode().get());
     }
 
     private void attachGameEventListeners(final YaegerEntity entity) {
@@ -257,6 +582,9 @@ public class EntityCollection implements Initializable {
         statistics.setGarbage(garbage.size());
         statistics.setKeyListeners(keyListeners.size());
         statistics.setSuppliers(suppliers.size());
+        statistics.setSleeping(sleepDelegate.getSleeping());
+        statistics.setSpawned(spawnedInUpdate);
+        statistics.setPooled(entityPool.size());
     }
 
     @Override
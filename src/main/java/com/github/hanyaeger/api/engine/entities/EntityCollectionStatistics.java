@@ -11,6 +11,9 @@ public class EntityCollectionStatistics {
     private int keyListeners;
     private int garbage;
     private int statics;
+    private int sleeping;
+    private int spawned;
+    private int pooled;
 
     public void setSuppliers(final int spawners) {
         this.spawners = spawners;
@@ -32,6 +35,18 @@ public class EntityCollectionStatistics {
         this.garbage = garbage;
     }
 
+    public void setSleeping(final int sleeping) {
+        this.sleeping = sleeping;
+    }
+
+    public void setSpawned(final int spawned) {
+        this.spawned = spawned;
+    }
+
+    public void setPooled(final int pooled) {
+        this.pooled = pooled;
+    }
+
     public int getSuppliers() {
         return spawners;
     }
@@ -51,4 +66,16 @@ public class EntityCollectionStatistics {
     public int getGarbage() {
         return garbage;
     }
+
+    public int getSleeping() {
+        return sleeping;
+    }
+
+    public int getSpawned() {
+        return spawned;
+    }
+
+    public int getPooled() {
+        return pooled;
+    }
 }
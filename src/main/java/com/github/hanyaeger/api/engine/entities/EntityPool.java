@@ -0,0 +1,89 @@
+package com.github.hanyaeger.api.engine.entities;
+
+import com.github.hanyaeger.api.engine.Clearable;
+import com.github.hanyaeger.api.engine.entities.entity.Coordinate2D;
+import com.github.hanyaeger.api.engine.entities.entity.EntityAccessor;
+import com.github.hanyaeger.api.engine.entities.entity.Poolable;
+import com.github.hanyaeger.api.engine.entities.entity.YaegerEntity;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * An {@link EntityPool} holds all instances of {@link Poolable} that have been removed from an
+ * {@link EntityCollection}, one pool per class. Such an instance keeps its {@link javafx.scene.Node} and delegates,
+ * so it can be added to the {@link EntityCollection} again without being initialized a second time.
+ */
+public class EntityPool implements Clearable {
+
+    private final Map<Class<?>, ArrayDeque<YaegerEntity>> pools = new HashMap<>();
+    private final Set<YaegerEntity> pooled = Collections.newSetFromMap(new IdentityHashMap<>());
+    private final Set<YaegerEntity> recycled = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    /**
+     * Return an instance of the given class. If one has been removed before, it is taken from this
+     * {@link EntityPool}, moved to the given location and {@link Poolable#reset()}. Otherwise a new instance is
+     * created through the given factory.
+     *
+     * @param type     the class of the {@link YaegerEntity}
+     * @param location the {@link Coordinate2D} at which the {@link YaegerEntity} should be placed
+     * @param factory  the {@link Function} that creates a new instance for the given location
+     * @param <T>      the type of the {@link YaegerEntity}
+     * @return a reused or new instance of the given class
+     */
+    public <T extends YaegerEntity & Poolable> T obtain(final Class<T> type, final Coordinate2D location,
+                                                       final Function<Coordinate2D, T> factory) {
+        var pool = pools.get(type);
+        if (pool == null || pool.isEmpty()) {
+            return factory.apply(location);
+        }
+
+        var entity = type.cast(pool.pop());
+        pooled.remove(entity);
+        recycled.add(entity);
+        EntityAccessor.setInitialLocation(entity, location);
+        entity.reset();
+        return entity;
+    }
+
+    /**
+     * Return a removed {@link YaegerEntity} to this {@link EntityPool}, if it implements {@link Poolable}.
+     *
+     * @param entity the {@link YaegerEntity} that has been removed
+     */
+    void release(final YaegerEntity entity) {
+        if (entity instanceof Poolable && pooled.add(entity)) {
+            pools.computeIfAbsent(entity.getClass(), type -> new ArrayDeque<>()).push(entity);
+        }
+    }
+
+    /**
+     * Return whether the given {@link YaegerEntity} has been taken from this {@link EntityPool} and has not been
+     * added to the {@link EntityCollection} since. It is no longer marked as such afterwards.
+     *
+     * @param entity the {@link YaegerEntity} that is added to the {@link EntityCollection}
+     * @return {@code true} if the {@link YaegerEntity} has been initialized before
+     */
+    boolean reuse(final YaegerEntity entity) {
+        return recycled.remove(entity);
+    }
+
+    /**
+     * @return the number of instances of {@link Poolable} that are waiting to be reused
+     */
+    public int size() {
+        return pooled.size();
+    }
+
+    @Override
+    public void clear() {
+        pools.clear();
+        pooled.clear();
+        recycled.clear();
+    }
+}
@@ -3,8 +3,12 @@ package com.github.hanyaeger.api.engine.entities;
 import com.github.hanyaeger.api.engine.Timer;
 import com.github.hanyaeger.api.engine.scenes.YaegerScene;
 import com.google.inject.Inject;
+import com.github.hanyaeger.api.engine.entities.entity.Coordinate2D;
+import com.github.hanyaeger.api.engine.entities.entity.Poolable;
 import com.github.hanyaeger.api.engine.entities.entity.YaegerEntity;
 
+import java.util.function.Function;
+
 /**
  * An {@link EntitySpawner} is the abstract superclass that should be extended to create an object that
  * spawns a subclass of {@link YaegerEntity}. After each {@code interval in ms}, set through the constructor, the method
@@ -13,6 +17,7 @@ import com.github.hanyaeger.api.engine.entities.entity.YaegerEntity;
 public abstract class EntitySpawner extends Timer {
 
     private EntitySupplier supplier;
+    private EntityPool entityPool;
 
     /**
      * Create a new instance of {@link EntitySpawner} for the given interval in milliseconds.
@@ -50,6 +55,30 @@ public abstract class EntitySpawner extends Timer {
         supplier.add(entity);
     }
 
+    /**
+     * Return an instance of the given class that implements {@link Poolable}, to be passed to
+     * {@link #spawn(YaegerEntity)}. If an instance of that class has been removed before, it is reused, after it has
+     * been moved to the given location and {@link Poolable#reset()}. Otherwise a new instance is created through the
+     * given factory.
+     * <pre>{@code
+     *      spawn(obtain(Bullet.class, new Coordinate2D(x, y), Bullet::new));
+     * }
+     * </pre>
+     *
+     * @param type     The class of the {@link YaegerEntity}.
+     * @param location The {@link Coordinate2D} at which the {@link YaegerEntity} should be spawned.
+     * @param factory  The {@link Function} that creates a new instance for the given location.
+     * @param <T>      The type of the {@link YaegerEntity}.
+     * @return A reused or new instance of the given class.
+     */
+    protected <T extends YaegerEntity & Poolable> T obtain(final Class<T> type, final Coordinate2D location,
+                                                          final Function<Coordinate2D, T> factory) {
+        if (entityPool == null) {
+            return factory.apply(location);
+        }
+        return entityPool.obtain(type, location, factory);
+    }
+
     /**
      * Return the {@link EntitySupplier} that is part of this {@link EntitySpawner}.
      *
@@ -59,6 +88,16 @@ public abstract class EntitySpawner extends Timer {
         return supplier;
     }
 
+    /**
+     * Set the {@link EntityPool} from which {@link #obtain(Class, Coordinate2D, Function)} reuses removed instances.
+     *
+     * @param entityPool The {@link EntityPool} of the {@link EntityCollection} to which this {@link EntitySpawner}
+     *                   supplies.
+     */
+    public void setEntityPool(final EntityPool entityPool) {
+        this.entityPool = entityPool;
+    }
+
     @Inject
     public void setSupplier(EntitySupplier supplier) {
         this.supplier = supplier;
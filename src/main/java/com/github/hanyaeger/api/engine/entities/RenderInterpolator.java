@@ -0,0 +1,179 @@
+package com.github.hanyaeger.api.engine.entities;
+
+import com.github.hanyaeger.api.engine.Clearable;
+import com.github.hanyaeger.api.engine.FixedTimestep;
+import com.github.hanyaeger.api.engine.entities.entity.YaegerEntity;
+import com.github.hanyaeger.api.engine.entities.entity.motion.Moveable;
+import javafx.scene.Node;
+import javafx.scene.transform.Translate;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A {@link RenderInterpolator} smooths the motion of all instances of {@link Moveable} when the Game World Update runs
+ * at a {@link FixedTimestep}. Each {@link Node} is then drawn between its location before and after the last tick,
+ * depending on how much of the next tick has already passed.
+ * <p>
+ * The offset is applied through a {@link Translate} that is added to the transforms of the {@link Node}. It is
+ * reset before each tick, so the simulation itself, including collision detection, never sees it. The location of a
+ * {@link Node} is the center of its transformed bounds, which does not change when the {@link Node} is rotated.
+ */
+class RenderInterpolator implements Clearable {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final Map<YaegerEntity, Integer> indices = new HashMap<>();
+
+    private YaegerEntity[] entities = new YaegerEntity[INITIAL_CAPACITY];
+    private Translate[] offsets = new Translate[INITIAL_CAPACITY];
+    private double[] previousX = new double[INITIAL_CAPACITY];
+    private double[] previousY = new double[INITIAL_CAPACITY];
+    private double[] appliedX = new double[INITIAL_CAPACITY];
+    private double[] appliedY = new double[INITIAL_CAPACITY];
+    private int count;
+
+    /**
+     * Register a {@link YaegerEntity}. It will only be added if it implements {@link Moveable} and has a
+     * {@link Node}.
+     *
+     * @param entity the {@link YaegerEntity} that should be registered
+     */
+    void register(final YaegerEntity entity) {
+        if (!(entity instanceof Moveable) || entity.getGameNode().isEmpty() || indices.containsKey(entity)) {
+            return;
+        }
+
+        var offset = new Translate();
+        entity.getGameNode().get().getTransforms().add(offset);
+
+        ensureCapacity(count + 1);
+        entities[count] = entity;
+        offsets[count] = offset;
+        previousX[count] = centerXOf(entity);
+        previousY[count] = centerYOf(entity);
+        appliedX[count] = 0;
+        appliedY[count] = 0;
+        indices.put(entity, count);
+        count++;
+    }
+
+    /**
+     * Remove a {@link YaegerEntity} and its offset.
+     *
+     * @param entity the {@link YaegerEntity} that should be removed
+     */
+    void remove(final YaegerEntity entity) {
+        var index = indices.remove(entity);
+        if (index == null) {
+            return;
+        }
+
+        var offset = offsets[index];
+        entity.getGameNode().ifPresent(node -> node.getTransforms().remove(offset));
+
+        var last = --count;
+        if (index != last) {
+            entities[index] = entities[last];
+            offsets[index] = offsets[last];
+            previousX[index] = previousX[last];
+            previousY[index] = previousY[last];
+            appliedX[index] = appliedX[last];
+            appliedY[index] = appliedY[last];
+            indices.put(entities[index], index);
+        }
+        entities[last] = null;
+        offsets[last] = null;
+    }
+
+    /**
+     * Reset all offsets and remember the current location of each {@link YaegerEntity}. This should be called before
+     * each tick.
+     */
+    void capture() {
+        for (var i = 0; i < count; i++) {
+            setOffset(i, 0, 0);
+            previousX[i] = centerXOf(entities[i]);
+            previousY[i] = centerYOf(entities[i]);
+        }
+    }
+
+    /**
+     * Draw each {@link YaegerEntity} between its location before and after the last tick.
+     *
+     * @param alpha the fraction of the next tick that has already passed, between {@code 0} and {@code 1}
+     */
+    void interpolate(final double alpha) {
+        var remaining = 1 - alpha;
+        for (var i = 0; i < count; i++) {
+            var currentX = centerXOf(entities[i]) - appliedX[i];
+            var currentY = centerYOf(entities[i]) - appliedY[i];
+            setOffset(i, (previousX[i] - currentX) * remaining, (previousY[i] - currentY) * remaining);
+        }
+    }
+
+    /**
+     * Apply the given offset, which is expressed in the coordinates of the parent. Since the {@link Translate} is
+     * applied after the rotation and scale of the {@link Node}, the offset is first rotated and scaled back.
+     */
+    private void setOffset(final int index, final double x, final double y) {
+        if (x == appliedX[index] && y == appliedY[index]) {
+            return;
+        }
+
+        appliedX[index] = x;
+        appliedY[index] = y;
+
+        var offset = offsets[index];
+        var node = entities[index].getGameNode();
+        if (x == 0 && y == 0 || node.isEmpty()) {
+            offset.setX(0);
+            offset.setY(0);
+            return;
+        }
+
+        var angle = Math.toRadians(node.get().getRotate());
+        var cos = Math.cos(angle);
+        var sin = Math.sin(angle);
+        offset.setX((x * cos + y * sin) / node.get().getScaleX());
+        offset.setY((y * cos - x * sin) / node.get().getScaleY());
+    }
+
+    private static double centerXOf(final YaegerEntity entity) {
+        return (entity.getTransformedMinX() + entity.getTransformedMaxX()) / 2;
+    }
+
+    private static double centerYOf(final YaegerEntity entity) {
+        return (entity.getTransformedMinY() + entity.getTransformedMaxY()) / 2;
+    }
+
+    /**
+     * @return the number of instances of {@link YaegerEntity} that are interpolated
+     */
+    int size() {
+        return count;
+    }
+
+    @Override
+    public void clear() {
+        indices.clear();
+        Arrays.fill(entities, 0, count, null);
+        Arrays.fill(offsets, 0, count, null);
+        count = 0;
+    }
+
+    private void ensureCapacity(final int capacity) {
+        if (capacity <= entities.length) {
+            return;
+        }
+
+        var newCapacity = Math.max(capacity, entities.length * 2);
+        entities = Arrays.copyOf(entities, newCapacity);
+        offsets = Arrays.copyOf(offsets, newCapacity);
+        previousX = Arrays.copyOf(previousX, newCapacity);
+        previousY = Arrays.copyOf(previousY, newCapacity);
+        appliedX = Arrays.copyOf(appliedX, newCapacity);
+        appliedY = Arrays.copyOf(appliedY, newCapacity);
+    }
+}
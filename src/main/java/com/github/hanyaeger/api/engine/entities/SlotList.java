@@ -0,0 +1,112 @@
+package com.github.hanyaeger.api.engine.entities;
+
+import com.github.hanyaeger.api.engine.Clearable;
+
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * A {@link SlotList} is a list in which each element occupies a slot, so it can be found and removed in constant time.
+ * A removed element is replaced by the last element of the {@link SlotList}. The elements are therefore iterated in
+ * the order in which they were added, until the first element is removed.
+ * <p>
+ * Each element can only be added once. Elements are compared by identity.
+ *
+ * @param <T> the type of the elements
+ */
+class SlotList<T> implements Clearable {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final Map<T, Integer> slots = new IdentityHashMap<>();
+
+    private Object[] elements = new Object[INITIAL_CAPACITY];
+    private int count;
+
+    /**
+     * Add an element to the end of this {@link SlotList}, unless it is already present.
+     *
+     * @param element the element that should be added
+     * @return {@code true} if the element was added
+     */
+    boolean add(final T element) {
+        if (slots.containsKey(element)) {
+            return false;
+        }
+
+        if (count == elements.length) {
+            elements = Arrays.copyOf(elements, count * 2);
+        }
+        elements[count] = element;
+        slots.put(element, count);
+        count++;
+        return true;
+    }
+
+    /**
+     * Remove an element from this {@link SlotList}. Its slot is taken by the last element.
+     *
+     * @param element the element that should be removed
+     * @return {@code true} if the element was present
+     */
+    @SuppressWarnings("unchecked")
+    boolean remove(final Object element) {
+        var slot = slots.remove(element);
+        if (slot == null) {
+            return false;
+        }
+
+        var last = --count;
+        if (slot != last) {
+            elements[slot] = elements[last];
+            slots.put((T) elements[slot], slot);
+        }
+        elements[last] = null;
+        return true;
+    }
+
+    /**
+     * @param element the element that should be looked up
+     * @return {@code true} if the element is present
+     */
+    boolean contains(final Object element) {
+        return slots.containsKey(element);
+    }
+
+    /**
+     * @param slot the slot of the element, from {@code 0} to {@link #size()}
+     * @return the element in the given slot
+     */
+    @SuppressWarnings("unchecked")
+    T get(final int slot) {
+        return (T) elements[slot];
+    }
+
+    /**
+     * @return the number of elements
+     */
+    int size() {
+        return count;
+    }
+
+    /**
+     * Perform the given action on each element, in slot order. The action should not add or remove elements.
+     *
+     * @param action the action that should be performed
+     */
+    @SuppressWarnings("unchecked")
+    void forEach(final Consumer<? super T> action) {
+        for (var i = 0; i < count; i++) {
+            action.accept((T) elements[i]);
+        }
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(elements, 0, count, null);
+        slots.clear();
+        count = 0;
+    }
+}
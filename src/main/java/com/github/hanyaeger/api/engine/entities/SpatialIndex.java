@@ -0,0 +1,580 @@
+package com.github.hanyaeger.api.engine.entities;
+
+import com.github.hanyaeger.api.engine.entities.entity.YaegerEntity;
+import com.github.hanyaeger.api.engine.exceptions.YaegerEngineException;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A {@link SpatialIndex} answers spatial queries about all instances of {@link YaegerEntity} that are part of an
+ * {@link EntityCollection}: which entities lie within a region or radius, which entity is nearest to a location and
+ * which entity is hit first by a ray. All queries take the type of {@link YaegerEntity} they are interested in,
+ * so for instance only enemies or only pickups are returned.
+ * <p>
+ * The {@link SpatialIndex} divides the scene into a uniform grid of square cells and remembers in which cells each
+ * {@link YaegerEntity} lies. It is maintained incrementally: after each Game World Update, only those instances of
+ * {@link YaegerEntity} that have moved to other cells are relocated, and removed instances are unlinked immediately.
+ * Queries are answered from a snapshot of the transformed bounds taken at the end of the previous Game World Update.
+ * <p>
+ * Results are added to a {@link Collection} supplied by the caller, which can be cleared and reused, so a query does
+ * not need to create any objects.
+ * <p>
+ * A query does not change the {@link SpatialIndex}. Instead of marking a {@link YaegerEntity} that lies in several
+ * cells as visited, a region or radius query only reports it from the first of those cells it visits, while
+ * {@link #nearest} and {@link #raycast} simply evaluate it again. Queries can therefore be made from
+ * multiple threads at once, for instance from
+ * {@link com.github.hanyaeger.api.engine.entities.entity.Computable#compute(long)}, as long as no
+ * {@link YaegerEntity} is added, removed or updated at the same time.
+ */
+public class SpatialIndex {
+
+    /**
+     * The cell size that is used if none is given.
+     */
+    public static final double DEFAULT_CELL_SIZE = 128;
+
+    private static final int INITIAL_CAPACITY = 64;
+    private static final int EMPTY = 0;
+
+    private final double cellSize;
+    private final Map<YaegerEntity, Integer> entries = new HashMap<>();
+
+    private YaegerEntity[] entities = new YaegerEntity[INITIAL_CAPACITY];
+    private double[] minX = new double[INITIAL_CAPACITY];
+    private double[] minY = new double[INITIAL_CAPACITY];
+    private double[] maxX = new double[INITIAL_CAPACITY];
+    private double[] maxY = new double[INITIAL_CAPACITY];
+    private boolean[] linked = new boolean[INITIAL_CAPACITY];
+    private int[] cellMinX = new int[INITIAL_CAPACITY];
+    private int[] cellMinY = new int[INITIAL_CAPACITY];
+    private int[] cellMaxX = new int[INITIAL_CAPACITY];
+    private int[] cellMaxY = new int[INITIAL_CAPACITY];
+    private int[] freeEntries = new int[INITIAL_CAPACITY];
+    private int freeCount;
+    private int entryCount;
+
+    /**
+     * Each slot contains the index of the cell plus one, or {@link #EMPTY}.
+     */
+    private long[] cellKeys = new long[INITIAL_CAPACITY];
+    private int[] cellSlots = new int[INITIAL_CAPACITY];
+    private int[][] cellMembers = new int[INITIAL_CAPACITY / 2][];
+    private int[] cellSizes = new int[INITIAL_CAPACITY / 2];
+    private int cellCount;
+
+    private int gridMinX = Integer.MAX_VALUE;
+    private int gridMinY = Integer.MAX_VALUE;
+    private int gridMaxX = Integer.MIN_VALUE;
+    private int gridMaxY = Integer.MIN_VALUE;
+
+    /**
+     * Create a new {@link SpatialIndex} that uses {@link #DEFAULT_CELL_SIZE}.
+     */
+    public SpatialIndex() {
+        this(DEFAULT_CELL_SIZE);
+    }
+
+    /**
+     * Create a new {@link SpatialIndex} with the given cell size.
+     *
+     * @param cellSize the width and height of a single cell in pixels, which should be larger than 0
+     */
+    public SpatialIndex(final double cellSize) {
+        if (!(cellSize > 0)) {
+            throw new YaegerEngineException("The cell size of a SpatialIndex should be larger than 0.");
+        }
+        this.cellSize = cellSize;
+    }
+
+    /**
+     * Add a {@link YaegerEntity} to this {@link SpatialIndex}.
+     *
+     * @param entity the {@link YaegerEntity} to be added
+     */
+    public void add(final YaegerEntity entity) {
+        if (entries.containsKey(entity)) {
+            return;
+        }
+
+        var entry = freeCount > 0 ? freeEntries[--freeCount] : nextEntry();
+        entities[entry] = entity;
+        linked[entry] = false;
+        entries.put(entity, entry);
+        refresh(entry);
+    }
+
+    /**
+     * Remove a {@link YaegerEntity} from this {@link SpatialIndex}.
+     *
+     * @param entity the {@link YaegerEntity} to be removed
+     */
+    public void remove(final YaegerEntity entity) {
+        var entry = entries.remove(entity);
+        if (entry == null) {
+            return;
+        }
+
+        if (linked[entry]) {
+            unlink(entry);
+        }
+        entities[entry] = null;
+
+        if (freeCount == freeEntries.length) {
+            freeEntries = Arrays.copyOf(freeEntries, freeEntries.length * 2);
+        }
+        freeEntries[freeCount++] = entry;
+    }
+
+    /**
+     * Read the transformed bounds of all instances of {@link YaegerEntity} and relocate those that have moved to
+     * other cells.
+     */
+    public void update() {
+        for (var entry = 0; entry < entryCount; entry++) {
+            if (entities[entry] != null) {
+                refresh(entry);
+            }
+        }
+    }
+
+    /**
+     * Remove all instances of {@link YaegerEntity} from this {@link SpatialIndex}.
+     */
+    public void clear() {
+        entries.clear();
+        Arrays.fill(entities, 0, entryCount, null);
+        Arrays.fill(cellSlots, EMPTY);
+        Arrays.fill(cellMembers, 0, cellCount, null);
+        entryCount = 0;
+        freeCount = 0;
+        cellCount = 0;
+        gridMinX = Integer.MAX_VALUE;
+        gridMinY = Integer.MAX_VALUE;
+        gridMaxX = Integer.MIN_VALUE;
+        gridMaxY = Integer.MIN_VALUE;
+    }
+
+    /**
+     * Add all instances of the given type of which the bounds intersect the given region to {@code result}.
+     *
+     * @param minX   the minimal x of the region
+     * @param minY   the minimal y of the region
+     * @param maxX   the maximal x of the region
+     * @param maxY   the maximal y of the region
+     * @param type   the type of the instances of {@link YaegerEntity} that should be returned
+     * @param result the {@link Collection} to which all found instances are added
+     * @param <T>    the type of the instances of {@link YaegerEntity} that should be returned
+     */
+    public <T> void queryRegion(final double minX, final double minY, final double maxX, final double maxY,
+                                final Class<T> type, final Collection<? super T> result) {
+        query(minX, minY, maxX, maxY, Double.NaN, Double.NaN, Double.NaN, type, result);
+    }
+
+    /**
+     * Add all instances of the given type of which the bounds lie within the given radius of a location to
+     * {@code result}.
+     *
+     * @param x      the x of the location
+     * @param y      the y of the location
+     * @param radius the radius around the location
+     * @param type   the type of the instances of {@link YaegerEntity} that should be returned
+     * @param result the {@link Collection} to which all found instances are added
+     * @param <T>    the type of the instances of {@link YaegerEntity} that should be returned
+     */
+    public <T> void queryRadius(final double x, final double y, final double radius,
+                                final Class<T> type, final Collection<? super T> result) {
+        query(x - radius, y - radius, x + radius, y + radius, x, y, radius * radius, type, result);
+    }
+
+    /**
+     * Return the instance of the given type of which the bounds are nearest to a location.
+     *
+     * @param x           the x of the location
+     * @param y           the y of the location
+     * @param maxDistance the maximal distance between the location and the bounds, which can be
+     *                    {@link Double#POSITIVE_INFINITY}
+     * @param type        the type of the instances of {@link YaegerEntity} that should be considered
+     * @param ignore      a {@link YaegerEntity} that should not be returned, usually the one asking, or {@code null}
+     * @param <T>         the type of the instances of {@link YaegerEntity} that should be considered
+     * @return the nearest instance, or {@code null} if there is none within {@code maxDistance}
+     */
+    public <T> T nearest(final double x, final double y, final double maxDistance,
+                         final Class<T> type, final YaegerEntity ignore) {
+        if (cellCount == 0) {
+            return null;
+        }
+
+        var centerX = cellOf(x);
+        var centerY = cellOf(y);
+        var maxRing = Math.max(
+                Math.max(Math.abs((long) centerX - gridMinX), Math.abs((long) gridMaxX - centerX)),
+                Math.max(Math.abs((long) centerY - gridMinY), Math.abs((long) gridMaxY - centerY)));
+
+        var best = -1;
+        var bestDistanceSquared = maxDistance * maxDistance;
+
+        for (long ring = 0; ring <= maxRing; ring++) {
+            var ringDistance = (ring - 1) * cellSize;
+            if (ring > 1 && ringDistance * ringDistance > bestDistanceSquared) {
+                break;
+            }
+
+            for (long cx = centerX - ring; cx <= centerX + ring; cx++) {
+                var onVerticalEdge = cx == centerX - ring || cx == centerX + ring;
+                var step = onVerticalEdge || ring == 0 ? 1 : 2 * ring;
+
+                for (long cy = centerY - ring; cy <= centerY + ring; cy += step) {
+                    var cell = findCell(cx, cy);
+                    if (cell < 0) {
+                        continue;
+                    }
+
+                    var members = cellMembers[cell];
+                    for (var i = 0; i < cellSizes[cell]; i++) {
+                        var entry = members[i];
+                        var distanceSquared = distanceSquared(entry, x, y);
+                        if (distanceSquared <= bestDistanceSquared && entities[entry] != ignore
+                                && type.isInstance(entities[entry])
+                                && (best < 0 || distanceSquared < bestDistanceSquared)) {
+                            best = entry;
+                            bestDistanceSquared = distanceSquared;
+                        }
+                    }
+                }
+            }
+        }
+
+        return best < 0 ? null : type.cast(entities[best]);
+    }
+
+    /**
+     * Return the instance of the given type of which the bounds are hit first by the line segment from one location to
+     * another, for instance to determine a line of sight.
+     *
+     * @param fromX  the x of the start of the line segment
+     * @param fromY  the y of the start of the line segment
+     * @param toX    the x of the end of the line segment
+     * @param toY    the y of the end of the line segment
+     * @param type   the type of the instances of {@link YaegerEntity} that should be considered
+     * @param ignore a {@link YaegerEntity} that should not be returned, usually the one casting the ray, or {@code null}
+     * @param <T>    the type of the instances of {@link YaegerEntity} that should be considered
+     * @return the instance that is hit first, or {@code null} if none is hit
+     */
+    public <T> T raycast(final double fromX, final double fromY, final double toX, final double toY,
+                         final Class<T> type, final YaegerEntity ignore) {
+        if (cellCount == 0) {
+            return null;
+        }
+
+        var dx = toX - fromX;
+        var dy = toY - fromY;
+
+        long cx = cellOf(fromX);
+        long cy = cellOf(fromY);
+        long endX = cellOf(toX);
+        long endY = cellOf(toY);
+        var stepX = dx > 0 ? 1 : -1;
+        var stepY = dy > 0 ? 1 : -1;
+        var deltaX = dx == 0 ? Double.POSITIVE_INFINITY : cellSize / Math.abs(dx);
+        var deltaY = dy == 0 ? Double.POSITIVE_INFINITY : cellSize / Math.abs(dy);
+        var nextX = dx == 0 ? Double.POSITIVE_INFINITY : ((dx > 0 ? cx + 1 : cx) * cellSize - fromX) / dx;
+        var nextY = dy == 0 ? Double.POSITIVE_INFINITY : ((dy > 0 ? cy + 1 : cy) * cellSize - fromY) / dy;
+
+        var best = -1;
+        var bestTime = Double.POSITIVE_INFINITY;
+        var cellTime = 0d;
+
+        while (cellTime <= 1 && cellTime <= bestTime) {
+            var cell = findCell(cx, cy);
+            if (cell >= 0) {
+                var members = cellMembers[cell];
+                for (var i = 0; i < cellSizes[cell]; i++) {
+                    var entry = members[i];
+                    if (entities[entry] == ignore || !type.isInstance(entities[entry])) {
+                        continue;
+                    }
+
+                    var time = timeOfHit(entry, fromX, fromY, dx, dy);
+                    if (time < bestTime) {
+                        best = entry;
+                        bestTime = time;
+                    }
+                }
+            }
+
+            if (cx == endX && cy == endY) {
+                break;
+            }
+
+            if (nextX < nextY) {
+                cellTime = nextX;
+                nextX += deltaX;
+                cx += stepX;
+            } else {
+                cellTime = nextY;
+                nextY += deltaY;
+                cy += stepY;
+            }
+        }
+
+        return best < 0 ? null : type.cast(entities[best]);
+    }
+
+    /**
+     * Return the width and height of a single cell.
+     *
+     * @return the cell size in pixels as a {@code double}
+     */
+    public double getCellSize() {
+        return cellSize;
+    }
+
+    /**
+     * @return the number of instances of {@link YaegerEntity} in this {@link SpatialIndex}
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    private <T> void query(final double queryMinX, final double queryMinY, final double queryMaxX, final double queryMaxY,
+                           final double x, final double y, final double radiusSquared,
+                           final Class<T> type, final Collection<? super T> result) {
+        if (cellCount == 0) {
+            return;
+        }
+
+        var fromX = Math.max(cellOf(queryMinX), gridMinX);
+        var fromY = Math.max(cellOf(queryMinY), gridMinY);
+        var toX = Math.min(cellOf(queryMaxX), gridMaxX);
+        var toY = Math.min(cellOf(queryMaxY), gridMaxY);
+
+        for (var cx = fromX; cx <= toX; cx++) {
+            for (var cy = fromY; cy <= toY; cy++) {
+                var cell = findCell(cx, cy);
+                if (cell < 0) {
+                    continue;
+                }
+
+                var members = cellMembers[cell];
+                for (var i = 0; i < cellSizes[cell]; i++) {
+                    var entry = members[i];
+                    if (cx != Math.max(cellMinX[entry], fromX) || cy != Math.max(cellMinY[entry], fromY)) {
+                        continue;
+                    }
+
+                    var inside = Double.isNaN(radiusSquared)
+                            ? maxX[entry] >= queryMinX && minX[entry] <= queryMaxX && maxY[entry] >= queryMinY && minY[entry] <= queryMaxY
+                            : distanceSquared(entry, x, y) <= radiusSquared;
+
+                    if (inside && type.isInstance(entities[entry])) {
+                        result.add(type.cast(entities[entry]));
+                    }
+                }
+            }
+        }
+    }
+
+    private double distanceSquared(final int entry, final double x, final double y) {
+        var dx = Math.max(Math.max(minX[entry] - x, 0), x - maxX[entry]);
+        var dy = Math.max(Math.max(minY[entry] - y, 0), y - maxY[entry]);
+        return dx * dx + dy * dy;
+    }
+
+    /**
+     * Intersect the line segment with the bounds of the given entry, using the slab method.
+     *
+     * @return the fraction of the line segment at which the bounds are entered, or {@link Double#POSITIVE_INFINITY}
+     */
+    private double timeOfHit(final int entry, final double fromX, final double fromY, final double dx, final double dy) {
+        var entryTime = 0d;
+        var exitTime = 1d;
+
+        if (dx == 0) {
+            if (fromX < minX[entry] || fromX > maxX[entry]) {
+                return Double.POSITIVE_INFINITY;
+            }
+        } else {
+            var t1 = (minX[entry] - fromX) / dx;
+            var t2 = (maxX[entry] - fromX) / dx;
+            entryTime = Math.max(entryTime, Math.min(t1, t2));
+            exitTime = Math.min(exitTime, Math.max(t1, t2));
+        }
+
+        if (dy == 0) {
+            if (fromY < minY[entry] || fromY > maxY[entry]) {
+                return Double.POSITIVE_INFINITY;
+            }
+        } else {
+            var t1 = (minY[entry] - fromY) / dy;
+            var t2 = (maxY[entry] - fromY) / dy;
+            entryTime = Math.max(entryTime, Math.min(t1, t2));
+            exitTime = Math.min(exitTime, Math.max(t1, t2));
+        }
+
+        return entryTime <= exitTime ? entryTime : Double.POSITIVE_INFINITY;
+    }
+
+    private void refresh(final int entry) {
+        var entity = entities[entry];
+        var entityMinX = entity.getTransformedMinX();
+        var entityMinY = entity.getTransformedMinY();
+        var entityMaxX = entity.getTransformedMaxX();
+        var entityMaxY = entity.getTransformedMaxY();
+
+        minX[entry] = entityMinX;
+        minY[entry] = entityMinY;
+        maxX[entry] = entityMaxX;
+        maxY[entry] = entityMaxY;
+
+        if (!(entityMaxX >= entityMinX && entityMaxY >= entityMinY)) {
+            if (linked[entry]) {
+                unlink(entry);
+            }
+            return;
+        }
+
+        var fromX = cellOf(entityMinX);
+        var fromY = cellOf(entityMinY);
+        var toX = cellOf(entityMaxX);
+        var toY = cellOf(entityMaxY);
+
+        if (linked[entry]) {
+            if (fromX == cellMinX[entry] && fromY == cellMinY[entry] && toX == cellMaxX[entry] && toY == cellMaxY[entry]) {
+                return;
+            }
+            unlink(entry);
+        }
+
+        cellMinX[entry] = fromX;
+        cellMinY[entry] = fromY;
+        cellMaxX[entry] = toX;
+        cellMaxY[entry] = toY;
+        link(entry);
+    }
+
+    private void link(final int entry) {
+        for (var cx = cellMinX[entry]; cx <= cellMaxX[entry]; cx++) {
+            for (var cy = cellMinY[entry]; cy <= cellMaxY[entry]; cy++) {
+                var cell = findOrCreateCell(cx, cy);
+                if (cellSizes[cell] == cellMembers[cell].length) {
+                    cellMembers[cell] = Arrays.copyOf(cellMembers[cell], cellSizes[cell] * 2);
+                }
+                cellMembers[cell][cellSizes[cell]++] = entry;
+            }
+        }
+
+        gridMinX = Math.min(gridMinX, cellMinX[entry]);
+        gridMinY = Math.min(gridMinY, cellMinY[entry]);
+        gridMaxX = Math.max(gridMaxX, cellMaxX[entry]);
+        gridMaxY = Math.max(gridMaxY, cellMaxY[entry]);
+        linked[entry] = true;
+    }
+
+    private void unlink(final int entry) {
+        for (var cx = cellMinX[entry]; cx <= cellMaxX[entry]; cx++) {
+            for (var cy = cellMinY[entry]; cy <= cellMaxY[entry]; cy++) {
+                var cell = findCell(cx, cy);
+                var members = cellMembers[cell];
+                for (var i = 0; i < cellSizes[cell]; i++) {
+                    if (members[i] == entry) {
+                        members[i] = members[--cellSizes[cell]];
+                        break;
+                    }
+                }
+            }
+        }
+        linked[entry] = false;
+    }
+
+    private int cellOf(final double coordinate) {
+        var cell = Math.floor(coordinate / cellSize);
+        return (int) Math.max(Integer.MIN_VALUE + 1, Math.min(Integer.MAX_VALUE - 1, cell));
+    }
+
+    private int findCell(final long cx, final long cy) {
+        if (cx < Integer.MIN_VALUE || cx > Integer.MAX_VALUE || cy < Integer.MIN_VALUE || cy > Integer.MAX_VALUE) {
+            return -1;
+        }
+
+        var key = keyOf((int) cx, (int) cy);
+        var mask = cellSlots.length - 1;
+        for (var slot = slotOf(key, mask); cellSlots[slot] != EMPTY; slot = (slot + 1) & mask) {
+            if (cellKeys[slot] == key) {
+                return cellSlots[slot] - 1;
+            }
+        }
+        return -1;
+    }
+
+    private int findOrCreateCell(final int cx, final int cy) {
+        var cell = findCell(cx, cy);
+        if (cell >= 0) {
+            return cell;
+        }
+
+        if ((cellCount + 1) * 2 > cellSlots.length) {
+            rehash(cellSlots.length * 2);
+        }
+        if (cellCount == cellMembers.length) {
+            cellMembers = Arrays.copyOf(cellMembers, cellMembers.length * 2);
+            cellSizes = Arrays.copyOf(cellSizes, cellSizes.length * 2);
+        }
+
+        cell = cellCount++;
+        cellMembers[cell] = new int[4];
+        cellSizes[cell] = 0;
+        insertCell(keyOf(cx, cy), cell);
+        return cell;
+    }
+
+    private void insertCell(final long key, final int cell) {
+        var mask = cellSlots.length - 1;
+        var slot = slotOf(key, mask);
+        while (cellSlots[slot] != EMPTY) {
+            slot = (slot + 1) & mask;
+        }
+        cellKeys[slot] = key;
+        cellSlots[slot] = cell + 1;
+    }
+
+    private void rehash(final int capacity) {
+        var oldKeys = cellKeys;
+        var oldSlots = cellSlots;
+        cellKeys = new long[capacity];
+        cellSlots = new int[capacity];
+        for (var slot = 0; slot < oldSlots.length; slot++) {
+            if (oldSlots[slot] != EMPTY) {
+                insertCell(oldKeys[slot], oldSlots[slot] - 1);
+            }
+        }
+    }
+
+    private int nextEntry() {
+        if (entryCount == entities.length) {
+            var capacity = entities.length * 2;
+            entities = Arrays.copyOf(entities, capacity);
+            minX = Arrays.copyOf(minX, capacity);
+            minY = Arrays.copyOf(minY, capacity);
+            maxX = Arrays.copyOf(maxX, capacity);
+            maxY = Arrays.copyOf(maxY, capacity);
+            linked = Arrays.copyOf(linked, capacity);
+            cellMinX = Arrays.copyOf(cellMinX, capacity);
+            cellMinY = Arrays.copyOf(cellMinY, capacity);
+            cellMaxX = Arrays.copyOf(cellMaxX, capacity);
+            cellMaxY = Arrays.copyOf(cellMaxY, capacity);
+        }
+        return entryCount++;
+    }
+
+    private static long keyOf(final int cx, final int cy) {
+        return ((long) cx << 32) | (cy & 0xFFFFFFFFL);
+    }
+
+    private static int slotOf(final long key, final int mask) {
+        var hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+}
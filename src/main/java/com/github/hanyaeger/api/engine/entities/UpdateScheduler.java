@@ -0,0 +1,152 @@
+package com.github.hanyaeger.api.engine.entities;
+
+import com.github.hanyaeger.api.engine.Clearable;
+import com.github.hanyaeger.api.engine.entities.entity.Computable;
+import com.github.hanyaeger.api.engine.entities.entity.YaegerEntity;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * An {@link UpdateScheduler} performs the compute phase of all instances of {@link Computable} that are part of an
+ * {@link EntityCollection}. By default all instances of {@link Computable} are computed on the calling thread. When a
+ * {@link ForkJoinPool} is set, they are partitioned into chunks that are computed in parallel on that
+ * {@link ForkJoinPool}. The calling thread waits until all chunks are done, so the scene graph phase that follows
+ * sees the results of all instances of {@link Computable}.
+ * <p>
+ * A {@link Computable} that falls asleep is removed by the {@link EntityCollection} and registered again when it
+ * wakes up.
+ */
+class UpdateScheduler implements Clearable {
+
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int THRESHOLD = 32;
+
+    private final Map<Computable, Integer> indices = new HashMap<>();
+
+    private Computable[] computables = new Computable[INITIAL_CAPACITY];
+    private int count;
+
+    private ForkJoinPool pool;
+
+    /**
+     * Set the {@link ForkJoinPool} on which the compute phase should be performed.
+     *
+     * @param pool the {@link ForkJoinPool} to be used, or {@code null} to compute on the calling thread
+     */
+    void setPool(final ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * Return whether the compute phase is performed in parallel.
+     *
+     * @return {@code true} if a {@link ForkJoinPool} is set
+     */
+    boolean isParallel() {
+        return pool != null;
+    }
+
+    /**
+     * Register a {@link YaegerEntity}. It will only be added if it implements {@link Computable}.
+     *
+     * @param entity the {@link YaegerEntity} that should be registered
+     */
+    void register(final YaegerEntity entity) {
+        if (!(entity instanceof Computable) || indices.containsKey(entity)) {
+            return;
+        }
+
+        ensureCapacity(count + 1);
+        computables[count] = (Computable) entity;
+        indices.put((Computable) entity, count);
+        count++;
+    }
+
+    /**
+     * Remove a {@link YaegerEntity}.
+     *
+     * @param entity the {@link YaegerEntity} that should be removed
+     */
+    void remove(final YaegerEntity entity) {
+        var index = indices.remove(entity);
+        if (index == null) {
+            return;
+        }
+
+        var last = --count;
+        if (index != last) {
+            computables[index] = computables[last];
+            indices.put(computables[index], index);
+        }
+        computables[last] = null;
+    }
+
+    /**
+     * Perform the compute phase of all registered instances of {@link Computable}.
+     *
+     * @param timestamp the timestamp of the current Game World Update
+     */
+    void compute(final long timestamp) {
+        if (pool == null || count <= THRESHOLD) {
+            computeRange(0, count, timestamp);
+        } else {
+            pool.invoke(new ComputeAction(0, count, timestamp));
+        }
+    }
+
+    /**
+     * @return the number of registered instances of {@link Computable}
+     */
+    int size() {
+        return count;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(computables, 0, count, null);
+        indices.clear();
+        count = 0;
+    }
+
+    private void computeRange(final int from, final int to, final long timestamp) {
+        for (var i = from; i < to; i++) {
+            computables[i].compute(timestamp);
+        }
+    }
+
+    private void ensureCapacity(final int capacity) {
+        if (capacity <= computables.length) {
+            return;
+        }
+
+        var newCapacity = Math.max(capacity, computables.length * 2);
+        computables = Arrays.copyOf(computables, newCapacity);
+    }
+
+    private class ComputeAction extends RecursiveAction {
+
+        private final int from;
+        private final int to;
+        private final long timestamp;
+
+        ComputeAction(final int from, final int to, final long timestamp) {
+            this.from = from;
+            this.to = to;
+            this.timestamp = timestamp;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= THRESHOLD) {
+                computeRange(from, to, timestamp);
+            } else {
+                var middle = (from + to) >>> 1;
+                invokeAll(new ComputeAction(from, middle, timestamp), new ComputeAction(middle, to, timestamp));
+            }
+        }
+    }
+}
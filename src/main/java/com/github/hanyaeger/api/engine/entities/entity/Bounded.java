@@ -24,6 +24,34 @@ public interface Bounded extends DimensionsProvider, NodeProvider {
         }
     }
 
+    /**
+     * @return A {@code double} of the minimal x value of the {@link Bounds} after all transformations have been applied.
+     */
+    default double getTransformedMinX() {
+        return getTransformedBounds().getMinX();
+    }
+
+    /**
+     * @return A {@code double} of the minimal y value of the {@link Bounds} after all transformations have been applied.
+     */
+    default double getTransformedMinY() {
+        return getTransformedBounds().getMinY();
+    }
+
+    /**
+     * @return A {@code double} of the maximal x value of the {@link Bounds} after all transformations have been applied.
+     */
+    default double getTransformedMaxX() {
+        return getTransformedBounds().getMaxX();
+    }
+
+    /**
+     * @return A {@code double} of the maximal y value of the {@link Bounds} after all transformations have been applied.
+     */
+    default double getTransformedMaxY() {
+        return getTransformedBounds().getMaxY();
+    }
+
     /**
      * Return the {@link Bounds}, aka Bounding Box before all transformations have been applied.
      *
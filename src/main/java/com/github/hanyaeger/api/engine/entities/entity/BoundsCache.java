@@ -0,0 +1,238 @@
+package com.github.hanyaeger.api.engine.entities.entity;
+
+import com.github.hanyaeger.api.engine.Clearable;
+import com.github.hanyaeger.api.engine.entities.EntityCollection;
+import javafx.beans.InvalidationListener;
+import javafx.scene.Node;
+
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+/**
+ * A {@link BoundsCache} stores the transformed bounds of all instances of {@link YaegerEntity} that are part of an
+ * {@link EntityCollection} in flat arrays of {@code double}, so collision detection and the scene border checks can
+ * read them without calling {@link Node#getBoundsInParent()} for every pair of instances of {@link YaegerEntity}.
+ * <p>
+ * Each {@link Node} gets its own slot in the arrays. An {@link InvalidationListener} on the
+ * {@link Node#boundsInParentProperty()} marks the slot as stale as soon as the {@link Node} is moved, rotated or
+ * changed otherwise, and queues it. A stale slot is read again from the {@link Node} the first time it is requested,
+ * so the cached values never lag behind the {@link Node}. Calling {@link #refresh()} reads all queued slots in one
+ * pass, so it only costs time for the instances of {@link Node} that have changed.
+ * <p>
+ * After {@link #refresh()}, reading the cached bounds does not change this {@link BoundsCache}, as long as no
+ * {@link Node} is changed. That is why the bounds can be read from multiple threads during the compute phase of
+ * the instances of {@link Computable}.
+ * <p>
+ * Since every change passes through this {@link BoundsCache}, {@link #refresh()} also reports each attached
+ * {@link YaegerEntity} that has changed to the listener set through {@link #setRefreshListener(Consumer)}, so other
+ * structures only need to update those instances of {@link YaegerEntity}.
+ */
+public class BoundsCache implements Clearable {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private Node[] nodes = new Node[INITIAL_CAPACITY];
+    private YaegerEntity[] entities = new YaegerEntity[INITIAL_CAPACITY];
+    private InvalidationListener[] listeners = new InvalidationListener[INITIAL_CAPACITY];
+    private double[] minX = new double[INITIAL_CAPACITY];
+    private double[] minY = new double[INITIAL_CAPACITY];
+    private double[] maxX = new double[INITIAL_CAPACITY];
+    private double[] maxY = new double[INITIAL_CAPACITY];
+    private boolean[] stale = new boolean[INITIAL_CAPACITY];
+    private boolean[] queued = new boolean[INITIAL_CAPACITY];
+    private int[] queue = new int[INITIAL_CAPACITY];
+    private int queueSize;
+    private int[] freeSlots = new int[INITIAL_CAPACITY];
+    private int freeCount;
+    private int size;
+    private Consumer<YaegerEntity> refreshListener;
+
+    /**
+     * Attach a {@link YaegerEntity} to this {@link BoundsCache}, after which its transformed bounds are read from
+     * this {@link BoundsCache}. A {@link YaegerEntity} without a {@link Node} is ignored.
+     *
+     * @param entity the {@link YaegerEntity} of which the bounds should be cached
+     */
+    public void attach(final YaegerEntity entity) {
+        entity.attachBoundsCache(this);
+    }
+
+    /**
+     * Detach a {@link YaegerEntity} from this {@link BoundsCache} and release its slot.
+     *
+     * @param entity the {@link YaegerEntity} that should be detached
+     */
+    public void detach(final YaegerEntity entity) {
+        entity.detachBoundsCache();
+    }
+
+    /**
+     * Set the {@link Consumer} that {@link #refresh()} notifies of each attached {@link YaegerEntity} of which the
+     * bounds have changed since the previous call to {@link #refresh()}.
+     *
+     * @param refreshListener the {@link Consumer} to be notified, or {@code null}
+     */
+    public void setRefreshListener(final Consumer<YaegerEntity> refreshListener) {
+        this.refreshListener = refreshListener;
+    }
+
+    /**
+     * Register a {@link Node} with this {@link BoundsCache}.
+     *
+     * @param node the {@link Node} of which the bounds should be cached
+     * @return the slot that should be used to read the cached bounds
+     */
+    public int register(final Node node) {
+        final int slot = freeCount > 0 ? freeSlots[--freeCount] : nextSlot();
+
+        InvalidationListener listener = observable -> invalidate(slot);
+        node.boundsInParentProperty().addListener(listener);
+
+        nodes[slot] = node;
+        listeners[slot] = listener;
+        invalidate(slot);
+
+        return slot;
+    }
+
+    /**
+     * Register the {@link Node} of the given {@link YaegerEntity}, which is reported to the refresh listener
+     * whenever it has changed.
+     */
+    int register(final YaegerEntity entity, final Node node) {
+        var slot = register(node);
+        entities[slot] = entity;
+        return slot;
+    }
+
+    /**
+     * Release the given slot, after which it can be reused by another {@link Node}.
+     *
+     * @param slot the slot returned by {@link #register(Node)}
+     */
+    public void release(final int slot) {
+        if (nodes[slot] == null) {
+            return;
+        }
+
+        nodes[slot].boundsInParentProperty().removeListener(listeners[slot]);
+        nodes[slot] = null;
+        entities[slot] = null;
+        listeners[slot] = null;
+
+        if (freeCount == freeSlots.length) {
+            freeSlots = Arrays.copyOf(freeSlots, freeSlots.length * 2);
+        }
+        freeSlots[freeCount++] = slot;
+    }
+
+    /**
+     * Read the bounds of all instances of {@link Node} that have changed since the previous call, and notify the
+     * refresh listener of each attached {@link YaegerEntity} among them.
+     */
+    public void refresh() {
+        for (var i = 0; i < queueSize; i++) {
+            var slot = queue[i];
+            queued[slot] = false;
+            if (nodes[slot] == null) {
+                continue;
+            }
+            if (stale[slot]) {
+                read(slot);
+            }
+            if (refreshListener != null && entities[slot] != null) {
+                refreshListener.accept(entities[slot]);
+            }
+        }
+        queueSize = 0;
+    }
+
+    /**
+     * @param slot the slot returned by {@link #register(Node)}
+     * @return the minimal x of the transformed bounds
+     */
+    public double getMinX(final int slot) {
+        ensureFresh(slot);
+        return minX[slot];
+    }
+
+    /**
+     * @param slot the slot returned by {@link #register(Node)}
+     * @return the minimal y of the transformed bounds
+     */
+    public double getMinY(final int slot) {
+        ensureFresh(slot);
+        return minY[slot];
+    }
+
+    /**
+     * @param slot the slot returned by {@link #register(Node)}
+     * @return the maximal x of the transformed bounds
+     */
+    public double getMaxX(final int slot) {
+        ensureFresh(slot);
+        return maxX[slot];
+    }
+
+    /**
+     * @param slot the slot returned by {@link #register(Node)}
+     * @return the maximal y of the transformed bounds
+     */
+    public double getMaxY(final int slot) {
+        ensureFresh(slot);
+        return maxY[slot];
+    }
+
+    @Override
+    public void clear() {
+        for (var slot = 0; slot < size; slot++) {
+            release(slot);
+        }
+        for (var i = 0; i < queueSize; i++) {
+            queued[queue[i]] = false;
+        }
+        queueSize = 0;
+        freeCount = 0;
+        size = 0;
+    }
+
+    private void invalidate(final int slot) {
+        stale[slot] = true;
+        if (!queued[slot]) {
+            queued[slot] = true;
+            queue[queueSize++] = slot;
+        }
+    }
+
+    private void ensureFresh(final int slot) {
+        if (stale[slot]) {
+            read(slot);
+        }
+    }
+
+    private void read(final int slot) {
+        var bounds = nodes[slot].getBoundsInParent();
+        minX[slot] = bounds.getMinX();
+        minY[slot] = bounds.getMinY();
+        maxX[slot] = bounds.getMaxX();
+        maxY[slot] = bounds.getMaxY();
+        stale[slot] = false;
+    }
+
+    private int nextSlot() {
+        if (size == nodes.length) {
+            var capacity = nodes.length * 2;
+            nodes = Arrays.copyOf(nodes, capacity);
+            entities = Arrays.copyOf(entities, capacity);
+            listeners = Arrays.copyOf(listeners, capacity);
+            minX = Arrays.copyOf(minX, capacity);
+            minY = Arrays.copyOf(minY, capacity);
+            maxX = Arrays.copyOf(maxX, capacity);
+            maxY = Arrays.copyOf(maxY, capacity);
+            stale = Arrays.copyOf(stale, capacity);
+            queued = Arrays.copyOf(queued, capacity);
+            queue = Arrays.copyOf(queue, capacity);
+        }
+        return size++;
+    }
+}
@@ -0,0 +1,34 @@
+package com.github.hanyaeger.api.engine.entities.entity;
+
+import com.github.hanyaeger.api.engine.Updatable;
+import javafx.scene.Node;
+
+/**
+ * A {@link YaegerEntity} that implements {@link Computable} splits its Game World Update into two phases. During the
+ * compute phase {@link #compute(long)} is called on all instances of {@link Computable}, possibly in parallel on
+ * multiple threads. After that, the scene graph phase calls all instances of {@link Updatable} on the JavaFX
+ * Application Thread, as usual.
+ * <p>
+ * {@link #compute(long)} should therefore only perform pure computations, such as path finding or steering, and
+ * store their results in fields of this {@link YaegerEntity}. It should not change the {@link Node} of any
+ * {@link YaegerEntity}, nor the state of another {@link YaegerEntity}. The stored results should be applied from one
+ * of the instances of {@link Updatable} of this {@link YaegerEntity}, for instance by setting its speed or direction.
+ * <p>
+ * The {@link BoundsCache} is refreshed right before the compute phase, so {@link #compute(long)} can safely read
+ * {@link YaegerEntity#getTransformedMinX()}, {@link YaegerEntity#getTransformedMinY()},
+ * {@link YaegerEntity#getTransformedMaxX()} and {@link YaegerEntity#getTransformedMaxY()} of any
+ * {@link YaegerEntity}, query the {@link com.github.hanyaeger.api.engine.entities.SpatialIndex} and read fields of its
+ * own. It should not call methods that read the {@link Node}, such as
+ * {@link YaegerEntity#getTransformedBounds()} or {@link YaegerEntity#getOriginX()}, since JavaFX computes
+ * those lazily and is not thread safe.
+ */
+public interface Computable {
+
+    /**
+     * Perform the compute phase of this {@link Computable}. This method can be called from a thread other than the
+     * JavaFX Application Thread.
+     *
+     * @param timestamp the timestamp of the current Game World Update
+     */
+    void compute(final long timestamp);
+}
@@ -0,0 +1,49 @@
+package com.github.hanyaeger.api.engine.entities.entity;
+
+import com.github.hanyaeger.api.engine.Size;
+import com.github.hanyaeger.api.engine.entities.EntityCollection;
+
+/**
+ * {@link EntityAccessor} gives the engine access to the state of a {@link YaegerEntity} that is managed by the
+ * {@link EntityCollection}, without making that state part of the API of every {@link YaegerEntity}.
+ *
+ * <b>Note that this class is for internal use only and should not be used when creating a {@link com.github.hanyaeger.api.engine.YaegerGame}</b>
+ */
+public final class EntityAccessor {
+
+    private EntityAccessor() {
+    }
+
+    /**
+     * Return the id of the given {@link YaegerEntity}, which is unique, positive and never reused.
+     *
+     * @param entity the {@link YaegerEntity} of which the id should be returned
+     * @return the id as an {@code int}
+     */
+    public static int getEntityId(final YaegerEntity entity) {
+        return entity.getEntityId();
+    }
+
+    /**
+     * Set the {@link Coordinate2D} at which the given {@link YaegerEntity} is placed when it is added to an
+     * {@link EntityCollection}.
+     *
+     * @param entity   the {@link YaegerEntity} of which the initial location should be set
+     * @param location the new initial {@link Coordinate2D} of the {@link YaegerEntity}
+     */
+    public static void setInitialLocation(final YaegerEntity entity, final Coordinate2D location) {
+        entity.setInitialLocation(location);
+    }
+
+    /**
+     * Set the {@link Size} of the {@link com.github.hanyaeger.api.engine.scenes.YaegerScene} the given
+     * {@link YaegerEntity} is part of, if that {@link com.github.hanyaeger.api.engine.scenes.YaegerScene} has no
+     * {@link javafx.scene.Scene}.
+     *
+     * @param entity    the {@link YaegerEntity} of which the scene size should be set
+     * @param sceneSize the {@link Size} of the {@link com.github.hanyaeger.api.engine.scenes.YaegerScene}
+     */
+    public static void setSceneSize(final YaegerEntity entity, final Size sceneSize) {
+        entity.setSceneSize(sceneSize);
+    }
+}
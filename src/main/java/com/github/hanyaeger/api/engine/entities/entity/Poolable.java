@@ -0,0 +1,26 @@
+package com.github.hanyaeger.api.engine.entities.entity;
+
+import com.github.hanyaeger.api.engine.entities.EntityCollection;
+import com.github.hanyaeger.api.engine.entities.EntityPool;
+import com.github.hanyaeger.api.engine.entities.EntitySpawner;
+import javafx.scene.Node;
+
+/**
+ * A {@link YaegerEntity} that implements {@link Poolable} is not thrown away after it has been removed, but returns
+ * to the {@link EntityPool} of its {@link EntityCollection}. Its {@link Node}, its delegates and its instances of
+ * {@link com.github.hanyaeger.api.engine.Updatable} are kept intact. An {@link EntitySpawner} can then reuse it
+ * through {@link EntitySpawner#obtain(Class, Coordinate2D, java.util.function.Function)}, which skips dependency
+ * injection, the processing of its annotations and the creation of its {@link Node}.
+ * <p>
+ * Since a reused {@link YaegerEntity} keeps the state it had when it was removed, {@link #reset()} should restore
+ * the state it had when it was created, for instance its speed, direction or health.
+ */
+public interface Poolable {
+
+    /**
+     * Restore the state this {@link Poolable} had when it was created. This method is called when this
+     * {@link Poolable} is taken from an {@link EntityPool}, after it has been moved to its new location and before
+     * it is added to the {@link EntityCollection} again.
+     */
+    void reset();
+}
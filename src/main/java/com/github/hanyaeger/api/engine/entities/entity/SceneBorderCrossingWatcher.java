@@ -23,13 +23,13 @@ public interface SceneBorderCrossingWatcher extends Bounded, SceneChild, Moveabl
     @UpdatableProvider
     default Updatable watchForBoundaryCrossing() {
         return timestamp -> {
-            if (getTransformedBounds().getMaxX() <= 0) {
+            if (getTransformedMaxX() <= 0) {
                 handleCrossing(SceneBorder.LEFT);
-            } else if (getTransformedBounds().getMaxY() <= 0) {
+            } else if (getTransformedMaxY() <= 0) {
                 handleCrossing(SceneBorder.TOP);
-            } else if (getTransformedBounds().getMinY() >= getSceneHeight()) {
+            } else if (getTransformedMinY() >= getSceneHeight()) {
                 handleCrossing(SceneBorder.BOTTOM);
-            } else if (getTransformedBounds().getMinX() >= getSceneWidth()) {
+            } else if (getTransformedMinX() >= getSceneWidth()) {
                 handleCrossing(SceneBorder.RIGHT);
             }
         };
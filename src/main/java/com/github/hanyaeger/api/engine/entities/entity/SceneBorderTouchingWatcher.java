@@ -24,13 +24,13 @@ public interface SceneBorderTouchingWatcher extends Moveable, Bounded, SceneChil
     @UpdatableProvider
     default Updatable watchForBoundaryTouching() {
         return timestamp -> {
-            if (getTransformedBounds().getMinX() <= 0) {
+            if (getTransformedMinX() <= 0) {
                 handleTouch(SceneBorder.LEFT);
-            } else if (getTransformedBounds().getMinY() <= 0) {
+            } else if (getTransformedMinY() <= 0) {
                 handleTouch(SceneBorder.TOP);
-            } else if (getTransformedBounds().getMaxY() >= getSceneHeight()) {
+            } else if (getTransformedMaxY() >= getSceneHeight()) {
                 handleTouch(SceneBorder.BOTTOM);
-            } else if (getTransformedBounds().getMaxX() >= getSceneWidth()) {
+            } else if (getTransformedMaxX() >= getSceneWidth()) {
                 handleTouch(SceneBorder.RIGHT);
             }
         };
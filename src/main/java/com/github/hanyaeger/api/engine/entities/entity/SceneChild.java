@@ -16,7 +16,7 @@ public interface SceneChild extends NodeProvider {
      * @return the width of this {@code Scene} as a {@code double}
      */
     default double getSceneWidth() {
-        if (getGameNode().isPresent()) {
+        if (getGameNode().isPresent() && getGameNode().get().getScene() != null) {
             return getGameNode().get().getScene().getWidth();
         } else {
             return 0;
@@ -30,7 +30,7 @@ public interface SceneChild extends NodeProvider {
      * @return the height of this {@code Scene} as a {@code double}
      */
     default double getSceneHeight() {
-        if (getGameNode().isPresent()) {
+        if (getGameNode().isPresent() && getGameNode().get().getScene() != null) {
             return getGameNode().get().getScene().getHeight();
         } else {
             return 0;
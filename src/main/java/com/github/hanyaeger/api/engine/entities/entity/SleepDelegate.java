@@ -0,0 +1,117 @@
+package com.github.hanyaeger.api.engine.entities.entity;
+
+import com.github.hanyaeger.api.engine.Clearable;
+import com.github.hanyaeger.api.engine.entities.EntityCollection;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * A {@link SleepDelegate} decides which instances of {@link Sleepable} that are part of an {@link EntityCollection}
+ * are asleep. It should be updated once per Game World Update, before any {@link YaegerEntity} is updated.
+ * <p>
+ * Each {@link YaegerEntity} that falls asleep is passed to the listener set through
+ * {@link #setOnFallAsleep(Consumer)}, each {@link YaegerEntity} that wakes up to the listener set through
+ * {@link #setOnWakeUp(Consumer)}, so the {@link EntityCollection} can take a sleeping {@link YaegerEntity} out of
+ * the Game World Update. A {@link YaegerEntity} can be woken up at any time, for instance by another
+ * {@link YaegerEntity} or during collision detection, so the listener for waking up is called immediately.
+ */
+public class SleepDelegate implements Clearable {
+
+    private final Set<YaegerEntity> sleepables = new LinkedHashSet<>();
+    private int sleeping;
+    private Consumer<YaegerEntity> onFallAsleep;
+    private Consumer<YaegerEntity> onWakeUp;
+
+    /**
+     * Set the {@link Consumer} that is notified of each {@link YaegerEntity} that falls asleep.
+     *
+     * @param onFallAsleep the {@link Consumer} to be notified, or {@code null}
+     */
+    public void setOnFallAsleep(final Consumer<YaegerEntity> onFallAsleep) {
+        this.onFallAsleep = onFallAsleep;
+    }
+
+    /**
+     * Set the {@link Consumer} that is notified of each {@link YaegerEntity} that wakes up.
+     *
+     * @param onWakeUp the {@link Consumer} to be notified, or {@code null}
+     */
+    public void setOnWakeUp(final Consumer<YaegerEntity> onWakeUp) {
+        this.onWakeUp = onWakeUp;
+    }
+
+    /**
+     * Register a {@link YaegerEntity}. It will only be added if it implements {@link Sleepable}.
+     *
+     * @param entity the {@link YaegerEntity} that should be registered
+     */
+    public void register(final YaegerEntity entity) {
+        if (entity instanceof Sleepable && sleepables.add(entity)) {
+            entity.setSleepDelegate(this);
+        }
+    }
+
+    /**
+     * Remove a {@link YaegerEntity}, after which it will no longer fall asleep. If it was asleep, it is woken up
+     * without notifying the listener.
+     *
+     * @param entity the {@link YaegerEntity} that should be removed
+     */
+    public void remove(final YaegerEntity entity) {
+        if (sleepables.remove(entity)) {
+            entity.setSleepDelegate(null);
+            entity.wake();
+        }
+    }
+
+    /**
+     * Let each {@link Sleepable} that has been resting long enough fall asleep, and wake each {@link Sleepable} that
+     * is no longer resting.
+     */
+    public void update() {
+        sleeping = 0;
+
+        for (var entity : sleepables) {
+            var sleepable = (Sleepable) entity;
+            if (!sleepable.isResting()) {
+                entity.wake();
+            } else if (!entity.isAsleep()) {
+                entity.rest(sleepable.getSleepThreshold());
+                if (entity.isAsleep() && onFallAsleep != null) {
+                    onFallAsleep.accept(entity);
+                }
+            }
+
+            if (entity.isAsleep()) {
+                sleeping++;
+            }
+        }
+    }
+
+    /**
+     * @return the number of instances of {@link Sleepable} that were asleep after the last call to {@link #update()}
+     */
+    public int getSleeping() {
+        return sleeping;
+    }
+
+    /**
+     * Notify the listener that the given {@link YaegerEntity} has woken up.
+     *
+     * @param entity the {@link YaegerEntity} that has woken up
+     */
+    void wokeUp(final YaegerEntity entity) {
+        if (onWakeUp != null) {
+            onWakeUp.accept(entity);
+        }
+    }
+
+    @Override
+    public void clear() {
+        sleepables.forEach(entity -> entity.setSleepDelegate(null));
+        sleepables.clear();
+        sleeping = 0;
+    }
+}
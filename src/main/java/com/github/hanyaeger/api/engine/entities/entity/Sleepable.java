@@ -0,0 +1,68 @@
+package com.github.hanyaeger.api.engine.entities.entity;
+
+import com.github.hanyaeger.api.engine.Updatable;
+import com.github.hanyaeger.api.engine.entities.entity.collisions.AABBCollided;
+import com.github.hanyaeger.api.engine.entities.entity.collisions.AABBCollider;
+import com.github.hanyaeger.api.engine.entities.entity.motion.Moveable;
+
+/**
+ * A {@link YaegerEntity} that implements {@link Sleepable} falls asleep after it has been resting for a number of
+ * subsequent Game World Updates. A sleeping {@link YaegerEntity} is taken out of the Game World Update, so none of
+ * its instances of {@link Updatable} are called, and as an {@link AABBCollided} it is not checked for collisions.
+ * Large, mostly static levels then cost almost nothing.
+ * <p>
+ * A sleeping {@link YaegerEntity} wakes up as soon as it is no longer resting, for instance because its speed was
+ * changed by another {@link YaegerEntity}, when it is moved, or when an {@link AABBCollider} that has moved touches
+ * it. Since its own instances of {@link Updatable} are not called while it is asleep, only let a {@link YaegerEntity}
+ * implement {@link Sleepable} if it does not need to act on its own while it rests.
+ */
+public interface Sleepable extends Bounded {
+
+    /**
+     * The number of subsequent Game World Updates after which a resting {@link Sleepable} falls asleep, if no
+     * other value is given.
+     */
+    int DEFAULT_SLEEP_THRESHOLD = 60;
+
+    /**
+     * Return the number of subsequent Game World Updates this {@link Sleepable} should be resting, before it falls
+     * asleep.
+     *
+     * @return the number of Game World Updates, which is {@link #DEFAULT_SLEEP_THRESHOLD} by default
+     */
+    default int getSleepThreshold() {
+        return DEFAULT_SLEEP_THRESHOLD;
+    }
+
+    /**
+     * Return whether this {@link Sleepable} is resting. By default a {@link Moveable} rests if its speed is
+     * {@code 0} and a {@link ContinuousRotatable} rests if its rotation speed is {@code 0}.
+     *
+     * @return {@code true} if this {@link Sleepable} is resting
+     */
+    default boolean isResting() {
+        if (this instanceof Moveable && Double.compare(((Moveable) this).getSpeed(), 0d) != 0) {
+            return false;
+        }
+        return !(this instanceof ContinuousRotatable) || Double.compare(((ContinuousRotatable) this).getRotationSpeed(), 0d) == 0;
+    }
+
+    /**
+     * Return whether this {@link Sleepable} is currently asleep. Only a {@link YaegerEntity} can fall asleep.
+     *
+     * @return {@code true} if this {@link Sleepable} is asleep
+     */
+    default boolean isSleeping() {
+        return this instanceof YaegerEntity && ((YaegerEntity) this).isAsleep();
+    }
+
+    /**
+     * Wake this {@link Sleepable} up, after which it should be resting again for {@link #getSleepThreshold()}
+     * subsequent Game World Updates before it falls asleep.
+     */
+    default void wakeUp() {
+        if (this instanceof YaegerEntity) {
+            ((YaegerEntity) this).wake();
+        }
+    }
+}
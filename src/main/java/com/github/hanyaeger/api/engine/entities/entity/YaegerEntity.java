@@ -2,9 +2,12 @@ package com.github.hanyaeger.api.engine.entities.entity;
 
 import com.github.hanyaeger.api.engine.Activatable;
 import com.github.hanyaeger.api.engine.Initializable;
+import com.github.hanyaeger.api.engine.Size;
 import com.github.hanyaeger.api.engine.Timer;
 import com.github.hanyaeger.api.engine.TimerListProvider;
 import com.github.hanyaeger.api.engine.entities.EntityCollection;
+import com.github.hanyaeger.api.engine.entities.entity.collisions.AABBCollided;
+import com.github.hanyaeger.api.engine.entities.entity.collisions.AABBCollider;
 import com.google.inject.Injector;
 import javafx.geometry.Point2D;
 import javafx.scene.Cursor;
@@ -12,6 +15,7 @@ import javafx.scene.Node;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * A {@link YaegerEntity} is the base class for all things that can be drawn on a
@@ -19,6 +23,9 @@ import java.util.List;
  */
 public abstract class YaegerEntity implements Initializable, Activatable, TimerListProvider, Bounded, Removeable, Placeable, SceneChild, NodeProvider, Rotatable {
 
+    private static final AtomicInteger ENTITY_IDS = new AtomicInteger();
+
+    private final int entityId = ENTITY_IDS.incrementAndGet();
     protected double x;
     protected double y;
     private boolean visible = true;
@@ -26,6 +33,14 @@ public abstract class YaegerEntity implements Initializable, Activatable, TimerL
     private Cursor cursor = Cursor.DEFAULT;
     private List<Timer> timers = new ArrayList<>();
     private AnchorPoint anchorPoint;
+    private long collisionCategory = AABBCollider.DEFAULT_COLLISION_CATEGORY;
+    private long collisionMask = AABBCollided.ALL_COLLISION_CATEGORIES;
+    private BoundsCache boundsCache;
+    private int boundsCacheSlot;
+    private boolean sleeping;
+    private SleepDelegate sleepDelegate;
+    private int restingUpdates;
+    private Size sceneSize;
 
     /**
      * Instantiate a new {@link YaegerEntity} on the given {@link Coordinate2D}.
@@ -46,7 +61,9 @@ public abstract class YaegerEntity implements Initializable, Activatable, TimerL
      */
     public void setCursor(final Cursor cursor) {
         getGameNode().ifPresentOrElse(node -> {
-            node.getScene().setCursor(cursor);
+            if (node.getScene() != null) {
+                node.getScene().setCursor(cursor);
+            }
         }, () -> this.cursor = cursor);
     }
 
@@ -79,6 +96,54 @@ public abstract class YaegerEntity implements Initializable, Activatable, TimerL
         }, () -> this.opacity = opacity);
     }
 
+    /**
+     * Return the id of this {@link YaegerEntity}. Each {@link YaegerEntity} receives a unique, positive id when it
+     * is created. This id is never reused. It is read through {@link EntityAccessor#getEntityId(YaegerEntity)}.
+     *
+     * @return The id as an {@code int}.
+     */
+    int getEntityId() {
+        return entityId;
+    }
+
+    /**
+     * Set the collision categories this {@link YaegerEntity} belongs to. Each bit of the {@code long} denotes a
+     * single category. This value is only used if this {@link YaegerEntity} is an {@link AABBCollider}.
+     *
+     * @param collisionCategory The collision categories as a bitmask.
+     */
+    public void setCollisionCategory(final long collisionCategory) {
+        this.collisionCategory = collisionCategory;
+    }
+
+    /**
+     * Return the collision categories this {@link YaegerEntity} belongs to.
+     *
+     * @return The collision categories as a bitmask.
+     */
+    public long getCollisionCategory() {
+        return collisionCategory;
+    }
+
+    /**
+     * Set the collision categories this {@link YaegerEntity} can collide with. Each bit of the {@code long} denotes a
+     * single category. This value is only used if this {@link YaegerEntity} is an {@link AABBCollided}.
+     *
+     * @param collisionMask The collision mask as a bitmask.
+     */
+    public void setCollisionMask(final long collisionMask) {
+        this.collisionMask = collisionMask;
+    }
+
+    /**
+     * Return the collision categories this {@link YaegerEntity} can collide with.
+     *
+     * @return The collision mask as a bitmask.
+     */
+    public long getCollisionMask() {
+        return collisionMask;
+    }
+
     /**
      * Calculates the distance to a given {@link YaegerEntity}. This distance
      * is based on the {@link AnchorPoint} of the Entities and not on the shortest distance between them.
@@ -184,6 +249,94 @@ public abstract class YaegerEntity implements Initializable, Activatable, TimerL
         collection.addStaticEntity(this);
     }
 
+    /**
+     * Register the {@link Node} of this {@link YaegerEntity} with the {@link BoundsCache} of the {@link EntityCollection}.
+     * From then on, the transformed bounds of this {@link YaegerEntity} are read from that {@link BoundsCache}.
+     *
+     * @param boundsCache The {@link BoundsCache} to which this {@link YaegerEntity} should add itself.
+     */
+    void attachBoundsCache(final BoundsCache boundsCache) {
+        getGameNode().ifPresent(node -> {
+            this.boundsCache = boundsCache;
+            this.boundsCacheSlot = boundsCache.register(this, node);
+        });
+    }
+
+    /**
+     * Remove this {@link YaegerEntity} from the {@link BoundsCache} it was attached to.
+     */
+    void detachBoundsCache() {
+        if (boundsCache != null) {
+            boundsCache.release(boundsCacheSlot);
+            boundsCache = null;
+        }
+    }
+
+    /**
+     * Return whether this {@link YaegerEntity} is currently asleep. Only a {@link YaegerEntity} that implements
+     * {@link Sleepable} can fall asleep.
+     *
+     * @return {@code true} if this {@link YaegerEntity} is asleep
+     */
+    boolean isAsleep() {
+        return sleeping;
+    }
+
+    /**
+     * Wake this {@link YaegerEntity} up and reset the number of Game World Updates it has been resting. If it was
+     * asleep, the {@link SleepDelegate} it is registered with is notified.
+     */
+    void wake() {
+        restingUpdates = 0;
+        if (sleeping) {
+            sleeping = false;
+            if (sleepDelegate != null) {
+                sleepDelegate.wokeUp(this);
+            }
+        }
+    }
+
+    /**
+     * Set the {@link SleepDelegate} that should be notified when this {@link YaegerEntity} wakes up.
+     *
+     * @param sleepDelegate the {@link SleepDelegate}, or {@code null}
+     */
+    void setSleepDelegate(final SleepDelegate sleepDelegate) {
+        this.sleepDelegate = sleepDelegate;
+    }
+
+    /**
+     * Count another Game World Update during which this {@link YaegerEntity} has been resting, and let it fall
+     * asleep once it has been resting for the given number of Game World Updates.
+     *
+     * @param threshold the number of Game World Updates after which this {@link YaegerEntity} falls asleep
+     */
+    void rest(final int threshold) {
+        if (!sleeping && ++restingUpdates >= threshold) {
+            sleeping = true;
+        }
+    }
+
+    @Override
+    public double getTransformedMinX() {
+        return boundsCache == null ? getTransformedBounds().getMinX() : boundsCache.getMinX(boundsCacheSlot);
+    }
+
+    @Override
+    public double getTransformedMinY() {
+        return boundsCache == null ? getTransformedBounds().getMinY() : boundsCache.getMinY(boundsCacheSlot);
+    }
+
+    @Override
+    public double getTransformedMaxX() {
+        return boundsCache == null ? getTransformedBounds().getMaxX() : boundsCache.getMaxX(boundsCacheSlot);
+    }
+
+    @Override
+    public double getTransformedMaxY() {
+        return boundsCache == null ? getTransformedBounds().getMaxY() : boundsCache.getMaxY(boundsCacheSlot);
+    }
+
     protected void applyTranslationsForAnchorPoint(final Node node, final AnchorPoint anchorPoint) {
         switch (anchorPoint) {
             case TOP_LEFT:
@@ -261,6 +414,39 @@ public abstract class YaegerEntity implements Initializable, Activatable, TimerL
         return anchorPoint;
     }
 
+    /**
+     * Set the {@link Coordinate2D} at which this {@link YaegerEntity} is placed when it is added to an
+     * {@link EntityCollection}. It is called through {@link EntityAccessor#setInitialLocation(YaegerEntity, Coordinate2D)}.
+     *
+     * @param location The new initial {@link Coordinate2D} of this {@link YaegerEntity}.
+     */
+    void setInitialLocation(final Coordinate2D location) {
+        this.x = location.getX();
+        this.y = location.getY();
+    }
+
+    /**
+     * Set the {@link Size} of the {@link com.github.hanyaeger.api.engine.scenes.YaegerScene} this {@link YaegerEntity}
+     * is part of, if that {@link com.github.hanyaeger.api.engine.scenes.YaegerScene} has no {@link javafx.scene.Scene},
+     * as is the case when it is run by a {@link com.github.hanyaeger.api.engine.scenes.HeadlessRunner}. It is called
+     * through {@link EntityAccessor#setSceneSize(YaegerEntity, Size)}.
+     *
+     * @param sceneSize The {@link Size} of the {@link com.github.hanyaeger.api.engine.scenes.YaegerScene}.
+     */
+    void setSceneSize(final Size sceneSize) {
+        this.sceneSize = sceneSize;
+    }
+
+    @Override
+    public double getSceneWidth() {
+        return sceneSize == null ? SceneChild.super.getSceneWidth() : sceneSize.getWidth();
+    }
+
+    @Override
+    public double getSceneHeight() {
+        return sceneSize == null ? SceneChild.super.getSceneHeight() : sceneSize.getHeight();
+    }
+
     @Override
     public void placeOnScene() {
         getGameNode().ifPresent(node -> {
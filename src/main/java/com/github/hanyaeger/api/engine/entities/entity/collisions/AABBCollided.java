@@ -23,9 +23,41 @@ import java.util.Set;
  * {@link YaegerEntity} that really need to be part of the collision detection implement
  * the {@link AABBCollided} or {@link AABBCollider} interfaces.
  * </p>
+ * <p>To further limit the number of calculations, an {@link AABBCollided} can use {@link #getCollisionMask()} to
+ * denote the collision categories it is interested in. An {@link AABBCollider} of which none of the categories are
+ * part of that mask will be ignored, before any bounds are calculated.</p>
+ * <p>If either the {@link AABBCollided} or the {@link AABBCollider} is a {@link ShapedCollidable}, a pair of which
+ * the transformed bounds intersect is checked again using their actual shapes.</p>
  */
 public interface AABBCollided extends Bounded, Moveable {
 
+    /**
+     * The collision mask of an {@link AABBCollided}, if no other mask is set. This mask contains all categories.
+     */
+    long ALL_COLLISION_CATEGORIES = -1L;
+
+    /**
+     * Return the collision categories this {@link AABBCollided} can collide with. Each bit of the returned
+     * {@code long} denotes a single category, as returned by {@link AABBCollider#getCollisionCategory()}.
+     *
+     * @return the collision mask as a bitmask
+     */
+    default long getCollisionMask() {
+        return ALL_COLLISION_CATEGORIES;
+    }
+
+    /**
+     * Return whether this {@link AABBCollided} can collide with the given {@link AABBCollider}, based only
+     * on its {@link #getCollisionMask()} and the {@link AABBCollider#getCollisionCategory()}.
+     *
+     * @param collider the {@link AABBCollider} to check
+     * @return {@code true} if at least one of the categories of the {@link AABBCollider} is part of the
+     * mask of this {@link AABBCollided}
+     */
+    default boolean acceptsCollisionCategoryOf(final AABBCollider collider) {
+        return (getCollisionMask() & collider.getCollisionCategory()) != 0;
+    }
+
     /**
      * This method is called if a collision has occurred.
      *
@@ -62,6 +94,8 @@ public interface AABBCollided extends Bounded, Moveable {
     }
 
     private boolean collisionHasOccured(AABBCollider AABBCollider) {
-        return !this.equals(AABBCollider) && getTransformedBounds().intersects(AABBCollider.getTransformedBounds());
+        return acceptsCollisionCategoryOf(AABBCollider)
+                && !this.equals(AABBCollider)
+                && Narrowphase.intersect(this, AABBCollider);
     }
 }
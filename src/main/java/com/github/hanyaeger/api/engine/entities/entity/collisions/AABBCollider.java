@@ -10,6 +10,25 @@ import com.github.hanyaeger.api.engine.entities.entity.motion.DirectionProvider;
  * by a {@link AABBCollided}
  * <p>
  * In case of a collision, only the {@link AABBCollided} will be notified.
+ * <p>
+ * Each {@link AABBCollider} belongs to one or more collision categories, denoted by the bits of the {@code long}
+ * returned by {@link #getCollisionCategory()}. An {@link AABBCollided} is only checked against those instances of
+ * {@link AABBCollider} that belong to a category that is part of its {@link AABBCollided#getCollisionMask()}.
  */
 public interface AABBCollider extends Bounded, SpeedProvider, DirectionProvider {
+
+    /**
+     * The collision category an {@link AABBCollider} belongs to, if no other category is set.
+     */
+    long DEFAULT_COLLISION_CATEGORY = 1L;
+
+    /**
+     * Return the collision categories this {@link AABBCollider} belongs to. Each bit of the returned {@code long}
+     * denotes a single category.
+     *
+     * @return the collision categories as a bitmask
+     */
+    default long getCollisionCategory() {
+        return DEFAULT_COLLISION_CATEGORY;
+    }
 }
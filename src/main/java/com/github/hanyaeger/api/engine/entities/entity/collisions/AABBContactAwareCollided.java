@@ -0,0 +1,58 @@
+package com.github.hanyaeger.api.engine.entities.entity.collisions;
+
+import com.github.hanyaeger.api.engine.entities.entity.YaegerEntity;
+
+/**
+ * A {@link AABBContactAwareCollided} is an {@link AABBCollided} that is notified when a contact with an
+ * {@link AABBCollider} starts, continues and ends. The pairs that are touching are remembered between Game World
+ * Updates by the {@link CollisionDelegate}, so there is no need to keep track of them yourself.
+ * <ul>
+ *     <li>{@link #onCollisionEnter(AABBCollider)} is called during the first Game World Update in which both
+ *     overlap.</li>
+ *     <li>{@link #onCollisionStay(AABBCollider)} is called during every following Game World Update in which both
+ *     still overlap.</li>
+ *     <li>{@link #onCollisionExit(AABBCollider)} is called during the first Game World Update in which both no longer
+ *     overlap, or in which the {@link AABBCollider} has been removed from the scene.</li>
+ * </ul>
+ * <p>
+ * After all contacts of this {@link AABBContactAwareCollided} have been reported through an enter or stay,
+ * {@link #undoUpdate()} is called, just as with an {@link AABBCollided}. Note that these methods are only called for
+ * a {@link YaegerEntity} that is part of a scene, since only then its contacts are remembered.
+ */
+public interface AABBContactAwareCollided extends AABBCollided {
+
+    /**
+     * This method is called if a contact with an {@link AABBCollider} has started.
+     *
+     * @param collidingObject The {@link AABBCollider} you started colliding with.
+     */
+    void onCollisionEnter(final AABBCollider collidingObject);
+
+    /**
+     * This method is called if a contact with an {@link AABBCollider} continues.
+     *
+     * @param collidingObject The {@link AABBCollider} you are still colliding with.
+     */
+    default void onCollisionStay(final AABBCollider collidingObject) {
+        // Not required by default.
+    }
+
+    /**
+     * This method is called if a contact with an {@link AABBCollider} has ended.
+     *
+     * @param collidingObject The {@link AABBCollider} you are no longer colliding with.
+     */
+    void onCollisionExit(final AABBCollider collidingObject);
+
+    /**
+     * This method is not called for an {@link AABBContactAwareCollided}, since all contacts are reported through
+     * {@link #onCollisionEnter(AABBCollider)}, {@link #onCollisionStay(AABBCollider)} and
+     * {@link #onCollisionExit(AABBCollider)}.
+     *
+     * @param collidingObject The {@link AABBCollider} you are colliding with.
+     */
+    @Override
+    default void onCollision(final AABBCollider collidingObject) {
+        // All contacts are reported through onCollisionEnter, onCollisionStay and onCollisionExit.
+    }
+}
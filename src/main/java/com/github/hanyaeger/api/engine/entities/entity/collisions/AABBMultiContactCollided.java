@@ -0,0 +1,98 @@
+package com.github.hanyaeger.api.engine.entities.entity.collisions;
+
+import com.github.hanyaeger.api.engine.entities.entity.YaegerEntity;
+
+import java.util.Set;
+
+/**
+ * A {@link AABBMultiContactCollided} is an {@link AABBCollided} that is notified of all instances of
+ * {@link AABBCollider} it collides with, instead of only the first one. An {@link YaegerEntity} that touches both
+ * the floor and a wall during the same Game World Update, will receive both contacts.
+ * <p>
+ * All contacts are reported at once, through a single call to {@link #onCollision(ContactList)}, after which
+ * {@link #undoUpdate()} is called. The {@link ContactList} is reused each Game World Update, so no collections are
+ * created during collision detection.
+ * <p>
+ * If a {@link ShapedCollidable} is involved, only those contacts of which the actual shapes intersect are reported.
+ * The overlap of each contact is still the overlap of the transformed bounds.
+ */
+public interface AABBMultiContactCollided extends AABBCollided {
+
+    /**
+     * This method is called if one or more collisions have occurred.
+     *
+     * @param contacts The {@link ContactList} with all instances of {@link AABBCollider} you are colliding with.
+     *                 This {@link ContactList} is only valid during this call.
+     */
+    void onCollision(final ContactList contacts);
+
+    /**
+     * This method is not called for an {@link AABBMultiContactCollided}, since all collisions are reported
+     * through {@link #onCollision(ContactList)}.
+     *
+     * @param collidingObject The {@link AABBCollider} you are colliding with.
+     */
+    @Override
+    default void onCollision(final AABBCollider collidingObject) {
+        // All collisions are reported through onCollision(ContactList).
+    }
+
+    /**
+     * Perform collision detection with a {@link Set} of {@link AABBCollider} instances. Because a new
+     * {@link ContactList} is created, this method should only be used outside the Game World Update. During the
+     * Game World Update, {@link #checkForCollisions(Set, ContactList)} is used.
+     *
+     * @param AABBColliders A {@link Set} of colliders that should be checked for collisions.
+     */
+    @Override
+    default void checkForCollisions(final Set<AABBCollider> AABBColliders) {
+        checkForCollisions(AABBColliders, new ContactList());
+    }
+
+    /**
+     * Perform collision detection with a {@link Set} of {@link AABBCollider} instances and report all collisions
+     * through the given {@link ContactList}.
+     *
+     * @param AABBColliders A {@link Set} of colliders that should be checked for collisions.
+     * @param contacts      The {@link ContactList} that is cleared and filled with all contacts.
+     */
+    default void checkForCollisions(final Set<AABBCollider> AABBColliders, final ContactList contacts) {
+        contacts.clear();
+        if (AABBColliders == null || AABBColliders.isEmpty()) {
+            return;
+        }
+
+        var minX = getTransformedMinX();
+        var minY = getTransformedMinY();
+        var maxX = getTransformedMaxX();
+        var maxY = getTransformedMaxY();
+
+        for (var collider : AABBColliders) {
+            if (!acceptsCollisionCategoryOf(collider) || this.equals(collider)) {
+                continue;
+            }
+
+            var colliderMinX = collider.getTransformedMinX();
+            var colliderMinY = collider.getTransformedMinY();
+            var colliderMaxX = collider.getTransformedMaxX();
+            var colliderMaxY = collider.getTransformedMaxY();
+
+            if (colliderMaxX < colliderMinX || colliderMaxY < colliderMinY) {
+                continue;
+            }
+
+            var overlapWidth = Math.min(maxX, colliderMaxX) - Math.max(minX, colliderMinX);
+            var overlapHeight = Math.min(maxY, colliderMaxY) - Math.max(minY, colliderMinY);
+
+            if (overlapWidth >= 0 && overlapHeight >= 0 && Narrowphase.shapesIntersect(this, collider)) {
+                contacts.add(collider, overlapWidth, overlapHeight);
+            }
+        }
+
+        if (!contacts.isEmpty()) {
+            onCollision(contacts);
+            undoUpdate();
+            contacts.clear();
+        }
+    }
+}
@@ -2,8 +2,6 @@ package com.github.hanyaeger.api.engine.entities.entity.collisions;
 
 import com.github.hanyaeger.api.engine.entities.entity.YaegerEntity;
 import com.github.hanyaeger.api.engine.scenes.YaegerScene;
-import javafx.geometry.BoundingBox;
-import javafx.geometry.Bounds;
 
 /**
  * A {@link AABBSideAwareCollided} represents an {@link YaegerEntity} that can be collided with by a
@@ -29,43 +27,100 @@ public interface AABBSideAwareCollided extends AABBCollided {
      */
     void onCollision(final AABBCollider collidingObject, final CollisionSide side);
 
+    /**
+     * This method is called if a collision has occurred. Override this method to also receive the penetration depth
+     * of the {@link AABBCollider} along the side with which the collision has occurred.
+     *
+     * @param collidingObject The EntityCollection you are colliding with.
+     * @param side            The side with which a collision has occurred.
+     * @param penetration     The distance over which this {@link AABBSideAwareCollided} should move away from the
+     *                        {@link AABBCollider}, perpendicular to {@code side}, to no longer overlap it. This value
+     *                        is {@code 0} if the side is {@link CollisionSide#UNKNOWN}.
+     */
+    default void onCollision(final AABBCollider collidingObject, final CollisionSide side, final double penetration) {
+        onCollision(collidingObject, side);
+    }
+
+    /**
+     * Determine the side of the collision and call {@link #onCollision(AABBCollider, CollisionSide, double)}.
+     * <p>
+     * The side is derived from the edges of this {@link AABBSideAwareCollided} that are crossed by the
+     * {@link AABBCollider}. If it crosses both a horizontal and a vertical edge, the side is the one that was reached
+     * last, based on the penetration depth along each axis and the relative velocity of both, which is what happens
+     * with fast moving entities. Without any relative velocity, the side with the smallest penetration depth is used.
+     * Only primitive values are used, so no objects are created per collision.
+     *
+     * @param AABBCollider The {@link AABBCollider} you are colliding with.
+     */
     @Override
     default void onCollision(final AABBCollider AABBCollider) {
-        var side = findCollisionSide(AABBCollider.getNonTransformedBounds());
+        var minX = getTransformedMinX();
+        var minY = getTransformedMinY();
+        var maxX = getTransformedMaxX();
+        var maxY = getTransformedMaxY();
+        var colliderMinX = AABBCollider.getTransformedMinX();
+        var colliderMinY = AABBCollider.getTransformedMinY();
+        var colliderMaxX = AABBCollider.getTransformedMaxX();
+        var colliderMaxY = AABBCollider.getTransformedMaxY();
 
-        onCollision(AABBCollider, side);
-    }
+        var ownSpeed = getMotionApplier() == null ? 0 : getSpeed();
+        var ownDirection = ownSpeed == 0 ? 0 : getDirection();
+        var relativeVelocityX = velocityX(ownSpeed, ownDirection) - velocityX(AABBCollider.getSpeed(), AABBCollider.getDirection());
+        var relativeVelocityY = velocityY(ownSpeed, ownDirection) - velocityY(AABBCollider.getSpeed(), AABBCollider.getDirection());
 
-    private CollisionSide findCollisionSide(final Bounds colliderBounds) {
+        var crossesLeft = colliderMinX < minX;
+        var crossesRight = colliderMaxX > maxX;
+        var crossesMinY = colliderMinY < minY;
+        var crossesMaxY = colliderMaxY > maxY;
 
-        var collidedBounds = getTransformedBounds();
+        var sideX = crossesLeft == crossesRight ? CollisionSide.UNKNOWN : crossesLeft ? CollisionSide.LEFT : CollisionSide.RIGHT;
+        var sideY = crossesMinY == crossesMaxY ? CollisionSide.UNKNOWN : crossesMinY ? CollisionSide.BOTTOM : CollisionSide.TOP;
 
-        if (colliderBounds.intersects(createTopCollisionBoundingBox(collidedBounds))) {
-            return CollisionSide.TOP;
-        } else if (colliderBounds.intersects(createBottomCollisionBoundingBox(collidedBounds))) {
-            return CollisionSide.BOTTOM;
-        } else if (colliderBounds.intersects(createLeftCollisionBoundingBox(collidedBounds))) {
-            return CollisionSide.LEFT;
-        } else if (colliderBounds.intersects(createRightCollisionBoundingBox(collidedBounds))) {
-            return CollisionSide.RIGHT;
-        } else {
-            return CollisionSide.UNKNOWN;
+        if (sideX == CollisionSide.UNKNOWN && sideY == CollisionSide.UNKNOWN) {
+            if (relativeVelocityX == 0 && relativeVelocityY == 0) {
+                onCollision(AABBCollider, CollisionSide.UNKNOWN, 0);
+                return;
+            }
+            if (Math.abs(relativeVelocityX) >= Math.abs(relativeVelocityY)) {
+                sideX = relativeVelocityX < 0 ? CollisionSide.LEFT : CollisionSide.RIGHT;
+            } else {
+                sideY = relativeVelocityY < 0 ? CollisionSide.BOTTOM : CollisionSide.TOP;
+            }
         }
-    }
 
-    private Bounds createTopCollisionBoundingBox(final Bounds collidedBounds) {
-        return new BoundingBox(collidedBounds.getMinX(), collidedBounds.getMaxY() - 1, collidedBounds.getMinZ(), collidedBounds.getWidth(), 1, collidedBounds.getDepth());
+        var penetrationX = sideX == CollisionSide.LEFT ? colliderMaxX - minX : maxX - colliderMinX;
+        var penetrationY = sideY == CollisionSide.BOTTOM ? colliderMaxY - minY : maxY - colliderMinY;
+
+        if (sideY == CollisionSide.UNKNOWN) {
+            onCollision(AABBCollider, sideX, penetrationX);
+        } else if (sideX == CollisionSide.UNKNOWN) {
+            onCollision(AABBCollider, sideY, penetrationY);
+        } else {
+            var timeX = timeSinceContact(penetrationX, sideX == CollisionSide.LEFT ? -relativeVelocityX : relativeVelocityX);
+            var timeY = timeSinceContact(penetrationY, sideY == CollisionSide.BOTTOM ? -relativeVelocityY : relativeVelocityY);
+
+            if (timeX < timeY || (timeX == timeY && penetrationX < penetrationY)) {
+                onCollision(AABBCollider, sideX, penetrationX);
+            } else {
+                onCollision(AABBCollider, sideY, penetrationY);
+            }
+        }
     }
 
-    private Bounds createBottomCollisionBoundingBox(final Bounds collidedBounds) {
-        return new BoundingBox(collidedBounds.getMinX(), collidedBounds.getMinY(), collidedBounds.getMinZ(), collidedBounds.getWidth(), 1, collidedBounds.getDepth());
+    /**
+     * The time that has passed since the edges started to overlap, measured in Game World Updates. If the entities are
+     * not approaching each other along this axis, the overlap did not originate from the last motion and
+     * {@link Double#POSITIVE_INFINITY} is returned.
+     */
+    private static double timeSinceContact(final double penetration, final double approachingVelocity) {
+        return approachingVelocity > 0 ? penetration / approachingVelocity : Double.POSITIVE_INFINITY;
     }
 
-    private Bounds createLeftCollisionBoundingBox(final Bounds collidedBounds) {
-        return new BoundingBox(collidedBounds.getMinX(), collidedBounds.getMinY(), collidedBounds.getMinZ(), 1, collidedBounds.getHeight(), collidedBounds.getDepth());
+    private static double velocityX(final double speed, final double direction) {
+        return speed == 0 ? 0 : speed * Math.sin(Math.toRadians(direction));
     }
 
-    private Bounds createRightCollisionBoundingBox(final Bounds collidedBounds) {
-        return new BoundingBox(collidedBounds.getMaxX() - 1, collidedBounds.getMinY(), collidedBounds.getMinZ(), 1, collidedBounds.getHeight(), collidedBounds.getDepth());
+    private static double velocityY(final double speed, final double direction) {
+        return speed == 0 ? 0 : speed * Math.cos(Math.toRadians(direction));
     }
 }
@@ -0,0 +1,209 @@
+package com.github.hanyaeger.api.engine.entities.entity.collisions;
+
+import javafx.scene.image.Image;
+import javafx.scene.image.PixelFormat;
+
+/**
+ * An {@link AlphaMask} denotes which pixels of a single frame of an {@link Image} are opaque. Each row of pixels is
+ * packed into an array of {@code long} values, with one bit per pixel, so two instances of {@link AlphaMask} can be
+ * compared 64 pixels at a time.
+ * <p>
+ * An {@link AlphaMask} is created once per frame, when the {@link Image} is loaded, after which it is only read. It
+ * is used by instances of {@link PixelPerfectCollidable} to decide whether a collision has occurred.
+ */
+public final class AlphaMask {
+
+    /**
+     * A pixel is part of the {@link AlphaMask} if its alpha value is at least this value.
+     */
+    public static final int ALPHA_THRESHOLD = 128;
+
+    private static final int WORD_SIZE = 64;
+
+    private final int width;
+    private final int height;
+    private final int wordsPerRow;
+    private final long[] bits;
+
+    private AlphaMask(final int width, final int height) {
+        this.width = width;
+        this.height = height;
+        this.wordsPerRow = (width + WORD_SIZE - 1) / WORD_SIZE;
+        this.bits = new long[wordsPerRow * height];
+    }
+
+    /**
+     * Create an {@link AlphaMask} for each frame of the given {@link Image}. All frames should be placed next to each
+     * other, from left to right, and have the same width.
+     *
+     * @param image  the {@link Image}, which should be fully loaded
+     * @param frames the number of frames the {@link Image} contains
+     * @return an array with an {@link AlphaMask} for each frame, or {@code null} if the pixels of the {@link Image}
+     * cannot be read
+     */
+    public static AlphaMask[] create(final Image image, final int frames) {
+        var reader = image.getPixelReader();
+        if (reader == null) {
+            return null;
+        }
+
+        var width = (int) image.getWidth();
+        var height = (int) image.getHeight();
+        var argb = new int[width * height];
+        reader.getPixels(0, 0, width, height, PixelFormat.getIntArgbInstance(), argb, 0, width);
+
+        return create(argb, width, height, frames);
+    }
+
+    /**
+     * Create an {@link AlphaMask} for each frame of the given pixels.
+     *
+     * @param argb   the pixels of the image as ARGB values, row by row
+     * @param width  the width of the image
+     * @param height the height of the image
+     * @param frames the number of frames the image contains
+     * @return an array with an {@link AlphaMask} for each frame
+     */
+    public static AlphaMask[] create(final int[] argb, final int width, final int height, final int frames) {
+        var frameWidth = width / frames;
+        var masks = new AlphaMask[frames];
+
+        for (var frame = 0; frame < frames; frame++) {
+            var mask = new AlphaMask(frameWidth, height);
+            var offset = frame * frameWidth;
+
+            for (var row = 0; row < height; row++) {
+                var rowStart = row * width + offset;
+                var wordStart = row * mask.wordsPerRow;
+
+                for (var column = 0; column < frameWidth; column++) {
+                    if ((argb[rowStart + column] >>> 24) >= ALPHA_THRESHOLD) {
+                        mask.bits[wordStart + column / WORD_SIZE] |= 1L << (column % WORD_SIZE);
+                    }
+                }
+            }
+
+            masks[frame] = mask;
+        }
+
+        return masks;
+    }
+
+    /**
+     * @return the width of this {@link AlphaMask} in pixels
+     */
+    public int getWidth() {
+        return width;
+    }
+
+    /**
+     * @return the height of this {@link AlphaMask} in pixels
+     */
+    public int getHeight() {
+        return height;
+    }
+
+    /**
+     * Return whether the pixel at the given location is part of this {@link AlphaMask}.
+     *
+     * @param x the column of the pixel
+     * @param y the row of the pixel
+     * @return {@code true} if the pixel is opaque
+     */
+    public boolean isOpaque(final int x, final int y) {
+        if (x < 0 || x >= width || y < 0 || y >= height) {
+            return false;
+        }
+        return (bits[y * wordsPerRow + x / WORD_SIZE] & (1L << (x % WORD_SIZE))) != 0;
+    }
+
+    /**
+     * Return whether two instances of {@link AlphaMask} share an opaque pixel, when the top left corner of each is
+     * placed on the given location. The rows of both are compared 64 pixels at a time.
+     *
+     * @param a  the first {@link AlphaMask}
+     * @param ax the x of the top left corner of the first {@link AlphaMask}
+     * @param ay the y of the top left corner of the first {@link AlphaMask}
+     * @param b  the second {@link AlphaMask}
+     * @param bx the x of the top left corner of the second {@link AlphaMask}
+     * @param by the y of the top left corner of the second {@link AlphaMask}
+     * @return {@code true} if both share an opaque pixel
+     */
+    public static boolean intersect(final AlphaMask a, final double ax, final double ay,
+                                    final AlphaMask b, final double bx, final double by) {
+        var aLeft = (int) Math.round(ax);
+        var aTop = (int) Math.round(ay);
+        var bLeft = (int) Math.round(bx);
+        var bTop = (int) Math.round(by);
+
+        var fromX = Math.max(aLeft, bLeft);
+        var toX = Math.min(aLeft + a.width, bLeft + b.width);
+        var fromY = Math.max(aTop, bTop);
+        var toY = Math.min(aTop + a.height, bTop + b.height);
+
+        for (var y = fromY; y < toY; y++) {
+            for (var x = fromX; x < toX; x += WORD_SIZE) {
+                var used = lowBits(toX - x);
+                if ((a.wordAt(y - aTop, x - aLeft) & b.wordAt(y - bTop, x - bLeft) & used) != 0) {
+                    return true;
+                }
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Return whether this {@link AlphaMask} contains an opaque pixel within the given region, when its top left
+     * corner is placed on the given location.
+     *
+     * @param x    the x of the top left corner of this {@link AlphaMask}
+     * @param y    the y of the top left corner of this {@link AlphaMask}
+     * @param minX the minimal x of the region
+     * @param minY the minimal y of the region
+     * @param maxX the maximal x of the region
+     * @param maxY the maximal y of the region
+     * @return {@code true} if an opaque pixel lies within the region
+     */
+    public boolean intersects(final double x, final double y,
+                              final double minX, final double minY, final double maxX, final double maxY) {
+        var left = (int) Math.round(x);
+        var top = (int) Math.round(y);
+
+        var fromX = Math.max(left, (int) Math.floor(minX));
+        var toX = Math.min(left + width, (int) Math.ceil(maxX));
+        var fromY = Math.max(top, (int) Math.floor(minY));
+        var toY = Math.min(top + height, (int) Math.ceil(maxY));
+
+        for (var row = fromY; row < toY; row++) {
+            for (var column = fromX; column < toX; column += WORD_SIZE) {
+                if ((wordAt(row - top, column - left) & lowBits(toX - column)) != 0) {
+                    return true;
+                }
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Return the 64 bits of the given row, starting at the given column, which can be any column of that row.
+     */
+    private long wordAt(final int row, final int column) {
+        var rowStart = row * wordsPerRow;
+        var word = column / WORD_SIZE;
+        var shift = column % WORD_SIZE;
+
+        var low = bits[rowStart + word];
+        if (shift == 0) {
+            return low;
+        }
+
+        var high = word + 1 < wordsPerRow ? bits[rowStart + word + 1] : 0L;
+        return (low >>> shift) | (high << (WORD_SIZE - shift));
+    }
+
+    private static long lowBits(final int count) {
+        return count >= WORD_SIZE ? -1L : (1L << count) - 1;
+    }
+}
@@ -0,0 +1,58 @@
+package com.github.hanyaeger.api.engine.entities.entity.collisions;
+
+import javafx.geometry.Bounds;
+
+import java.util.Collection;
+
+/**
+ * A {@link Broadphase} is a spatial index of all instances of {@link AABBCollider} that can be used by the
+ * {@link CollisionDelegate} to limit the number of instances of {@link AABBCollider} an {@link AABBCollided} is
+ * checked against. Instead of checking each {@link AABBCollided} against all instances of {@link AABBCollider}, only
+ * those instances of {@link AABBCollider} that are near the {@link AABBCollided} are used.
+ * <p>
+ * A {@link Broadphase} only selects candidates. Whether an actual collision has occurred is still decided
+ * by {@link AABBCollided#checkForCollisions(java.util.Set)}.
+ */
+public interface Broadphase {
+
+    /**
+     * Register an {@link AABBCollider} with this {@link Broadphase}.
+     *
+     * @param collider the {@link AABBCollider} that should be registered
+     */
+    void register(final AABBCollider collider);
+
+    /**
+     * Remove an {@link AABBCollider} from this {@link Broadphase}.
+     *
+     * @param collider the {@link AABBCollider} that should be removed
+     */
+    void remove(final AABBCollider collider);
+
+    /**
+     * Notify this {@link Broadphase} that the bounds of a registered {@link AABBCollider} have changed. A
+     * {@link Broadphase} can use this to only update the invalidated instances of {@link AABBCollider} in
+     * {@link #update()}. By default this method does nothing.
+     *
+     * @param collider the {@link AABBCollider} of which the bounds have changed
+     */
+    default void invalidate(final AABBCollider collider) {
+        // Only required for a Broadphase that updates only the invalidated instances of AABBCollider.
+    }
+
+    /**
+     * Update this {@link Broadphase} to the current bounds of all registered instances of {@link AABBCollider}.
+     * This method is called once per Game World Update, before any of the calls to
+     * {@link #query(Bounds, Collection)} are made.
+     */
+    void update();
+
+    /**
+     * Add all registered instances of {@link AABBCollider} that could intersect with the given {@link Bounds}
+     * to the given {@link Collection}, each at most once. The {@link Collection} is not cleared beforehand.
+     *
+     * @param bounds the {@link Bounds} for which candidates should be found
+     * @param result the {@link Collection} to which all candidates should be added
+     */
+    void query(final Bounds bounds, final Collection<AABBCollider> result);
+}
@@ -1,10 +1,16 @@
 package com.github.hanyaeger.api.engine.entities.entity.collisions;
 
 import com.github.hanyaeger.api.engine.entities.entity.Removeable;
+import com.github.hanyaeger.api.engine.entities.entity.Sleepable;
 import com.github.hanyaeger.api.engine.entities.entity.YaegerEntity;
 
-import java.util.HashSet;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * A CollisionDelegate handles all behavior related to Object collisions.
@@ -13,13 +19,34 @@ public class CollisionDelegate {
 
     private Set<AABBCollided> collideds;
     private Set<AABBCollider> AABBColliders;
+    private Broadphase broadphase;
+    private ParallelNarrowphase parallelNarrowphase;
+    private final List<AABBCollider> queried = new ArrayList<>();
+    private final SleepingCollideds sleepingCollideds = new SleepingCollideds();
+    private final Set<AABBCollider> movedColliders = new LinkedHashSet<>();
+    private final List<AABBCollided> touched = new ArrayList<>();
+    private final List<AABBCollided> wokenWhileChecking = new ArrayList<>();
+    private boolean checking;
+    private final Set<AABBCollider> candidates = new AbstractSet<>() {
+        @Override
+        public Iterator<AABBCollider> iterator() {
+            return queried.iterator();
+        }
+
+        @Override
+        public int size() {
+            return queried.size();
+        }
+    };
+    private final ContactList contacts = new ContactList();
+    private final ContactPairCache contactPairs = new ContactPairCache();
 
     /**
      * Create a new CollisionDelegate.
      */
     public CollisionDelegate() {
-        collideds = new HashSet<>();
-        AABBColliders = new HashSet<>();
+        collideds = new LinkedHashSet<>();
+        AABBColliders = new LinkedHashSet<>();
     }
 
     /**
@@ -44,15 +71,75 @@ public class CollisionDelegate {
      */
     public void register(AABBCollider AABBCollider) {
         AABBColliders.add(AABBCollider);
+        if (broadphase != null) {
+            broadphase.register(AABBCollider);
+        }
     }
 
     /**
-     * Register a {@link AABBCollided} to be evaluated for collision detection.
+     * Register a {@link AABBCollided} to be evaluated for collision detection. A {@link Sleepable} that is asleep
+     * is only evaluated after it has woken up.
      *
      * @param collided the {@link AABBCollided} that should be registered
      */
     public void register(AABBCollided collided) {
-        collideds.add(collided);
+        if (collided instanceof Sleepable && ((Sleepable) collided).isSleeping()) {
+            sleepingCollideds.add(collided);
+        } else {
+            collideds.add(collided);
+        }
+    }
+
+    /**
+     * Stop checking the given {@link YaegerEntity} for collisions, because it has fallen asleep. It will only be
+     * removed if it is an {@link AABBCollided}.
+     *
+     * @param entity the {@link YaegerEntity} that has fallen asleep
+     */
+    public void fallAsleep(final YaegerEntity entity) {
+        if (entity instanceof AABBCollided) {
+            fallAsleep((AABBCollided) entity);
+        }
+    }
+
+    /**
+     * Stop checking the given {@link AABBCollided} for collisions, because it has fallen asleep. It is woken up by
+     * each {@link AABBCollider} that has moved and touches it.
+     *
+     * @param collided the {@link AABBCollided} that has fallen asleep
+     */
+    public void fallAsleep(final AABBCollided collided) {
+        if (collideds.remove(collided)) {
+            sleepingCollideds.add(collided);
+        }
+    }
+
+    /**
+     * Check the given {@link YaegerEntity} for collisions again, because it has woken up.
+     *
+     * @param entity the {@link YaegerEntity} that has woken up
+     */
+    public void wakeUp(final YaegerEntity entity) {
+        if (entity instanceof AABBCollided) {
+            wakeUp((AABBCollided) entity);
+        }
+    }
+
+    /**
+     * Check the given {@link AABBCollided} for collisions again, because it has woken up. If it wakes up while the
+     * collisions are being checked, it is checked from the next call to {@link #checkCollisions()}.
+     *
+     * @param collided the {@link AABBCollided} that has woken up
+     */
+    public void wakeUp(final AABBCollided collided) {
+        if (!sleepingCollideds.remove(collided)) {
+            return;
+        }
+        if (checking) {
+            wokenWhileChecking.add(collided);
+        } else {
+            collideds.add(collided);
+        }
     }
 
     /**
@@ -70,17 +157,192 @@ public class CollisionDelegate {
     }
 
     /**
-     * Check for collisions. Each {@link AABBCollided} is asked to check for collisions.
+     * Notify this {@link CollisionDelegate} that the bounds of the given {@link AABBCollider} have changed, so the
+     * {@link Broadphase} can update it, and it can wake each sleeping {@link AABBCollided} it touches, during the
+     * next call to {@link #checkCollisions()}.
+     *
+     * @param collider the {@link AABBCollider} of which the bounds have changed
+     */
+    public void invalidate(final AABBCollider collider) {
+        if (!AABBColliders.contains(collider)) {
+            return;
+        }
+        movedColliders.add(collider);
+        if (broadphase != null) {
+            broadphase.invalidate(collider);
+        }
+    }
+
+    /**
+     * Set the {@link Broadphase} that should be used to select the instances of {@link AABBCollider} each
+     * {@link AABBCollided} is checked against. All {@link AABBCollider} instances that are already registered will be
+     * registered with the {@link Broadphase}. When no {@link Broadphase} is set, or {@code null} is passed, each
+     * {@link AABBCollided} is checked against all instances of {@link AABBCollider}.
+     *
+     * @param broadphase the {@link Broadphase} to be used, or {@code null}
+     */
+    public void setBroadphase(final Broadphase broadphase) {
+        this.broadphase = broadphase;
+        if (broadphase != null) {
+            AABBColliders.forEach(broadphase::register);
+        }
+    }
+
+    /**
+     * Return the {@link Broadphase} that is currently used.
+     *
+     * @return the {@link Broadphase} that is used, or {@code null} if none is set
+     */
+    public Broadphase getBroadphase() {
+        return broadphase;
+    }
+
+    /**
+     * Set whether the collision checks should be performed in parallel on the common {@link ForkJoinPool}. The
+     * bounds of all instances of {@link AABBCollided} and {@link AABBCollider} are then copied before the checks
+     * start, and all collisions are reported afterwards, on the calling thread and in a stable order.
+     * <p>
+     * The parallel collision checks are only used when no {@link Broadphase} is set.
+     *
+     * @param parallel {@code true} if the collision checks should be performed in parallel
+     */
+    public void setParallel(final boolean parallel) {
+        setParallel(parallel ? ForkJoinPool.commonPool() : null);
+    }
+
+    /**
+     * Set the {@link ForkJoinPool} on which the collision checks should be performed in parallel.
+     *
+     * @param pool the {@link ForkJoinPool} to be used, or {@code null} to perform all collision checks on
+     *             the calling thread
+     * @see #setParallel(boolean)
+     */
+    public void setParallel(final ForkJoinPool pool) {
+        this.parallelNarrowphase = pool == null ? null : new ParallelNarrowphase(pool, contactPairs);
+    }
+
+    /**
+     * Return whether the collision checks are performed in parallel.
+     *
+     * @return {@code true} if the collision checks are performed in parallel
+     */
+    public boolean isParallel() {
+        return parallelNarrowphase != null;
+    }
+
+    /**
+     * Check for collisions. Each {@link AABBCollided} is asked to check for collisions. If a {@link Broadphase}
+     * is set, each {@link AABBCollided} only receives the candidates selected by that {@link Broadphase}. An
+     * {@link AABBCollided} with an empty {@link AABBCollided#getCollisionMask()} is skipped altogether, for all other
+     * instances each pair is first rejected on its collision categories, before any bounds are compared.
+     * <p>
+     * Each {@link AABBMultiContactCollided} receives all its contacts through the same {@link ContactList}, which is
+     * reused for every {@link AABBMultiContactCollided}. The contacts of each {@link AABBContactAwareCollided} are
+     * compared with those of the previous call, to report which contacts have started, continued and ended.
+     * <p>
+     * A {@link Sleepable} that is asleep is kept apart from the other instances of {@link AABBCollided} until it wakes
+     * up, through {@link #fallAsleep(AABBCollided)} and {@link #wakeUp(AABBCollided)}. It is not checked at all, and
+     * its contacts are kept as they were. Instead, each {@link AABBCollider} that has been passed to
+     * {@link #invalidate(AABBCollider)} since the previous call looks up the sleeping instances of
+     * {@link AABBCollided} near its bounds, and wakes each one it touches, after which that one is checked as usual.
+     * An {@link AABBCollider} that does not move, such as a wall, therefore never costs anything for a sleeping
+     * {@link AABBCollided}.
      */
     public void checkCollisions() {
-        collideds.forEach(collided -> collided.checkForCollisions(AABBColliders));
+        contactPairs.beginUpdate();
+
+        if (!sleepingCollideds.isEmpty()) {
+            wakeTouchedCollideds();
+        }
+        movedColliders.clear();
+
+        checking = true;
+        if (broadphase != null) {
+            broadphase.update();
+            collideds.forEach(this::checkCandidates);
+        } else if (parallelNarrowphase != null) {
+            parallelNarrowphase.checkCollisions(collideds, AABBColliders);
+        } else {
+            collideds.forEach(collided -> check(collided, AABBColliders));
+        }
+        checking = false;
+
+        collideds.addAll(wokenWhileChecking);
+        wokenWhileChecking.clear();
+
+        contactPairs.endUpdate();
+    }
+
+    /**
+     * Wake each sleeping {@link AABBCollided} that is touched by an {@link AABBCollider} that has moved, after which
+     * it is checked with the instances of {@link AABBCollided} that are awake.
+     */
+    private void wakeTouchedCollideds() {
+        for (var collider : movedColliders) {
+            touched.clear();
+            sleepingCollideds.query(collider, touched);
+
+            for (var i = 0; i < touched.size(); i++) {
+                var collided = touched.get(i);
+                if (sleepingCollideds.contains(collided) && !collided.equals(collider)
+                        && collided.acceptsCollisionCategoryOf(collider) && Narrowphase.intersect(collided, collider)) {
+                    ((Sleepable) collided).wakeUp();
+                    wakeUp(collided);
+                }
+            }
+
+            if (sleepingCollideds.isEmpty()) {
+                break;
+            }
+        }
+        touched.clear();
+    }
+
+    private void checkCandidates(final AABBCollided collided) {
+        queried.clear();
+        if (collided instanceof SweptAABBCollided) {
+            broadphase.query(((SweptAABBCollided) collided).getSweptBounds(), queried);
+        } else {
+            broadphase.query(collided.getTransformedBounds(), queried);
+        }
+
+        var accepted = 0;
+        for (var i = 0; i < queried.size(); i++) {
+            var candidate = queried.get(i);
+            if (collided.acceptsCollisionCategoryOf(candidate)) {
+                queried.set(accepted++, candidate);
+            }
+        }
+        for (var i = queried.size() - 1; i >= accepted; i--) {
+            queried.remove(i);
+        }
+
+        check(collided, candidates);
+    }
+
+    private void check(final AABBCollided collided, final Set<AABBCollider> colliders) {
+        if (collided instanceof AABBContactAwareCollided) {
+            contactPairs.check((AABBContactAwareCollided) collided, colliders);
+        } else if (collided instanceof AABBMultiContactCollided) {
+            ((AABBMultiContactCollided) collided).checkForCollisions(colliders, contacts);
+        } else {
+            collided.checkForCollisions(colliders);
+        }
     }
 
     private void removeCollider(AABBCollider AABBCollider) {
         AABBColliders.remove(AABBCollider);
+        movedColliders.remove(AABBCollider);
+        if (broadphase != null) {
+            broadphase.remove(AABBCollider);
+        }
     }
 
     private void removeCollided(AABBCollided collided) {
         collideds.remove(collided);
+        sleepingCollideds.remove(collided);
+        if (collided instanceof AABBContactAwareCollided) {
+            contactPairs.remove(collided);
+        }
     }
 }
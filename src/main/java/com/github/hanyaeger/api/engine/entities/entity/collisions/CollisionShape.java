@@ -0,0 +1,19 @@
+package com.github.hanyaeger.api.engine.entities.entity.collisions;
+
+/**
+ * A {@link CollisionShape} denotes the shape of a {@link ShapedCollidable} that is used during collision detection.
+ */
+public enum CollisionShape {
+    /**
+     * A rectangle, which can be rotated.
+     */
+    BOX,
+    /**
+     * A circle, of which the radius is half the width of the {@link ShapedCollidable}.
+     */
+    CIRCLE,
+    /**
+     * An ellipse, which can be rotated.
+     */
+    ELLIPSE
+}
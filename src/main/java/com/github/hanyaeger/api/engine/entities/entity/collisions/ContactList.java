@@ -0,0 +1,96 @@
+package com.github.hanyaeger.api.engine.entities.entity.collisions;
+
+import java.util.Arrays;
+
+/**
+ * A {@link ContactList} contains all instances of {@link AABBCollider} an {@link AABBMultiContactCollided} is in contact
+ * with during a single Game World Update, together with the size of the overlap of both bounds.
+ * <p>
+ * The same {@link ContactList} is reused every Game World Update, so its content is only valid during the call to
+ * {@link AABBMultiContactCollided#onCollision(ContactList)}. Do not store a reference to it; copy the values that are
+ * needed afterwards instead.
+ */
+public class ContactList {
+
+    private static final int INITIAL_CAPACITY = 8;
+
+    private AABBCollider[] colliders = new AABBCollider[INITIAL_CAPACITY];
+    private double[] overlapWidths = new double[INITIAL_CAPACITY];
+    private double[] overlapHeights = new double[INITIAL_CAPACITY];
+    private int size;
+
+    /**
+     * Create a new, empty {@link ContactList}.
+     */
+    ContactList() {
+    }
+
+    /**
+     * @return the number of contacts in this {@link ContactList}
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return {@code true} if this {@link ContactList} contains no contacts
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Return the {@link AABBCollider} of the contact at the given index. Contacts are stored in the iteration
+     * order of the instances of {@link AABBCollider} that were checked.
+     *
+     * @param index the index of the contact
+     * @return the {@link AABBCollider}
+     */
+    public AABBCollider getCollider(final int index) {
+        checkIndex(index);
+        return colliders[index];
+    }
+
+    /**
+     * @param index the index of the contact
+     * @return the width of the area in which both bounds overlap
+     */
+    public double getOverlapWidth(final int index) {
+        checkIndex(index);
+        return overlapWidths[index];
+    }
+
+    /**
+     * @param index the index of the contact
+     * @return the height of the area in which both bounds overlap
+     */
+    public double getOverlapHeight(final int index) {
+        checkIndex(index);
+        return overlapHeights[index];
+    }
+
+    void add(final AABBCollider collider, final double overlapWidth, final double overlapHeight) {
+        if (size == colliders.length) {
+            var capacity = colliders.length * 2;
+            colliders = Arrays.copyOf(colliders, capacity);
+            overlapWidths = Arrays.copyOf(overlapWidths, capacity);
+            overlapHeights = Arrays.copyOf(overlapHeights, capacity);
+        }
+
+        colliders[size] = collider;
+        overlapWidths[size] = overlapWidth;
+        overlapHeights[size] = overlapHeight;
+        size++;
+    }
+
+    void clear() {
+        Arrays.fill(colliders, 0, size, null);
+        size = 0;
+    }
+
+    private void checkIndex(final int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+}
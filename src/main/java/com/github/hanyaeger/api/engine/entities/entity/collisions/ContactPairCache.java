@@ -0,0 +1,249 @@
+package com.github.hanyaeger.api.engine.entities.entity.collisions;
+
+import com.github.hanyaeger.api.engine.entities.entity.EntityAccessor;
+import com.github.hanyaeger.api.engine.entities.entity.Sleepable;
+import com.github.hanyaeger.api.engine.entities.entity.YaegerEntity;
+
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A {@link ContactPairCache} remembers which instances of {@link AABBContactAwareCollided} and {@link AABBCollider}
+ * were touching during the previous Game World Update, so it can tell a new contact from a continuing one.
+ * <p>
+ * Each pair is identified by a {@code long} key, built from the ids of both entities. The pairs are stored in dense
+ * arrays, indexed by an open addressing hash table of those keys, so no objects are created or hashed for pairs that
+ * are already known. Every pair that was not seen during a Game World Update is removed in {@link #endUpdate()},
+ * after which {@link AABBContactAwareCollided#onCollisionExit(AABBCollider)} is called.
+ * <p>
+ * A {@link YaegerEntity} is identified by {@link EntityAccessor#getEntityId(YaegerEntity)}. Other implementations receive a negative
+ * id from this {@link ContactPairCache}, so both can never clash.
+ */
+class ContactPairCache {
+
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int EMPTY = 0;
+
+    private long[] keys = new long[INITIAL_CAPACITY];
+    private AABBContactAwareCollided[] collideds = new AABBContactAwareCollided[INITIAL_CAPACITY];
+    private AABBCollider[] colliders = new AABBCollider[INITIAL_CAPACITY];
+    private int[] lastSeen = new int[INITIAL_CAPACITY];
+    private int size;
+
+    /**
+     * Each slot contains the index in the dense arrays plus one, or {@link #EMPTY}.
+     */
+    private int[] table = new int[INITIAL_CAPACITY * 2];
+
+    private final Map<Object, Integer> fallbackIds = new IdentityHashMap<>();
+    private int nextFallbackId = -1;
+    private int update;
+
+    /**
+     * Start a new Game World Update.
+     */
+    void beginUpdate() {
+        update++;
+    }
+
+    /**
+     * Check the given {@link AABBContactAwareCollided} against all given instances of {@link AABBCollider} and report
+     * each contact as either an enter or a stay.
+     *
+     * @param collided  the {@link AABBContactAwareCollided} to check
+     * @param colliders the instances of {@link AABBCollider} to check against
+     */
+    void check(final AABBContactAwareCollided collided, final Set<AABBCollider> colliders) {
+        if (colliders == null || colliders.isEmpty()) {
+            return;
+        }
+
+        var collidedId = idOf(collided);
+        var touching = false;
+
+        for (var collider : colliders) {
+            if (!collided.acceptsCollisionCategoryOf(collider) || collided.equals(collider) || !Narrowphase.intersect(collided, collider)) {
+                continue;
+            }
+
+            touching = true;
+            var key = keyOf(collidedId, idOf(collider));
+            var index = find(key);
+
+            if (index < 0) {
+                add(key, collided, collider);
+                collided.onCollisionEnter(collider);
+            } else {
+                lastSeen[index] = update;
+                collided.onCollisionStay(collider);
+            }
+        }
+
+        if (touching) {
+            collided.undoUpdate();
+        }
+    }
+
+    /**
+     * End the current Game World Update. All pairs that were not touching during this Game World Update are removed,
+     * after which their {@link AABBContactAwareCollided} is notified. The pairs of a {@link Sleepable} that is asleep
+     * are kept, since it was not checked.
+     */
+    void endUpdate() {
+        for (var index = size - 1; index >= 0; index--) {
+            if (lastSeen[index] != update && !isSleeping(collideds[index])) {
+                var collided = collideds[index];
+                var collider = colliders[index];
+                removeAt(index);
+                collided.onCollisionExit(collider);
+            }
+        }
+    }
+
+    /**
+     * Forget all pairs of which the given object is the {@link AABBContactAwareCollided}. Pairs of which it is the
+     * {@link AABBCollider} are kept, so the {@link AABBContactAwareCollided} is notified of the exit at the end of the
+     * next Game World Update.
+     *
+     * @param removed the object that is no longer part of collision detection
+     */
+    void remove(final Object removed) {
+        for (var index = size - 1; index >= 0; index--) {
+            if (collideds[index] == removed) {
+                removeAt(index);
+            }
+        }
+        fallbackIds.remove(removed);
+    }
+
+    /**
+     * @return the number of pairs that are currently touching
+     */
+    int size() {
+        return size;
+    }
+
+    private int idOf(final Object entity) {
+        if (entity instanceof YaegerEntity) {
+            return EntityAccessor.getEntityId((YaegerEntity) entity);
+        }
+
+        var id = fallbackIds.get(entity);
+        if (id == null) {
+            id = nextFallbackId--;
+            fallbackIds.put(entity, id);
+        }
+        return id;
+    }
+
+    private static boolean isSleeping(final AABBContactAwareCollided collided) {
+        return collided instanceof Sleepable && ((Sleepable) collided).isSleeping();
+    }
+
+    private static long keyOf(final int collidedId, final int colliderId) {
+        return ((long) collidedId << 32) | (colliderId & 0xFFFFFFFFL);
+    }
+
+    private int find(final long key) {
+        var mask = table.length - 1;
+        for (var slot = slotOf(key, mask); table[slot] != EMPTY; slot = (slot + 1) & mask) {
+            if (keys[table[slot] - 1] == key) {
+                return table[slot] - 1;
+            }
+        }
+        return -1;
+    }
+
+    private void add(final long key, final AABBContactAwareCollided collided, final AABBCollider collider) {
+        if (size == keys.length) {
+            var capacity = keys.length * 2;
+            keys = Arrays.copyOf(keys, capacity);
+            collideds = Arrays.copyOf(collideds, capacity);
+            colliders = Arrays.copyOf(colliders, capacity);
+            lastSeen = Arrays.copyOf(lastSeen, capacity);
+            rehash(capacity * 2);
+        }
+
+        keys[size] = key;
+        collideds[size] = collided;
+        colliders[size] = collider;
+        lastSeen[size] = update;
+        insert(key, size + 1);
+        size++;
+    }
+
+    private void removeAt(final int index) {
+        delete(keys[index]);
+
+        var last = size - 1;
+        if (index != last) {
+            keys[index] = keys[last];
+            collideds[index] = collideds[last];
+            colliders[index] = colliders[last];
+            lastSeen[index] = lastSeen[last];
+            table[slotContaining(keys[index])] = index + 1;
+        }
+
+        collideds[last] = null;
+        colliders[last] = null;
+        size = last;
+    }
+
+    private void insert(final long key, final int entry) {
+        var mask = table.length - 1;
+        var slot = slotOf(key, mask);
+        while (table[slot] != EMPTY) {
+            slot = (slot + 1) & mask;
+        }
+        table[slot] = entry;
+    }
+
+    private int slotContaining(final long key) {
+        var mask = table.length - 1;
+        var slot = slotOf(key, mask);
+        while (keys[table[slot] - 1] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    /**
+     * Remove the given key from the table, shifting back all following entries of the same cluster, so no
+     * tombstones are needed.
+     */
+    private void delete(final long key) {
+        var mask = table.length - 1;
+        var hole = slotContaining(key);
+        var slot = hole;
+
+        while (true) {
+            slot = (slot + 1) & mask;
+            if (table[slot] == EMPTY) {
+                break;
+            }
+
+            var home = slotOf(keys[table[slot] - 1], mask);
+            var movable = hole <= slot ? (home <= hole || home > slot) : (home <= hole && home > slot);
+            if (movable) {
+                table[hole] = table[slot];
+                hole = slot;
+            }
+        }
+
+        table[hole] = EMPTY;
+    }
+
+    private void rehash(final int capacity) {
+        table = new int[capacity];
+        for (var index = 0; index < size; index++) {
+            insert(keys[index], index + 1);
+        }
+    }
+
+    private static int slotOf(final long key, final int mask) {
+        var hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+}
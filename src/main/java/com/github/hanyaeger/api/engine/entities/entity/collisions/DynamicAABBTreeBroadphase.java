@@ -0,0 +1,434 @@
+package com.github.hanyaeger.api.engine.entities.entity.collisions;
+
+import com.github.hanyaeger.api.engine.exceptions.YaegerEngineException;
+import javafx.geometry.Bounds;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A {@link DynamicAABBTreeBroadphase} is a {@link Broadphase} that stores all instances of {@link AABBCollider} in
+ * a dynamic bounding volume hierarchy. Each leaf of the tree contains a single {@link AABBCollider}, each internal
+ * node contains the union of the bounds of its children.
+ * <p>
+ * Contrary to the {@link SpatialHashBroadphase}, this {@link Broadphase} does not depend on a cell size, and thus
+ * works well for scenes in which the sizes of the instances of {@link AABBCollider} differ by orders of magnitude,
+ * such as a {@link com.github.hanyaeger.api.engine.entities.tilemap.TileMap} of large platforms combined with small
+ * projectiles.
+ * <p>
+ * Each leaf stores bounds that are fattened by a margin. An {@link AABBCollider} is only reinserted when its bounds
+ * are no longer contained by those fattened bounds, so an {@link AABBCollider} that does not move, or moves only a
+ * little, never changes the tree. The tree is kept balanced through rotations, so inserting and removing an
+ * {@link AABBCollider} takes {@code O(log n)}.
+ * <p>
+ * Only the instances of {@link AABBCollider} that have been passed to {@link #invalidate(AABBCollider)} since the
+ * previous call to {@link #update()} are checked against their fattened bounds, so the cost of {@link #update()}
+ * depends on the number of instances of {@link AABBCollider} that have moved, not on the size of the tree. An
+ * {@link AABBCollider} that moves without being invalidated is not relocated.
+ */
+public class DynamicAABBTreeBroadphase implements Broadphase {
+
+    /**
+     * The default margin in pixels by which the bounds of each {@link AABBCollider} are fattened.
+     */
+    public static final double DEFAULT_MARGIN = 8;
+
+    private static final int NULL_NODE = -1;
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final double margin;
+    private final Map<AABBCollider, Integer> leaves = new HashMap<>();
+
+    private int root = NULL_NODE;
+    private int freeList = NULL_NODE;
+
+    private double[] minX = new double[0];
+    private double[] minY = new double[0];
+    private double[] maxX = new double[0];
+    private double[] maxY = new double[0];
+    private int[] parent = new int[0];
+    private int[] child1 = new int[0];
+    private int[] child2 = new int[0];
+    private int[] height = new int[0];
+    private int[] proxySlot = new int[0];
+    private AABBCollider[] colliders = new AABBCollider[0];
+
+    private int[] proxies = new int[INITIAL_CAPACITY];
+    private int proxyCount;
+
+    private boolean[] invalid = new boolean[0];
+    private int[] invalidLeaves = new int[INITIAL_CAPACITY];
+    private int invalidCount;
+
+    private int[] stack = new int[INITIAL_CAPACITY];
+
+    /**
+     * Create a new {@link DynamicAABBTreeBroadphase} that uses the {@link #DEFAULT_MARGIN}.
+     */
+    public DynamicAABBTreeBroadphase() {
+        this(DEFAULT_MARGIN);
+    }
+
+    /**
+     * Create a new {@link DynamicAABBTreeBroadphase} with the given margin. A larger margin means an
+     * {@link AABBCollider} can move further before it needs to be reinserted, but also that more candidates
+     * are returned by {@link #query(Bounds, Collection)}.
+     *
+     * @param margin the margin in pixels by which the bounds of each {@link AABBCollider} are fattened, which should
+     *               not be negative
+     */
+    public DynamicAABBTreeBroadphase(final double margin) {
+        if (!(margin >= 0)) {
+            throw new YaegerEngineException("The margin of a DynamicAABBTreeBroadphase should not be negative.");
+        }
+        this.margin = margin;
+        growNodes(INITIAL_CAPACITY);
+    }
+
+    @Override
+    public void register(final AABBCollider collider) {
+        if (leaves.containsKey(collider)) {
+            return;
+        }
+
+        var leaf = allocateNode();
+        colliders[leaf] = collider;
+        fatten(leaf, collider.getTransformedBounds());
+        insertLeaf(leaf);
+
+        if (proxyCount == proxies.length) {
+            proxies = Arrays.copyOf(proxies, proxyCount * 2);
+        }
+        proxies[proxyCount] = leaf;
+        proxySlot[leaf] = proxyCount;
+        proxyCount++;
+
+        leaves.put(collider, leaf);
+    }
+
+    @Override
+    public void remove(final AABBCollider collider) {
+        var leaf = leaves.remove(collider);
+        if (leaf == null) {
+            return;
+        }
+
+        removeLeaf(leaf);
+
+        var slot = proxySlot[leaf];
+        var last = proxies[--proxyCount];
+        proxies[slot] = last;
+        proxySlot[last] = slot;
+
+        freeNode(leaf);
+    }
+
+    @Override
+    public void invalidate(final AABBCollider collider) {
+        var leaf = leaves.get(collider);
+        if (leaf == null || invalid[leaf]) {
+            return;
+        }
+
+        if (invalidCount == invalidLeaves.length) {
+            invalidLeaves = Arrays.copyOf(invalidLeaves, invalidCount * 2);
+        }
+        invalidLeaves[invalidCount++] = leaf;
+        invalid[leaf] = true;
+    }
+
+    @Override
+    public void update() {
+        for (var i = 0; i < invalidCount; i++) {
+            var leaf = invalidLeaves[i];
+            if (!invalid[leaf]) {
+                continue;
+            }
+            invalid[leaf] = false;
+
+            var bounds = colliders[leaf].getTransformedBounds();
+            if (!contains(leaf, bounds)) {
+                removeLeaf(leaf);
+                fatten(leaf, bounds);
+                insertLeaf(leaf);
+            }
+        }
+        invalidCount = 0;
+    }
+
+    @Override
+    public void query(final Bounds bounds, final Collection<AABBCollider> result) {
+        if (root == NULL_NODE) {
+            return;
+        }
+
+        var top = 0;
+        stack[top++] = root;
+
+        while (top > 0) {
+            var node = stack[--top];
+
+            if (!overlaps(node, bounds)) {
+                continue;
+            }
+
+            if (isLeaf(node)) {
+                result.add(colliders[node]);
+            } else {
+                if (top + 2 > stack.length) {
+                    stack = Arrays.copyOf(stack, stack.length * 2);
+                }
+                stack[top++] = child1[node];
+                stack[top++] = child2[node];
+            }
+        }
+    }
+
+    /**
+     * Return the height of the tree, being the number of edges between the root and the deepest leaf.
+     *
+     * @return the height of the tree as an {@code int}, or {@code -1} if the tree is empty
+     */
+    int getHeight() {
+        return root == NULL_NODE ? -1 : height[root];
+    }
+
+    private void insertLeaf(final int leaf) {
+        if (root == NULL_NODE) {
+            root = leaf;
+            parent[leaf] = NULL_NODE;
+            return;
+        }
+
+        var sibling = findBestSibling(leaf);
+
+        var oldParent = parent[sibling];
+        var newParent = allocateNode();
+        parent[newParent] = oldParent;
+        child1[newParent] = sibling;
+        child2[newParent] = leaf;
+        parent[sibling] = newParent;
+        parent[leaf] = newParent;
+
+        if (oldParent == NULL_NODE) {
+            root = newParent;
+        } else {
+            replaceChild(oldParent, sibling, newParent);
+        }
+
+        refitAncestors(newParent);
+    }
+
+    private int findBestSibling(final int leaf) {
+        var index = root;
+
+        while (!isLeaf(index)) {
+            var area = perimeter(index);
+            var combinedArea = combinedPerimeter(index, leaf);
+
+            var cost = 2 * combinedArea;
+            var inheritanceCost = 2 * (combinedArea - area);
+
+            var cost1 = descendCost(child1[index], leaf) + inheritanceCost;
+            var cost2 = descendCost(child2[index], leaf) + inheritanceCost;
+
+            if (cost < cost1 && cost < cost2) {
+                break;
+            }
+
+            index = cost1 < cost2 ? child1[index] : child2[index];
+        }
+
+        return index;
+    }
+
+    private double descendCost(final int child, final int leaf) {
+        if (isLeaf(child)) {
+            return combinedPerimeter(child, leaf);
+        } else {
+            return combinedPerimeter(child, leaf) - perimeter(child);
+        }
+    }
+
+    private void removeLeaf(final int leaf) {
+        if (leaf == root) {
+            root = NULL_NODE;
+            return;
+        }
+
+        var oldParent = parent[leaf];
+        var grandParent = parent[oldParent];
+        var sibling = child1[oldParent] == leaf ? child2[oldParent] : child1[oldParent];
+
+        if (grandParent == NULL_NODE) {
+            root = sibling;
+            parent[sibling] = NULL_NODE;
+        } else {
+            replaceChild(grandParent, oldParent, sibling);
+            parent[sibling] = grandParent;
+            refitAncestors(grandParent);
+        }
+
+        freeNode(oldParent);
+    }
+
+    private void refitAncestors(final int node) {
+        var index = node;
+        while (index != NULL_NODE) {
+            index = balance(index);
+            refit(index);
+            index = parent[index];
+        }
+    }
+
+    private int balance(final int a) {
+        if (isLeaf(a) || height[a] < 2) {
+            return a;
+        }
+
+        var b = child1[a];
+        var c = child2[a];
+        var balance = height[c] - height[b];
+
+        if (balance > 1) {
+            return rotateUp(a, c, false);
+        } else if (balance < -1) {
+            return rotateUp(a, b, true);
+        }
+
+        return a;
+    }
+
+    /**
+     * Rotate the child {@code pivot} of {@code a} up, so it takes the place of {@code a}. The highest child of
+     * {@code pivot} stays with {@code pivot}, the lowest child is moved to {@code a}.
+     */
+    private int rotateUp(final int a, final int pivot, final boolean pivotIsFirstChild) {
+        var f = child1[pivot];
+        var g = child2[pivot];
+
+        child1[pivot] = a;
+        parent[pivot] = parent[a];
+        parent[a] = pivot;
+
+        if (parent[pivot] == NULL_NODE) {
+            root = pivot;
+        } else {
+            replaceChild(parent[pivot], a, pivot);
+        }
+
+        var kept = height[f] > height[g] ? f : g;
+        var moved = kept == f ? g : f;
+
+        child2[pivot] = kept;
+        if (pivotIsFirstChild) {
+            child1[a] = moved;
+        } else {
+            child2[a] = moved;
+        }
+        parent[moved] = a;
+
+        refit(a);
+        refit(pivot);
+
+        return pivot;
+    }
+
+    private void refit(final int node) {
+        var first = child1[node];
+        var second = child2[node];
+
+        minX[node] = Math.min(minX[first], minX[second]);
+        minY[node] = Math.min(minY[first], minY[second]);
+        maxX[node] = Math.max(maxX[first], maxX[second]);
+        maxY[node] = Math.max(maxY[first], maxY[second]);
+        height[node] = 1 + Math.max(height[first], height[second]);
+    }
+
+    private void replaceChild(final int node, final int oldChild, final int newChild) {
+        if (child1[node] == oldChild) {
+            child1[node] = newChild;
+        } else {
+            child2[node] = newChild;
+        }
+    }
+
+    private void fatten(final int leaf, final Bounds bounds) {
+        minX[leaf] = bounds.getMinX() - margin;
+        minY[leaf] = bounds.getMinY() - margin;
+        maxX[leaf] = bounds.getMaxX() + margin;
+        maxY[leaf] = bounds.getMaxY() + margin;
+    }
+
+    private boolean contains(final int node, final Bounds bounds) {
+        return minX[node] <= bounds.getMinX() && minY[node] <= bounds.getMinY()
+                && maxX[node] >= bounds.getMaxX() && maxY[node] >= bounds.getMaxY();
+    }
+
+    private boolean overlaps(final int node, final Bounds bounds) {
+        return maxX[node] >= bounds.getMinX() && minX[node] <= bounds.getMaxX()
+                && maxY[node] >= bounds.getMinY() && minY[node] <= bounds.getMaxY();
+    }
+
+    private double perimeter(final int node) {
+        return 2 * ((maxX[node] - minX[node]) + (maxY[node] - minY[node]));
+    }
+
+    private double combinedPerimeter(final int first, final int second) {
+        var width = Math.max(maxX[first], maxX[second]) - Math.min(minX[first], minX[second]);
+        var height = Math.max(maxY[first], maxY[second]) - Math.min(minY[first], minY[second]);
+        return 2 * (width + height);
+    }
+
+    private boolean isLeaf(final int node) {
+        return child1[node] == NULL_NODE;
+    }
+
+    private int allocateNode() {
+        if (freeList == NULL_NODE) {
+            growNodes(parent.length * 2);
+        }
+
+        var node = freeList;
+        freeList = parent[node];
+
+        parent[node] = NULL_NODE;
+        child1[node] = NULL_NODE;
+        child2[node] = NULL_NODE;
+        height[node] = 0;
+
+        return node;
+    }
+
+    private void freeNode(final int node) {
+        colliders[node] = null;
+        invalid[node] = false;
+        parent[node] = freeList;
+        height[node] = -1;
+        freeList = node;
+    }
+
+    private void growNodes(final int capacity) {
+        var oldCapacity = parent.length;
+
+        minX = Arrays.copyOf(minX, capacity);
+        minY = Arrays.copyOf(minY, capacity);
+        maxX = Arrays.copyOf(maxX, capacity);
+        maxY = Arrays.copyOf(maxY, capacity);
+        parent = Arrays.copyOf(parent, capacity);
+        child1 = Arrays.copyOf(child1, capacity);
+        child2 = Arrays.copyOf(child2, capacity);
+        height = Arrays.copyOf(height, capacity);
+        proxySlot = Arrays.copyOf(proxySlot, capacity);
+        colliders = Arrays.copyOf(colliders, capacity);
+        invalid = Arrays.copyOf(invalid, capacity);
+
+        for (var i = capacity - 1; i >= oldCapacity; i--) {
+            parent[i] = freeList;
+            height[i] = -1;
+            freeList = i;
+        }
+    }
+}
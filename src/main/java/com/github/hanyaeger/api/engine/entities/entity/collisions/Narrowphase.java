@@ -0,0 +1,326 @@
+package com.github.hanyaeger.api.engine.entities.entity.collisions;
+
+import com.github.hanyaeger.api.engine.entities.entity.Bounded;
+
+/**
+ * The {@link Narrowphase} contains the analytic intersection tests that are used to check the actual shapes of
+ * two instances of {@link ShapedCollidable}, after their transformed bounds have been found to intersect. If either
+ * is a {@link PixelPerfectCollidable}, its {@link AlphaMask} is used instead.
+ * <p>
+ * Each test only uses the center, size and rotation of both shapes, so no JavaFX {@link javafx.scene.shape.Shape}
+ * is created or intersected. A box is described by its center, half of its width and height and its rotation in
+ * degrees, as applied to a {@link javafx.scene.Node}. Boxes are tested using the Separating Axis Theorem.
+ * <p>
+ * For two ellipses, or an ellipse and a circle, no exact analytic test exists. Each of them is then tested against
+ * the rotated box surrounding the other, which never misses a collision and only reports one if both ellipses are
+ * very close to each other.
+ */
+public final class Narrowphase {
+
+    private Narrowphase() {
+    }
+
+    /**
+     * Return whether two circles intersect.
+     *
+     * @param ax      the x of the center of the first circle
+     * @param ay      the y of the center of the first circle
+     * @param aRadius the radius of the first circle
+     * @param bx      the x of the center of the second circle
+     * @param by      the y of the center of the second circle
+     * @param bRadius the radius of the second circle
+     * @return {@code true} if both circles intersect
+     */
+    public static boolean circlesIntersect(final double ax, final double ay, final double aRadius,
+                                           final double bx, final double by, final double bRadius) {
+        var dx = bx - ax;
+        var dy = by - ay;
+        var radii = aRadius + bRadius;
+        return dx * dx + dy * dy <= radii * radii;
+    }
+
+    /**
+     * Return whether a circle and a box intersect. For an axis aligned box, pass a {@code rotation} of {@code 0}.
+     *
+     * @param cx         the x of the center of the circle
+     * @param cy         the y of the center of the circle
+     * @param radius     the radius of the circle
+     * @param bx         the x of the center of the box
+     * @param by         the y of the center of the box
+     * @param halfWidth  half of the width of the box
+     * @param halfHeight half of the height of the box
+     * @param rotation   the rotation of the box in degrees
+     * @return {@code true} if the circle and the box intersect
+     */
+    public static boolean circleIntersectsBox(final double cx, final double cy, final double radius,
+                                              final double bx, final double by, final double halfWidth,
+                                              final double halfHeight, final double rotation) {
+        var radians = Math.toRadians(rotation);
+        var cos = Math.cos(radians);
+        var sin = Math.sin(radians);
+        var dx = cx - bx;
+        var dy = cy - by;
+
+        var localX = dx * cos + dy * sin;
+        var localY = -dx * sin + dy * cos;
+        var outsideX = Math.max(Math.abs(localX) - halfWidth, 0);
+        var outsideY = Math.max(Math.abs(localY) - halfHeight, 0);
+
+        return outsideX * outsideX + outsideY * outsideY <= radius * radius;
+    }
+
+    /**
+     * Return whether two boxes intersect, using the Separating Axis Theorem.
+     *
+     * @param ax          the x of the center of the first box
+     * @param ay          the y of the center of the first box
+     * @param aHalfWidth  half of the width of the first box
+     * @param aHalfHeight half of the height of the first box
+     * @param aRotation   the rotation of the first box in degrees
+     * @param bx          the x of the center of the second box
+     * @param by          the y of the center of the second box
+     * @param bHalfWidth  half of the width of the second box
+     * @param bHalfHeight half of the height of the second box
+     * @param bRotation   the rotation of the second box in degrees
+     * @return {@code true} if both boxes intersect
+     */
+    public static boolean boxesIntersect(final double ax, final double ay, final double aHalfWidth,
+                                         final double aHalfHeight, final double aRotation,
+                                         final double bx, final double by, final double bHalfWidth,
+                                         final double bHalfHeight, final double bRotation) {
+        var aRadians = Math.toRadians(aRotation);
+        var aCos = Math.cos(aRadians);
+        var aSin = Math.sin(aRadians);
+        var bRadians = Math.toRadians(bRotation);
+        var bCos = Math.cos(bRadians);
+        var bSin = Math.sin(bRadians);
+        var dx = bx - ax;
+        var dy = by - ay;
+
+        return overlapOnAxis(aCos, aSin, dx, dy, aHalfWidth, aHalfHeight, aCos, aSin, bHalfWidth, bHalfHeight, bCos, bSin)
+                && overlapOnAxis(-aSin, aCos, dx, dy, aHalfWidth, aHalfHeight, aCos, aSin, bHalfWidth, bHalfHeight, bCos, bSin)
+                && overlapOnAxis(bCos, bSin, dx, dy, aHalfWidth, aHalfHeight, aCos, aSin, bHalfWidth, bHalfHeight, bCos, bSin)
+                && overlapOnAxis(-bSin, bCos, dx, dy, aHalfWidth, aHalfHeight, aCos, aSin, bHalfWidth, bHalfHeight, bCos, bSin);
+    }
+
+    /**
+     * Return whether an ellipse and a box intersect. The ellipse is first scaled to a circle with radius 1, after
+     * which the box, which has become a parallelogram, is tested against that circle.
+     *
+     * @param ex         the x of the center of the ellipse
+     * @param ey         the y of the center of the ellipse
+     * @param radiusX    the horizontal radius of the ellipse, before it is rotated
+     * @param radiusY    the vertical radius of the ellipse, before it is rotated
+     * @param eRotation  the rotation of the ellipse in degrees
+     * @param bx         the x of the center of the box
+     * @param by         the y of the center of the box
+     * @param halfWidth  half of the width of the box
+     * @param halfHeight half of the height of the box
+     * @param bRotation  the rotation of the box in degrees
+     * @return {@code true} if the ellipse and the box intersect
+     */
+    public static boolean ellipseIntersectsBox(final double ex, final double ey, final double radiusX,
+                                               final double radiusY, final double eRotation,
+                                               final double bx, final double by, final double halfWidth,
+                                               final double halfHeight, final double bRotation) {
+        if (!(radiusX > 0 && radiusY > 0)) {
+            return boxesIntersect(ex, ey, Math.max(radiusX, 0), Math.max(radiusY, 0), eRotation,
+                    bx, by, halfWidth, halfHeight, bRotation);
+        }
+
+        var eRadians = Math.toRadians(eRotation);
+        var eCos = Math.cos(eRadians);
+        var eSin = Math.sin(eRadians);
+        var bRadians = Math.toRadians(bRotation);
+        var bCos = Math.cos(bRadians);
+        var bSin = Math.sin(bRadians);
+
+        var dx = bx - ex;
+        var dy = by - ey;
+        var centerX = (dx * eCos + dy * eSin) / radiusX;
+        var centerY = (-dx * eSin + dy * eCos) / radiusY;
+        var uX = halfWidth * (bCos * eCos + bSin * eSin) / radiusX;
+        var uY = halfWidth * (-bCos * eSin + bSin * eCos) / radiusY;
+        var vX = halfHeight * (-bSin * eCos + bCos * eSin) / radiusX;
+        var vY = halfHeight * (bSin * eSin + bCos * eCos) / radiusY;
+
+        var determinant = uX * vY - uY * vX;
+        if (determinant != 0) {
+            var s = (-centerX * vY + centerY * vX) / determinant;
+            var t = (-uX * centerY + uY * centerX) / determinant;
+            if (Math.abs(s) <= 1 && Math.abs(t) <= 1) {
+                return true;
+            }
+        }
+
+        return segmentWithinUnitCircle(centerX + uX + vX, centerY + uY + vY, centerX + uX - vX, centerY + uY - vY)
+                || segmentWithinUnitCircle(centerX + uX - vX, centerY + uY - vY, centerX - uX - vX, centerY - uY - vY)
+                || segmentWithinUnitCircle(centerX - uX - vX, centerY - uY - vY, centerX - uX + vX, centerY - uY + vY)
+                || segmentWithinUnitCircle(centerX - uX + vX, centerY - uY + vY, centerX + uX + vX, centerY + uY + vY);
+    }
+
+    /**
+     * Return whether two instances of {@link Bounded} intersect. First their transformed bounds are compared, after
+     * which the actual shapes are compared if at least one of both is a {@link ShapedCollidable}. Empty bounds, of
+     * which the maximum is smaller than the minimum, contain no points and therefore never intersect, just like
+     * {@link javafx.geometry.Bounds#intersects(javafx.geometry.Bounds)}.
+     *
+     * @param a the first {@link Bounded}
+     * @param b the second {@link Bounded}
+     * @return {@code true} if both intersect
+     */
+    static boolean intersect(final Bounded a, final Bounded b) {
+        var aMinX = a.getTransformedMinX();
+        var aMinY = a.getTransformedMinY();
+        var aMaxX = a.getTransformedMaxX();
+        var aMaxY = a.getTransformedMaxY();
+        var bMinX = b.getTransformedMinX();
+        var bMinY = b.getTransformedMinY();
+        var bMaxX = b.getTransformedMaxX();
+        var bMaxY = b.getTransformedMaxY();
+
+        if (aMaxX < aMinX || aMaxY < aMinY || bMaxX < bMinX || bMaxY < bMinY
+                || bMaxX < aMinX || bMaxY < aMinY || bMinX > aMaxX || bMinY > aMaxY) {
+            return false;
+        }
+
+        return shapesIntersect(a, aMinX, aMinY, aMaxX, aMaxY, b, bMinX, bMinY, bMaxX, bMaxY);
+    }
+
+    /**
+     * Return whether two instances of {@link Bounded}, of which the transformed bounds are known to intersect,
+     * intersect. If neither is a {@link ShapedCollidable}, this is always the case.
+     *
+     * @param a the first {@link Bounded}
+     * @param b the second {@link Bounded}
+     * @return {@code true} if both intersect
+     */
+    static boolean shapesIntersect(final Bounded a, final Bounded b) {
+        if (!isRefined(a) && !isRefined(b)) {
+            return true;
+        }
+
+        return shapesIntersect(a, a.getTransformedMinX(), a.getTransformedMinY(), a.getTransformedMaxX(), a.getTransformedMaxY(),
+                b, b.getTransformedMinX(), b.getTransformedMinY(), b.getTransformedMaxX(), b.getTransformedMaxY());
+    }
+
+    private static boolean shapesIntersect(final Bounded a, final double aMinX, final double aMinY, final double aMaxX, final double aMaxY,
+                                           final Bounded b, final double bMinX, final double bMinY, final double bMaxX, final double bMaxY) {
+        if (!isRefined(a) && !isRefined(b)) {
+            return true;
+        }
+
+        var aMask = alphaMaskOf(a, aMinX, aMinY, aMaxX, aMaxY);
+        var bMask = alphaMaskOf(b, bMinX, bMinY, bMaxX, bMaxY);
+        if (aMask != null || bMask != null) {
+            return alphaMasksIntersect(aMask, aMinX, aMinY, aMaxX, aMaxY, bMask, bMinX, bMinY, bMaxX, bMaxY);
+        }
+
+        return shapesIntersect(shapeOf(a), (aMinX + aMaxX) / 2, (aMinY + aMaxY) / 2,
+                halfWidthOf(a, aMinX, aMaxX), halfHeightOf(a, aMinY, aMaxY), rotationOf(a),
+                shapeOf(b), (bMinX + bMaxX) / 2, (bMinY + bMaxY) / 2,
+                halfWidthOf(b, bMinX, bMaxX), halfHeightOf(b, bMinY, bMaxY), rotationOf(b));
+    }
+
+    /**
+     * Return whether two shapes, of which the transformed bounds are known to intersect, intersect.
+     */
+    static boolean shapesIntersect(final CollisionShape aShape, final double ax, final double ay,
+                                   final double aHalfWidth, final double aHalfHeight, final double aRotation,
+                                   final CollisionShape bShape, final double bx, final double by,
+                                   final double bHalfWidth, final double bHalfHeight, final double bRotation) {
+        if (aShape == CollisionShape.BOX && bShape == CollisionShape.BOX) {
+            return boxesIntersect(ax, ay, aHalfWidth, aHalfHeight, aRotation, bx, by, bHalfWidth, bHalfHeight, bRotation);
+        } else if (aShape == CollisionShape.CIRCLE && bShape == CollisionShape.CIRCLE) {
+            return circlesIntersect(ax, ay, aHalfWidth, bx, by, bHalfWidth);
+        } else if (aShape == CollisionShape.CIRCLE && bShape == CollisionShape.BOX) {
+            return circleIntersectsBox(ax, ay, aHalfWidth, bx, by, bHalfWidth, bHalfHeight, bRotation);
+        } else if (aShape == CollisionShape.BOX && bShape == CollisionShape.CIRCLE) {
+            return circleIntersectsBox(bx, by, bHalfWidth, ax, ay, aHalfWidth, aHalfHeight, aRotation);
+        }
+
+        var aRadiusY = aShape == CollisionShape.CIRCLE ? aHalfWidth : aHalfHeight;
+        var bRadiusY = bShape == CollisionShape.CIRCLE ? bHalfWidth : bHalfHeight;
+
+        if (aShape == CollisionShape.BOX) {
+            return ellipseIntersectsBox(bx, by, bHalfWidth, bRadiusY, bRotation, ax, ay, aHalfWidth, aHalfHeight, aRotation);
+        } else if (bShape == CollisionShape.BOX) {
+            return ellipseIntersectsBox(ax, ay, aHalfWidth, aRadiusY, aRotation, bx, by, bHalfWidth, bHalfHeight, bRotation);
+        }
+
+        return ellipseIntersectsBox(ax, ay, aHalfWidth, aRadiusY, aRotation, bx, by, bHalfWidth, bRadiusY, bRotation)
+                && ellipseIntersectsBox(bx, by, bHalfWidth, bRadiusY, bRotation, ax, ay, aHalfWidth, aRadiusY, aRotation);
+    }
+
+    /**
+     * Return whether two regions, of which at least one has an {@link AlphaMask}, intersect. A region without an
+     * {@link AlphaMask} is completely opaque.
+     */
+    static boolean alphaMasksIntersect(final AlphaMask aMask, final double aMinX, final double aMinY, final double aMaxX, final double aMaxY,
+                                       final AlphaMask bMask, final double bMinX, final double bMinY, final double bMaxX, final double bMaxY) {
+        if (aMask != null && bMask != null) {
+            return AlphaMask.intersect(aMask, aMinX, aMinY, bMask, bMinX, bMinY);
+        } else if (aMask != null) {
+            return aMask.intersects(aMinX, aMinY, bMinX, bMinY, bMaxX, bMaxY);
+        } else {
+            return bMask.intersects(bMinX, bMinY, aMinX, aMinY, aMaxX, aMaxY);
+        }
+    }
+
+    /**
+     * Return the {@link AlphaMask} of the given {@link Bounded}, as long as its size matches the transformed bounds.
+     */
+    static AlphaMask alphaMaskOf(final Bounded bounded, final double minX, final double minY, final double maxX, final double maxY) {
+        if (!(bounded instanceof PixelPerfectCollidable)) {
+            return null;
+        }
+
+        var mask = ((PixelPerfectCollidable) bounded).getAlphaMask();
+        if (mask == null || Math.abs(maxX - minX - mask.getWidth()) > 1 || Math.abs(maxY - minY - mask.getHeight()) > 1) {
+            return null;
+        }
+        return mask;
+    }
+
+    private static boolean isRefined(final Bounded bounded) {
+        return bounded instanceof ShapedCollidable || bounded instanceof PixelPerfectCollidable;
+    }
+
+    static CollisionShape shapeOf(final Bounded bounded) {
+        return bounded instanceof ShapedCollidable ? ((ShapedCollidable) bounded).getCollisionShape() : CollisionShape.BOX;
+    }
+
+    static double halfWidthOf(final Bounded bounded, final double minX, final double maxX) {
+        return bounded instanceof ShapedCollidable ? ((ShapedCollidable) bounded).getCollisionHalfWidth() : (maxX - minX) / 2;
+    }
+
+    static double halfHeightOf(final Bounded bounded, final double minY, final double maxY) {
+        return bounded instanceof ShapedCollidable ? ((ShapedCollidable) bounded).getCollisionHalfHeight() : (maxY - minY) / 2;
+    }
+
+    static double rotationOf(final Bounded bounded) {
+        return bounded instanceof ShapedCollidable ? ((ShapedCollidable) bounded).getCollisionRotation() : 0;
+    }
+
+    /**
+     * Project both boxes on the given axis and return whether their projections overlap.
+     */
+    private static boolean overlapOnAxis(final double axisX, final double axisY, final double dx, final double dy,
+                                         final double aHalfWidth, final double aHalfHeight, final double aCos, final double aSin,
+                                         final double bHalfWidth, final double bHalfHeight, final double bCos, final double bSin) {
+        var distance = Math.abs(dx * axisX + dy * axisY);
+        var aProjection = aHalfWidth * Math.abs(aCos * axisX + aSin * axisY) + aHalfHeight * Math.abs(-aSin * axisX + aCos * axisY);
+        var bProjection = bHalfWidth * Math.abs(bCos * axisX + bSin * axisY) + bHalfHeight * Math.abs(-bSin * axisX + bCos * axisY);
+        return distance <= aProjection + bProjection;
+    }
+
+    private static boolean segmentWithinUnitCircle(final double fromX, final double fromY, final double toX, final double toY) {
+        var dx = toX - fromX;
+        var dy = toY - fromY;
+        var lengthSquared = dx * dx + dy * dy;
+        var t = lengthSquared == 0 ? 0 : Math.max(0, Math.min(1, -(fromX * dx + fromY * dy) / lengthSquared));
+        var closestX = fromX + t * dx;
+        var closestY = fromY + t * dy;
+        return closestX * closestX + closestY * closestY <= 1;
+    }
+}
@@ -0,0 +1,272 @@
+package com.github.hanyaeger.api.engine.entities.entity.collisions;
+
+import javafx.geometry.Bounds;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * A {@link ParallelNarrowphase} performs the collision checks of a {@link CollisionDelegate} on a
+ * {@link ForkJoinPool}. The bounds of all instances of {@link AABBCollided} and {@link AABBCollider} are first copied
+ * into primitive arrays on the calling thread, after which the pair tests are partitioned over the
+ * {@link ForkJoinPool}. Only the primitive arrays are read during those pair tests, so no JavaFX object is touched
+ * outside the calling thread. The same holds for the shape of each {@link ShapedCollidable} and the
+ * {@link AlphaMask} of each {@link PixelPerfectCollidable}, which are copied as well.
+ * <p>
+ * All collisions are dispatched on the calling thread afterwards, in the iteration order of the instances of
+ * {@link AABBCollided}. Just as with {@link AABBCollided#checkForCollisions(Set)}, each {@link AABBCollided} is
+ * notified of the first {@link AABBCollider} it collides with, in the iteration order of the instances of
+ * {@link AABBCollider}. Because that order does not depend on the scheduling of the threads, the game logic stays
+ * deterministic.
+ * <p>
+ * Instances of {@link SweptAABBCollided}, {@link AABBMultiContactCollided} and {@link AABBContactAwareCollided} are
+ * not part of the parallel pair tests, but are checked on the calling thread during dispatch.
+ */
+class ParallelNarrowphase {
+
+    private static final int NO_HIT = -1;
+    private static final int THRESHOLD = 64;
+
+    private final ForkJoinPool pool;
+    private final ContactList contacts = new ContactList();
+    private final ContactPairCache contactPairs;
+
+    private AABBCollided[] collideds = new AABBCollided[0];
+    private double[] collidedMinX = new double[0];
+    private double[] collidedMinY = new double[0];
+    private double[] collidedMaxX = new double[0];
+    private double[] collidedMaxY = new double[0];
+    private long[] collidedMasks = new long[0];
+    private CollisionShape[] collidedShapes = new CollisionShape[0];
+    private double[] collidedHalfWidths = new double[0];
+    private double[] collidedHalfHeights = new double[0];
+    private double[] collidedRotations = new double[0];
+    private AlphaMask[] collidedAlphaMasks = new AlphaMask[0];
+    private int[] firstHits = new int[0];
+    private int collidedCount;
+
+    private AABBCollider[] colliders = new AABBCollider[0];
+    private double[] colliderMinX = new double[0];
+    private double[] colliderMinY = new double[0];
+    private double[] colliderMaxX = new double[0];
+    private double[] colliderMaxY = new double[0];
+    private long[] colliderCategories = new long[0];
+    private CollisionShape[] colliderShapes = new CollisionShape[0];
+    private double[] colliderHalfWidths = new double[0];
+    private double[] colliderHalfHeights = new double[0];
+    private double[] colliderRotations = new double[0];
+    private AlphaMask[] colliderAlphaMasks = new AlphaMask[0];
+    private int colliderCount;
+
+    /**
+     * Create a new {@link ParallelNarrowphase} that uses the given {@link ForkJoinPool}.
+     *
+     * @param pool         the {@link ForkJoinPool} on which the pair tests are performed
+     * @param contactPairs the {@link ContactPairCache} used for all instances of {@link AABBContactAwareCollided}
+     */
+    ParallelNarrowphase(final ForkJoinPool pool, final ContactPairCache contactPairs) {
+        this.pool = pool;
+        this.contactPairs = contactPairs;
+    }
+
+    /**
+     * Check all given instances of {@link AABBCollided} against all given instances of {@link AABBCollider} and
+     * dispatch the collisions that have occurred.
+     *
+     * @param collideds the instances of {@link AABBCollided}, in the order in which they should be notified
+     * @param colliders the instances of {@link AABBCollider}, in the order in which they should be checked
+     */
+    void checkCollisions(final Collection<AABBCollided> collideds, final Set<AABBCollider> colliders) {
+        snapshotColliders(colliders);
+        snapshotCollideds(collideds);
+
+        if (collidedCount > 0 && colliderCount > 0) {
+            pool.invoke(new PairTestAction(0, collidedCount));
+        }
+
+        dispatch(colliders);
+    }
+
+    private void dispatch(final Set<AABBCollider> colliderSet) {
+        for (var i = 0; i < collidedCount; i++) {
+            var collided = collideds[i];
+
+            if (collided instanceof AABBContactAwareCollided) {
+                contactPairs.check((AABBContactAwareCollided) collided, colliderSet);
+            } else if (collided instanceof AABBMultiContactCollided) {
+                ((AABBMultiContactCollided) collided).checkForCollisions(colliderSet, contacts);
+            } else if (collided instanceof SweptAABBCollided) {
+                collided.checkForCollisions(colliderSet);
+            } else if (firstHits[i] != NO_HIT) {
+                collided.onCollision(colliders[firstHits[i]]);
+                collided.undoUpdate();
+            }
+
+            collideds[i] = null;
+        }
+
+        Arrays.fill(colliders, 0, colliderCount, null);
+    }
+
+    private void testPairs(final int from, final int to) {
+        for (var i = from; i < to; i++) {
+            firstHits[i] = findFirstHit(i);
+        }
+    }
+
+    private int findFirstHit(final int collided) {
+        var mask = collidedMasks[collided];
+        if (mask == 0) {
+            return NO_HIT;
+        }
+
+        for (var j = 0; j < colliderCount; j++) {
+            if ((mask & colliderCategories[j]) != 0
+                    && collideds[collided] != colliders[j]
+                    && colliderMaxX[j] >= collidedMinX[collided]
+                    && colliderMinX[j] <= collidedMaxX[collided]
+                    && colliderMaxY[j] >= collidedMinY[collided]
+                    && colliderMinY[j] <= collidedMaxY[collided]
+                    && shapesIntersect(collided, j)) {
+                return j;
+            }
+        }
+
+        return NO_HIT;
+    }
+
+    private boolean shapesIntersect(final int collided, final int collider) {
+        if (collidedAlphaMasks[collided] != null || colliderAlphaMasks[collider] != null) {
+            return Narrowphase.alphaMasksIntersect(
+                    collidedAlphaMasks[collided], collidedMinX[collided], collidedMinY[collided], collidedMaxX[collided], collidedMaxY[collided],
+                    colliderAlphaMasks[collider], colliderMinX[collider], colliderMinY[collider], colliderMaxX[collider], colliderMaxY[collider]);
+        }
+
+        if (collidedShapes[collided] == null && colliderShapes[collider] == null) {
+            return true;
+        }
+
+        return Narrowphase.shapesIntersect(
+                collidedShapes[collided] == null ? CollisionShape.BOX : collidedShapes[collided],
+                (collidedMinX[collided] + collidedMaxX[collided]) / 2, (collidedMinY[collided] + collidedMaxY[collided]) / 2,
+                collidedHalfWidths[collided], collidedHalfHeights[collided], collidedRotations[collided],
+                colliderShapes[collider] == null ? CollisionShape.BOX : colliderShapes[collider],
+                (colliderMinX[collider] + colliderMaxX[collider]) / 2, (colliderMinY[collider] + colliderMaxY[collider]) / 2,
+                colliderHalfWidths[collider], colliderHalfHeights[collider], colliderRotations[collider]);
+    }
+
+    private void snapshotColliders(final Collection<AABBCollider> source) {
+        colliderCount = source.size();
+        if (colliders.length < colliderCount) {
+            var capacity = Math.max(colliderCount, colliders.length * 2);
+            colliders = new AABBCollider[capacity];
+            colliderMinX = new double[capacity];
+            colliderMinY = new double[capacity];
+            colliderMaxX = new double[capacity];
+            colliderMaxY = new double[capacity];
+            colliderCategories = new long[capacity];
+            colliderShapes = new CollisionShape[capacity];
+            colliderHalfWidths = new double[capacity];
+            colliderHalfHeights = new double[capacity];
+            colliderRotations = new double[capacity];
+            colliderAlphaMasks = new AlphaMask[capacity];
+        }
+
+        var j = 0;
+        for (var collider : source) {
+            var bounds = collider.getTransformedBounds();
+            colliders[j] = collider;
+            colliderMinX[j] = minX(bounds);
+            colliderMinY[j] = bounds.getMinY();
+            colliderMaxX[j] = bounds.getMaxX();
+            colliderMaxY[j] = bounds.getMaxY();
+            colliderCategories[j] = collider.getCollisionCategory();
+            colliderShapes[j] = collider instanceof ShapedCollidable ? Narrowphase.shapeOf(collider) : null;
+            colliderHalfWidths[j] = Narrowphase.halfWidthOf(collider, bounds.getMinX(), bounds.getMaxX());
+            colliderHalfHeights[j] = Narrowphase.halfHeightOf(collider, bounds.getMinY(), bounds.getMaxY());
+            colliderRotations[j] = Narrowphase.rotationOf(collider);
+            colliderAlphaMasks[j] = Narrowphase.alphaMaskOf(collider, bounds.getMinX(), bounds.getMinY(), bounds.getMaxX(), bounds.getMaxY());
+            j++;
+        }
+    }
+
+    private void snapshotCollideds(final Collection<AABBCollided> source) {
+        collidedCount = source.size();
+        if (collideds.length < collidedCount) {
+            var capacity = Math.max(collidedCount, collideds.length * 2);
+            collideds = new AABBCollided[capacity];
+            collidedMinX = new double[capacity];
+            collidedMinY = new double[capacity];
+            collidedMaxX = new double[capacity];
+            collidedMaxY = new double[capacity];
+            collidedMasks = new long[capacity];
+            firstHits = new int[capacity];
+            collidedShapes = new CollisionShape[capacity];
+            collidedHalfWidths = new double[capacity];
+            collidedHalfHeights = new double[capacity];
+            collidedRotations = new double[capacity];
+            collidedAlphaMasks = new AlphaMask[capacity];
+        }
+
+        var i = 0;
+        for (var collided : source) {
+            collideds[i] = collided;
+            firstHits[i] = NO_HIT;
+
+            if (isCheckedDuringDispatch(collided)) {
+                collidedMasks[i] = 0;
+            } else {
+                var bounds = collided.getTransformedBounds();
+                collidedMinX[i] = minX(bounds);
+                collidedMinY[i] = bounds.getMinY();
+                collidedMaxX[i] = bounds.getMaxX();
+                collidedMaxY[i] = bounds.getMaxY();
+                collidedMasks[i] = collided.getCollisionMask();
+                collidedShapes[i] = collided instanceof ShapedCollidable ? Narrowphase.shapeOf(collided) : null;
+                collidedHalfWidths[i] = Narrowphase.halfWidthOf(collided, bounds.getMinX(), bounds.getMaxX());
+                collidedHalfHeights[i] = Narrowphase.halfHeightOf(collided, bounds.getMinY(), bounds.getMaxY());
+                collidedRotations[i] = Narrowphase.rotationOf(collided);
+                collidedAlphaMasks[i] = Narrowphase.alphaMaskOf(collided, bounds.getMinX(), bounds.getMinY(), bounds.getMaxX(), bounds.getMaxY());
+            }
+            i++;
+        }
+    }
+
+    private static boolean isCheckedDuringDispatch(final AABBCollided collided) {
+        return collided instanceof SweptAABBCollided
+                || collided instanceof AABBMultiContactCollided
+                || collided instanceof AABBContactAwareCollided;
+    }
+
+    /**
+     * Empty {@link Bounds} never intersect, which is mirrored by storing {@link Double#NaN}, since all comparisons
+     * with {@link Double#NaN} fail.
+     */
+    private static double minX(final Bounds bounds) {
+        return bounds.isEmpty() ? Double.NaN : bounds.getMinX();
+    }
+
+    private class PairTestAction extends RecursiveAction {
+
+        private final int from;
+        private final int to;
+
+        PairTestAction(final int from, final int to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= THRESHOLD) {
+                testPairs(from, to);
+            } else {
+                var middle = (from + to) >>> 1;
+                invokeAll(new PairTestAction(from, middle), new PairTestAction(middle, to));
+            }
+        }
+    }
+}
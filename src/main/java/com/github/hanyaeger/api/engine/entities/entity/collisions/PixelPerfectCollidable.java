@@ -0,0 +1,28 @@
+package com.github.hanyaeger.api.engine.entities.entity.collisions;
+
+import com.github.hanyaeger.api.engine.entities.entity.Bounded;
+import com.github.hanyaeger.api.engine.entities.entity.sprite.SpriteEntity;
+import com.github.hanyaeger.api.engine.media.repositories.ImageRepository;
+
+/**
+ * A {@link PixelPerfectCollidable} is an {@link AABBCollided} or {@link AABBCollider} of which the opaque pixels,
+ * instead of its transformed bounds, are used to decide whether a collision has occurred.
+ * <p>
+ * A {@link PixelPerfectCollidable} is still first checked on its transformed bounds. Only if those intersect, its
+ * {@link AlphaMask} is compared with the {@link AlphaMask} of the other, or with the transformed bounds of the other
+ * if that is not a {@link PixelPerfectCollidable}. The {@link AlphaMask} is only used as long as its size matches the
+ * transformed bounds, so a rotated or scaled {@link PixelPerfectCollidable} is checked on its bounds.
+ * <p>
+ * A {@link SpriteEntity} that implements this interface creates an {@link AlphaMask} for each of its frames when its
+ * image is loaded. These are cached by the {@link ImageRepository}, so they are shared by all instances that use the
+ * same image.
+ */
+public interface PixelPerfectCollidable extends Bounded {
+
+    /**
+     * Return the {@link AlphaMask} of the frame that is currently shown.
+     *
+     * @return the {@link AlphaMask}, or {@code null} if it is not yet available
+     */
+    AlphaMask getAlphaMask();
+}
@@ -0,0 +1,63 @@
+package com.github.hanyaeger.api.engine.entities.entity.collisions;
+
+import com.github.hanyaeger.api.engine.entities.entity.Bounded;
+import com.github.hanyaeger.api.engine.entities.entity.ContinuousRotatable;
+import com.github.hanyaeger.api.engine.entities.entity.YaegerEntity;
+import com.github.hanyaeger.api.engine.entities.entity.shape.circle.CircleEntity;
+import com.github.hanyaeger.api.engine.entities.entity.shape.ellipse.EllipseEntity;
+import javafx.scene.Node;
+
+/**
+ * A {@link ShapedCollidable} is an {@link AABBCollided} or {@link AABBCollider} of which the actual shape, instead of
+ * its transformed bounds, is used to decide whether a collision has occurred.
+ * <p>
+ * The transformed bounds of a rotated {@link YaegerEntity} (see {@link ContinuousRotatable}), a {@link CircleEntity}
+ * or an {@link EllipseEntity} are larger than the {@link YaegerEntity} itself, which leads to collisions being
+ * reported while both entities do not actually touch. A {@link ShapedCollidable} is still first checked on its
+ * transformed bounds, after which the pair is checked again using the {@link CollisionShape}, the center, the size
+ * and the rotation of both. These checks are calculated directly from those values, using {@link Narrowphase}.
+ * <p>
+ * Both {@link CircleEntity} and {@link EllipseEntity} implement this interface. To use the actual shape of a rotated
+ * sprite, let it implement {@link ShapedCollidable}; by default it is a {@link CollisionShape#BOX}.
+ */
+public interface ShapedCollidable extends Bounded {
+
+    /**
+     * Return the {@link CollisionShape} that should be used during collision detection.
+     *
+     * @return the {@link CollisionShape}, which is {@link CollisionShape#BOX} by default
+     */
+    default CollisionShape getCollisionShape() {
+        return CollisionShape.BOX;
+    }
+
+    /**
+     * Return half of the width of the {@link CollisionShape}, before it is rotated. For a {@link CollisionShape#CIRCLE}
+     * or {@link CollisionShape#ELLIPSE} this is the horizontal radius.
+     *
+     * @return half of the width as a {@code double}
+     */
+    default double getCollisionHalfWidth() {
+        return getNonTransformedBounds().getWidth() / 2;
+    }
+
+    /**
+     * Return half of the height of the {@link CollisionShape}, before it is rotated. For a
+     * {@link CollisionShape#ELLIPSE} this is the vertical radius.
+     *
+     * @return half of the height as a {@code double}
+     */
+    default double getCollisionHalfHeight() {
+        return getNonTransformedBounds().getHeight() / 2;
+    }
+
+    /**
+     * Return the rotation of the {@link CollisionShape} around its center, in degrees, as applied to the
+     * {@link Node}. The center itself is the center of the transformed bounds.
+     *
+     * @return the rotation in degrees as a {@code double}
+     */
+    default double getCollisionRotation() {
+        return getGameNode().map(Node::getRotate).orElse(0d);
+    }
+}
@@ -0,0 +1,153 @@
+package com.github.hanyaeger.api.engine.entities.entity.collisions;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * {@link SleepingCollideds} holds all sleeping instances of {@link AABBCollided} of a {@link CollisionDelegate},
+ * sorted on the minimal x of their bounds, so the {@link CollisionDelegate} only has to look at those that are near
+ * an {@link AABBCollider} that has moved.
+ * <p>
+ * A sleeping {@link AABBCollided} does not move, since it is woken up as soon as it is moved. Its bounds are
+ * therefore copied when the sorted order is rebuilt, which only happens for a query after an {@link AABBCollided}
+ * has fallen asleep. A removed {@link AABBCollided} is skipped until that next rebuild.
+ */
+class SleepingCollideds {
+
+    private static final int INITIAL_CAPACITY = 16;
+    private static final Comparator<AABBCollided> BY_MIN_X = Comparator.comparingDouble(AABBCollided::getTransformedMinX);
+
+    private final Map<AABBCollided, Boolean> members = new IdentityHashMap<>();
+
+    private AABBCollided[] sorted = new AABBCollided[INITIAL_CAPACITY];
+    private double[] minX = new double[INITIAL_CAPACITY];
+    private double[] minY = new double[INITIAL_CAPACITY];
+    private double[] maxX = new double[INITIAL_CAPACITY];
+    private double[] maxY = new double[INITIAL_CAPACITY];
+    private int sortedCount;
+    private double maxWidth;
+    private boolean unsorted;
+
+    /**
+     * Add a sleeping {@link AABBCollided}.
+     *
+     * @param collided the {@link AABBCollided} that has fallen asleep
+     * @return {@code true} if it was not yet present
+     */
+    boolean add(final AABBCollided collided) {
+        if (members.put(collided, Boolean.TRUE) != null) {
+            return false;
+        }
+        unsorted = true;
+        return true;
+    }
+
+    /**
+     * Remove an {@link AABBCollided}, because it has woken up or has been removed.
+     *
+     * @param collided the {@link AABBCollided} that should be removed
+     * @return {@code true} if it was present
+     */
+    boolean remove(final AABBCollided collided) {
+        return members.remove(collided) != null;
+    }
+
+    /**
+     * @param collided the {@link AABBCollided} that should be looked up
+     * @return {@code true} if the {@link AABBCollided} is present
+     */
+    boolean contains(final AABBCollided collided) {
+        return members.containsKey(collided);
+    }
+
+    /**
+     * @return {@code true} if no {@link AABBCollided} is asleep
+     */
+    boolean isEmpty() {
+        return members.isEmpty();
+    }
+
+    /**
+     * Add each sleeping {@link AABBCollided} of which the bounds overlap those of the given {@link AABBCollider} to
+     * {@code result}.
+     *
+     * @param collider the {@link AABBCollider} that has moved
+     * @param result   the {@link Collection} to which each overlapping {@link AABBCollided} is added
+     */
+    void query(final AABBCollider collider, final Collection<AABBCollided> result) {
+        if (unsorted || sortedCount > 2 * members.size()) {
+            rebuild();
+        }
+
+        var queryMinX = collider.getTransformedMinX();
+        var queryMinY = collider.getTransformedMinY();
+        var queryMaxX = collider.getTransformedMaxX();
+        var queryMaxY = collider.getTransformedMaxY();
+
+        for (var i = firstCandidate(queryMinX - maxWidth); i < sortedCount && minX[i] <= queryMaxX; i++) {
+            if (maxX[i] >= queryMinX && maxY[i] >= queryMinY && minY[i] <= queryMaxY
+                    && members.containsKey(sorted[i])) {
+                result.add(sorted[i]);
+            }
+        }
+    }
+
+    /**
+     * Remove all instances of {@link AABBCollided}.
+     */
+    void clear() {
+        members.clear();
+        Arrays.fill(sorted, 0, sortedCount, null);
+        sortedCount = 0;
+        unsorted = false;
+    }
+
+    private void rebuild() {
+        Arrays.fill(sorted, 0, sortedCount, null);
+        sortedCount = members.size();
+        if (sortedCount > sorted.length) {
+            var capacity = Math.max(sortedCount, sorted.length * 2);
+            sorted = new AABBCollided[capacity];
+            minX = new double[capacity];
+            minY = new double[capacity];
+            maxX = new double[capacity];
+            maxY = new double[capacity];
+        }
+
+        var i = 0;
+        for (var collided : members.keySet()) {
+            sorted[i++] = collided;
+        }
+        Arrays.sort(sorted, 0, sortedCount, BY_MIN_X);
+
+        maxWidth = 0;
+        for (i = 0; i < sortedCount; i++) {
+            minX[i] = sorted[i].getTransformedMinX();
+            minY[i] = sorted[i].getTransformedMinY();
+            maxX[i] = sorted[i].getTransformedMaxX();
+            maxY[i] = sorted[i].getTransformedMaxY();
+            maxWidth = Math.max(maxWidth, maxX[i] - minX[i]);
+        }
+        unsorted = false;
+    }
+
+    /**
+     * Return the first index of which the minimal x is at least the given value, through a binary search.
+     */
+    private int firstCandidate(final double value) {
+        var low = 0;
+        var high = sortedCount;
+        while (low < high) {
+            var middle = (low + high) >>> 1;
+            if (minX[middle] < value) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+}
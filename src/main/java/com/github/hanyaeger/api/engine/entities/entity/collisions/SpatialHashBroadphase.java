@@ -0,0 +1,225 @@
+package com.github.hanyaeger.api.engine.entities.entity.collisions;
+
+import com.github.hanyaeger.api.engine.exceptions.YaegerEngineException;
+import javafx.geometry.Bounds;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A {@link SpatialHashBroadphase} is a {@link Broadphase} that divides the {@link com.github.hanyaeger.api.engine.scenes.YaegerScene}
+ * into a uniform grid of square cells. Each Game World Update all instances of {@link AABBCollider} are bucketed
+ * into the cells they overlap, after which an {@link AABBCollided} only needs to be checked against the instances
+ * of {@link AABBCollider} that share a cell with it.
+ * <p>
+ * The cell size should be chosen in the order of magnitude of the typical {@link AABBCollider}. Cells that are much
+ * smaller mean that each {@link AABBCollider} is stored in many cells, cells that are much larger mean that many
+ * instances of {@link AABBCollider} share the same cell.
+ * <p>
+ * The grid is stored in a hash table of primitive arrays that is reused between Game World Updates, so
+ * rebuilding the grid does not create any new objects once its capacity has been reached. Registering and removing an
+ * {@link AABBCollider} take constant time, since the position of each {@link AABBCollider} is kept in a map and a
+ * removed {@link AABBCollider} is replaced by the last one.
+ * <p>
+ * Coordinates that lie beyond the range of the grid are clamped onto its outermost cells.
+ */
+public class SpatialHashBroadphase implements Broadphase {
+
+    private static final int INITIAL_CAPACITY = 64;
+    private static final int EMPTY = -1;
+
+    private final double cellSize;
+    private final List<AABBCollider> colliders = new ArrayList<>();
+    private final Map<AABBCollider, Integer> indices = new HashMap<>();
+
+    private double[] minX = new double[INITIAL_CAPACITY];
+    private double[] minY = new double[INITIAL_CAPACITY];
+    private double[] maxX = new double[INITIAL_CAPACITY];
+    private double[] maxY = new double[INITIAL_CAPACITY];
+    private int[] queryMarks = new int[INITIAL_CAPACITY];
+    private int queryMark;
+
+    private long[] cellKeys = new long[INITIAL_CAPACITY];
+    private int[] cellHeads = new int[INITIAL_CAPACITY];
+
+    private int[] entryColliders = new int[INITIAL_CAPACITY];
+    private int[] entryNext = new int[INITIAL_CAPACITY];
+    private int entryCount;
+
+    /**
+     * Create a new {@link SpatialHashBroadphase} with the given cell size.
+     *
+     * @param cellSize the width and height of a single cell in pixels, which should be larger than 0
+     */
+    public SpatialHashBroadphase(final double cellSize) {
+        if (!(cellSize > 0)) {
+            throw new YaegerEngineException("The cell size of a SpatialHashBroadphase should be larger than 0.");
+        }
+        this.cellSize = cellSize;
+        Arrays.fill(cellHeads, EMPTY);
+    }
+
+    /**
+     * Return the width and height of a single cell.
+     *
+     * @return the cell size in pixels as a {@code double}
+     */
+    public double getCellSize() {
+        return cellSize;
+    }
+
+    @Override
+    public void register(final AABBCollider collider) {
+        if (indices.putIfAbsent(collider, colliders.size()) == null) {
+            colliders.add(collider);
+        }
+    }
+
+    @Override
+    public void remove(final AABBCollider collider) {
+        var index = indices.remove(collider);
+        if (index == null) {
+            return;
+        }
+
+        var last = colliders.remove(colliders.size() - 1);
+        if (index < colliders.size()) {
+            colliders.set(index, last);
+            indices.put(last, index);
+        }
+    }
+
+    @Override
+    public void update() {
+        var size = colliders.size();
+        ensureColliderCapacity(size);
+        clearCells();
+
+        for (var i = 0; i < size; i++) {
+            var bounds = colliders.get(i).getTransformedBounds();
+            minX[i] = bounds.getMinX();
+            minY[i] = bounds.getMinY();
+            maxX[i] = bounds.getMaxX();
+            maxY[i] = bounds.getMaxY();
+
+            var lastCellX = toCell(maxX[i]);
+            var lastCellY = toCell(maxY[i]);
+            for (var cellX = toCell(minX[i]); cellX <= lastCellX; cellX++) {
+                for (var cellY = toCell(minY[i]); cellY <= lastCellY; cellY++) {
+                    addEntry(cellX, cellY, i);
+                }
+            }
+        }
+    }
+
+    @Override
+    public void query(final Bounds bounds, final Collection<AABBCollider> result) {
+        nextQueryMark();
+
+        var lastCellX = toCell(bounds.getMaxX());
+        var lastCellY = toCell(bounds.getMaxY());
+        for (var cellX = toCell(bounds.getMinX()); cellX <= lastCellX; cellX++) {
+            for (var cellY = toCell(bounds.getMinY()); cellY <= lastCellY; cellY++) {
+                var entry = cellHeads[findSlot(toKey(cellX, cellY))];
+                while (entry != EMPTY) {
+                    var collider = entryColliders[entry];
+                    if (queryMarks[collider] != queryMark && overlaps(collider, bounds)) {
+                        queryMarks[collider] = queryMark;
+                        result.add(colliders.get(collider));
+                    }
+                    entry = entryNext[entry];
+                }
+            }
+        }
+    }
+
+    private boolean overlaps(final int collider, final Bounds bounds) {
+        return maxX[collider] >= bounds.getMinX() && minX[collider] <= bounds.getMaxX()
+                && maxY[collider] >= bounds.getMinY() && minY[collider] <= bounds.getMaxY();
+    }
+
+    /**
+     * Return the cell of the given coordinate, clamped so that iterating up to and including the last cell can
+     * never overflow.
+     */
+    private int toCell(final double coordinate) {
+        var cell = Math.floor(coordinate / cellSize);
+        return (int) Math.max(Integer.MIN_VALUE + 1, Math.min(Integer.MAX_VALUE - 1, cell));
+    }
+
+    private static long toKey(final int cellX, final int cellY) {
+        return ((long) cellX << 32) | (cellY & 0xFFFFFFFFL);
+    }
+
+    private int findSlot(final long key) {
+        var mask = cellKeys.length - 1;
+        var slot = (int) ((key * 0x9E3779B97F4A7C15L) >>> 40) & mask;
+        while (cellHeads[slot] != EMPTY && cellKeys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void addEntry(final int cellX, final int cellY, final int collider) {
+        if (entryCount == entryColliders.length) {
+            entryColliders = Arrays.copyOf(entryColliders, entryCount * 2);
+            entryNext = Arrays.copyOf(entryNext, entryCount * 2);
+        }
+        if (entryCount * 2 >= cellKeys.length) {
+            growCells();
+        }
+
+        var key = toKey(cellX, cellY);
+        var slot = findSlot(key);
+        cellKeys[slot] = key;
+        entryColliders[entryCount] = collider;
+        entryNext[entryCount] = cellHeads[slot];
+        cellHeads[slot] = entryCount;
+        entryCount++;
+    }
+
+    private void growCells() {
+        var oldKeys = cellKeys;
+        var oldHeads = cellHeads;
+        cellKeys = new long[oldKeys.length * 2];
+        cellHeads = new int[oldHeads.length * 2];
+        Arrays.fill(cellHeads, EMPTY);
+
+        for (var i = 0; i < oldKeys.length; i++) {
+            if (oldHeads[i] != EMPTY) {
+                var slot = findSlot(oldKeys[i]);
+                cellKeys[slot] = oldKeys[i];
+                cellHeads[slot] = oldHeads[i];
+            }
+        }
+    }
+
+    private void clearCells() {
+        Arrays.fill(cellHeads, EMPTY);
+        entryCount = 0;
+    }
+
+    private void nextQueryMark() {
+        queryMark++;
+        if (queryMark == Integer.MAX_VALUE) {
+            Arrays.fill(queryMarks, 0);
+            queryMark = 1;
+        }
+    }
+
+    private void ensureColliderCapacity(final int size) {
+        if (size <= minX.length) {
+            return;
+        }
+        var capacity = Math.max(size, minX.length * 2);
+        minX = Arrays.copyOf(minX, capacity);
+        minY = Arrays.copyOf(minY, capacity);
+        maxX = Arrays.copyOf(maxX, capacity);
+        maxY = Arrays.copyOf(maxY, capacity);
+        queryMarks = Arrays.copyOf(queryMarks, capacity);
+    }
+}
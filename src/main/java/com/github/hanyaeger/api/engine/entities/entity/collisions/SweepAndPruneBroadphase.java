@@ -0,0 +1,184 @@
+package com.github.hanyaeger.api.engine.entities.entity.collisions;
+
+import javafx.geometry.Bounds;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A {@link SweepAndPruneBroadphase} is a {@link Broadphase} that keeps all instances of {@link AABBCollider} in a
+ * persistent list, sorted on the left side of their bounds. Each Game World Update this list is re-sorted using
+ * an insertion sort. Because instances of {@link AABBCollider} only move a few pixels per update, the list is
+ * almost sorted and re-sorting it takes close to {@code O(n)}.
+ * <p>
+ * When querying, only the part of the list whose interval on the x-axis can overlap with the requested
+ * {@link Bounds} is swept. This makes the {@link SweepAndPruneBroadphase} a good fit for side-scrolling games, in
+ * which most entities move mainly along one axis and are spread out along the x-axis. Since the sweep starts at
+ * the width of the widest {@link AABBCollider} left of the requested {@link Bounds}, scenes that contain a few very
+ * wide instances of {@link AABBCollider} are better served by a {@link DynamicAABBTreeBroadphase}.
+ */
+public class SweepAndPruneBroadphase implements Broadphase {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private final Map<AABBCollider, Integer> slots = new HashMap<>();
+
+    private AABBCollider[] colliders = new AABBCollider[INITIAL_CAPACITY];
+    private double[] minX = new double[INITIAL_CAPACITY];
+    private double[] minY = new double[INITIAL_CAPACITY];
+    private double[] maxX = new double[INITIAL_CAPACITY];
+    private double[] maxY = new double[INITIAL_CAPACITY];
+    private int slotCount;
+
+    private int[] freeSlots = new int[INITIAL_CAPACITY];
+    private int freeSlotCount;
+
+    private int[] order = new int[INITIAL_CAPACITY];
+    private int orderCount;
+    private boolean pendingRemovals;
+
+    private double maxWidth;
+
+    @Override
+    public void register(final AABBCollider collider) {
+        if (slots.containsKey(collider)) {
+            return;
+        }
+
+        var slot = allocateSlot();
+        colliders[slot] = collider;
+        snapshot(slot);
+
+        if (orderCount == order.length) {
+            order = Arrays.copyOf(order, orderCount * 2);
+        }
+        order[orderCount++] = slot;
+
+        slots.put(collider, slot);
+    }
+
+    @Override
+    public void remove(final AABBCollider collider) {
+        var slot = slots.remove(collider);
+        if (slot == null) {
+            return;
+        }
+
+        colliders[slot] = null;
+        pendingRemovals = true;
+    }
+
+    @Override
+    public void update() {
+        if (pendingRemovals) {
+            compact();
+        }
+
+        maxWidth = 0;
+        for (var i = 0; i < orderCount; i++) {
+            var slot = order[i];
+            snapshot(slot);
+            maxWidth = Math.max(maxWidth, maxX[slot] - minX[slot]);
+        }
+
+        insertionSort();
+    }
+
+    @Override
+    public void query(final Bounds bounds, final Collection<AABBCollider> result) {
+        var queryMaxX = bounds.getMaxX();
+
+        for (var i = firstCandidate(bounds.getMinX() - maxWidth); i < orderCount; i++) {
+            var slot = order[i];
+
+            if (minX[slot] > queryMaxX) {
+                break;
+            }
+
+            if (colliders[slot] != null
+                    && maxX[slot] >= bounds.getMinX()
+                    && maxY[slot] >= bounds.getMinY()
+                    && minY[slot] <= bounds.getMaxY()) {
+                result.add(colliders[slot]);
+            }
+        }
+    }
+
+    private int firstCandidate(final double x) {
+        var low = 0;
+        var high = orderCount;
+
+        while (low < high) {
+            var middle = (low + high) >>> 1;
+            if (minX[order[middle]] < x) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+
+        return low;
+    }
+
+    private void insertionSort() {
+        for (var i = 1; i < orderCount; i++) {
+            var slot = order[i];
+            var key = minX[slot];
+            var j = i - 1;
+
+            while (j >= 0 && minX[order[j]] > key) {
+                order[j + 1] = order[j];
+                j--;
+            }
+            order[j + 1] = slot;
+        }
+    }
+
+    private void compact() {
+        var kept = 0;
+        for (var i = 0; i < orderCount; i++) {
+            var slot = order[i];
+            if (colliders[slot] != null) {
+                order[kept++] = slot;
+            } else {
+                freeSlot(slot);
+            }
+        }
+        orderCount = kept;
+        pendingRemovals = false;
+    }
+
+    private void snapshot(final int slot) {
+        var bounds = colliders[slot].getTransformedBounds();
+        minX[slot] = bounds.getMinX();
+        minY[slot] = bounds.getMinY();
+        maxX[slot] = bounds.getMaxX();
+        maxY[slot] = bounds.getMaxY();
+    }
+
+    private int allocateSlot() {
+        if (freeSlotCount > 0) {
+            return freeSlots[--freeSlotCount];
+        }
+
+        if (slotCount == colliders.length) {
+            var capacity = slotCount * 2;
+            colliders = Arrays.copyOf(colliders, capacity);
+            minX = Arrays.copyOf(minX, capacity);
+            minY = Arrays.copyOf(minY, capacity);
+            maxX = Arrays.copyOf(maxX, capacity);
+            maxY = Arrays.copyOf(maxY, capacity);
+        }
+
+        return slotCount++;
+    }
+
+    private void freeSlot(final int slot) {
+        if (freeSlotCount == freeSlots.length) {
+            freeSlots = Arrays.copyOf(freeSlots, freeSlotCount * 2);
+        }
+        freeSlots[freeSlotCount++] = slot;
+    }
+}
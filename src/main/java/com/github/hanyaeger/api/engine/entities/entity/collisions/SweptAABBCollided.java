@@ -0,0 +1,169 @@
+package com.github.hanyaeger.api.engine.entities.entity.collisions;
+
+import com.github.hanyaeger.api.engine.entities.entity.YaegerEntity;
+import com.github.hanyaeger.api.engine.entities.entity.motion.MotionApplier;
+import javafx.geometry.BoundingBox;
+import javafx.geometry.Bounds;
+
+import java.util.Set;
+
+/**
+ * A {@link SweptAABBCollided} is an {@link AABBCollided} that uses continuous collision detection. Instead of only
+ * checking the bounds at its new location, the bounds are swept from the location at the start of the Game World
+ * Update, as provided by {@link MotionApplier#getPreviousLocation()}, to the current location. Because of this, a
+ * fast moving {@link YaegerEntity} that moves more pixels per Game World Update than its own size, will no longer
+ * pass through thin instances of {@link AABBCollider}.
+ * <p>
+ * In case of a collision, the {@link YaegerEntity} is moved to the point of contact with the first
+ * {@link AABBCollider} it would have hit, after which {@link #onCollision(AABBCollider, double)} is called with the
+ * time of impact. Contrary to an {@link AABBCollided}, {@link #undoUpdate()} is not called.
+ * <p>
+ * Sweeping the bounds requires more calculations than a regular {@link AABBCollided}, so only implement this
+ * interface for those instances of {@link YaegerEntity} that actually move fast.
+ */
+public interface SweptAABBCollided extends AABBCollided {
+
+    /**
+     * This method is called if a collision has occurred.
+     *
+     * @param collidingObject The {@link AABBCollider} you are colliding with.
+     * @param timeOfImpact    The fraction of the last motion, between 0 and 1, after which the collision occurred.
+     */
+    void onCollision(final AABBCollider collidingObject, final double timeOfImpact);
+
+    @Override
+    default void onCollision(final AABBCollider collidingObject) {
+        onCollision(collidingObject, 1);
+    }
+
+    /**
+     * Return the {@link Bounds} that contain both the bounds at the start of the last motion and the current bounds.
+     *
+     * @return The swept {@link Bounds}.
+     */
+    default Bounds getSweptBounds() {
+        var bounds = getTransformedBounds();
+        if (!isMovingSwept()) {
+            return bounds;
+        }
+
+        var previousLocation = getMotionApplier().getPreviousLocation().get();
+        var dx = getOriginX() - previousLocation.getX();
+        var dy = getOriginY() - previousLocation.getY();
+
+        var minX = Math.min(bounds.getMinX(), bounds.getMinX() - dx);
+        var minY = Math.min(bounds.getMinY(), bounds.getMinY() - dy);
+        return new BoundingBox(minX, minY, bounds.getWidth() + Math.abs(dx), bounds.getHeight() + Math.abs(dy));
+    }
+
+    /**
+     * Perform continuous collision detection with a {@link Set} of {@link AABBCollider} instances. The bounds of this
+     * {@link SweptAABBCollided} are swept along its last motion and only the {@link AABBCollider} that is hit first
+     * is reported.
+     * <p>
+     * If this {@link SweptAABBCollided} did not move during the last Game World Update, a regular
+     * {@link AABBCollided#checkForCollisions(Set)} is performed.
+     *
+     * @param AABBColliders A {@link Set} of colliders that should be checked for collisions.
+     */
+    @Override
+    default void checkForCollisions(final Set<AABBCollider> AABBColliders) {
+        if (AABBColliders == null || AABBColliders.isEmpty()) {
+            return;
+        }
+
+        if (!isMovingSwept()) {
+            AABBCollided.super.checkForCollisions(AABBColliders);
+            return;
+        }
+
+        var previousLocation = getMotionApplier().getPreviousLocation().get();
+        var dx = getOriginX() - previousLocation.getX();
+        var dy = getOriginY() - previousLocation.getY();
+        var startMinX = getTransformedMinX() - dx;
+        var startMinY = getTransformedMinY() - dy;
+        var startMaxX = getTransformedMaxX() - dx;
+        var startMaxY = getTransformedMaxY() - dy;
+
+        AABBCollider firstCollider = null;
+        var firstTimeOfImpact = Double.POSITIVE_INFINITY;
+
+        for (var collider : AABBColliders) {
+            if (!acceptsCollisionCategoryOf(collider) || this.equals(collider)) {
+                continue;
+            }
+
+            var timeOfImpact = findTimeOfImpact(startMinX, startMinY, startMaxX, startMaxY, dx, dy, collider);
+            if (timeOfImpact < firstTimeOfImpact) {
+                firstTimeOfImpact = timeOfImpact;
+                firstCollider = collider;
+            }
+        }
+
+        if (firstCollider != null) {
+            setReferenceX(previousLocation.getX() + dx * firstTimeOfImpact);
+            setReferenceY(previousLocation.getY() + dy * firstTimeOfImpact);
+            onCollision(firstCollider, firstTimeOfImpact);
+        }
+    }
+
+    private boolean isMovingSwept() {
+        return getMotionApplier() != null
+                && Double.compare(getSpeed(), 0d) != 0
+                && getMotionApplier().getPreviousLocation().isPresent();
+    }
+
+    /**
+     * Calculate the time of impact of the given start bounds, swept forward along {@code (dx, dy)}, with the bounds of
+     * a static target.
+     *
+     * @return the time of impact between 0 and 1, or {@link Double#POSITIVE_INFINITY} if the target is not hit
+     */
+    private static double findTimeOfImpact(final double startMinX, final double startMinY,
+                                           final double startMaxX, final double startMaxY,
+                                           final double dx, final double dy, final AABBCollider target) {
+        var targetMinX = target.getTransformedMinX();
+        var targetMinY = target.getTransformedMinY();
+        var targetMaxX = target.getTransformedMaxX();
+        var targetMaxY = target.getTransformedMaxY();
+
+        double entryX;
+        double exitX;
+        if (dx > 0) {
+            entryX = (targetMinX - startMaxX) / dx;
+            exitX = (targetMaxX - startMinX) / dx;
+        } else if (dx < 0) {
+            entryX = (targetMaxX - startMinX) / dx;
+            exitX = (targetMinX - startMaxX) / dx;
+        } else if (startMaxX < targetMinX || startMinX > targetMaxX) {
+            return Double.POSITIVE_INFINITY;
+        } else {
+            entryX = Double.NEGATIVE_INFINITY;
+            exitX = Double.POSITIVE_INFINITY;
+        }
+
+        double entryY;
+        double exitY;
+        if (dy > 0) {
+            entryY = (targetMinY - startMaxY) / dy;
+            exitY = (targetMaxY - startMinY) / dy;
+        } else if (dy < 0) {
+            entryY = (targetMaxY - startMinY) / dy;
+            exitY = (targetMinY - startMaxY) / dy;
+        } else if (startMaxY < targetMinY || startMinY > targetMaxY) {
+            return Double.POSITIVE_INFINITY;
+        } else {
+            entryY = Double.NEGATIVE_INFINITY;
+            exitY = Double.POSITIVE_INFINITY;
+        }
+
+        var entry = Math.max(entryX, entryY);
+        var exit = Math.min(exitX, exitY);
+
+        if (entry > exit || entry > 1 || exit < 0) {
+            return Double.POSITIVE_INFINITY;
+        }
+
+        return Math.max(entry, 0);
+    }
+}
@@ -7,53 +7,69 @@ import java.util.Optional;
 /**
  * A {@link DefaultMotionApplier} is an implementation of {@link MotionApplier} that does not abide
  * the laws of Physics and only provides basis behaviour regarding speed and direction.
+ * <p>
+ * The transformation is stored as two mutable {@code double} values, so changing the motion and updating the
+ * location do not allocate. The direction is derived from the transformation once, after it has changed.
  */
 public class DefaultMotionApplier implements MotionApplier {
 
-    private static final Point2D ZERO_ANGLE_IDENTITY_MOTION = new Point2D(0, 1);
-    private Point2D transformation;
-    private Optional<Point2D> previousLocation = Optional.empty();
+    private double deltaX;
+    private double deltaY;
+    private double direction;
+    private boolean directionChanged = true;
+
+    private double previousX;
+    private double previousY;
+    private boolean hasPreviousLocation;
 
     /**
      * Create a new instance of {@link DefaultMotionApplier}.
      */
     public DefaultMotionApplier() {
-        transformation = new Point2D(0, 0);
+        deltaX = 0;
+        deltaY = 0;
     }
 
     @Override
     public void setMotionTo(final double speed, final double direction) {
-        transformation = new Point2D(0, speed);
+        setTransformation(0, speed);
         setDirectionTo(direction);
     }
 
     @Override
     public void setSpeedTo(final double newSpeed) {
-        transformation = transformation.normalize().multiply(newSpeed);
+        var magnitude = getSpeed();
+        if (magnitude == 0) {
+            setTransformation(0, 0);
+        } else {
+            setTransformation(deltaX / magnitude * newSpeed, deltaY / magnitude * newSpeed);
+        }
     }
 
     @Override
     public double getSpeed() {
-        return transformation.magnitude();
+        return Math.sqrt(deltaX * deltaX + deltaY * deltaY);
     }
 
     @Override
     public void alterSpeedBy(final double increment) {
-        transformation = transformation.add(transformation.normalize().multiply(increment));
+        var magnitude = getSpeed();
+        if (magnitude != 0) {
+            setTransformation(deltaX + deltaX / magnitude * increment, deltaY + deltaY / magnitude * increment);
+        }
     }
 
     @Override
     public void multiplySpeedWith(final double multiplication) {
-        transformation = transformation.multiply(multiplication);
+        setTransformation(deltaX * multiplication, deltaY * multiplication);
     }
 
     @Override
     public void setDirectionTo(final double angle) {
         final var angleInRadians = Math.toRadians(angle);
-        final var x = Math.sin(angleInRadians);
-        final var y = Math.cos(angleInRadians);
+        final var magnitude = getSpeed();
 
-        transformation = new Point2D(x, y).multiply(transformation.magnitude());
+        setTransformation(Math.sin(angleInRadians) * magnitude, Math.cos(angleInRadians) * magnitude);
     }
 
     @Override
@@ -65,28 +81,76 @@ public class DefaultMotionApplier implements MotionApplier {
 
     @Override
     public double getDirection() {
-        double currentAngle = transformation.angle(ZERO_ANGLE_IDENTITY_MOTION);
-
-        if (transformation.getX() < 0) {
-            currentAngle = 360 - currentAngle;
+        if (directionChanged) {
+            direction = angleWithZeroAngleIdentityMotion();
+            directionChanged = false;
         }
 
-        return currentAngle;
+        return direction;
     }
 
     @Override
     public Point2D get() {
-        return transformation;
+        return new Point2D(deltaX, deltaY);
+    }
+
+    @Override
+    public double getDeltaX() {
+        return deltaX;
+    }
+
+    @Override
+    public double getDeltaY() {
+        return deltaY;
     }
 
     @Override
     public Point2D updateLocation(final Point2D currentLocation) {
-        previousLocation = Optional.of(new Point2D(currentLocation.getX(), currentLocation.getY()));
-        return currentLocation.add(transformation);
+        setPreviousLocation(currentLocation.getX(), currentLocation.getY());
+        return currentLocation.add(deltaX, deltaY);
     }
 
     @Override
     public Optional<Point2D> getPreviousLocation() {
-        return previousLocation;
+        if (!hasPreviousLocation) {
+            return Optional.empty();
+        }
+        return Optional.of(new Point2D(previousX, previousY));
+    }
+
+    @Override
+    public void setPreviousLocation(final double x, final double y) {
+        previousX = x;
+        previousY = y;
+        hasPreviousLocation = true;
+    }
+
+    private void setTransformation(final double x, final double y) {
+        deltaX = x;
+        deltaY = y;
+        directionChanged = true;
+    }
+
+    /**
+     * Return the angle in degrees between the transformation and a motion with an angle of zero, which points
+     * down, measured clockwise.
+     */
+    private double angleWithZeroAngleIdentityMotion() {
+        double currentAngle;
+
+        var cosine = deltaY / getSpeed();
+        if (cosine > 1.0) {
+            currentAngle = 0.0;
+        } else if (cosine < -1.0) {
+            currentAngle = 180.0;
+        } else {
+            currentAngle = Math.toDegrees(Math.acos(cosine));
+        }
+
+        if (deltaX < 0) {
+            currentAngle = 360 - currentAngle;
+        }
+
+        return currentAngle;
     }
 }
@@ -17,6 +17,26 @@ public interface MotionApplier extends MotionModifier, LocationUpdater {
      */
     Point2D get();
 
+    /**
+     * Return the horizontal component of the current transformation. By default it is read from {@link #get()}, an
+     * implementation can override this method to avoid creating a {@link Point2D}.
+     *
+     * @return The change of the x-coordinate on each update.
+     */
+    default double getDeltaX() {
+        return get().getX();
+    }
+
+    /**
+     * Return the vertical component of the current transformation. By default it is read from {@link #get()}, an
+     * implementation can override this method to avoid creating a {@link Point2D}.
+     *
+     * @return The change of the y-coordinate on each update.
+     */
+    default double getDeltaY() {
+        return get().getY();
+    }
+
     /**
      * Return the previous location. This Object is exposed to resolve an issue with the
      * fact that collision detection occurs after all Entities are updated. If an
@@ -30,4 +50,17 @@ public interface MotionApplier extends MotionModifier, LocationUpdater {
      * Entity.
      */
     Optional<Point2D> getPreviousLocation();
+
+    /**
+     * Set the location from which the last update started. A {@link Moveable} calls this method before it adds
+     * {@link #getDeltaX()} and {@link #getDeltaY()} to its location, instead of calling
+     * {@link #updateLocation(Point2D)}. By default this method does nothing, an implementation that supports
+     * {@link #getPreviousLocation()} should override it.
+     *
+     * @param x The x-coordinate of the previous location.
+     * @param y The y-coordinate of the previous location.
+     */
+    default void setPreviousLocation(final double x, final double y) {
+        // Only required for an implementation that supports getPreviousLocation().
+    }
 }
@@ -3,7 +3,6 @@ package com.github.hanyaeger.api.engine.entities.entity.motion;
 import com.github.hanyaeger.api.engine.Updatable;
 import com.github.hanyaeger.api.engine.annotations.UpdatableProvider;
 import com.github.hanyaeger.api.engine.entities.entity.Placeable;
-import javafx.geometry.Point2D;
 
 public interface Moveable extends Placeable, MotionModifier {
 
@@ -67,10 +66,12 @@ public interface Moveable extends Placeable, MotionModifier {
             if (Double.compare(getSpeed(), 0d) == 0) {
                 return;
             }
-            var currentPosition = new Point2D(getOriginX(), getOriginY());
-            var updatedPosition = getMotionApplier().updateLocation(currentPosition);
-            setReferenceX(updatedPosition.getX());
-            setReferenceY(updatedPosition.getY());
+            var motionApplier = getMotionApplier();
+            var x = getOriginX();
+            var y = getOriginY();
+            motionApplier.setPreviousLocation(x, y);
+            setReferenceX(x + motionApplier.getDeltaX());
+            setReferenceY(y + motionApplier.getDeltaY());
         };
     }
 
@@ -0,0 +1,65 @@
+package com.github.hanyaeger.api.engine.entities.entity.physics;
+
+import com.github.hanyaeger.api.engine.entities.entity.Placeable;
+import com.github.hanyaeger.api.engine.entities.entity.YaegerEntity;
+import com.github.hanyaeger.api.engine.entities.entity.collisions.CollisionShape;
+import com.github.hanyaeger.api.engine.entities.entity.collisions.ShapedCollidable;
+import com.github.hanyaeger.api.engine.entities.entity.motion.Moveable;
+
+/**
+ * A {@link YaegerEntity} that implements {@link Physical} becomes a rigid body in the {@link PhysicsWorld} of its
+ * scene, after which its location, and optionally its rotation, are set by the {@link PhysicsWorld}.
+ * <p>
+ * The shape of the rigid body is a rectangle of the size of the {@link YaegerEntity}, unless it is a
+ * {@link ShapedCollidable} of which the {@link CollisionShape} is a circle or an ellipse. If the {@link YaegerEntity}
+ * is {@link Moveable}, its speed and direction at the moment it is added become the initial velocity of the rigid
+ * body, after which its speed is set to {@code 0}.
+ */
+public interface Physical extends Placeable {
+
+    /**
+     * Return the {@link PhysicsBodyType} of this {@link Physical}.
+     *
+     * @return the {@link PhysicsBodyType}, which is {@link PhysicsBodyType#DYNAMIC} by default
+     */
+    default PhysicsBodyType getPhysicsBodyType() {
+        return PhysicsBodyType.DYNAMIC;
+    }
+
+    /**
+     * Return the density, which together with the size determines the mass of this {@link Physical}.
+     *
+     * @return the density in kilograms per square meter, which is {@code 1} by default
+     */
+    default double getDensity() {
+        return 1;
+    }
+
+    /**
+     * Return the friction of this {@link Physical}.
+     *
+     * @return the friction, usually between {@code 0} and {@code 1}, which is {@code 0.2} by default
+     */
+    default double getFriction() {
+        return 0.2;
+    }
+
+    /**
+     * Return the restitution, or bounciness, of this {@link Physical}.
+     *
+     * @return the restitution, where {@code 0} means no bounce at all and {@code 1} means a fully elastic bounce,
+     * which is {@code 0} by default
+     */
+    default double getRestitution() {
+        return 0;
+    }
+
+    /**
+     * Return whether this {@link Physical} should keep its rotation, instead of being rotated by collisions.
+     *
+     * @return {@code true} if the rotation is fixed, which is {@code false} by default
+     */
+    default boolean isRotationFixed() {
+        return false;
+    }
+}
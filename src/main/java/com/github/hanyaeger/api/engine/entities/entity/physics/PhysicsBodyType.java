@@ -0,0 +1,16 @@
+package com.github.hanyaeger.api.engine.entities.entity.physics;
+
+/**
+ * A {@link PhysicsBodyType} denotes how a {@link Physical} takes part in the simulation of a {@link PhysicsWorld}.
+ */
+public enum PhysicsBodyType {
+    /**
+     * The {@link Physical} never moves, but other instances of {@link Physical} collide with it, such as the ground
+     * or a wall.
+     */
+    STATIC,
+    /**
+     * The {@link Physical} is moved by gravity, forces and collisions.
+     */
+    DYNAMIC
+}
@@ -0,0 +1,414 @@
+package com.github.hanyaeger.api.engine.entities.entity.physics;
+
+import com.github.hanyaeger.api.engine.entities.entity.collisions.CollisionShape;
+import com.github.hanyaeger.api.engine.entities.entity.collisions.ShapedCollidable;
+import com.github.hanyaeger.api.engine.entities.entity.motion.Moveable;
+import com.github.hanyaeger.api.engine.exceptions.YaegerEngineException;
+import javafx.scene.Node;
+import org.dyn4j.dynamics.Body;
+import org.dyn4j.dynamics.World;
+import org.dyn4j.geometry.Convex;
+import org.dyn4j.geometry.Geometry;
+import org.dyn4j.geometry.MassType;
+import org.dyn4j.geometry.Vector2;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A {@link PhysicsWorld} simulates all instances of {@link Physical} that are part of a scene as rigid bodies, using
+ * the dyn4j physics engine. Each {@link Physical} is mirrored by a dyn4j {@link Body}, which is created when the
+ * {@link Physical} is added to the scene and removed when the {@link Physical} is removed.
+ * <p>
+ * The simulation is stepped at a fixed rate, independent of the frame rate of the Game World Update: the time that has
+ * passed since the previous update is accumulated, after which as many fixed steps as fit are performed. After
+ * stepping, the location and rotation of all bodies are written back to their {@link Physical} in a single batch,
+ * so collision detection, which happens afterwards, sees the new locations.
+ * <p>
+ * dyn4j works in meters, Yaeger in pixels. All values that are passed to a {@link PhysicsWorld} are in pixels, and are
+ * converted using the number of pixels per meter. Since the y-axis of a scene points down, a positive gravity on
+ * the y-axis pulls all instances of {@link Physical} down. The speed of a {@link Moveable}, which is in pixels per
+ * Game World Update, is converted using the number of Game World Updates per second, see
+ * {@link #setUpdateRate(int)}.
+ */
+public class PhysicsWorld {
+
+    /**
+     * The number of steps per second that is used if none is given.
+     */
+    public static final int DEFAULT_STEP_RATE = 60;
+
+    /**
+     * The number of pixels per meter that is used if none is given.
+     */
+    public static final double DEFAULT_PIXELS_PER_METER = 32;
+
+    /**
+     * The number of Game World Updates per second that is used if none is given, which equals the default pulse rate
+     * of JavaFX.
+     */
+    public static final int DEFAULT_UPDATE_RATE = 60;
+
+    /**
+     * The gravity on earth, in meters per second squared.
+     */
+    private static final double EARTH_GRAVITY = 9.8;
+
+    /**
+     * The maximum number of steps that is performed during a single Game World Update, so a long pause, for
+     * instance while the window is dragged, does not lead to an even longer catch up.
+     */
+    private static final int MAX_STEPS_PER_UPDATE = 5;
+    private static final double NANOSECONDS_PER_SECOND = 1_000_000_000d;
+    private static final double MINIMAL_SIZE = 1;
+    private static final double POSITION_TOLERANCE = 1e-6;
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final World world;
+    private final int stepRate;
+    private final double pixelsPerMeter;
+    private final long stepDuration;
+    private int updateRate = DEFAULT_UPDATE_RATE;
+    private final Map<Physical, Integer> indices = new HashMap<>();
+
+    private Physical[] physicals = new Physical[INITIAL_CAPACITY];
+    private Body[] bodies = new Body[INITIAL_CAPACITY];
+    private double[] lastX = new double[INITIAL_CAPACITY];
+    private double[] lastY = new double[INITIAL_CAPACITY];
+    private int count;
+
+    private long previousTimestamp = -1;
+    private long accumulated;
+
+    /**
+     * Create a new {@link PhysicsWorld} that uses {@link #DEFAULT_STEP_RATE} and {@link #DEFAULT_PIXELS_PER_METER}.
+     */
+    public PhysicsWorld() {
+        this(DEFAULT_STEP_RATE, DEFAULT_PIXELS_PER_METER);
+    }
+
+    /**
+     * Create a new {@link PhysicsWorld}.
+     *
+     * @param stepRate       the number of steps per second, which should be larger than 0
+     * @param pixelsPerMeter the number of pixels that equals one meter, which should be larger than 0
+     */
+    public PhysicsWorld(final int stepRate, final double pixelsPerMeter) {
+        if (stepRate <= 0) {
+            throw new YaegerEngineException("The step rate of a PhysicsWorld should be larger than 0.");
+        }
+        if (pixelsPerMeter <= 0) {
+            throw new YaegerEngineException("The number of pixels per meter of a PhysicsWorld should be larger than 0.");
+        }
+
+        this.stepRate = stepRate;
+        this.pixelsPerMeter = pixelsPerMeter;
+        this.stepDuration = Math.round(NANOSECONDS_PER_SECOND / stepRate);
+
+        this.world = new World();
+        this.world.getSettings().setStepFrequency(1d / stepRate);
+        this.world.setGravity(new Vector2(0, EARTH_GRAVITY));
+    }
+
+    /**
+     * Set the number of Game World Updates per second, which is used to convert the speed of a {@link Moveable} from
+     * pixels per Game World Update to pixels per second when its {@link Body} is created. A
+     * {@link com.github.hanyaeger.api.engine.scenes.DynamicScene} sets this rate when it updates at a fixed rate.
+     *
+     * @param updateRate the number of Game World Updates per second, which should be larger than 0
+     */
+    public void setUpdateRate(final int updateRate) {
+        if (updateRate <= 0) {
+            throw new YaegerEngineException("The update rate of a PhysicsWorld should be larger than 0.");
+        }
+        this.updateRate = updateRate;
+    }
+
+    /**
+     * @return the number of Game World Updates per second
+     */
+    public int getUpdateRate() {
+        return updateRate;
+    }
+
+    /**
+     * Set the gravity of this {@link PhysicsWorld}.
+     *
+     * @param x the horizontal gravity in pixels per second squared
+     * @param y the vertical gravity in pixels per second squared, where a positive value pulls down
+     */
+    public void setGravity(final double x, final double y) {
+        world.setGravity(new Vector2(x / pixelsPerMeter, y / pixelsPerMeter));
+    }
+
+    /**
+     * Add the given {@link Physical} to this {@link PhysicsWorld}. Its {@link Body} is placed at the center of its
+     * transformed bounds, with the rotation of its {@link Node}.
+     *
+     * @param physical the {@link Physical} to be added
+     */
+    public void register(final Physical physical) {
+        if (indices.containsKey(physical)) {
+            return;
+        }
+
+        var body = createBody(physical);
+        world.addBody(body);
+
+        ensureCapacity(count + 1);
+        physicals[count] = physical;
+        bodies[count] = body;
+        lastX[count] = centerXOf(physical);
+        lastY[count] = centerYOf(physical);
+        indices.put(physical, count);
+        count++;
+    }
+
+    /**
+     * Remove the given {@link Physical} from this {@link PhysicsWorld}.
+     *
+     * @param physical the {@link Physical} to be removed
+     */
+    public void remove(final Physical physical) {
+        var index = indices.remove(physical);
+        if (index == null) {
+            return;
+        }
+
+        world.removeBody(bodies[index]);
+
+        var last = --count;
+        if (index != last) {
+            physicals[index] = physicals[last];
+            bodies[index] = bodies[last];
+            lastX[index] = lastX[last];
+            lastY[index] = lastY[last];
+            indices.put(physicals[index], index);
+        }
+        physicals[last] = null;
+        bodies[last] = null;
+    }
+
+    /**
+     * Return the dyn4j {@link Body} of the given {@link Physical}, which can be used to apply forces or joints that
+     * are not provided by this {@link PhysicsWorld}. Note that the {@link Body} uses meters instead of pixels.
+     *
+     * @param physical the {@link Physical}
+     * @return the {@link Body}, or {@code null} if the {@link Physical} is not part of this {@link PhysicsWorld}
+     */
+    public Body getBody(final Physical physical) {
+        var index = indices.get(physical);
+        return index == null ? null : bodies[index];
+    }
+
+    /**
+     * Set the velocity of the given {@link Physical}.
+     *
+     * @param physical the {@link Physical}
+     * @param x        the horizontal velocity in pixels per second
+     * @param y        the vertical velocity in pixels per second
+     */
+    public void setVelocity(final Physical physical, final double x, final double y) {
+        var body = getBody(physical);
+        if (body != null) {
+            body.setAsleep(false);
+            body.setLinearVelocity(x / pixelsPerMeter, y / pixelsPerMeter);
+        }
+    }
+
+    /**
+     * Apply an impulse to the center of the given {@link Physical}, which instantly changes its velocity relative to
+     * its mass.
+     *
+     * @param physical the {@link Physical}
+     * @param x        the horizontal impulse
+     * @param y        the vertical impulse
+     */
+    public void applyImpulse(final Physical physical, final double x, final double y) {
+        var body = getBody(physical);
+        if (body != null) {
+            body.setAsleep(false);
+            body.applyImpulse(new Vector2(x / pixelsPerMeter, y / pixelsPerMeter));
+        }
+    }
+
+    /**
+     * Advance the simulation to the given timestamp and write the new location and rotation of all bodies back to
+     * their {@link Physical}. A {@link Physical} that has been placed elsewhere since the previous update, for
+     * instance through {@link Physical#setReferenceX(double)}, is first moved to that location within the simulation.
+     *
+     * @param timestamp the timestamp of the current Game World Update in nanoseconds
+     */
+    public void update(final long timestamp) {
+        if (previousTimestamp < 0) {
+            previousTimestamp = timestamp;
+            return;
+        }
+
+        accumulated += timestamp - previousTimestamp;
+        previousTimestamp = timestamp;
+
+        var steps = (int) Math.min(accumulated / stepDuration, MAX_STEPS_PER_UPDATE);
+        accumulated = steps == MAX_STEPS_PER_UPDATE ? 0 : accumulated - steps * stepDuration;
+
+        if (steps == 0) {
+            return;
+        }
+
+        synchronizeBodies();
+        world.step(steps);
+        writeBack();
+    }
+
+    /**
+     * Remove all instances of {@link Physical} from this {@link PhysicsWorld}.
+     */
+    public void clear() {
+        world.removeAllBodies();
+        indices.clear();
+        Arrays.fill(physicals, 0, count, null);
+        Arrays.fill(bodies, 0, count, null);
+        count = 0;
+        previousTimestamp = -1;
+        accumulated = 0;
+    }
+
+    /**
+     * @return the number of instances of {@link Physical} that are part of this {@link PhysicsWorld}
+     */
+    public int size() {
+        return count;
+    }
+
+    /**
+     * @return the number of steps per second
+     */
+    public int getStepRate() {
+        return stepRate;
+    }
+
+    /**
+     * @return the number of pixels that equals one meter
+     */
+    public double getPixelsPerMeter() {
+        return pixelsPerMeter;
+    }
+
+    private Body createBody(final Physical physical) {
+        var body = new Body();
+        body.addFixture(createConvex(physical), physical.getDensity(), physical.getFriction(), physical.getRestitution());
+
+        if (physical.getPhysicsBodyType() == PhysicsBodyType.STATIC) {
+            body.setMass(MassType.INFINITE);
+        } else if (physical.isRotationFixed()) {
+            body.setMass(MassType.FIXED_ANGULAR_VELOCITY);
+        } else {
+            body.setMass(MassType.NORMAL);
+        }
+
+        var rotation = physical.getGameNode().map(Node::getRotate).orElse(0d);
+        if (rotation != 0) {
+            body.rotate(Math.toRadians(rotation));
+        }
+        body.translate(centerXOf(physical) / pixelsPerMeter, centerYOf(physical) / pixelsPerMeter);
+
+        if (physical instanceof Moveable && physical.getPhysicsBodyType() == PhysicsBodyType.DYNAMIC) {
+            var moveable = (Moveable) physical;
+            var speed = moveable.getSpeed() * updateRate / pixelsPerMeter;
+            var direction = Math.toRadians(moveable.getDirection());
+            body.setLinearVelocity(speed * Math.sin(direction), speed * Math.cos(direction));
+            moveable.setSpeedTo(0);
+        }
+
+        return body;
+    }
+
+    private Convex createConvex(final Physical physical) {
+        double halfWidth;
+        double halfHeight;
+        var shape = CollisionShape.BOX;
+
+        if (physical instanceof ShapedCollidable) {
+            var shaped = (ShapedCollidable) physical;
+            shape = shaped.getCollisionShape();
+            halfWidth = shaped.getCollisionHalfWidth();
+            halfHeight = shaped.getCollisionHalfHeight();
+        } else {
+            halfWidth = physical.getWidth() / 2;
+            halfHeight = physical.getHeight() / 2;
+        }
+
+        var width = Math.max(halfWidth * 2, MINIMAL_SIZE) / pixelsPerMeter;
+        var height = Math.max(halfHeight * 2, MINIMAL_SIZE) / pixelsPerMeter;
+
+        switch (shape) {
+            case CIRCLE:
+                return Geometry.createCircle(width / 2);
+            case ELLIPSE:
+                return Geometry.createEllipse(width, height);
+            default:
+                return Geometry.createRectangle(width, height);
+        }
+    }
+
+    /**
+     * Move each {@link Body} of which the {@link Physical} has been placed elsewhere since the previous update.
+     */
+    private void synchronizeBodies() {
+        for (var i = 0; i < count; i++) {
+            var x = centerXOf(physicals[i]);
+            var y = centerYOf(physicals[i]);
+            if (Math.abs(x - lastX[i]) > POSITION_TOLERANCE || Math.abs(y - lastY[i]) > POSITION_TOLERANCE) {
+                bodies[i].getTransform().setTranslation(x / pixelsPerMeter, y / pixelsPerMeter);
+                bodies[i].setAsleep(false);
+                lastX[i] = x;
+                lastY[i] = y;
+            }
+        }
+    }
+
+    private void writeBack() {
+        for (var i = 0; i < count; i++) {
+            var physical = physicals[i];
+            if (physical.getPhysicsBodyType() == PhysicsBodyType.STATIC) {
+                continue;
+            }
+
+            var transform = bodies[i].getTransform();
+            var x = transform.getTranslationX() * pixelsPerMeter;
+            var y = transform.getTranslationY() * pixelsPerMeter;
+
+            if (!physical.isRotationFixed()) {
+                var rotation = Math.toDegrees(transform.getRotationAngle());
+                physical.getGameNode().ifPresent(node -> node.setRotate(rotation));
+            }
+
+            physical.setReferenceX(physical.getOriginX() + x - centerXOf(physical));
+            physical.setReferenceY(physical.getOriginY() + y - centerYOf(physical));
+
+            lastX[i] = x;
+            lastY[i] = y;
+        }
+    }
+
+    private void ensureCapacity(final int capacity) {
+        if (capacity <= physicals.length) {
+            return;
+        }
+
+        var newCapacity = Math.max(capacity, physicals.length * 2);
+        physicals = Arrays.copyOf(physicals, newCapacity);
+        bodies = Arrays.copyOf(bodies, newCapacity);
+        lastX = Arrays.copyOf(lastX, newCapacity);
+        lastY = Arrays.copyOf(lastY, newCapacity);
+    }
+
+    private static double centerXOf(final Physical physical) {
+        return (physical.getTransformedMinX() + physical.getTransformedMaxX()) / 2;
+    }
+
+    private static double centerYOf(final Physical physical) {
+        return (physical.getTransformedMinY() + physical.getTransformedMaxY()) / 2;
+    }
+}
@@ -2,6 +2,8 @@ package com.github.hanyaeger.api.engine.entities.entity.shape.circle;
 
 import com.github.hanyaeger.api.engine.entities.entity.Coordinate2D;
 import com.github.hanyaeger.api.engine.entities.entity.YaegerEntity;
+import com.github.hanyaeger.api.engine.entities.entity.collisions.CollisionShape;
+import com.github.hanyaeger.api.engine.entities.entity.collisions.ShapedCollidable;
 import com.github.hanyaeger.api.engine.entities.entity.shape.CenteredShapeEntity;
 import com.google.inject.Injector;
 import javafx.scene.shape.Circle;
@@ -13,8 +15,10 @@ import java.util.Optional;
  * {@link YaegerEntity}. As opposed to some of the other shapes
  * ({@link com.github.hanyaeger.api.engine.entities.entity.shape.rectangle.RectangleEntity}, for instance),
  * the reference point of a {@link CircleEntity} is its center.
+ * <p>
+ * During collision detection, the actual circle is used instead of its bounds, see {@link ShapedCollidable}.
  */
-public abstract class CircleEntity extends CenteredShapeEntity<Circle> {
+public abstract class CircleEntity extends CenteredShapeEntity<Circle> implements ShapedCollidable {
 
     private Optional<Double> radius = Optional.empty();
 
@@ -56,6 +60,11 @@ public abstract class CircleEntity extends CenteredShapeEntity<Circle> {
         return super.getLeftX() + radius.get();
     }
 
+    @Override
+    public CollisionShape getCollisionShape() {
+        return CollisionShape.CIRCLE;
+    }
+
     @Override
     public void init(final Injector injector) {
         super.init(injector);
@@ -2,6 +2,8 @@ package com.github.hanyaeger.api.engine.entities.entity.shape.ellipse;
 
 import com.github.hanyaeger.api.engine.entities.entity.Coordinate2D;
 import com.github.hanyaeger.api.engine.entities.entity.YaegerEntity;
+import com.github.hanyaeger.api.engine.entities.entity.collisions.CollisionShape;
+import com.github.hanyaeger.api.engine.entities.entity.collisions.ShapedCollidable;
 import com.github.hanyaeger.api.engine.entities.entity.shape.CenteredShapeEntity;
 import com.google.inject.Injector;
 import javafx.scene.shape.Ellipse;
@@ -13,8 +15,10 @@ import java.util.Optional;
  * {@link YaegerEntity}. As opposed to some of the other shapes
  * ({@link com.github.hanyaeger.api.engine.entities.entity.shape.rectangle.RectangleEntity}, for instance),
  * the reference point of a {@link EllipseEntity} is its center.
+ * <p>
+ * During collision detection, the actual ellipse is used instead of its bounds, see {@link ShapedCollidable}.
  */
-public abstract class EllipseEntity extends CenteredShapeEntity<Ellipse> {
+public abstract class EllipseEntity extends CenteredShapeEntity<Ellipse> implements ShapedCollidable {
 
     private Optional<Double> radiusX = Optional.empty();
     private Optional<Double> radiusY = Optional.empty();
@@ -66,6 +70,11 @@ public abstract class EllipseEntity extends CenteredShapeEntity<Ellipse> {
         return super.getLeftX() + radiusX.get();
     }
 
+    @Override
+    public CollisionShape getCollisionShape() {
+        return CollisionShape.ELLIPSE;
+    }
+
     @Override
     public void init(final Injector injector) {
         super.init(injector);
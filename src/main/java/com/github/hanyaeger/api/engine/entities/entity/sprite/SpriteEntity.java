@@ -2,11 +2,16 @@ package com.github.hanyaeger.api.engine.entities.entity.sprite;
 
 import com.google.inject.Inject;
 import com.google.inject.Injector;
+import javafx.beans.value.ChangeListener;
+import javafx.beans.value.ObservableValue;
 import javafx.scene.Node;
+import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import com.github.hanyaeger.api.engine.Size;
 import com.github.hanyaeger.api.engine.entities.entity.Coordinate2D;
 import com.github.hanyaeger.api.engine.entities.entity.YaegerEntity;
+import com.github.hanyaeger.api.engine.entities.entity.collisions.AlphaMask;
+import com.github.hanyaeger.api.engine.entities.entity.collisions.PixelPerfectCollidable;
 import com.github.hanyaeger.api.engine.entities.entity.sprite.delegates.SpriteAnimationDelegate;
 import com.github.hanyaeger.api.engine.media.repositories.ImageRepository;
 import com.github.hanyaeger.api.engine.media.ResourceConsumer;
@@ -17,6 +22,9 @@ import java.util.Optional;
 
 /**
  * A {@link SpriteEntity} is a {@link YaegerEntity} that is represented by an Image.
+ * <p>
+ * If a {@link SpriteEntity} implements {@link PixelPerfectCollidable}, an {@link AlphaMask} is created for each of
+ * its frames as soon as the Image has been loaded.
  */
 public abstract class SpriteEntity extends YaegerEntity implements ResourceConsumer {
 
@@ -28,6 +36,7 @@ public abstract class SpriteEntity extends YaegerEntity implements ResourceConsu
     private ImageViewFactory imageViewFactory;
 
     private int frames;
+    private AlphaMask[] alphaMasks;
 
     protected Optional<ImageView> imageView;
     protected SpriteAnimationDelegate spriteAnimationDelegate;
@@ -68,6 +77,10 @@ public abstract class SpriteEntity extends YaegerEntity implements ResourceConsu
             spriteAnimationDelegate = spriteAnimationDelegateFactory.create(imageView.get(), frames);
         }
 
+        if (this instanceof PixelPerfectCollidable) {
+            loadAlphaMasks(imageView.get().getImage(), requestedWidth);
+        }
+
         super.init(injector);
     }
 
@@ -77,6 +90,35 @@ public abstract class SpriteEntity extends YaegerEntity implements ResourceConsu
         return imageViewFactory.create(image);
     }
 
+    private void loadAlphaMasks(final Image image, final double requestedWidth) {
+        alphaMasks = imageRepository.getAlphaMasks(resource, requestedWidth, size.getHeight(), preserveAspectRatio, frames);
+
+        if (alphaMasks == null && image.getProgress() < 1) {
+            image.progressProperty().addListener(new ChangeListener<>() {
+                @Override
+                public void changed(final ObservableValue<? extends Number> observable, final Number oldValue, final Number newValue) {
+                    if (newValue.doubleValue() >= 1) {
+                        observable.removeListener(this);
+                        alphaMasks = imageRepository.getAlphaMasks(resource, requestedWidth, size.getHeight(), preserveAspectRatio, frames);
+                    }
+                }
+            });
+        }
+    }
+
+    /**
+     * Return the {@link AlphaMask} of the frame that is currently shown. An {@link AlphaMask} is only created if this
+     * {@link SpriteEntity} implements {@link PixelPerfectCollidable}.
+     *
+     * @return the {@link AlphaMask} of the current frame, or {@code null} if none is available
+     */
+    public AlphaMask getAlphaMask() {
+        if (alphaMasks == null) {
+            return null;
+        }
+        return alphaMasks[spriteAnimationDelegate == null ? 0 : spriteAnimationDelegate.getFrameIndex()];
+    }
+
     /**
      * Set the current frame index of the Sprite image.
      *
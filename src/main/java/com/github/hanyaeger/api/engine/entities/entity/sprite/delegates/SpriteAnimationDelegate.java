@@ -45,6 +45,15 @@ public class SpriteAnimationDelegate implements Updatable {
         currentIndex = index;
     }
 
+    /**
+     * Return the index of the frame that is currently shown.
+     *
+     * @return the index of the current frame, which lies between {@code 0} and the number of frames
+     */
+    public int getFrameIndex() {
+        return currentIndex % viewports.size();
+    }
+
     @Override
     public void update(long timestamp) {
         if (autoCycleInterval == 0) {
@@ -1,6 +1,7 @@
 package com.github.hanyaeger.api.engine.media.repositories;
 
 import com.github.hanyaeger.api.engine.Destroyable;
+import com.github.hanyaeger.api.engine.entities.entity.collisions.AlphaMask;
 import com.github.hanyaeger.api.engine.media.ResourceConsumer;
 import com.github.hanyaeger.api.javafx.image.ImageFactory;
 import com.google.inject.Inject;
@@ -16,7 +17,7 @@ import java.util.WeakHashMap;
 @Singleton
 public class ImageRepository implements ResourceConsumer, Destroyable {
 
-    private Map<String, Image> imageMap = new WeakHashMap<>();
+    private Map<String, CachedImage> imageMap = new WeakHashMap<>();
     private ImageFactory factory;
 
     /**
@@ -28,14 +29,7 @@ public class ImageRepository implements ResourceConsumer, Destroyable {
      * @return an {@link Image} with content loaded from the specified url
      */
     public Image get(final String url) {
-
-        if (imageMap.containsKey(url)) {
-            return imageMap.get(url);
-        } else {
-            var image = factory.create(createPathForResource(url));
-            imageMap.put(url, image);
-            return image;
-        }
+        return imageMap.computeIfAbsent(url, key -> new CachedImage(factory.create(createPathForResource(url)))).image;
     }
 
     /**
@@ -51,16 +45,51 @@ public class ImageRepository implements ResourceConsumer, Destroyable {
      * @return an {@link Image} with content loaded from the specified url
      */
     public Image get(final String url, final double requestedWidth, final double requestedHeight, final boolean preserveRatio) {
+        return getCachedImage(url, requestedWidth, requestedHeight, preserveRatio).image;
+    }
+
+    /**
+     * Return an {@link AlphaMask} for each frame of the {@link Image} with the specified parameters. The instances
+     * of {@link AlphaMask} are cached in the same entry as the {@link Image}, so they are only created once and are
+     * discarded together with the {@link Image}.
+     *
+     * @param url             the string representing the URL to use in fetching the pixel
+     *                        data
+     * @param requestedWidth  the image's bounding box width
+     * @param requestedHeight the image's bounding box height
+     * @param preserveRatio   indicates whether to preserve the aspect ratio of
+     *                        the original image when scaling to fit the image within the
+     *                        specified bounding box
+     * @param frames          the number of frames the {@link Image} contains
+     * @return an array with an {@link AlphaMask} for each frame, or {@code null} if the {@link Image} has not yet
+     * been loaded
+     */
+    public AlphaMask[] getAlphaMasks(final String url, final double requestedWidth, final double requestedHeight,
+                                     final boolean preserveRatio, final int frames) {
+        var cachedImage = getCachedImage(url, requestedWidth, requestedHeight, preserveRatio);
+
+        var alphaMasks = cachedImage.alphaMasks;
+        if (alphaMasks != null && alphaMasks.length == frames) {
+            return alphaMasks;
+        }
 
-        String imageKey = constructKey(url, requestedWidth, requestedHeight, preserveRatio);
+        var image = cachedImage.image;
+        if (image.getProgress() < 1 || image.isError()) {
+            return null;
+        }
 
-        if (imageMap.containsKey(imageKey)) {
-            return imageMap.get(imageKey);
-        } else {
-            var image = factory.create(createPathForResource(url), requestedWidth, requestedHeight, preserveRatio);
-            imageMap.put(imageKey, image);
-            return image;
+        alphaMasks = AlphaMask.create(image, frames);
+        if (alphaMasks != null) {
+            cachedImage.alphaMasks = alphaMasks;
         }
+        return alphaMasks;
+    }
+
+    private CachedImage getCachedImage(final String url, final double requestedWidth, final double requestedHeight,
+                                       final boolean preserveRatio) {
+        return imageMap.computeIfAbsent(constructKey(url, requestedWidth, requestedHeight, preserveRatio),
+                key -> new CachedImage(factory.create(createPathForResource(url), requestedWidth, requestedHeight,
+                        preserveRatio)));
     }
 
     @Inject
@@ -87,4 +116,17 @@ public class ImageRepository implements ResourceConsumer, Destroyable {
     public void destroy() {
         imageMap.clear();
     }
+
+    /**
+     * An {@link Image} together with the instances of {@link AlphaMask} of its frames, once they have been created.
+     */
+    private static class CachedImage {
+
+        private final Image image;
+        private AlphaMask[] alphaMasks;
+
+        CachedImage(final Image image) {
+            this.image = image;
+        }
+    }
 }
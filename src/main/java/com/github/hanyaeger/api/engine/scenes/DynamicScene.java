@@ -1,6 +1,9 @@
 package com.github.hanyaeger.api.engine.scenes;
 
 import com.github.hanyaeger.api.engine.annotations.UpdatableProvider;
+import com.github.hanyaeger.api.engine.entities.entity.collisions.Broadphase;
+import com.github.hanyaeger.api.engine.entities.entity.physics.PhysicsWorld;
+import com.github.hanyaeger.api.engine.FixedTimestep;
 import com.github.hanyaeger.api.javafx.animationtimer.AnimationTimerFactory;
 import com.google.inject.Inject;
 import javafx.animation.AnimationTimer;
@@ -24,6 +27,7 @@ public abstract class DynamicScene extends StaticScene implements UpdateDelegato
 
     private Updater updater;
     private AnimationTimer animator;
+    private FixedTimestep fixedTimestep;
     private AnimationTimerFactory animationTimerFactory;
     private List<Timer> timers = new ArrayList<>();
     private List<EntitySpawner> spawners = new ArrayList<>();
@@ -51,8 +55,10 @@ public abstract class DynamicScene extends StaticScene implements UpdateDelegato
     }
 
     private void stopGameLoop() {
-        animator.stop();
-        animator = null;
+        if (animator != null) {
+            animator.stop();
+            animator = null;
+        }
     }
 
     @UpdatableProvider
@@ -62,8 +68,82 @@ public abstract class DynamicScene extends StaticScene implements UpdateDelegato
         };
     }
 
+    /**
+     * Set the {@link Broadphase} that should be used during collision detection on this {@link DynamicScene}. A
+     * {@link Broadphase} limits the number of collision checks for scenes that contain many colliders. This method
+     * should be called from {@link #setupScene()}.
+     *
+     * @param broadphase The {@link Broadphase} to be used, for example a
+     *                   {@link com.github.hanyaeger.api.engine.entities.entity.collisions.SpatialHashBroadphase}.
+     */
+    public void setBroadphase(final Broadphase broadphase) {
+        entityCollection.setBroadphase(broadphase);
+    }
+
+    /**
+     * Set the {@link PhysicsWorld} that should simulate all instances of
+     * {@link com.github.hanyaeger.api.engine.entities.entity.physics.Physical} on this {@link DynamicScene} as rigid
+     * bodies, with gravity, friction and collision response. This method should be called from {@link #setupScene()}.
+     * If this {@link DynamicScene} updates at a fixed rate, that rate is passed to the {@link PhysicsWorld}.
+     *
+     * @param physicsWorld The {@link PhysicsWorld} to be used, or {@code null} to disable physics simulation.
+     */
+    public void setPhysicsWorld(final PhysicsWorld physicsWorld) {
+        if (physicsWorld != null && fixedTimestep != null) {
+            physicsWorld.setUpdateRate(fixedTimestep.getTicksPerSecond());
+        }
+        entityCollection.setPhysicsWorld(physicsWorld);
+    }
+
+    /**
+     * Set whether collision detection on this {@link DynamicScene} should be performed in parallel, using all
+     * available processor cores. This only pays off for scenes with many colliders. The collisions are still reported
+     * on the JavaFX Application Thread, in a stable order. This method should be called from {@link #setupScene()}.
+     *
+     * @param parallel {@code true} if collision detection should be performed in parallel.
+     */
+    public void setParallelCollisionDetection(final boolean parallel) {
+        entityCollection.setParallelCollisionDetection(parallel);
+    }
+
+    /**
+     * Set whether the compute phase of all instances of
+     * {@link com.github.hanyaeger.api.engine.entities.entity.Computable} on this {@link DynamicScene} should be
+     * performed in parallel, using all available processor cores. This only pays off for scenes in which many
+     * entities perform heavy computations. All other updates are still performed on the JavaFX Application Thread,
+     * after the compute phase has finished. This method should be called from {@link #setupScene()}.
+     *
+     * @param parallel {@code true} if the compute phase should be performed in parallel.
+     */
+    public void setParallelUpdates(final boolean parallel) {
+        entityCollection.setParallelUpdates(parallel);
+    }
+
+    /**
+     * Let this {@link DynamicScene} update at a fixed rate, independent of the refresh rate of the display. Each pulse
+     * of the display then leads to zero, one or more updates, up to {@link FixedTimestep#DEFAULT_MAX_TICKS_PER_PULSE},
+     * after which all moving instances of {@link com.github.hanyaeger.api.engine.entities.entity.YaegerEntity} are drawn
+     * between their last two locations. By default, this {@link DynamicScene} is updated once per pulse. This method
+     * should be called from {@link #setupScene()}.
+     *
+     * @param updatesPerSecond The number of updates per second, for instance {@code 60}.
+     */
+    public void setFixedTimestep(final int updatesPerSecond) {
+        fixedTimestep = new FixedTimestep(updatesPerSecond, this::update, entityCollection::interpolate);
+        entityCollection.setRenderInterpolation(true);
+
+        var physicsWorld = entityCollection.getPhysicsWorld();
+        if (physicsWorld != null) {
+            physicsWorld.setUpdateRate(updatesPerSecond);
+        }
+    }
+
     private void createGameLoop() {
-        animator = this.animationTimerFactory.create(this::update);
+        if (fixedTimestep == null) {
+            animator = this.animationTimerFactory.create(this::update);
+        } else {
+            animator = this.animationTimerFactory.create(fixedTimestep);
+        }
     }
 
     @Override
@@ -41,7 +41,10 @@ public interface EntitySpawnerContainer extends EntitySpawnerListProvider, Entit
     }
 
     default void registerEntitySpawners() {
-        getSpawners().forEach(spawner -> getEntityCollection().registerSupplier(spawner.getSupplier()));
+        getSpawners().forEach(spawner -> {
+            getEntityCollection().registerSupplier(spawner.getSupplier());
+            spawner.setEntityPool(getEntityCollection().getEntityPool());
+        });
     }
 
     /**
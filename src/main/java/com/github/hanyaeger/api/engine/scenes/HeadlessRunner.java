@@ -0,0 +1,150 @@
+package com.github.hanyaeger.api.engine.scenes;
+
+import com.github.hanyaeger.api.engine.Size;
+import com.github.hanyaeger.api.engine.YaegerGame;
+import com.github.hanyaeger.api.engine.annotations.AnnotationProcessor;
+import com.github.hanyaeger.api.engine.exceptions.YaegerEngineException;
+import com.github.hanyaeger.api.guice.YaegerModule;
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import javafx.animation.AnimationTimer;
+import javafx.stage.Stage;
+
+/**
+ * A {@link HeadlessRunner} runs a {@link DynamicScene} without a {@link Stage}, without a display and without the
+ * {@link AnimationTimer} of JavaFX. Each Game World Update receives a synthetic timestamp, which grows by a fixed
+ * amount per update, and all updates are performed in a tight loop on the calling thread. Hours of gameplay can thus
+ * be simulated in minutes, for instance to balance a game, or to benchmark the engine on a machine without a display.
+ * <p>
+ * The {@link DynamicScene} is activated in the same order a {@link SceneCollection} would use, except that no
+ * {@link javafx.scene.Scene} and no {@link com.github.hanyaeger.api.engine.debug.Debugger} are created. Note that
+ * loading images, fonts and audio requires the JavaFX toolkit, which a {@link HeadlessRunner} does not start. A
+ * {@link DynamicScene} that should run headless should therefore use shapes instead of sprites and text.
+ * <pre>{@code
+ *      var runner = new HeadlessRunner(new Size(800, 600));
+ *      runner.start(new LevelScene());
+ *      runner.update(60 * 60 * 60);
+ *      runner.stop();
+ * }
+ * </pre>
+ */
+public class HeadlessRunner {
+
+    /**
+     * The number of Game World Updates per simulated second that is used if none is given.
+     */
+    public static final int DEFAULT_UPDATES_PER_SECOND = 60;
+
+    private static final double NANOSECONDS_PER_SECOND = 1_000_000_000d;
+
+    private final Size size;
+    private final long updateDuration;
+    private final Injector injector;
+
+    private DynamicScene scene;
+    private long timestamp;
+    private long updates;
+
+    /**
+     * Create a new {@link HeadlessRunner} that uses {@link #DEFAULT_UPDATES_PER_SECOND}.
+     *
+     * @param size The {@link Size} of the {@link DynamicScene}.
+     */
+    public HeadlessRunner(final Size size) {
+        this(size, DEFAULT_UPDATES_PER_SECOND);
+    }
+
+    /**
+     * Create a new {@link HeadlessRunner}.
+     *
+     * @param size             The {@link Size} of the {@link DynamicScene}.
+     * @param updatesPerSecond The number of Game World Updates per simulated second, which determines the synthetic
+     *                         timestamps. This should be larger than 0.
+     */
+    public HeadlessRunner(final Size size, final int updatesPerSecond) {
+        this(size, updatesPerSecond, Guice.createInjector(new YaegerModule()));
+    }
+
+    HeadlessRunner(final Size size, final int updatesPerSecond, final Injector injector) {
+        if (updatesPerSecond <= 0) {
+            throw new YaegerEngineException("The number of updates per second should be larger than 0.");
+        }
+
+        this.size = size == null ? YaegerGame.DEFAULT_GAME_DIMENSIONS : size;
+        this.updateDuration = Math.round(NANOSECONDS_PER_SECOND / updatesPerSecond);
+        this.injector = injector;
+    }
+
+    /**
+     * Activate the given {@link DynamicScene}. A {@link DynamicScene} that was started before is destroyed first.
+     *
+     * @param scene The {@link DynamicScene} that should be run.
+     */
+    public void start(final DynamicScene scene) {
+        if (this.scene != null) {
+            stop();
+        }
+
+        var annotationProcessor = injector.getInstance(AnnotationProcessor.class);
+
+        scene.init(injector);
+        injector.injectMembers(scene);
+        annotationProcessor.configureUpdateDelegators(scene);
+        annotationProcessor.invokeActivators(scene);
+        scene.activateHeadless(size);
+        annotationProcessor.invokePostActivators(scene);
+        scene.postActivateHeadless();
+
+        this.scene = scene;
+        this.timestamp = 0;
+        this.updates = 0;
+    }
+
+    /**
+     * Perform the given number of Game World Updates on the {@link DynamicScene}, as fast as possible.
+     *
+     * @param count The number of Game World Updates.
+     */
+    public void update(final long count) {
+        if (scene == null) {
+            throw new YaegerEngineException("A DynamicScene should be started before it can be updated.");
+        }
+
+        for (var i = 0L; i < count; i++) {
+            timestamp += updateDuration;
+            scene.update(timestamp);
+        }
+        updates += count;
+    }
+
+    /**
+     * Destroy the {@link DynamicScene} that is currently running.
+     */
+    public void stop() {
+        if (scene != null) {
+            scene.destroy();
+            scene = null;
+        }
+    }
+
+    /**
+     * @return The {@link DynamicScene} that is currently running, or {@code null} if none is running.
+     */
+    public DynamicScene getScene() {
+        return scene;
+    }
+
+    /**
+     * @return The synthetic timestamp of the last Game World Update in nanoseconds.
+     */
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    /**
+     * @return The number of Game World Updates that have been performed since the {@link DynamicScene} was started.
+     */
+    public long getUpdates() {
+        return updates;
+    }
+}
@@ -1,6 +1,7 @@
 package com.github.hanyaeger.api.engine.scenes;
 
 import com.github.hanyaeger.api.engine.DependencyInjector;
+import com.github.hanyaeger.api.engine.Size;
 import com.github.hanyaeger.api.engine.debug.Debugger;
 import com.github.hanyaeger.api.engine.entities.tilemap.TileMap;
 import com.github.hanyaeger.api.engine.entities.tilemap.TileMapListProvider;
@@ -47,6 +48,7 @@ public abstract class StaticScene implements YaegerScene, SupplierProvider, Tile
     private List<TileMap> tileMaps = new ArrayList<>();
 
     private Stage stage;
+    private Size headlessSize;
     private Scene scene;
     private Pane pane;
     private ColorAdjust colorAdjust;
@@ -63,9 +65,7 @@ public abstract class StaticScene implements YaegerScene, SupplierProvider, Tile
 
         scene = sceneFactory.create(pane);
 
-        entityCollection = entityCollectionFactory.create(pane);
-        injector.injectMembers(entityCollection);
-        entityCollection.init(injector);
+        createEntityCollection();
         entityCollection.addStatisticsObserver(debugger);
 
         debugger.setup(pane);
@@ -82,9 +82,48 @@ public abstract class StaticScene implements YaegerScene, SupplierProvider, Tile
 
     @Override
     public void postActivate() {
+        transferInitialEntities();
+        debugger.toFront();
+    }
+
+    /**
+     * Activate this {@link StaticScene} without a {@link Scene}, {@link Stage} or {@link Debugger}, so it can be
+     * used by a {@link HeadlessRunner}. The given {@link Size} is used as the width and height of this
+     * {@link StaticScene}.
+     *
+     * @param size The {@link Size} of this {@link StaticScene}.
+     */
+    void activateHeadless(final Size size) {
+        headlessSize = size;
+
+        createEntityCollection();
+        entityCollection.setSceneSize(size);
+
+        if (this instanceof KeyListener) {
+            entityCollection.registerKeyListener((KeyListener) this);
+        }
+        backgroundDelegate.setup(pane);
+
+        setupScene();
+        setupEntities();
+    }
+
+    /**
+     * The headless counterpart of {@link #postActivate()}.
+     */
+    void postActivateHeadless() {
+        transferInitialEntities();
+    }
+
+    private void createEntityCollection() {
+        entityCollection = entityCollectionFactory.create(pane);
+        injector.injectMembers(entityCollection);
+        entityCollection.init(injector);
+    }
+
+    private void transferInitialEntities() {
         entityCollection.registerSupplier(entitySupplier);
         entityCollection.initialUpdate();
-        debugger.toFront();
     }
 
     /**
@@ -120,6 +159,16 @@ public abstract class StaticScene implements YaegerScene, SupplierProvider, Tile
         return this.injector;
     }
 
+    @Override
+    public double getWidth() {
+        return headlessSize == null ? YaegerScene.super.getWidth() : headlessSize.getWidth();
+    }
+
+    @Override
+    public double getHeight() {
+        return headlessSize == null ? YaegerScene.super.getHeight() : headlessSize.getHeight();
+    }
+
     @Override
     public Stage getStage() {
         return stage;
@@ -163,7 +212,9 @@ public abstract class StaticScene implements YaegerScene, SupplierProvider, Tile
 
     @Override
     public void destroy() {
-        keyListenerDelegate.tearDown(scene);
+        if (scene != null) {
+            keyListenerDelegate.tearDown(scene);
+        }
         backgroundDelegate.destroy();
         clear();
     }
@@ -4,9 +4,12 @@ module hanyaeger.api {
     requires transitive javafx.media;
     requires transitive javafx.graphics;
     requires transitive com.google.guice;
+    requires transitive org.dyn4j;
+    requires static java.compiler;
 
     exports com.github.hanyaeger.api.engine;
     exports com.github.hanyaeger.api.engine.annotations;
+    exports com.github.hanyaeger.api.engine.annotations.processing;
     exports com.github.hanyaeger.api.engine.entities;
     exports com.github.hanyaeger.api.engine.scenes;
     exports com.github.hanyaeger.api.engine.scenes.delegates;
@@ -23,6 +26,7 @@ module hanyaeger.api {
     exports com.github.hanyaeger.api.engine.entities.entity.motion;
     exports com.github.hanyaeger.api.engine.scenes.splash;
     exports com.github.hanyaeger.api.engine.entities.entity.collisions;
+    exports com.github.hanyaeger.api.engine.entities.entity.physics;
     exports com.github.hanyaeger.api.engine.entities.entity.events.userinput;
     exports com.github.hanyaeger.api.engine.styles;
     exports com.github.hanyaeger.api.engine.media.audio;
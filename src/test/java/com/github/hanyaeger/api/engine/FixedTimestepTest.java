@@ -0,0 +1,99 @@
+package com.github.hanyaeger.api.engine;
+
+import com.github.hanyaeger.api.engine.exceptions.YaegerEngineException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FixedTimestepTest {
+
+    private static final long TICK = 10_000_000L;
+
+    private List<Long> ticks;
+    private List<Double> alphas;
+    private FixedTimestep sut;
+
+    @BeforeEach
+    void setup() {
+        ticks = new ArrayList<>();
+        alphas = new ArrayList<>();
+        sut = new FixedTimestep(100, 3, ticks::add, alphas::add);
+    }
+
+    @Test
+    void ticksPerSecondShouldBeLargerThanZero() {
+        // Arrange
+
+        // Act & Assert
+        assertThrows(YaegerEngineException.class, () -> new FixedTimestep(0, ticks::add, alphas::add));
+    }
+
+    @Test
+    void firstPulseDoesNotTick() {
+        // Arrange
+
+        // Act
+        sut.handle(1_000L);
+
+        // Assert
+        assertTrue(ticks.isEmpty());
+        assertEquals(List.of(0d), alphas);
+    }
+
+    @Test
+    void shortPulsesAccumulateIntoSingleTick() {
+        // Arrange
+        sut.handle(0L);
+
+        // Act
+        sut.handle(TICK / 2);
+        sut.handle(TICK);
+
+        // Assert
+        assertEquals(List.of(TICK), ticks);
+        assertEquals(0.5, alphas.get(1), 1e-9);
+        assertEquals(0, alphas.get(2), 1e-9);
+    }
+
+    @Test
+    void longPulseRunsMultipleTicksWithFixedTimestamps() {
+        // Arrange
+        sut.handle(0L);
+
+        // Act
+        sut.handle(2 * TICK + TICK / 4);
+
+        // Assert
+        assertEquals(List.of(TICK, 2 * TICK), ticks);
+        assertEquals(0.25, alphas.get(1), 1e-9);
+    }
+
+    @Test
+    void stalledPulseIsCappedAndDropsBacklog() {
+        // Arrange
+        sut.handle(0L);
+
+        // Act
+        sut.handle(100 * TICK);
+        sut.handle(101 * TICK);
+
+        // Assert
+        assertEquals(List.of(TICK, 2 * TICK, 3 * TICK, 4 * TICK), ticks);
+        assertEquals(0, alphas.get(1), 1e-9);
+    }
+
+    @Test
+    void tickDurationFollowsTicksPerSecond() {
+        // Arrange
+
+        // Act
+        var duration = sut.getTickDuration();
+
+        // Assert
+        assertEquals(TICK, duration);
+    }
+}
@@ -6,15 +6,26 @@ import com.github.hanyaeger.api.engine.UpdateDelegator;
 import com.github.hanyaeger.api.engine.Updater;
 import com.github.hanyaeger.api.engine.entities.entity.Coordinate2D;
 import com.github.hanyaeger.api.engine.entities.entity.YaegerEntity;
+import com.github.hanyaeger.api.engine.exceptions.YaegerEngineException;
 import com.google.inject.Injector;
 import javafx.scene.Node;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.lang.module.ModuleFinder;
+import java.net.URISyntaxException;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.mockito.Mockito.*;
 
@@ -24,6 +35,9 @@ class AnnotationProcessorTest {
 
     private AnnotationProcessor sut;
 
+    @TempDir
+    Path directory;
+
     @BeforeEach
     void setUp() {
         sut = new AnnotationProcessor();
@@ -77,6 +91,125 @@ class AnnotationProcessorTest {
         verify(updater).addUpdatable(any(Updatable.class), eq(false));
     }
 
+    @Test
+    void invokeActivatorsInvokesAnnotatedMethodOnEveryInstanceOfSameClass() {
+        // Arrange
+        var first = new EntityWithActivators(LOCATION);
+        var second = new EntityWithActivators(LOCATION);
+
+        // Act
+        sut.invokeActivators(first);
+        sut.invokeActivators(second);
+
+        // Assert
+        Assertions.assertTrue(first.isActivated());
+        Assertions.assertTrue(second.isActivated());
+    }
+
+    @Test
+    void exceptionThrownByActivatorIsWrappedInYaegerEngineException() {
+        // Arrange
+        var failingActivator = new FailingActivator();
+
+        // Act
+        var exception = Assertions.assertThrows(YaegerEngineException.class,
+                () -> sut.invokeActivators(failingActivator));
+
+        // Assert
+        Assertions.assertTrue(exception.getCause().getCause() instanceof IllegalStateException);
+    }
+
+    @Test
+    void invokeActivatorsInvokesAnnotatedMethodOfClassInOtherNamedModule() throws Exception {
+        // Arrange
+        var sources = Files.createDirectories(directory.resolve("sources/game"));
+        var classes = Files.createDirectories(directory.resolve("classes"));
+        Files.writeString(directory.resolve("sources/module-info.java"), "module game {\n    exports game;\n}\n");
+        Files.writeString(sources.resolve("Player.java"), "package game;\n"
+                + "\n"
+                + "public class Player {\n"
+                + "\n"
+                + "    public boolean activated;\n"
+                + "\n"
+                + "    @com.github.hanyaeger.api.engine.annotations.OnActivation\n"
+                + "    public void activate() {\n"
+                + "        activated = true;\n"
+                + "    }\n"
+                + "}\n");
+        var result = ToolProvider.getSystemJavaCompiler().run(null, null, null,
+                "--add-reads", "game=ALL-UNNAMED",
+                "-classpath", getClasspath(),
+                "-d", classes.toString(),
+                directory.resolve("sources/module-info.java").toString(),
+                sources.resolve("Player.java").toString());
+        Assertions.assertEquals(0, result);
+
+        var configuration = ModuleLayer.boot().configuration()
+                .resolve(ModuleFinder.of(classes), ModuleFinder.of(), Set.of("game"));
+        var controller = ModuleLayer.defineModulesWithOneLoader(configuration, List.of(ModuleLayer.boot()),
+                getClass().getClassLoader());
+        var module = controller.layer().findModule("game").orElseThrow();
+        controller.addReads(module, getClass().getClassLoader().getUnnamedModule());
+        var type = module.getClassLoader().loadClass("game.Player");
+        var player = type.getDeclaredConstructor().newInstance();
+
+        // Act
+        sut.invokeActivators(player);
+
+        // Assert
+        Assertions.assertNotSame(AnnotationProcessor.class.getModule(), type.getModule());
+        Assertions.assertTrue(type.getField("activated").getBoolean(player));
+    }
+
+    @Test
+    void getWiringReturnsGeneratedWiring() {
+        // Arrange
+        var wiredEntity = new WiredEntity();
+
+        // Act
+        var wiring = sut.getWiring(wiredEntity);
+
+        // Assert
+        Assertions.assertTrue(wiring.isPresent());
+        Assertions.assertEquals(AnnotationProcessorTest_WiredEntity_YaegerWiring.class, wiring.get().getClass());
+    }
+
+    @Test
+    void getWiringIsEmptyWithoutGeneratedWiring() {
+        // Arrange
+        var entityWithActivators = new EntityWithActivators(LOCATION);
+
+        // Act
+        var wiring = sut.getWiring(entityWithActivators);
+
+        // Assert
+        Assertions.assertTrue(wiring.isEmpty());
+    }
+
+    private String getClasspath() throws URISyntaxException {
+        var loader = getClass().getClassLoader();
+        if (!(loader instanceof URLClassLoader)) {
+            return System.getProperty("java.class.path");
+        }
+
+        var entries = new ArrayList<String>();
+        for (var url : ((URLClassLoader) loader).getURLs()) {
+            entries.add(Path.of(url.toURI()).toString());
+        }
+        return String.join(File.pathSeparator, entries);
+    }
+
+    public static class WiredEntity {
+    }
+
+    public static class FailingActivator {
+
+        @OnActivation
+        public void fail() {
+            throw new IllegalStateException();
+        }
+    }
+
     private class FirstUpdateDelegatingEntity extends YaegerEntity implements UpdateDelegator {
 
         private Updater updater;
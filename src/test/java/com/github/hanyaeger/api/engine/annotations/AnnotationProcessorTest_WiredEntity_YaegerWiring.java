@@ -0,0 +1,25 @@
+package com.github.hanyaeger.api.engine.annotations;
+
+import com.google.inject.Injector;
+
+/**
+ * Stands in for the {@link EntityWiring} the {@link com.github.hanyaeger.api.engine.annotations.processing.EntityWiringProcessor}
+ * would generate for {@link AnnotationProcessorTest.WiredEntity}.
+ */
+public final class AnnotationProcessorTest_WiredEntity_YaegerWiring implements EntityWiring<AnnotationProcessorTest.WiredEntity> {
+
+    @Override
+    public void injectMembers(final AnnotationProcessorTest.WiredEntity instance, final Injector injector) {
+        // Not required here.
+    }
+
+    @Override
+    public void invokeActivators(final AnnotationProcessorTest.WiredEntity instance) {
+        // Not required here.
+    }
+
+    @Override
+    public void configureUpdateDelegators(final AnnotationProcessorTest.WiredEntity instance) {
+        // Not required here.
+    }
+}
@@ -0,0 +1,180 @@
+package com.github.hanyaeger.api.engine.annotations.processing;
+
+import com.github.hanyaeger.api.engine.annotations.EntityWiring;
+import com.google.inject.Injector;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class EntityWiringProcessorTest {
+
+    private static final String PLAYER = "package game;\n"
+            + "\n"
+            + "import com.github.hanyaeger.api.engine.Updatable;\n"
+            + "import com.github.hanyaeger.api.engine.annotations.OnActivation;\n"
+            + "import com.github.hanyaeger.api.engine.annotations.UpdatableProvider;\n"
+            + "import com.github.hanyaeger.api.engine.entities.entity.Coordinate2D;\n"
+            + "import com.github.hanyaeger.api.engine.entities.entity.shape.rectangle.DynamicRectangleEntity;\n"
+            + "import com.google.inject.Inject;\n"
+            + "\n"
+            + "public class Player extends DynamicRectangleEntity {\n"
+            + "\n"
+            + "    @Inject\n"
+            + "    Helper helper;\n"
+            + "\n"
+            + "    public boolean activated;\n"
+            + "\n"
+            + "    public Player() {\n"
+            + "        super(new Coordinate2D(0, 0));\n"
+            + "    }\n"
+            + "\n"
+            + "    @OnActivation\n"
+            + "    public void onActivation() {\n"
+            + "        activated = true;\n"
+            + "    }\n"
+            + "\n"
+            + "    @UpdatableProvider(asFirst = true)\n"
+            + "    public Updatable provideUpdatable() {\n"
+            + "        return timestamp -> {\n"
+            + "        };\n"
+            + "    }\n"
+            + "\n"
+            + "    public static class Helper {\n"
+            + "    }\n"
+            + "\n"
+            + "    public static class Enemy extends DynamicRectangleEntity {\n"
+            + "\n"
+            + "        public Enemy() {\n"
+            + "            super(new Coordinate2D(0, 0));\n"
+            + "        }\n"
+            + "\n"
+            + "        @Inject\n"
+            + "        private void setHelper(final Helper helper) {\n"
+            + "        }\n"
+            + "    }\n"
+            + "}\n";
+
+    @TempDir
+    Path directory;
+
+    private Path sources;
+    private Path classes;
+
+    @BeforeEach
+    void setup() throws IOException {
+        sources = Files.createDirectories(directory.resolve("sources/game"));
+        classes = Files.createDirectories(directory.resolve("classes"));
+        Files.writeString(sources.resolve("Player.java"), PLAYER);
+    }
+
+    @Test
+    void wiringIsGeneratedForEntity() throws IOException, URISyntaxException {
+        // Arrange
+
+        // Act
+        var result = compile();
+
+        // Assert
+        Assertions.assertEquals(0, result);
+        var wiring = Files.readString(classes.resolve("game/Player_YaegerWiring.java"));
+        Assertions.assertTrue(wiring.contains("public final class Player_YaegerWiring implements "
+                + "com.github.hanyaeger.api.engine.annotations.EntityWiring<game.Player>"));
+        Assertions.assertTrue(wiring.contains("instance.setShape(injector.getInstance(javafx.scene.shape.Rectangle.class));"));
+        Assertions.assertTrue(wiring.contains("instance.helper = injector.getInstance(game.Player.Helper.class);"));
+        Assertions.assertTrue(wiring.contains("instance.onActivation();"));
+        Assertions.assertTrue(wiring.contains(" = instance.provideUpdatable();"));
+        Assertions.assertTrue(wiring.contains("instance.getUpdater().addUpdatable("
+                + "(com.github.hanyaeger.api.engine.Updatable) provided"));
+        Assertions.assertTrue(Files.exists(classes.resolve("game/Player_YaegerWiring.class")));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void generatedWiringInjectsMembersAndInvokesActivators() throws Exception {
+        // Arrange
+        compile();
+        var injector = mock(Injector.class);
+        when(injector.getInstance(any(Class.class))).thenAnswer(invocation ->
+                invocation.<Class<?>>getArgument(0).getConstructor().newInstance());
+
+        try (var loader = new URLClassLoader(new URL[]{classes.toUri().toURL()}, getClass().getClassLoader())) {
+            var player = loader.loadClass("game.Player").getConstructor().newInstance();
+            var wiring = (EntityWiring<Object>) loader.loadClass("game.Player_YaegerWiring")
+                    .getConstructor().newInstance();
+
+            // Act
+            wiring.injectMembers(player, injector);
+            wiring.invokeActivators(player);
+
+            // Assert
+            var helper = player.getClass().getDeclaredField("helper");
+            helper.setAccessible(true);
+            Assertions.assertNotNull(helper.get(player));
+            Assertions.assertTrue(player.getClass().getField("activated").getBoolean(player));
+        }
+    }
+
+    @Test
+    void superclassMembersAreInjectedBeforeSubclassMembers() throws IOException, URISyntaxException {
+        // Arrange
+
+        // Act
+        compile();
+
+        // Assert
+        var wiring = Files.readString(classes.resolve("game/Player_YaegerWiring.java"));
+        Assertions.assertTrue(wiring.indexOf("setShape") < wiring.indexOf("instance.helper"));
+    }
+
+    @Test
+    void noWiringIsGeneratedForEntityWithPrivateInjectedMember() throws IOException, URISyntaxException {
+        // Arrange
+
+        // Act
+        var result = compile();
+
+        // Assert
+        Assertions.assertEquals(0, result);
+        Assertions.assertFalse(Files.exists(classes.resolve("game/Player_Enemy_YaegerWiring.java")));
+    }
+
+    private int compile() throws URISyntaxException {
+        var arguments = List.of(
+                "-implicit:class",
+                "-processor", EntityWiringProcessor.class.getName(),
+                "-classpath", getClasspath(),
+                "-d", classes.toString(),
+                "-s", classes.toString(),
+                sources.resolve("Player.java").toString());
+        return ToolProvider.getSystemJavaCompiler().run(null, null, null, arguments.toArray(new String[0]));
+    }
+
+    private String getClasspath() throws URISyntaxException {
+        var loader = getClass().getClassLoader();
+        if (!(loader instanceof URLClassLoader)) {
+            return System.getProperty("java.class.path");
+        }
+
+        var entries = new ArrayList<String>();
+        for (var url : ((URLClassLoader) loader).getURLs()) {
+            entries.add(Path.of(url.toURI()).toString());
+        }
+        return String.join(File.pathSeparator, entries);
+    }
+}
@@ -2,15 +2,23 @@ package com.github.hanyaeger.api.engine.entities;
 
 import com.github.hanyaeger.api.engine.Updatable;
 import com.github.hanyaeger.api.engine.annotations.AnnotationProcessor;
+import com.github.hanyaeger.api.engine.annotations.EntityWiring;
 import com.github.hanyaeger.api.engine.debug.Debugger;
+import com.github.hanyaeger.api.engine.entities.entity.Computable;
 import com.github.hanyaeger.api.engine.entities.entity.Coordinate2D;
+import com.github.hanyaeger.api.engine.entities.entity.Poolable;
+import com.github.hanyaeger.api.engine.entities.entity.Sleepable;
 import com.github.hanyaeger.api.engine.entities.entity.YaegerEntity;
+import com.github.hanyaeger.api.engine.entities.entity.events.system.RemoveEntityEvent;
 import com.github.hanyaeger.api.engine.entities.entity.events.userinput.KeyListener;
+import com.github.hanyaeger.api.engine.entities.entity.physics.Physical;
+import com.github.hanyaeger.api.engine.entities.entity.physics.PhysicsWorld;
 import com.google.inject.Injector;
 import javafx.collections.ObservableList;
 import javafx.scene.Node;
 import javafx.scene.input.KeyCode;
 import javafx.scene.layout.Pane;
+import javafx.scene.shape.Rectangle;
 import org.junit.jupiter.api.Assertions;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -71,7 +79,7 @@ class EntityCollectionTest {
     void suppliersEntitiesAreTransferredAtUpdate() {
         // Arrange
         var updatableEntity = mock(UpdatableEntity.class);
-        var node = mock(Node.class, withSettings().withoutAnnotations());
+        var node = new Rectangle();
         when(updatableEntity.getGameNode()).thenReturn(Optional.of(node));
 
         List<YaegerEntity> updatables = new ArrayList<>();
@@ -94,11 +102,43 @@ class EntityCollectionTest {
         verify(supplier).get();
     }
 
+    @Test
+    void entityWithGeneratedWiringIsInitializedWithoutReflection() {
+        // Arrange
+        var updatableEntity = mock(UpdatableEntity.class);
+        var node = new Rectangle();
+        when(updatableEntity.getGameNode()).thenReturn(Optional.of(node));
+
+        EntityWiring<Object> wiring = mock(EntityWiring.class);
+        when(annotationProcessor.getWiring(updatableEntity)).thenReturn(Optional.of(wiring));
+
+        var children = mock(ObservableList.class);
+        when(pane.getChildren()).thenReturn(children);
+
+        var entitySupplier = new EntitySupplier();
+        entitySupplier.add(updatableEntity);
+
+        sut = new EntityCollection(pane);
+        sut.setAnnotationProcessor(annotationProcessor);
+        sut.init(injector);
+        sut.registerSupplier(entitySupplier);
+
+        // Act
+        sut.initialUpdate();
+
+        // Assert
+        verify(wiring).injectMembers(updatableEntity, injector);
+        verify(updatableEntity).init(injector);
+        verify(wiring).invokeActivators(updatableEntity);
+        verify(injector, never()).injectMembers(updatableEntity);
+        verify(annotationProcessor, never()).invokeActivators(updatableEntity);
+    }
+
     @Test
     void keyListeningEntityGetsNotifiedWhenKeyInputChangeAndSetIsEmpty() {
         // Arrange
         var keyListeningEntity = mock(KeyListeningEntityImpl.class);
-        var node = mock(Node.class, withSettings().withoutAnnotations());
+        var node = new Rectangle();
         when(keyListeningEntity.getGameNode()).thenReturn(Optional.of(node));
 
         var children = mock(ObservableList.class);
@@ -125,7 +165,7 @@ class EntityCollectionTest {
     void keyListeningEntityGetsNotifiedWhenKeyInputChangeAndSetIsFilled() {
         // Arrange
         var keyListeningEntity = mock(KeyListeningEntityImpl.class);
-        var node = mock(Node.class, withSettings().withoutAnnotations());
+        var node = new Rectangle();
         when(keyListeningEntity.getGameNode()).thenReturn(Optional.of(node));
 
         var children = mock(ObservableList.class);
@@ -177,7 +217,7 @@ class EntityCollectionTest {
     void addToEntityCollectionIsCalledForEachEntity() {
         // Arrange
         var updatableEntity = mock(UpdatableEntity.class);
-        var node = mock(Node.class, withSettings().withoutAnnotations());
+        var node = new Rectangle();
         when(updatableEntity.getGameNode()).thenReturn(Optional.of(node));
 
         List<YaegerEntity> updatables = new ArrayList<>();
@@ -204,7 +244,7 @@ class EntityCollectionTest {
     void activateIsCalledForEachEntity() {
         // Arrange
         var updatableEntity = mock(UpdatableEntity.class);
-        var node = mock(Node.class, withSettings().withoutAnnotations());
+        var node = new Rectangle();
         when(updatableEntity.getGameNode()).thenReturn(Optional.of(node));
 
         List<YaegerEntity> updatables = new ArrayList<>();
@@ -231,7 +271,7 @@ class EntityCollectionTest {
     void entityIsPlacedOnScene() {
         // Arrange
         var updatableEntity = mock(UpdatableEntity.class);
-        var node = mock(Node.class, withSettings().withoutAnnotations());
+        var node = new Rectangle();
         when(updatableEntity.getGameNode()).thenReturn(Optional.of(node));
 
         List<YaegerEntity> updatables = new ArrayList<>();
@@ -254,6 +294,298 @@ class EntityCollectionTest {
         verify(updatableEntity).placeOnScene();
     }
 
+    @Test
+    void physicalEntityIsRegisteredWithPhysicsWorld() {
+        // Arrange
+        var physicalEntity = mock(PhysicalEntity.class);
+        var node = new Rectangle();
+        when(physicalEntity.getGameNode()).thenReturn(Optional.of(node));
+
+        List<YaegerEntity> entities = new ArrayList<>();
+        entities.add(physicalEntity);
+        var supplier = mock(EntitySupplier.class);
+        when(supplier.get()).thenReturn(entities, new ArrayList<>());
+
+        var children = mock(ObservableList.class);
+        when(pane.getChildren()).thenReturn(children);
+
+        var physicsWorld = mock(PhysicsWorld.class);
+
+        sut = new EntityCollection(pane);
+        sut.setAnnotationProcessor(annotationProcessor);
+        sut.setPhysicsWorld(physicsWorld);
+        sut.init(injector);
+
+        // Act
+        sut.registerSupplier(supplier);
+        sut.initialUpdate();
+        sut.update(0);
+
+        // Assert
+        verify(physicsWorld).register(physicalEntity);
+        verify(physicsWorld).update(0);
+    }
+
+    @Test
+    void sleepingEntityIsNotUpdated() {
+        // Arrange
+        var sleepingEntity = createSleepableUpdatableEntity();
+
+        // Act
+        sut.update(0);
+
+        // Assert
+        verify(sleepingEntity, never()).update(0);
+    }
+
+    @Test
+    void wokenEntityIsUpdatedAgain() {
+        // Arrange
+        var sleepingEntity = createSleepableUpdatableEntity();
+        sut.update(0);
+        when(sleepingEntity.isResting()).thenReturn(false);
+
+        // Act
+        sut.update(1);
+
+        // Assert
+        verify(sleepingEntity, never()).update(0);
+        verify(sleepingEntity).update(1);
+    }
+
+    private SleepableUpdatableEntity createSleepableUpdatableEntity() {
+        var sleepingEntity = mock(SleepableUpdatableEntity.class);
+        var node = new Rectangle();
+        when(sleepingEntity.getGameNode()).thenReturn(Optional.of(node));
+        when(sleepingEntity.isResting()).thenReturn(true);
+        when(sleepingEntity.getSleepThreshold()).thenReturn(1);
+
+        List<YaegerEntity> entities = new ArrayList<>();
+        entities.add(sleepingEntity);
+        var supplier = mock(EntitySupplier.class);
+        when(supplier.get()).thenReturn(entities, new ArrayList<>());
+
+        var children = mock(ObservableList.class);
+        when(pane.getChildren()).thenReturn(children);
+
+        sut = new EntityCollection(pane);
+        sut.setAnnotationProcessor(annotationProcessor);
+        sut.init(injector);
+        sut.registerSupplier(supplier);
+        sut.initialUpdate();
+        return sleepingEntity;
+    }
+
+    @Test
+    void computableEntityIsComputedBeforeItIsUpdated() {
+        // Arrange
+        var computableEntity = mock(ComputableUpdatableEntity.class);
+        var node = new Rectangle();
+        when(computableEntity.getGameNode()).thenReturn(Optional.of(node));
+
+        List<YaegerEntity> entities = new ArrayList<>();
+        entities.add(computableEntity);
+        var supplier = mock(EntitySupplier.class);
+        when(supplier.get()).thenReturn(entities, new ArrayList<>());
+
+        var children = mock(ObservableList.class);
+        when(pane.getChildren()).thenReturn(children);
+
+        sut = new EntityCollection(pane);
+        sut.setAnnotationProcessor(annotationProcessor);
+        sut.setParallelUpdates(true);
+        sut.init(injector);
+        sut.registerSupplier(supplier);
+        sut.initialUpdate();
+        sut.addDynamicEntity(computableEntity);
+
+        // Act
+        sut.update(0);
+
+        // Assert
+        var inOrder = inOrder(computableEntity);
+        inOrder.verify(computableEntity).compute(0);
+        inOrder.verify(computableEntity).update(0);
+    }
+
+    @Test
+    void removedEntitiesAreRemovedFromPaneInSingleChange() {
+        // Arrange
+        var removedEntity = mock(KeyListeningUpdatableEntity.class);
+        var removedNode = new Rectangle();
+        when(removedEntity.getGameNode()).thenReturn(Optional.of(removedNode));
+        var keptEntity = mock(KeyListeningUpdatableEntity.class);
+        var keptNode = new Rectangle();
+        when(keptEntity.getGameNode()).thenReturn(Optional.of(keptNode));
+
+        List<YaegerEntity> entities = new ArrayList<>();
+        entities.add(removedEntity);
+        entities.add(keptEntity);
+        var supplier = mock(EntitySupplier.class);
+        when(supplier.get()).thenReturn(entities, new ArrayList<>());
+
+        var children = mock(ObservableList.class);
+        when(pane.getChildren()).thenReturn(children);
+        var removedNodes = new ArrayList<Node>();
+        when(children.removeAll(anyCollection())).thenAnswer(invocation -> removedNodes.addAll(invocation.getArgument(0)));
+
+        sut = new EntityCollection(pane);
+        sut.setAnnotationProcessor(annotationProcessor);
+        sut.init(injector);
+        sut.registerSupplier(supplier);
+        sut.initialUpdate();
+        sut.addDynamicEntity(removedEntity);
+        sut.addDynamicEntity(keptEntity);
+        var keycodes = Set.of(KeyCode.SPACE);
+
+        // Act
+        removedNode.fireEvent(new RemoveEntityEvent(removedEntity));
+        sut.update(1);
+        sut.notifyGameObjectsOfPressedKeys(keycodes);
+
+        // Assert
+        verify(children).removeAll(anyCollection());
+        Assertions.assertEquals(List.of(removedNode), removedNodes);
+        verify(children, never()).remove(any());
+        verify(removedEntity, never()).update(1);
+        verify(removedEntity, never()).onPressedKeysChange(keycodes);
+        verify(keptEntity).update(1);
+        verify(keptEntity).onPressedKeysChange(keycodes);
+        Assertions.assertEquals(1, sut.getStatistics().getUpdatables());
+        Assertions.assertEquals(1, sut.getStatistics().getKeyListeners());
+    }
+
+    @Test
+    void suppliedEntitiesAreAddedToPaneInSingleChange() {
+        // Arrange
+        var first = mock(UpdatableEntity.class);
+        var firstNode = new Rectangle();
+        when(first.getGameNode()).thenReturn(Optional.of(firstNode));
+        var second = mock(UpdatableEntity.class);
+        var secondNode = new Rectangle();
+        when(second.getGameNode()).thenReturn(Optional.of(secondNode));
+
+        List<YaegerEntity> entities = new ArrayList<>();
+        entities.add(first);
+        entities.add(second);
+        var supplier = mock(EntitySupplier.class);
+        when(supplier.get()).thenReturn(entities, new ArrayList<>());
+
+        var children = mock(ObservableList.class);
+        when(pane.getChildren()).thenReturn(children);
+        var addedNodes = new ArrayList<Node>();
+        when(children.addAll(anyCollection())).thenAnswer(invocation -> addedNodes.addAll(invocation.getArgument(0)));
+
+        sut = new EntityCollection(pane);
+        sut.setAnnotationProcessor(annotationProcessor);
+        sut.init(injector);
+        sut.registerSupplier(supplier);
+
+        // Act
+        sut.update(0);
+        var spawnedInFirstUpdate = sut.getStatistics().getSpawned();
+        sut.update(1);
+
+        // Assert
+        verify(children).addAll(anyCollection());
+        verify(children, never()).add(any());
+        Assertions.assertEquals(List.of(firstNode, secondNode), addedNodes);
+        Assertions.assertEquals(2, spawnedInFirstUpdate);
+        Assertions.assertEquals(0, sut.getStatistics().getSpawned());
+        var inOrder = inOrder(children, first);
+        inOrder.verify(children).addAll(anyCollection());
+        inOrder.verify(first).activate();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void removedPoolableEntityIsReusedWithoutInitialization() {
+        // Arrange
+        var entity = mock(PoolableUpdatableEntity.class);
+        var type = (Class<PoolableUpdatableEntity>) entity.getClass();
+        var node = new Rectangle();
+        when(entity.getGameNode()).thenReturn(Optional.of(node));
+        when(entity.getInitialLocation()).thenCallRealMethod();
+        doAnswer(invocation -> {
+            invocation.<EntityCollection>getArgument(0).addDynamicEntity(entity);
+            return null;
+        }).when(entity).addToEntityCollection(any());
+
+        var supplier = new EntitySupplier();
+        supplier.add(entity);
+
+        var children = mock(ObservableList.class);
+        when(pane.getChildren()).thenReturn(children);
+
+        sut = new EntityCollection(pane);
+        sut.setAnnotationProcessor(annotationProcessor);
+        sut.init(injector);
+        sut.registerSupplier(supplier);
+        sut.update(0);
+        node.fireEvent(new RemoveEntityEvent(entity));
+        sut.update(1);
+        var pooled = sut.getStatistics().getPooled();
+
+        // Act
+        var reused = sut.getEntityPool().obtain(type, new Coordinate2D(37, 42), location -> null);
+        supplier.add(reused);
+        sut.update(2);
+        sut.update(3);
+
+        // Assert
+        Assertions.assertSame(entity, reused);
+        Assertions.assertEquals(new Coordinate2D(37, 42), entity.getInitialLocation());
+        Assertions.assertEquals(1, pooled);
+        Assertions.assertEquals(0, sut.getStatistics().getPooled());
+        Assertions.assertEquals(1, sut.getStatistics().getUpdatables());
+        verify(injector).injectMembers(entity);
+        verify(entity).init(injector);
+        verify(entity).addToEntityCollection(sut);
+        verify(annotationProcessor).configureUpdateDelegators(entity);
+        verify(entity).reset();
+        verify(entity).setVisible(true);
+        verify(entity).update(3);
+    }
+
+    private abstract class PoolableUpdatableEntity extends UpdatableEntity implements Poolable {
+
+        public PoolableUpdatableEntity(Coordinate2D initialPosition) {
+            super(initialPosition);
+        }
+
+        Coordinate2D getInitialLocation() {
+            return new Coordinate2D(x, y);
+        }
+    }
+
+    private abstract class KeyListeningUpdatableEntity extends UpdatableEntity implements KeyListener {
+
+        public KeyListeningUpdatableEntity(Coordinate2D initialPosition) {
+            super(initialPosition);
+        }
+    }
+
+    private abstract class ComputableUpdatableEntity extends UpdatableEntity implements Computable {
+
+        public ComputableUpdatableEntity(Coordinate2D initialPosition) {
+            super(initialPosition);
+        }
+    }
+
+    private abstract class SleepableUpdatableEntity extends UpdatableEntity implements Sleepable {
+
+        public SleepableUpdatableEntity(Coordinate2D initialPosition) {
+            super(initialPosition);
+        }
+    }
+
+    private abstract class PhysicalEntity extends YaegerEntity implements Physical {
+
+        public PhysicalEntity(Coordinate2D initialPosition) {
+            super(initialPosition);
+        }
+    }
+
     private abstract class UpdatableEntity extends YaegerEntity implements Updatable {
 
         /**
@@ -0,0 +1,157 @@
+package com.github.hanyaeger.api.engine.entities;
+
+import com.github.hanyaeger.api.engine.entities.entity.Coordinate2D;
+import com.github.hanyaeger.api.engine.entities.entity.Poolable;
+import com.github.hanyaeger.api.engine.entities.entity.YaegerEntity;
+import javafx.scene.Node;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EntityPoolTest {
+
+    private static final Coordinate2D LOCATION = new Coordinate2D(37, 42);
+
+    private EntityPool sut;
+
+    @BeforeEach
+    void setup() {
+        sut = new EntityPool();
+    }
+
+    @Test
+    void obtainCreatesNewInstanceIfPoolIsEmpty() {
+        // Arrange
+
+        // Act
+        var entity = sut.obtain(PoolableEntity.class, LOCATION, PoolableEntity::new);
+
+        // Assert
+        assertEquals(LOCATION.getX(), entity.getX());
+        assertEquals(0, entity.resets);
+        assertFalse(sut.reuse(entity));
+    }
+
+    @Test
+    void releasedInstanceIsReusedAtNewLocation() {
+        // Arrange
+        var released = new PoolableEntity(new Coordinate2D(0, 0));
+        sut.release(released);
+
+        // Act
+        var entity = sut.obtain(PoolableEntity.class, LOCATION, PoolableEntity::new);
+
+        // Assert
+        assertSame(released, entity);
+        assertEquals(LOCATION.getX(), entity.getX());
+        assertEquals(LOCATION.getY(), entity.getY());
+        assertEquals(1, entity.resets);
+        assertEquals(0, sut.size());
+        assertTrue(sut.reuse(entity));
+        assertFalse(sut.reuse(entity));
+    }
+
+    @Test
+    void instanceIsOnlyReusedForItsOwnClass() {
+        // Arrange
+        sut.release(new PoolableEntity(new Coordinate2D(0, 0)));
+
+        // Act
+        var entity = sut.obtain(OtherPoolableEntity.class, LOCATION, OtherPoolableEntity::new);
+
+        // Assert
+        assertEquals(0, entity.resets);
+        assertEquals(1, sut.size());
+    }
+
+    @Test
+    void instanceThatIsReleasedTwiceIsPooledOnce() {
+        // Arrange
+        var released = new PoolableEntity(new Coordinate2D(0, 0));
+
+        // Act
+        sut.release(released);
+        sut.release(released);
+
+        // Assert
+        assertEquals(1, sut.size());
+    }
+
+    @Test
+    void instanceThatIsNotPoolableIsNotPooled() {
+        // Arrange
+        var entity = new PlainEntity(new Coordinate2D(0, 0));
+
+        // Act
+        sut.release(entity);
+
+        // Assert
+        assertEquals(0, sut.size());
+    }
+
+    @Test
+    void clearEmptiesPool() {
+        // Arrange
+        sut.release(new PoolableEntity(new Coordinate2D(0, 0)));
+
+        // Act
+        sut.clear();
+        var entity = sut.obtain(PoolableEntity.class, LOCATION, PoolableEntity::new);
+
+        // Assert
+        assertEquals(0, sut.size());
+        assertEquals(0, entity.resets);
+    }
+
+    private static class PlainEntity extends YaegerEntity {
+
+        PlainEntity(final Coordinate2D location) {
+            super(location);
+        }
+
+        double getX() {
+            return x;
+        }
+
+        double getY() {
+            return y;
+        }
+
+        @Override
+        public void setReferenceX(final double x) {
+        }
+
+        @Override
+        public void setReferenceY(final double y) {
+        }
+
+        @Override
+        public Optional<Node> getGameNode() {
+            return Optional.empty();
+        }
+    }
+
+    private static class PoolableEntity extends PlainEntity implements Poolable {
+
+        int resets;
+
+        PoolableEntity(final Coordinate2D location) {
+            super(location);
+        }
+
+        @Override
+        public void reset() {
+            resets++;
+        }
+    }
+
+    private static class OtherPoolableEntity extends PoolableEntity {
+
+        OtherPoolableEntity(final Coordinate2D location) {
+            super(location);
+        }
+    }
+}
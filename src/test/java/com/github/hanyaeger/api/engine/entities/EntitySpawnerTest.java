@@ -1,10 +1,14 @@
 package com.github.hanyaeger.api.engine.entities;
 
+import com.github.hanyaeger.api.engine.entities.entity.Coordinate2D;
+import com.github.hanyaeger.api.engine.entities.entity.Poolable;
 import com.github.hanyaeger.api.engine.entities.entity.YaegerEntity;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.function.Function;
+
 import static org.mockito.Mockito.*;
 
 class EntitySpawnerTest {
@@ -58,6 +62,42 @@ class EntitySpawnerTest {
         verify(supplier).add(entity);
     }
 
+    @Test
+    void obtainCreatesNewInstanceWithoutEntityPool() {
+        // Arrange
+        var entity = mock(PoolableEntity.class);
+        var location = new Coordinate2D(37, 42);
+
+        // Act
+        var actual = sut.obtain(PoolableEntity.class, location, initialLocation -> entity);
+
+        // Assert
+        Assertions.assertSame(entity, actual);
+    }
+
+    @Test
+    void obtainDelegatesToEntityPool() {
+        // Arrange
+        var entityPool = mock(EntityPool.class);
+        sut.setEntityPool(entityPool);
+        var entity = mock(PoolableEntity.class);
+        var location = new Coordinate2D(37, 42);
+        when(entityPool.obtain(eq(PoolableEntity.class), eq(location), any())).thenReturn(entity);
+
+        // Act
+        var actual = sut.obtain(PoolableEntity.class, location, initialLocation -> null);
+
+        // Assert
+        Assertions.assertSame(entity, actual);
+    }
+
+    private abstract static class PoolableEntity extends YaegerEntity implements Poolable {
+
+        PoolableEntity(final Coordinate2D initialLocation) {
+            super(initialLocation);
+        }
+    }
+
     private class EntitySpawnerImpl extends EntitySpawner {
 
         private boolean updateCalled = false;
@@ -85,5 +125,10 @@ class EntitySpawnerTest {
         public void spawn(YaegerEntity entity) {
             super.spawn(entity);
         }
+
+        @Override
+        public <T extends YaegerEntity & Poolable> T obtain(Class<T> type, Coordinate2D location, Function<Coordinate2D, T> factory) {
+            return super.obtain(type, location, factory);
+        }
     }
 }
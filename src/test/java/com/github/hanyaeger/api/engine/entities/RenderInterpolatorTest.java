@@ -0,0 +1,160 @@
+package com.github.hanyaeger.api.engine.entities;
+
+import com.github.hanyaeger.api.engine.entities.entity.Coordinate2D;
+import com.github.hanyaeger.api.engine.entities.entity.YaegerEntity;
+import com.github.hanyaeger.api.engine.entities.entity.motion.DefaultMotionApplier;
+import com.github.hanyaeger.api.engine.entities.entity.motion.MotionApplier;
+import com.github.hanyaeger.api.engine.entities.entity.motion.Moveable;
+import javafx.scene.Node;
+import javafx.scene.shape.Rectangle;
+import javafx.scene.transform.Translate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RenderInterpolatorTest {
+
+    private RenderInterpolator sut;
+
+    @BeforeEach
+    void setup() {
+        sut = new RenderInterpolator();
+    }
+
+    @Test
+    void onlyMoveableEntitiesAreRegistered() {
+        // Arrange
+        var moveable = new MoveableEntity();
+        var other = new StaticEntity();
+
+        // Act
+        sut.register(moveable);
+        sut.register(other);
+
+        // Assert
+        assertEquals(1, sut.size());
+        assertEquals(1, moveable.getRectangle().getTransforms().size());
+        assertTrue(other.getRectangle().getTransforms().isEmpty());
+    }
+
+    @Test
+    void entityIsDrawnBetweenLastTwoLocations() {
+        // Arrange
+        var entity = new MoveableEntity();
+        sut.register(entity);
+        sut.capture();
+        entity.setReferenceX(10);
+
+        // Act
+        sut.interpolate(0.25);
+
+        // Assert
+        assertEquals(2.5, entity.getRectangle().getBoundsInParent().getMinX(), 1e-9);
+    }
+
+    @Test
+    void repeatedInterpolationWithoutTickUsesSameLocations() {
+        // Arrange
+        var entity = new MoveableEntity();
+        sut.register(entity);
+        sut.capture();
+        entity.setReferenceX(10);
+        sut.interpolate(0.25);
+
+        // Act
+        sut.interpolate(0.5);
+
+        // Assert
+        assertEquals(5, entity.getRectangle().getBoundsInParent().getMinX(), 1e-9);
+    }
+
+    @Test
+    void rotatedEntityIsOffsetInParentCoordinates() {
+        // Arrange
+        var entity = new MoveableEntity();
+        entity.getRectangle().setRotate(90);
+        sut.register(entity);
+        sut.capture();
+        entity.setReferenceX(10);
+
+        // Act
+        sut.interpolate(0.5);
+
+        // Assert
+        assertEquals(5, entity.getRectangle().getBoundsInParent().getMinX(), 1e-9);
+        assertEquals(0, entity.getRectangle().getBoundsInParent().getMinY(), 1e-9);
+    }
+
+    @Test
+    void captureResetsOffset() {
+        // Arrange
+        var entity = new MoveableEntity();
+        sut.register(entity);
+        sut.capture();
+        entity.setReferenceX(10);
+        sut.interpolate(0);
+
+        // Act
+        sut.capture();
+
+        // Assert
+        assertEquals(10, entity.getRectangle().getBoundsInParent().getMinX(), 1e-9);
+    }
+
+    @Test
+    void removedEntityLosesOffset() {
+        // Arrange
+        var entity = new MoveableEntity();
+        sut.register(entity);
+
+        // Act
+        sut.remove(entity);
+
+        // Assert
+        assertEquals(0, sut.size());
+        assertTrue(entity.getRectangle().getTransforms().stream().noneMatch(Translate.class::isInstance));
+    }
+
+    private static class StaticEntity extends YaegerEntity {
+
+        private final Rectangle rectangle = new Rectangle(0, 0, 20, 20);
+
+        StaticEntity() {
+            super(new Coordinate2D(0, 0));
+        }
+
+        Rectangle getRectangle() {
+            return rectangle;
+        }
+
+        @Override
+        public void setReferenceX(final double x) {
+            rectangle.setX(x);
+        }
+
+        @Override
+        public void setReferenceY(final double y) {
+            rectangle.setY(y);
+        }
+
+        @Override
+        public Optional<Node> getGameNode() {
+            return Optional.of(rectangle);
+        }
+    }
+
+    private static class MoveableEntity extends StaticEntity implements Moveable {
+
+        @Override
+        public void setMotionApplier(final DefaultMotionApplier motionApplier) {
+        }
+
+        @Override
+        public MotionApplier getMotionApplier() {
+            return null;
+        }
+    }
+}
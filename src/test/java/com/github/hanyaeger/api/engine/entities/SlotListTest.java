@@ -0,0 +1,118 @@
+package com.github.hanyaeger.api.engine.entities;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SlotListTest {
+
+    private SlotList<String> sut;
+
+    @BeforeEach
+    void setup() {
+        sut = new SlotList<>();
+    }
+
+    @Test
+    void elementsAreIteratedInOrderOfAddition() {
+        // Arrange
+        sut.add("a");
+        sut.add("b");
+        sut.add("c");
+        var result = new ArrayList<String>();
+
+        // Act
+        sut.forEach(result::add);
+
+        // Assert
+        assertEquals(List.of("a", "b", "c"), result);
+    }
+
+    @Test
+    void elementIsOnlyAddedOnce() {
+        // Arrange
+        var element = "a";
+        sut.add(element);
+
+        // Act
+        var added = sut.add(element);
+
+        // Assert
+        assertFalse(added);
+        assertEquals(1, sut.size());
+    }
+
+    @Test
+    void removedElementIsReplacedByLastElement() {
+        // Arrange
+        sut.add("a");
+        sut.add("b");
+        sut.add("c");
+
+        // Act
+        var removed = sut.remove("a");
+
+        // Assert
+        assertTrue(removed);
+        assertEquals(2, sut.size());
+        assertEquals("c", sut.get(0));
+        assertEquals("b", sut.get(1));
+        assertFalse(sut.contains("a"));
+    }
+
+    @Test
+    void removingAbsentElementHasNoEffect() {
+        // Arrange
+        sut.add("a");
+
+        // Act
+        var removed = sut.remove("b");
+
+        // Assert
+        assertFalse(removed);
+        assertEquals(1, sut.size());
+    }
+
+    @Test
+    void manyElementsCanBeAddedAndRemoved() {
+        // Arrange
+        var elements = new ArrayList<String>();
+        for (var i = 0; i < 1000; i++) {
+            var element = "element" + i;
+            elements.add(element);
+            sut.add(element);
+        }
+
+        // Act
+        for (var i = 0; i < 1000; i += 2) {
+            sut.remove(elements.get(i));
+        }
+
+        // Assert
+        assertEquals(500, sut.size());
+        for (var i = 0; i < 1000; i++) {
+            assertEquals(i % 2 == 1, sut.contains(elements.get(i)));
+        }
+        for (var i = 0; i < sut.size(); i++) {
+            assertTrue(sut.contains(sut.get(i)));
+        }
+    }
+
+    @Test
+    void clearRemovesAllElements() {
+        // Arrange
+        sut.add("a");
+        sut.add("b");
+
+        // Act
+        sut.clear();
+
+        // Assert
+        assertEquals(0, sut.size());
+        assertFalse(sut.contains("a"));
+    }
+}
@@ -0,0 +1,316 @@
+package com.github.hanyaeger.api.engine.entities;
+
+import com.github.hanyaeger.api.engine.entities.entity.Coordinate2D;
+import com.github.hanyaeger.api.engine.entities.entity.YaegerEntity;
+import com.github.hanyaeger.api.engine.exceptions.YaegerEngineException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class SpatialIndexTest {
+
+    private SpatialIndex sut;
+
+    @BeforeEach
+    void setup() {
+        sut = new SpatialIndex(100);
+    }
+
+    @Test
+    void cellSizeShouldBeLargerThanZero() {
+        // Arrange
+
+        // Act & Assert
+        assertThrows(YaegerEngineException.class, () -> new SpatialIndex(0));
+    }
+
+    @Test
+    void queryRegionReturnsIntersectingEntitiesOfType() {
+        // Arrange
+        var inside = createEntity(Enemy.class, 10, 10, 20, 20);
+        var overlapping = createEntity(Enemy.class, 140, 140, 300, 300);
+        var outside = createEntity(Enemy.class, 400, 400, 410, 410);
+        var otherType = createEntity(Pickup.class, 50, 50, 60, 60);
+        var result = new ArrayList<Enemy>();
+
+        // Act
+        sut.queryRegion(0, 0, 150, 150, Enemy.class, result);
+
+        // Assert
+        assertEquals(2, result.size());
+        assertTrue(result.contains(inside));
+        assertTrue(result.contains(overlapping));
+        assertFalse(result.contains(outside));
+        assertFalse(result.contains(otherType));
+    }
+
+    @Test
+    void entitySpanningManyCellsIsReturnedOnce() {
+        // Arrange
+        var large = createEntity(Enemy.class, 0, 0, 1000, 1000);
+        var result = new ArrayList<Enemy>();
+
+        // Act
+        sut.queryRegion(0, 0, 1000, 1000, Enemy.class, result);
+
+        // Assert
+        assertEquals(List.of(large), result);
+    }
+
+    @Test
+    void queryRadiusUsesDistanceToBounds() {
+        // Arrange
+        var near = createEntity(Enemy.class, 150, 0, 160, 10);
+        createEntity(Enemy.class, 45, 45, 55, 55);
+        var aroundOrigin = new ArrayList<YaegerEntity>();
+        var aroundNear = new ArrayList<YaegerEntity>();
+
+        // Act
+        sut.queryRadius(0, 0, 60, YaegerEntity.class, aroundOrigin);
+        sut.queryRadius(100, 0, 50, YaegerEntity.class, aroundNear);
+
+        // Assert
+        assertTrue(aroundOrigin.isEmpty());
+        assertEquals(List.of(near), aroundNear);
+    }
+
+    @Test
+    void nearestReturnsClosestEntityOfType() {
+        // Arrange
+        var self = createEntity(Enemy.class, 0, 0, 10, 10);
+        var closePickup = createEntity(Pickup.class, 20, 0, 30, 10);
+        var farPickup = createEntity(Pickup.class, 500, 500, 510, 510);
+        var enemy = createEntity(Enemy.class, 300, 0, 310, 10);
+
+        // Act
+        var nearestPickup = sut.nearest(5, 5, Double.POSITIVE_INFINITY, Pickup.class, self);
+        var nearestEnemy = sut.nearest(5, 5, Double.POSITIVE_INFINITY, Enemy.class, self);
+
+        // Assert
+        assertSame(closePickup, nearestPickup);
+        assertSame(enemy, nearestEnemy);
+        assertNotNull(farPickup);
+    }
+
+    @Test
+    void nearestReturnsNullBeyondMaxDistance() {
+        // Arrange
+        createEntity(Pickup.class, 500, 500, 510, 510);
+
+        // Act
+        var nearest = sut.nearest(0, 0, 200, Pickup.class, null);
+
+        // Assert
+        assertNull(nearest);
+    }
+
+    @Test
+    void raycastReturnsFirstEntityHit() {
+        // Arrange
+        var shooter = createEntity(Enemy.class, 0, 0, 10, 10);
+        var wall = createEntity(Wall.class, 200, -50, 210, 50);
+        var farWall = createEntity(Wall.class, 400, -50, 410, 50);
+        createEntity(Wall.class, 100, 100, 110, 110);
+
+        // Act
+        var hit = sut.raycast(5, 5, 1000, 5, Wall.class, shooter);
+
+        // Assert
+        assertSame(wall, hit);
+        assertNotNull(farWall);
+    }
+
+    @Test
+    void raycastStopsAtEndOfSegment() {
+        // Arrange
+        createEntity(Wall.class, 200, -50, 210, 50);
+
+        // Act
+        var hit = sut.raycast(5, 5, 150, 5, Wall.class, null);
+
+        // Assert
+        assertNull(hit);
+    }
+
+    @Test
+    void raycastInNegativeDirectionReturnsFirstEntityHit() {
+        // Arrange
+        var near = createEntity(Wall.class, -120, -220, -100, -200);
+        createEntity(Wall.class, -320, -420, -300, -400);
+
+        // Act
+        var hit = sut.raycast(0, 0, -500, -1000, Wall.class, null);
+
+        // Assert
+        assertSame(near, hit);
+    }
+
+    @Test
+    void removedEntityIsNoLongerReturned() {
+        // Arrange
+        var entity = createEntity(Enemy.class, 10, 10, 20, 20);
+        var result = new ArrayList<Enemy>();
+
+        // Act
+        sut.remove(entity);
+        sut.queryRegion(0, 0, 100, 100, Enemy.class, result);
+
+        // Assert
+        assertTrue(result.isEmpty());
+        assertEquals(0, sut.size());
+        assertNull(sut.nearest(0, 0, Double.POSITIVE_INFINITY, Enemy.class, null));
+    }
+
+    @Test
+    void movedEntityIsRelocatedAfterUpdate() {
+        // Arrange
+        var entity = createEntity(Enemy.class, 10, 10, 20, 20);
+        moveEntity(entity, 510, 510, 520, 520);
+        var before = new ArrayList<Enemy>();
+        var after = new ArrayList<Enemy>();
+
+        // Act
+        sut.queryRegion(500, 500, 600, 600, Enemy.class, before);
+        sut.update();
+        sut.queryRegion(500, 500, 600, 600, Enemy.class, after);
+
+        // Assert
+        assertTrue(before.isEmpty());
+        assertEquals(List.of(entity), after);
+    }
+
+    @Test
+    void updateDoesNotRelocateEntityWithinSameCells() {
+        // Arrange
+        var entity = createEntity(Enemy.class, 10, 10, 20, 20);
+        moveEntity(entity, 30, 30, 40, 40);
+        var result = new ArrayList<Enemy>();
+
+        // Act
+        sut.update();
+        sut.queryRegion(0, 0, 25, 25, Enemy.class, result);
+
+        // Assert
+        assertTrue(result.isEmpty());
+    }
+
+    @Test
+    void queriesMatchBruteForceForRandomEntities() {
+        // Arrange
+        var random = new Random(42);
+        var entities = new ArrayList<Enemy>();
+        for (var i = 0; i < 200; i++) {
+            var x = random.nextDouble() * 2000 - 1000;
+            var y = random.nextDouble() * 2000 - 1000;
+            entities.add(createEntity(Enemy.class, x, y, x + random.nextDouble() * 150, y + random.nextDouble() * 150));
+        }
+        for (var i = 0; i < 50; i++) {
+            var x = random.nextDouble() * 2000 - 1000;
+            var y = random.nextDouble() * 2000 - 1000;
+            moveEntity(entities.get(i), x, y, x + 10, y + 10);
+        }
+        var removed = entities.subList(50, 60);
+        removed.forEach(sut::remove);
+        var present = new ArrayList<>(entities);
+        present.removeAll(removed);
+        sut.update();
+
+        for (var query = 0; query < 50; query++) {
+            var x = random.nextDouble() * 2000 - 1000;
+            var y = random.nextDouble() * 2000 - 1000;
+            var radius = random.nextDouble() * 300;
+            var result = new ArrayList<Enemy>();
+
+            // Act
+            sut.queryRadius(x, y, radius, Enemy.class, result);
+            var nearest = sut.nearest(x, y, Double.POSITIVE_INFINITY, Enemy.class, null);
+
+            // Assert
+            var expected = new HashSet<Enemy>();
+            var closestDistance = Double.POSITIVE_INFINITY;
+            for (var entity : present) {
+                var distance = distance(entity, x, y);
+                closestDistance = Math.min(closestDistance, distance);
+                if (distance <= radius) {
+                    expected.add(entity);
+                }
+            }
+            assertEquals(expected, new HashSet<>(result));
+            assertEquals(expected.size(), result.size());
+            assertEquals(closestDistance, distance(nearest, x, y), 1e-9);
+        }
+    }
+
+    @Test
+    void concurrentQueriesReturnEachEntityOnce() {
+        // Arrange
+        var entities = new ArrayList<Enemy>();
+        for (var i = 0; i < 100; i++) {
+            entities.add(createEntity(Enemy.class, i * 20, 0, i * 20 + 250, 250));
+        }
+
+        // Act
+        var results = IntStream.range(0, 1000).parallel()
+                .mapToObj(query -> {
+                    var result = new ArrayList<Enemy>();
+                    sut.queryRegion(0, 0, 2500, 300, Enemy.class, result);
+                    return result;
+                })
+                .collect(Collectors.toList());
+
+        // Assert
+        for (var result : results) {
+            assertEquals(entities.size(), result.size());
+            assertEquals(new HashSet<>(entities), new HashSet<>(result));
+        }
+    }
+
+    private <T extends YaegerEntity> T createEntity(final Class<T> type, final double minX, final double minY,
+                                                   final double maxX, final double maxY) {
+        var entity = mock(type);
+        moveEntity(entity, minX, minY, maxX, maxY);
+        sut.add(entity);
+        return entity;
+    }
+
+    private void moveEntity(final YaegerEntity entity, final double minX, final double minY,
+                            final double maxX, final double maxY) {
+        when(entity.getTransformedMinX()).thenReturn(minX);
+        when(entity.getTransformedMinY()).thenReturn(minY);
+        when(entity.getTransformedMaxX()).thenReturn(maxX);
+        when(entity.getTransformedMaxY()).thenReturn(maxY);
+    }
+
+    private double distance(final YaegerEntity entity, final double x, final double y) {
+        var dx = Math.max(Math.max(entity.getTransformedMinX() - x, 0), x - entity.getTransformedMaxX());
+        var dy = Math.max(Math.max(entity.getTransformedMinY() - y, 0), y - entity.getTransformedMaxY());
+        return Math.sqrt(dx * dx + dy * dy);
+    }
+
+    private abstract static class Enemy extends YaegerEntity {
+        Enemy() {
+            super(new Coordinate2D(0, 0));
+        }
+    }
+
+    private abstract static class Pickup extends YaegerEntity {
+        Pickup() {
+            super(new Coordinate2D(0, 0));
+        }
+    }
+
+    private abstract static class Wall extends YaegerEntity {
+        Wall() {
+            super(new Coordinate2D(0, 0));
+        }
+    }
+}
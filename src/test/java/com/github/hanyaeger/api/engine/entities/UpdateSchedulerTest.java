@@ -0,0 +1,129 @@
+package com.github.hanyaeger.api.engine.entities;
+
+import com.github.hanyaeger.api.engine.entities.entity.Computable;
+import com.github.hanyaeger.api.engine.entities.entity.Coordinate2D;
+import com.github.hanyaeger.api.engine.entities.entity.YaegerEntity;
+import javafx.scene.Node;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UpdateSchedulerTest {
+
+    private static final long TIMESTAMP = 37L;
+
+    private UpdateScheduler sut;
+
+    @BeforeEach
+    void setup() {
+        sut = new UpdateScheduler();
+    }
+
+    @Test
+    void entityThatIsNotComputableIsIgnored() {
+        // Arrange
+        var entity = new PlainEntity();
+
+        // Act
+        sut.register(entity);
+
+        // Assert
+        assertEquals(0, sut.size());
+    }
+
+    @Test
+    void computeIsCalledOnCallingThreadByDefault() {
+        // Arrange
+        var entity = new ComputableEntity();
+        sut.register(entity);
+
+        // Act
+        sut.compute(TIMESTAMP);
+
+        // Assert
+        assertFalse(sut.isParallel());
+        assertEquals(TIMESTAMP, entity.computedAt);
+        assertEquals(Set.of(Thread.currentThread()), entity.threads);
+    }
+
+    @Test
+    void computeIsCalledOnAllComputablesInParallel() {
+        // Arrange
+        var pool = new ForkJoinPool(4);
+        sut.setPool(pool);
+        var entities = new ArrayList<ComputableEntity>();
+        for (var i = 0; i < 1000; i++) {
+            var entity = new ComputableEntity();
+            entities.add(entity);
+            sut.register(entity);
+        }
+
+        // Act
+        sut.compute(TIMESTAMP);
+
+        // Assert
+        assertTrue(sut.isParallel());
+        entities.forEach(entity -> assertEquals(TIMESTAMP, entity.computedAt));
+        entities.forEach(entity -> assertEquals(1, entity.computations));
+        pool.shutdown();
+    }
+
+    @Test
+    void removedComputableIsNoLongerComputed() {
+        // Arrange
+        var removed = new ComputableEntity();
+        var kept = new ComputableEntity();
+        sut.register(removed);
+        sut.register(kept);
+
+        // Act
+        sut.remove(removed);
+        sut.compute(TIMESTAMP);
+
+        // Assert
+        assertEquals(1, sut.size());
+        assertEquals(0, removed.computations);
+        assertEquals(1, kept.computations);
+    }
+
+    private static class PlainEntity extends YaegerEntity {
+
+        PlainEntity() {
+            super(new Coordinate2D(0, 0));
+        }
+
+        @Override
+        public void setReferenceX(final double x) {
+        }
+
+        @Override
+        public void setReferenceY(final double y) {
+        }
+
+        @Override
+        public Optional<Node> getGameNode() {
+            return Optional.empty();
+        }
+    }
+
+    private static class ComputableEntity extends PlainEntity implements Computable {
+
+        final Set<Thread> threads = ConcurrentHashMap.newKeySet();
+        long computedAt;
+        int computations;
+
+        @Override
+        public void compute(final long timestamp) {
+            threads.add(Thread.currentThread());
+            computedAt = timestamp;
+            computations++;
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package com.github.hanyaeger.api.engine.entities.entity;
+
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.geometry.BoundingBox;
+import javafx.geometry.Bounds;
+import javafx.scene.Node;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class BoundsCacheTest {
+
+    private BoundsCache sut;
+
+    @BeforeEach
+    void setup() {
+        sut = new BoundsCache();
+    }
+
+    @Test
+    void registeredNodeBoundsAreReturned() {
+        // Arrange
+        var bounds = new SimpleObjectProperty<Bounds>(new BoundingBox(10, 20, 30, 40));
+        var node = createNode(bounds);
+
+        // Act
+        var slot = sut.register(node);
+
+        // Assert
+        assertEquals(10, sut.getMinX(slot));
+        assertEquals(20, sut.getMinY(slot));
+        assertEquals(40, sut.getMaxX(slot));
+        assertEquals(60, sut.getMaxY(slot));
+    }
+
+    @Test
+    void unchangedNodeIsReadOnlyOnce() {
+        // Arrange
+        var bounds = new SimpleObjectProperty<Bounds>(new BoundingBox(10, 20, 30, 40));
+        var node = createNode(bounds);
+        var slot = sut.register(node);
+
+        // Act
+        sut.refresh();
+        sut.refresh();
+        sut.getMinX(slot);
+        sut.getMaxY(slot);
+
+        // Assert
+        verify(node, times(1)).getBoundsInParent();
+    }
+
+    @Test
+    void changedNodeIsReadAgain() {
+        // Arrange
+        var bounds = new SimpleObjectProperty<Bounds>(new BoundingBox(10, 20, 30, 40));
+        var node = createNode(bounds);
+        var slot = sut.register(node);
+        sut.refresh();
+
+        // Act
+        bounds.set(new BoundingBox(100, 200, 30, 40));
+
+        // Assert
+        assertEquals(100, sut.getMinX(slot));
+        assertEquals(240, sut.getMaxY(slot));
+    }
+
+    @Test
+    void refreshOnlyReadsChangedNodes() {
+        // Arrange
+        var changedBounds = new SimpleObjectProperty<Bounds>(new BoundingBox(10, 20, 30, 40));
+        var unchangedBounds = new SimpleObjectProperty<Bounds>(new BoundingBox(1, 2, 3, 4));
+        var changedNode = createNode(changedBounds);
+        var unchangedNode = createNode(unchangedBounds);
+        var slot = sut.register(changedNode);
+        sut.register(unchangedNode);
+        sut.refresh();
+
+        // Act
+        changedBounds.set(new BoundingBox(100, 200, 30, 40));
+        sut.refresh();
+
+        // Assert
+        verify(changedNode, times(2)).getBoundsInParent();
+        verify(unchangedNode, times(1)).getBoundsInParent();
+        assertEquals(100, sut.getMinX(slot));
+    }
+
+    @Test
+    void refreshNotifiesListenerOfChangedEntities() {
+        // Arrange
+        var changedBounds = new SimpleObjectProperty<Bounds>(new BoundingBox(10, 20, 30, 40));
+        var changedEntity = mock(YaegerEntity.class);
+        var unchangedEntity = mock(YaegerEntity.class);
+        sut.register(changedEntity, createNode(changedBounds));
+        sut.register(unchangedEntity, createNode(new SimpleObjectProperty<>(new BoundingBox(1, 2, 3, 4))));
+        sut.refresh();
+        var refreshed = new ArrayList<YaegerEntity>();
+        sut.setRefreshListener(refreshed::add);
+
+        // Act
+        changedBounds.set(new BoundingBox(100, 200, 30, 40));
+        sut.refresh();
+
+        // Assert
+        assertEquals(List.of(changedEntity), refreshed);
+    }
+
+    @Test
+    void releasedSlotIsReused() {
+        // Arrange
+        var firstBounds = new SimpleObjectProperty<Bounds>(new BoundingBox(10, 20, 30, 40));
+        var secondBounds = new SimpleObjectProperty<Bounds>(new BoundingBox(1, 2, 3, 4));
+        var firstSlot = sut.register(createNode(firstBounds));
+        sut.release(firstSlot);
+
+        // Act
+        var secondSlot = sut.register(createNode(secondBounds));
+
+        // Assert
+        assertEquals(firstSlot, secondSlot);
+        assertEquals(1, sut.getMinX(secondSlot));
+    }
+
+    @Test
+    void releasedNodeIsNoLongerObserved() {
+        // Arrange
+        var bounds = new SimpleObjectProperty<Bounds>(new BoundingBox(10, 20, 30, 40));
+        var node = createNode(bounds);
+        var slot = sut.register(node);
+        sut.refresh();
+
+        // Act
+        sut.release(slot);
+        bounds.set(new BoundingBox(100, 200, 30, 40));
+        sut.refresh();
+
+        // Assert
+        verify(node, times(1)).getBoundsInParent();
+    }
+
+    @Test
+    void cacheGrowsBeyondInitialCapacity() {
+        // Arrange
+        var slots = new int[100];
+
+        // Act
+        for (var i = 0; i < slots.length; i++) {
+            slots[i] = sut.register(createNode(new SimpleObjectProperty<>(new BoundingBox(i, i, 1, 1))));
+        }
+        sut.refresh();
+
+        // Assert
+        for (var i = 0; i < slots.length; i++) {
+            assertEquals(i, sut.getMinX(slots[i]));
+        }
+    }
+
+    private Node createNode(final SimpleObjectProperty<Bounds> bounds) {
+        var node = mock(Node.class, withSettings().withoutAnnotations());
+        when(node.boundsInParentProperty()).thenReturn(bounds);
+        when(node.getBoundsInParent()).thenAnswer(invocation -> bounds.get());
+        return node;
+    }
+}
@@ -54,6 +54,20 @@ class SceneChildTest {
         assertEquals(HEIGHT, sceneHeight);
     }
 
+    @Test
+    void getWidthAndHeightReturnZeroIfNodeHasNoScene() {
+        // Arrange
+        when(node.getScene()).thenReturn(null);
+
+        // Act
+        double sceneWidth = sut.getSceneWidth();
+        double sceneHeight = sut.getSceneHeight();
+
+        // Assert
+        assertEquals(0, sceneWidth);
+        assertEquals(0, sceneHeight);
+    }
+
     @Test
     void getWidthReturnsZeroIfNodeNotPresent() {
         // Arrange
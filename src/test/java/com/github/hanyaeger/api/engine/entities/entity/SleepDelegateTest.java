@@ -0,0 +1,186 @@
+package com.github.hanyaeger.api.engine.entities.entity;
+
+import javafx.scene.Node;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SleepDelegateTest {
+
+    private static final int SLEEP_THRESHOLD = 3;
+
+    private SleepDelegate sut;
+
+    @BeforeEach
+    void setup() {
+        sut = new SleepDelegate();
+    }
+
+    @Test
+    void restingSleepableFallsAsleepAfterThreshold() {
+        // Arrange
+        var entity = new SleepableEntity();
+        sut.register(entity);
+
+        // Act
+        for (var i = 0; i < SLEEP_THRESHOLD - 1; i++) {
+            sut.update();
+        }
+        var asleepBeforeThreshold = entity.isSleeping();
+        sut.update();
+
+        // Assert
+        assertFalse(asleepBeforeThreshold);
+        assertTrue(entity.isSleeping());
+        assertEquals(1, sut.getSleeping());
+    }
+
+    @Test
+    void sleepableWakesUpWhenNoLongerResting() {
+        // Arrange
+        var entity = new SleepableEntity();
+        sut.register(entity);
+        for (var i = 0; i < SLEEP_THRESHOLD; i++) {
+            sut.update();
+        }
+
+        // Act
+        entity.resting = false;
+        sut.update();
+
+        // Assert
+        assertFalse(entity.isSleeping());
+        assertEquals(0, sut.getSleeping());
+    }
+
+    @Test
+    void wokenUpSleepableHasToRestAgainBeforeFallingAsleep() {
+        // Arrange
+        var entity = new SleepableEntity();
+        sut.register(entity);
+        for (var i = 0; i < SLEEP_THRESHOLD; i++) {
+            sut.update();
+        }
+
+        // Act
+        entity.wakeUp();
+        sut.update();
+
+        // Assert
+        assertFalse(entity.isSleeping());
+    }
+
+    @Test
+    void entityThatIsNotSleepableIsIgnored() {
+        // Arrange
+        var entity = new AwakeEntity();
+        sut.register(entity);
+
+        // Act
+        for (var i = 0; i < Sleepable.DEFAULT_SLEEP_THRESHOLD; i++) {
+            sut.update();
+        }
+
+        // Assert
+        assertFalse(entity.isAsleep());
+    }
+
+    @Test
+    void fallingAsleepAndWakingUpAreReportedToTheListeners() {
+        // Arrange
+        var entity = new SleepableEntity();
+        List<YaegerEntity> fellAsleep = new ArrayList<>();
+        List<YaegerEntity> wokeUp = new ArrayList<>();
+        sut.setOnFallAsleep(fellAsleep::add);
+        sut.setOnWakeUp(wokeUp::add);
+        sut.register(entity);
+        for (var i = 0; i < SLEEP_THRESHOLD; i++) {
+            sut.update();
+        }
+
+        // Act
+        entity.wakeUp();
+        entity.wakeUp();
+
+        // Assert
+        assertEquals(List.of(entity), fellAsleep);
+        assertEquals(List.of(entity), wokeUp);
+    }
+
+    @Test
+    void removedSleepableIsWokenUpWithoutNotifyingTheListener() {
+        // Arrange
+        var entity = new SleepableEntity();
+        List<YaegerEntity> wokeUp = new ArrayList<>();
+        sut.setOnWakeUp(wokeUp::add);
+        sut.register(entity);
+        for (var i = 0; i < SLEEP_THRESHOLD; i++) {
+            sut.update();
+        }
+
+        // Act
+        sut.remove(entity);
+
+        // Assert
+        assertFalse(entity.isSleeping());
+        assertTrue(wokeUp.isEmpty());
+    }
+
+    @Test
+    void removedSleepableIsWokenUp() {
+        // Arrange
+        var entity = new SleepableEntity();
+        sut.register(entity);
+        for (var i = 0; i < SLEEP_THRESHOLD; i++) {
+            sut.update();
+        }
+
+        // Act
+        sut.remove(entity);
+        sut.update();
+
+        // Assert
+        assertFalse(entity.isSleeping());
+        assertEquals(0, sut.getSleeping());
+    }
+
+    private static class AwakeEntity extends YaegerEntity {
+
+        AwakeEntity() {
+            super(new Coordinate2D(0, 0));
+        }
+
+        @Override
+        public void setReferenceX(final double x) {
+        }
+
+        @Override
+        public void setReferenceY(final double y) {
+        }
+
+        @Override
+        public Optional<Node> getGameNode() {
+            return Optional.empty();
+        }
+    }
+
+    private static class SleepableEntity extends AwakeEntity implements Sleepable {
+
+        private boolean resting = true;
+
+        @Override
+        public int getSleepThreshold() {
+            return SLEEP_THRESHOLD;
+        }
+
+        @Override
+        public boolean isResting() {
+            return resting;
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.github.hanyaeger.api.engine.entities.entity;
 
+import com.github.hanyaeger.api.engine.Size;
 import com.github.hanyaeger.api.engine.Timer;
 import com.github.hanyaeger.api.engine.entities.EntityCollection;
 import com.github.hanyaeger.api.engine.entities.entity.motion.Direction;
@@ -60,6 +61,113 @@ class YaegerEntityTest {
         assertTrue(timers.isEmpty());
     }
 
+    @Test
+    void sceneSizeIsUsedInsteadOfScene() {
+        // Arrange
+        sut.setSceneSize(new Size(37, 42));
+
+        // Act
+        var width = sut.getSceneWidth();
+        var height = sut.getSceneHeight();
+
+        // Assert
+        assertEquals(37, width);
+        assertEquals(42, height);
+    }
+
+    @Test
+    void collisionCategoryAndMaskHaveDefaults() {
+        // Arrange
+
+        // Act
+        var category = sut.getCollisionCategory();
+        var mask = sut.getCollisionMask();
+
+        // Assert
+        assertEquals(1L, category);
+        assertEquals(-1L, mask);
+    }
+
+    @Test
+    void setCollisionCategoryAndMaskAreStored() {
+        // Arrange
+        var category = 0b100L;
+        var mask = 0b011L;
+
+        // Act
+        sut.setCollisionCategory(category);
+        sut.setCollisionMask(mask);
+
+        // Assert
+        assertEquals(category, sut.getCollisionCategory());
+        assertEquals(mask, sut.getCollisionMask());
+    }
+
+    @Test
+    void entityIdsAreUnique() {
+        // Arrange
+        var other = new YaegerEntityImpl(LOCATION);
+
+        // Act
+        var id = sut.getEntityId();
+        var otherId = other.getEntityId();
+
+        // Assert
+        assertTrue(id > 0);
+        assertNotEquals(id, otherId);
+    }
+
+    @Test
+    void attachBoundsCacheRegistersNode() {
+        // Arrange
+        var boundsCache = mock(BoundsCache.class);
+
+        // Act
+        sut.attachBoundsCache(boundsCache);
+
+        // Assert
+        verify(boundsCache).register(sut, node);
+    }
+
+    @Test
+    void transformedBoundsAreReadFromAttachedBoundsCache() {
+        // Arrange
+        var boundsCache = mock(BoundsCache.class);
+        when(boundsCache.register(sut, node)).thenReturn(3);
+        when(boundsCache.getMinX(3)).thenReturn(1d);
+        when(boundsCache.getMinY(3)).thenReturn(2d);
+        when(boundsCache.getMaxX(3)).thenReturn(3d);
+        when(boundsCache.getMaxY(3)).thenReturn(4d);
+        sut.attachBoundsCache(boundsCache);
+
+        // Act
+        var minX = sut.getTransformedMinX();
+        var minY = sut.getTransformedMinY();
+        var maxX = sut.getTransformedMaxX();
+        var maxY = sut.getTransformedMaxY();
+
+        // Assert
+        assertEquals(1d, minX);
+        assertEquals(2d, minY);
+        assertEquals(3d, maxX);
+        assertEquals(4d, maxY);
+        verify(node, never()).getBoundsInParent();
+    }
+
+    @Test
+    void detachBoundsCacheReleasesSlot() {
+        // Arrange
+        var boundsCache = mock(BoundsCache.class);
+        when(boundsCache.register(sut, node)).thenReturn(3);
+        sut.attachBoundsCache(boundsCache);
+
+        // Act
+        sut.detachBoundsCache();
+
+        // Assert
+        verify(boundsCache).release(3);
+    }
+
     @Test
     void initCallsSetOpacity() {
         // Arrange
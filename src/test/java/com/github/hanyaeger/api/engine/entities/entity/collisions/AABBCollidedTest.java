@@ -110,6 +110,91 @@ public class AABBCollidedTest {
         assertNull(sut.getLastCollider());
     }
 
+    @Test
+    void colliderOutsideCollisionMaskReportsNoCollision() {
+        // Arrange
+        var collider = new CollidingAABBCollider();
+        collider.setBounds(TEST_COLLIDED_BOUNDINGBOX);
+        collider.setCollisionCategory(0b10L);
+        sut.setCollisionMask(0b01L);
+
+        // Act
+        sut.checkForCollisions(Set.of(collider));
+
+        // Assert
+        assertNull(sut.getLastCollider());
+    }
+
+    @Test
+    void colliderInsideCollisionMaskReportsCollision() {
+        // Arrange
+        var collider = new CollidingAABBCollider();
+        collider.setBounds(TEST_COLLIDED_BOUNDINGBOX);
+        collider.setCollisionCategory(0b10L);
+        sut.setCollisionMask(0b11L);
+        when(motionApplier.getPreviousLocation()).thenReturn(Optional.empty());
+
+        // Act
+        sut.checkForCollisions(Set.of(collider));
+
+        // Assert
+        assertEquals(collider, sut.getLastCollider());
+    }
+
+    @Test
+    void circleColliderInCornerOfBoundsReportsNoCollision() {
+        // Arrange
+        var collider = new CircleCollider();
+        collider.setBounds(new BoundingBox(30, 30, 22, 22));
+
+        // Act
+        sut.checkForCollisions(Set.of(collider));
+
+        // Assert
+        assertNull(sut.getLastCollider());
+    }
+
+    @Test
+    void circleColliderOverlappingBoundsReportsCollision() {
+        // Arrange
+        var collider = new CircleCollider();
+        collider.setBounds(new BoundingBox(40, 55, 22, 22));
+        when(motionApplier.getPreviousLocation()).thenReturn(Optional.empty());
+
+        // Act
+        sut.checkForCollisions(Set.of(collider));
+
+        // Assert
+        assertEquals(collider, sut.getLastCollider());
+    }
+
+    @Test
+    void pixelPerfectColliderWithTransparentOverlapReportsNoCollision() {
+        // Arrange
+        var collider = new PixelPerfectCollider();
+        collider.setBounds(new BoundingBox(65, 65, 20, 20));
+
+        // Act
+        sut.checkForCollisions(Set.of(collider));
+
+        // Assert
+        assertNull(sut.getLastCollider());
+    }
+
+    @Test
+    void pixelPerfectColliderWithOpaqueOverlapReportsCollision() {
+        // Arrange
+        var collider = new PixelPerfectCollider();
+        collider.setBounds(new BoundingBox(40, 40, 20, 20));
+        when(motionApplier.getPreviousLocation()).thenReturn(Optional.empty());
+
+        // Act
+        sut.checkForCollisions(Set.of(collider));
+
+        // Assert
+        assertEquals(collider, sut.getLastCollider());
+    }
+
     @Test
     void tesCollisionWithSelfReportsNoCollision() {
         // Arrange
@@ -126,6 +211,16 @@ public class AABBCollidedTest {
     private class CollidingAABBCollider implements AABBCollider {
 
         private Bounds bounds;
+        private long collisionCategory = DEFAULT_COLLISION_CATEGORY;
+
+        @Override
+        public long getCollisionCategory() {
+            return collisionCategory;
+        }
+
+        public void setCollisionCategory(long collisionCategory) {
+            this.collisionCategory = collisionCategory;
+        }
 
         @Override
         public Bounds getTransformedBounds() {
@@ -152,10 +247,57 @@ public class AABBCollidedTest {
         }
     }
 
+    private class CircleCollider extends CollidingAABBCollider implements ShapedCollidable {
+
+        @Override
+        public CollisionShape getCollisionShape() {
+            return CollisionShape.CIRCLE;
+        }
+
+        @Override
+        public double getCollisionHalfWidth() {
+            return getTransformedBounds().getWidth() / 2;
+        }
+
+        @Override
+        public double getCollisionHalfHeight() {
+            return getTransformedBounds().getHeight() / 2;
+        }
+
+        @Override
+        public double getCollisionRotation() {
+            return 0;
+        }
+    }
+
+    /**
+     * A collider of 20 by 20 pixels, of which only the bottom right quarter is opaque.
+     */
+    private class PixelPerfectCollider extends CollidingAABBCollider implements PixelPerfectCollidable {
+
+        private final AlphaMask alphaMask;
+
+        PixelPerfectCollider() {
+            var pixels = new int[20 * 20];
+            for (var y = 10; y < 20; y++) {
+                for (var x = 10; x < 20; x++) {
+                    pixels[y * 20 + x] = 0xFF000000;
+                }
+            }
+            alphaMask = AlphaMask.create(pixels, 20, 20, 1)[0];
+        }
+
+        @Override
+        public AlphaMask getAlphaMask() {
+            return alphaMask;
+        }
+    }
+
     private class TestCollided implements AABBCollided {
 
         private AABBCollider lastCollided;
         private MotionApplier motionApplier;
+        private long collisionMask = ALL_COLLISION_CATEGORIES;
         private boolean setOriginXcalled = false;
         private boolean setOriginYcalled = false;
 
@@ -173,6 +315,15 @@ public class AABBCollidedTest {
             return lastCollided;
         }
 
+        @Override
+        public long getCollisionMask() {
+            return collisionMask;
+        }
+
+        public void setCollisionMask(long collisionMask) {
+            this.collisionMask = collisionMask;
+        }
+
         @Override
         public Optional<Node> getGameNode() {
             return null;
@@ -0,0 +1,230 @@
+package com.github.hanyaeger.api.engine.entities.entity.collisions;
+
+import com.github.hanyaeger.api.engine.entities.entity.AnchorPoint;
+import com.github.hanyaeger.api.engine.entities.entity.motion.DefaultMotionApplier;
+import com.github.hanyaeger.api.engine.entities.entity.motion.MotionApplier;
+import javafx.geometry.BoundingBox;
+import javafx.geometry.Bounds;
+import javafx.scene.Node;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class AABBMultiContactCollidedTest {
+
+    private static final Bounds TEST_COLLIDED_BOUNDINGBOX = new BoundingBox(50, 50, 25, 25);
+
+    private TestMultiContactCollided sut;
+    private ContactList contacts;
+
+    @BeforeEach
+    void setup() {
+        sut = new TestMultiContactCollided();
+        sut.setMotionApplier(mock(DefaultMotionApplier.class));
+        contacts = new ContactList();
+    }
+
+    @Test
+    void allCollidingCollidersAreReportedInIterationOrder() {
+        // Arrange
+        var floor = new TestCollider(new BoundingBox(0, 70, 200, 10));
+        var wall = new TestCollider(new BoundingBox(70, 0, 10, 200));
+        var farAway = new TestCollider(new BoundingBox(500, 500, 10, 10));
+        Set<AABBCollider> colliders = new LinkedHashSet<>(List.of(floor, farAway, wall));
+
+        // Act
+        sut.checkForCollisions(colliders, contacts);
+
+        // Assert
+        assertEquals(List.of(floor, wall), sut.reported);
+        assertEquals(1, sut.undoCount);
+    }
+
+    @Test
+    void overlapOfContactIsReported() {
+        // Arrange
+        var floor = new TestCollider(new BoundingBox(0, 70, 200, 10));
+
+        // Act
+        sut.checkForCollisions(Set.of(floor), contacts);
+
+        // Assert
+        assertEquals(25, sut.overlapWidths.get(0));
+        assertEquals(5, sut.overlapHeights.get(0));
+    }
+
+    @Test
+    void noContactsDoNotNotify() {
+        // Arrange
+        var farAway = new TestCollider(new BoundingBox(500, 500, 10, 10));
+
+        // Act
+        sut.checkForCollisions(Set.of(farAway), contacts);
+
+        // Assert
+        assertFalse(sut.notified);
+        assertEquals(0, sut.undoCount);
+    }
+
+    @Test
+    void collidersOutsideCollisionMaskAreNotReported() {
+        // Arrange
+        var floor = new TestCollider(new BoundingBox(0, 70, 200, 10));
+        floor.collisionCategory = 0b10L;
+        sut.collisionMask = 0b01L;
+
+        // Act
+        sut.checkForCollisions(Set.of(floor), contacts);
+
+        // Assert
+        assertFalse(sut.notified);
+    }
+
+    @Test
+    void contactListIsClearedAfterNotification() {
+        // Arrange
+        var floor = new TestCollider(new BoundingBox(0, 70, 200, 10));
+
+        // Act
+        sut.checkForCollisions(Set.of(floor), contacts);
+
+        // Assert
+        assertTrue(contacts.isEmpty());
+    }
+
+    @Test
+    void contactListGrowsBeyondInitialCapacity() {
+        // Arrange
+        Set<AABBCollider> colliders = new LinkedHashSet<>();
+        for (var i = 0; i < 50; i++) {
+            colliders.add(new TestCollider(new BoundingBox(60, 60, 1, 1)));
+        }
+
+        // Act
+        sut.checkForCollisions(colliders, contacts);
+
+        // Assert
+        assertEquals(50, sut.reported.size());
+    }
+
+    @Test
+    void checkForCollisionsWithoutContactListReportsContacts() {
+        // Arrange
+        var floor = new TestCollider(new BoundingBox(0, 70, 200, 10));
+
+        // Act
+        sut.checkForCollisions(Set.of(floor));
+
+        // Assert
+        assertEquals(List.of(floor), sut.reported);
+    }
+
+    private static class TestCollider implements AABBCollider {
+
+        private final Bounds bounds;
+        private long collisionCategory = DEFAULT_COLLISION_CATEGORY;
+
+        TestCollider(final Bounds bounds) {
+            this.bounds = bounds;
+        }
+
+        @Override
+        public long getCollisionCategory() {
+            return collisionCategory;
+        }
+
+        @Override
+        public Bounds getTransformedBounds() {
+            return bounds;
+        }
+
+        @Override
+        public Optional<Node> getGameNode() {
+            return Optional.empty();
+        }
+    }
+
+    private static class TestMultiContactCollided implements AABBMultiContactCollided {
+
+        private final List<AABBCollider> reported = new ArrayList<>();
+        private final List<Double> overlapWidths = new ArrayList<>();
+        private final List<Double> overlapHeights = new ArrayList<>();
+        private boolean notified;
+        private int undoCount;
+        private long collisionMask = ALL_COLLISION_CATEGORIES;
+        private MotionApplier motionApplier;
+
+        @Override
+        public void onCollision(final ContactList contacts) {
+            notified = true;
+            for (var i = 0; i < contacts.size(); i++) {
+                reported.add(contacts.getCollider(i));
+                overlapWidths.add(contacts.getOverlapWidth(i));
+                overlapHeights.add(contacts.getOverlapHeight(i));
+            }
+        }
+
+        @Override
+        public void undoUpdate() {
+            undoCount++;
+        }
+
+        @Override
+        public Bounds getTransformedBounds() {
+            return TEST_COLLIDED_BOUNDINGBOX;
+        }
+
+        @Override
+        public long getCollisionMask() {
+            return collisionMask;
+        }
+
+        @Override
+        public Optional<Node> getGameNode() {
+            return Optional.empty();
+        }
+
+        @Override
+        public void setMotionApplier(DefaultMotionApplier motionApplier) {
+            this.motionApplier = motionApplier;
+        }
+
+        @Override
+        public MotionApplier getMotionApplier() {
+            return motionApplier;
+        }
+
+        @Override
+        public void setReferenceX(double x) {
+            // Not required here.
+        }
+
+        @Override
+        public void setReferenceY(double y) {
+            // Not required here.
+        }
+
+        @Override
+        public void placeOnScene() {
+            // Not required here.
+        }
+
+        @Override
+        public void setAnchorPoint(AnchorPoint anchorPoint) {
+            // Not required here.
+        }
+
+        @Override
+        public AnchorPoint getAnchorPoint() {
+            return null;
+        }
+    }
+}
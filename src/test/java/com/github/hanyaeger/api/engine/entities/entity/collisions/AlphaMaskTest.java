@@ -0,0 +1,122 @@
+package com.github.hanyaeger.api.engine.entities.entity.collisions;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AlphaMaskTest {
+
+    private static final int OPAQUE = 0xFF000000;
+    private static final int TRANSLUCENT = 0x40000000;
+
+    @Test
+    void onlyPixelsAboveThresholdAreOpaque() {
+        // Arrange
+        var argb = new int[]{OPAQUE, TRANSLUCENT, 0, OPAQUE};
+
+        // Act
+        var mask = AlphaMask.create(argb, 2, 2, 1)[0];
+
+        // Assert
+        assertTrue(mask.isOpaque(0, 0));
+        assertFalse(mask.isOpaque(1, 0));
+        assertFalse(mask.isOpaque(0, 1));
+        assertTrue(mask.isOpaque(1, 1));
+    }
+
+    @Test
+    void eachFrameReceivesItsOwnMask() {
+        // Arrange
+        var argb = new int[]{OPAQUE, 0, 0, OPAQUE};
+
+        // Act
+        var masks = AlphaMask.create(argb, 4, 1, 2);
+
+        // Assert
+        assertEquals(2, masks.length);
+        assertEquals(2, masks[0].getWidth());
+        assertTrue(masks[0].isOpaque(0, 0));
+        assertFalse(masks[0].isOpaque(1, 0));
+        assertFalse(masks[1].isOpaque(0, 0));
+        assertTrue(masks[1].isOpaque(1, 0));
+    }
+
+    @Test
+    void masksWithOverlappingBoundsButNoSharedPixelDoNotIntersect() {
+        // Arrange
+        var left = AlphaMask.create(new int[]{OPAQUE, 0, OPAQUE, 0}, 2, 2, 1)[0];
+        var right = AlphaMask.create(new int[]{0, OPAQUE, 0, OPAQUE}, 2, 2, 1)[0];
+
+        // Act
+        var intersect = AlphaMask.intersect(left, 0, 0, right, 0, 0);
+
+        // Assert
+        assertFalse(intersect);
+    }
+
+    @Test
+    void masksSharingAPixelIntersect() {
+        // Arrange
+        var left = AlphaMask.create(new int[]{OPAQUE, 0, OPAQUE, 0}, 2, 2, 1)[0];
+        var right = AlphaMask.create(new int[]{0, OPAQUE, 0, OPAQUE}, 2, 2, 1)[0];
+
+        // Act
+        var intersect = AlphaMask.intersect(left, 1, 0, right, 0, 0);
+
+        // Assert
+        assertTrue(intersect);
+    }
+
+    @Test
+    void regionWithoutOpaquePixelDoesNotIntersect() {
+        // Arrange
+        var mask = AlphaMask.create(new int[]{OPAQUE, 0, 0, 0}, 2, 2, 1)[0];
+
+        // Act
+        var intersects = mask.intersects(10, 10, 11, 10, 20, 20);
+
+        // Assert
+        assertFalse(intersects);
+    }
+
+    @Test
+    void intersectMatchesPixelByPixelComparison() {
+        // Arrange
+        var random = new Random(13);
+
+        for (var i = 0; i < 200; i++) {
+            var aWidth = 1 + random.nextInt(150);
+            var aHeight = 1 + random.nextInt(8);
+            var bWidth = 1 + random.nextInt(150);
+            var bHeight = 1 + random.nextInt(8);
+            var aPixels = randomPixels(random, aWidth * aHeight);
+            var bPixels = randomPixels(random, bWidth * bHeight);
+            var a = AlphaMask.create(aPixels, aWidth, aHeight, 1)[0];
+            var b = AlphaMask.create(bPixels, bWidth, bHeight, 1)[0];
+            var bx = random.nextInt(300) - 150;
+            var by = random.nextInt(16) - 8;
+
+            // Act
+            var intersect = AlphaMask.intersect(a, 0, 0, b, bx, by);
+
+            // Assert
+            var expected = false;
+            for (var y = 0; y < aHeight && !expected; y++) {
+                for (var x = 0; x < aWidth && !expected; x++) {
+                    expected = a.isOpaque(x, y) && b.isOpaque(x - bx, y - by);
+                }
+            }
+            assertEquals(expected, intersect);
+        }
+    }
+
+    private int[] randomPixels(final Random random, final int size) {
+        var pixels = new int[size];
+        for (var i = 0; i < size; i++) {
+            pixels[i] = random.nextInt(40) == 0 ? OPAQUE : 0;
+        }
+        return pixels;
+    }
+}
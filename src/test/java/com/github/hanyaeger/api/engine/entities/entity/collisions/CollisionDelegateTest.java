@@ -3,10 +3,12 @@ package com.github.hanyaeger.api.engine.entities.entity.collisions;
 import com.github.hanyaeger.api.engine.Timer;
 import com.github.hanyaeger.api.engine.entities.entity.AnchorPoint;
 import com.github.hanyaeger.api.engine.entities.entity.Coordinate2D;
+import com.github.hanyaeger.api.engine.entities.entity.Sleepable;
 import com.github.hanyaeger.api.engine.entities.entity.YaegerEntity;
 import com.github.hanyaeger.api.engine.entities.entity.motion.DefaultMotionApplier;
 import com.github.hanyaeger.api.engine.entities.entity.motion.MotionApplier;
 import com.google.inject.Injector;
+import javafx.geometry.BoundingBox;
 import javafx.scene.Node;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -18,7 +20,9 @@ import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 class CollisionDelegateTest {
 
@@ -104,6 +108,383 @@ class CollisionDelegateTest {
         Assertions.assertEquals(0, argument.getValue().size());
     }
 
+    @Test
+    void setBroadphaseRegistersExistingColliders() {
+        // Arrange
+        AABBCollider collider = mock(AABBCollider.class);
+        Broadphase broadphase = mock(Broadphase.class);
+        collisionDelegate.register(collider);
+
+        // Act
+        collisionDelegate.setBroadphase(broadphase);
+
+        // Assert
+        Mockito.verify(broadphase).register(collider);
+    }
+
+    @Test
+    void colliderIsRegisteredWithAndRemovedFromBroadphase() {
+        // Arrange
+        YaegerEntity colliderEntity = mock(AABBColliderImpl.class);
+        Broadphase broadphase = mock(Broadphase.class);
+        collisionDelegate.setBroadphase(broadphase);
+
+        // Act
+        collisionDelegate.register(colliderEntity);
+        collisionDelegate.remove(colliderEntity);
+
+        // Assert
+        Mockito.verify(broadphase).register((AABBCollider) colliderEntity);
+        Mockito.verify(broadphase).remove((AABBCollider) colliderEntity);
+    }
+
+    @Test
+    void invalidatedColliderIsInvalidatedInBroadphase() {
+        // Arrange
+        AABBCollider collider = mock(AABBCollider.class);
+        Broadphase broadphase = mock(Broadphase.class);
+        collisionDelegate.setBroadphase(broadphase);
+        collisionDelegate.register(collider);
+
+        // Act
+        collisionDelegate.invalidate(collider);
+
+        // Assert
+        Mockito.verify(broadphase).invalidate(collider);
+    }
+
+    @Test
+    void withBroadphaseCollidedOnlyReceivesCandidates() {
+        // Arrange
+        var nearCollider = mock(AABBCollider.class);
+        var farCollider = mock(AABBCollider.class);
+        when(nearCollider.getTransformedBounds()).thenReturn(new BoundingBox(0, 0, 10, 10));
+        when(farCollider.getTransformedBounds()).thenReturn(new BoundingBox(1000, 1000, 10, 10));
+
+        var collided = mock(AABBCollided.class);
+        when(collided.getTransformedBounds()).thenReturn(new BoundingBox(5, 5, 10, 10));
+        when(collided.acceptsCollisionCategoryOf(any())).thenReturn(true);
+
+        collisionDelegate.setBroadphase(new SpatialHashBroadphase(64));
+        collisionDelegate.register(nearCollider);
+        collisionDelegate.register(farCollider);
+        collisionDelegate.register(collided);
+
+        ArgumentCaptor<Set> argument = ArgumentCaptor.forClass(Set.class);
+
+        // Act
+        collisionDelegate.checkCollisions();
+
+        // Assert
+        Mockito.verify(collided).checkForCollisions(argument.capture());
+        Assertions.assertEquals(Set.of(nearCollider), argument.getValue());
+    }
+
+    @Test
+    void withBroadphaseCandidatesOutsideCollisionMaskAreRejected() {
+        // Arrange
+        var collider = mock(AABBCollider.class);
+        when(collider.getTransformedBounds()).thenReturn(new BoundingBox(0, 0, 10, 10));
+
+        var collided = mock(AABBCollided.class);
+        when(collided.getTransformedBounds()).thenReturn(new BoundingBox(5, 5, 10, 10));
+        when(collided.acceptsCollisionCategoryOf(collider)).thenReturn(false);
+
+        collisionDelegate.setBroadphase(new SpatialHashBroadphase(64));
+        collisionDelegate.register(collider);
+        collisionDelegate.register(collided);
+
+        ArgumentCaptor<Set> argument = ArgumentCaptor.forClass(Set.class);
+
+        // Act
+        collisionDelegate.checkCollisions();
+
+        // Assert
+        Mockito.verify(collided).checkForCollisions(argument.capture());
+        Assertions.assertTrue(argument.getValue().isEmpty());
+    }
+
+    @Test
+    void withBroadphaseCandidatesAreNotCopiedForEachCollided() {
+        // Arrange
+        var collider = mock(AABBCollider.class);
+        when(collider.getTransformedBounds()).thenReturn(new BoundingBox(0, 0, 10, 10));
+
+        var first = mock(AABBCollided.class);
+        when(first.getTransformedBounds()).thenReturn(new BoundingBox(5, 5, 10, 10));
+        var second = mock(AABBCollided.class);
+        when(second.getTransformedBounds()).thenReturn(new BoundingBox(5, 5, 10, 10));
+
+        collisionDelegate.setBroadphase(new SpatialHashBroadphase(64));
+        collisionDelegate.register(collider);
+        collisionDelegate.register(first);
+        collisionDelegate.register(second);
+
+        ArgumentCaptor<Set> firstArgument = ArgumentCaptor.forClass(Set.class);
+        ArgumentCaptor<Set> secondArgument = ArgumentCaptor.forClass(Set.class);
+
+        // Act
+        collisionDelegate.checkCollisions();
+
+        // Assert
+        Mockito.verify(first).checkForCollisions(firstArgument.capture());
+        Mockito.verify(second).checkForCollisions(secondArgument.capture());
+        Assertions.assertSame(firstArgument.getValue(), secondArgument.getValue());
+    }
+
+    @Test
+    void setParallelEnablesParallelCollisionDetection() {
+        // Arrange
+
+        // Act
+        collisionDelegate.setParallel(true);
+
+        // Assert
+        Assertions.assertTrue(collisionDelegate.isParallel());
+    }
+
+    @Test
+    void parallelCollisionDetectionReportsCollision() {
+        // Arrange
+        var collider = mock(AABBCollider.class);
+        when(collider.getTransformedBounds()).thenReturn(new BoundingBox(0, 0, 10, 10));
+        when(collider.getCollisionCategory()).thenReturn(AABBCollider.DEFAULT_COLLISION_CATEGORY);
+
+        var collided = mock(AABBCollided.class);
+        when(collided.getTransformedBounds()).thenReturn(new BoundingBox(5, 5, 10, 10));
+        when(collided.getCollisionMask()).thenReturn(AABBCollided.ALL_COLLISION_CATEGORIES);
+
+        collisionDelegate.setParallel(true);
+        collisionDelegate.register(collider);
+        collisionDelegate.register(collided);
+
+        // Act
+        collisionDelegate.checkCollisions();
+
+        // Assert
+        Mockito.verify(collided).onCollision(collider);
+        Mockito.verify(collided, Mockito.never()).checkForCollisions(Mockito.anySet());
+    }
+
+    @Test
+    void multiContactCollidedReceivesReusedContactList() {
+        // Arrange
+        var first = mock(AABBMultiContactCollided.class);
+        var second = mock(AABBMultiContactCollided.class);
+        AABBCollider collider = mock(AABBCollider.class);
+
+        collisionDelegate.register(first);
+        collisionDelegate.register(second);
+        collisionDelegate.register(collider);
+
+        ArgumentCaptor<ContactList> firstContacts = ArgumentCaptor.forClass(ContactList.class);
+        ArgumentCaptor<ContactList> secondContacts = ArgumentCaptor.forClass(ContactList.class);
+
+        // Act
+        collisionDelegate.checkCollisions();
+
+        // Assert
+        Mockito.verify(first).checkForCollisions(Mockito.anySet(), firstContacts.capture());
+        Mockito.verify(second).checkForCollisions(Mockito.anySet(), secondContacts.capture());
+        Mockito.verify(first, Mockito.never()).checkForCollisions(Mockito.anySet());
+        Assertions.assertSame(firstContacts.getValue(), secondContacts.getValue());
+    }
+
+    @Test
+    void contactAwareCollidedIsNotifiedOfExitAfterColliderIsRemoved() {
+        // Arrange
+        YaegerEntity collider = mock(AABBColliderImpl.class);
+        when(collider.getTransformedMaxX()).thenReturn(10d);
+        when(collider.getTransformedMaxY()).thenReturn(10d);
+        when(collider.getCollisionCategory()).thenReturn(AABBCollider.DEFAULT_COLLISION_CATEGORY);
+
+        var collided = mock(AABBContactAwareCollided.class);
+        when(collided.getTransformedMinX()).thenReturn(5d);
+        when(collided.getTransformedMinY()).thenReturn(5d);
+        when(collided.getTransformedMaxX()).thenReturn(15d);
+        when(collided.getTransformedMaxY()).thenReturn(15d);
+        when(collided.acceptsCollisionCategoryOf(any())).thenReturn(true);
+
+        collisionDelegate.register(collider);
+        collisionDelegate.register(collided);
+        collisionDelegate.checkCollisions();
+
+        // Act
+        collisionDelegate.remove(collider);
+        collisionDelegate.checkCollisions();
+
+        // Assert
+        var inOrder = Mockito.inOrder(collided);
+        inOrder.verify(collided).onCollisionEnter((AABBCollider) collider);
+        inOrder.verify(collided).onCollisionExit((AABBCollider) collider);
+        Mockito.verify(collided, Mockito.never()).checkForCollisions(Mockito.anySet());
+    }
+
+    @Test
+    void sleepingCollidedIsNotCheckedAgainstSleepingColliders() {
+        // Arrange
+        var collider = createSleepableCollider(true);
+        var collided = createSleepableCollided(true);
+
+        collisionDelegate.register(collider);
+        collisionDelegate.register(collided);
+
+        // Act
+        collisionDelegate.checkCollisions();
+
+        // Assert
+        Mockito.verify(collided, Mockito.never()).checkForCollisions(Mockito.anySet());
+        Mockito.verify(collided, Mockito.never()).wakeUp();
+    }
+
+    @Test
+    void sleepingCollidedIsWokenUpByAwakeCollider() {
+        // Arrange
+        var collider = createSleepableCollider(false);
+        var collided = createSleepableCollided(true);
+
+        collisionDelegate.register(collider);
+        collisionDelegate.register(collided);
+        collisionDelegate.invalidate(collider);
+
+        // Act
+        collisionDelegate.checkCollisions();
+
+        // Assert
+        Mockito.verify(collided).wakeUp();
+        Mockito.verify(collided).checkForCollisions(Mockito.anySet());
+    }
+
+    @Test
+    void sleepingCollidedIsNotWokenUpByMovedColliderElsewhere() {
+        // Arrange
+        var collider = createSleepableCollider(false);
+        var collided = createSleepableCollided(true);
+        when(collided.getTransformedMinX()).thenReturn(50d);
+        when(collided.getTransformedMaxX()).thenReturn(60d);
+
+        collisionDelegate.register(collider);
+        collisionDelegate.register(collided);
+        collisionDelegate.invalidate(collider);
+
+        // Act
+        collisionDelegate.checkCollisions();
+
+        // Assert
+        Mockito.verify(collided, Mockito.never()).wakeUp();
+        Mockito.verify(collided, Mockito.never()).checkForCollisions(Mockito.anySet());
+    }
+
+    @Test
+    void collidedThatFellAsleepIsNoLongerChecked() {
+        // Arrange
+        var collider = createSleepableCollider(false);
+        var collided = createSleepableCollided(false);
+
+        collisionDelegate.register(collider);
+        collisionDelegate.register(collided);
+        collisionDelegate.fallAsleep(collided);
+
+        // Act
+        collisionDelegate.checkCollisions();
+
+        // Assert
+        Mockito.verify(collided, Mockito.never()).checkForCollisions(Mockito.anySet());
+    }
+
+    @Test
+    void collidedThatWokeUpIsCheckedAgain() {
+        // Arrange
+        var collider = createSleepableCollider(false);
+        var collided = createSleepableCollided(true);
+
+        collisionDelegate.register(collider);
+        collisionDelegate.register(collided);
+        collisionDelegate.wakeUp(collided);
+
+        // Act
+        collisionDelegate.checkCollisions();
+
+        // Assert
+        Mockito.verify(collided).checkForCollisions(Mockito.anySet());
+    }
+
+    @Test
+    void sleepingCollidedIsNotCheckedNorWokenUpByStaticCollider() {
+        // Arrange
+        var collider = mock(AABBCollider.class);
+        when(collider.getTransformedMinX()).thenReturn(0d);
+        when(collider.getTransformedMinY()).thenReturn(0d);
+        when(collider.getTransformedMaxX()).thenReturn(10d);
+        when(collider.getTransformedMaxY()).thenReturn(10d);
+        var collided = createSleepableCollided(true);
+
+        collisionDelegate.register(collider);
+        collisionDelegate.register(collided);
+
+        // Act
+        collisionDelegate.checkCollisions();
+
+        // Assert
+        Mockito.verify(collided, Mockito.never()).wakeUp();
+        Mockito.verify(collided, Mockito.never()).checkForCollisions(Mockito.anySet());
+    }
+
+    @Test
+    void sleepingContactAwareCollidedKeepsItsContacts() {
+        // Arrange
+        var collider = createSleepableCollider(false);
+        var collided = mock(SleepableContactAwareCollided.class);
+        when(collided.getTransformedMinX()).thenReturn(5d);
+        when(collided.getTransformedMinY()).thenReturn(5d);
+        when(collided.getTransformedMaxX()).thenReturn(15d);
+        when(collided.getTransformedMaxY()).thenReturn(15d);
+        when(collided.acceptsCollisionCategoryOf(any())).thenReturn(true);
+
+        collisionDelegate.register(collider);
+        collisionDelegate.register(collided);
+        collisionDelegate.checkCollisions();
+
+        when(collider.isSleeping()).thenReturn(true);
+        when(collided.isSleeping()).thenReturn(true);
+        collisionDelegate.fallAsleep(collided);
+
+        // Act
+        collisionDelegate.checkCollisions();
+
+        // Assert
+        Mockito.verify(collided).onCollisionEnter(collider);
+        Mockito.verify(collided, Mockito.never()).onCollisionExit(any());
+    }
+
+    private SleepableCollider createSleepableCollider(final boolean sleeping) {
+        var collider = mock(SleepableCollider.class);
+        when(collider.getTransformedMaxX()).thenReturn(10d);
+        when(collider.getTransformedMaxY()).thenReturn(10d);
+        when(collider.isSleeping()).thenReturn(sleeping);
+        return collider;
+    }
+
+    private SleepableCollided createSleepableCollided(final boolean sleeping) {
+        var collided = mock(SleepableCollided.class);
+        when(collided.getTransformedMinX()).thenReturn(5d);
+        when(collided.getTransformedMinY()).thenReturn(5d);
+        when(collided.getTransformedMaxX()).thenReturn(15d);
+        when(collided.getTransformedMaxY()).thenReturn(15d);
+        when(collided.acceptsCollisionCategoryOf(any())).thenReturn(true);
+        when(collided.isSleeping()).thenReturn(sleeping);
+        return collided;
+    }
+
+    private interface SleepableCollider extends AABBCollider, Sleepable {
+    }
+
+    private interface SleepableCollided extends AABBCollided, Sleepable {
+    }
+
+    private interface SleepableContactAwareCollided extends AABBContactAwareCollided, Sleepable {
+    }
+
     private class AABBCollidedImpl extends YaegerEntity implements AABBCollided {
 
         /**
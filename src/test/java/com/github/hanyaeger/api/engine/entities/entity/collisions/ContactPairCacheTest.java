@@ -0,0 +1,281 @@
+package com.github.hanyaeger.api.engine.entities.entity.collisions;
+
+import com.github.hanyaeger.api.engine.entities.entity.AnchorPoint;
+import com.github.hanyaeger.api.engine.entities.entity.motion.DefaultMotionApplier;
+import com.github.hanyaeger.api.engine.entities.entity.motion.MotionApplier;
+import javafx.geometry.BoundingBox;
+import javafx.geometry.Bounds;
+import javafx.scene.Node;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ContactPairCacheTest {
+
+    private ContactPairCache sut;
+    private TestContactAwareCollided collided;
+
+    @BeforeEach
+    void setup() {
+        sut = new ContactPairCache();
+        collided = new TestContactAwareCollided(new BoundingBox(50, 50, 25, 25));
+    }
+
+    @Test
+    void firstContactIsReportedAsEnter() {
+        // Arrange
+        var collider = new TestCollider(new BoundingBox(60, 60, 10, 10));
+
+        // Act
+        runUpdate(Set.of(collider));
+
+        // Assert
+        assertEquals(List.of("enter"), collided.events);
+        assertEquals(1, collided.undoCount);
+    }
+
+    @Test
+    void continuingContactIsReportedAsStay() {
+        // Arrange
+        var collider = new TestCollider(new BoundingBox(60, 60, 10, 10));
+        runUpdate(Set.of(collider));
+
+        // Act
+        runUpdate(Set.of(collider));
+        runUpdate(Set.of(collider));
+
+        // Assert
+        assertEquals(List.of("enter", "stay", "stay"), collided.events);
+    }
+
+    @Test
+    void endedContactIsReportedAsExit() {
+        // Arrange
+        var collider = new TestCollider(new BoundingBox(60, 60, 10, 10));
+        runUpdate(Set.of(collider));
+
+        // Act
+        collider.bounds = new BoundingBox(500, 500, 10, 10);
+        runUpdate(Set.of(collider));
+
+        // Assert
+        assertEquals(List.of("enter", "exit"), collided.events);
+        assertEquals(collider, collided.lastCollider);
+        assertEquals(0, sut.size());
+    }
+
+    @Test
+    void removedColliderIsReportedAsExit() {
+        // Arrange
+        var collider = new TestCollider(new BoundingBox(60, 60, 10, 10));
+        runUpdate(Set.of(collider));
+
+        // Act
+        runUpdate(Set.of());
+
+        // Assert
+        assertEquals(List.of("enter", "exit"), collided.events);
+    }
+
+    @Test
+    void removedCollidedIsForgottenWithoutExit() {
+        // Arrange
+        var collider = new TestCollider(new BoundingBox(60, 60, 10, 10));
+        runUpdate(Set.of(collider));
+
+        // Act
+        sut.remove(collided);
+        sut.beginUpdate();
+        sut.endUpdate();
+
+        // Assert
+        assertEquals(List.of("enter"), collided.events);
+        assertEquals(0, sut.size());
+    }
+
+    @Test
+    void colliderOutsideCollisionMaskIsIgnored() {
+        // Arrange
+        var collider = new TestCollider(new BoundingBox(60, 60, 10, 10));
+        collider.collisionCategory = 0b10L;
+        collided.collisionMask = 0b01L;
+
+        // Act
+        runUpdate(Set.of(collider));
+
+        // Assert
+        assertTrue(collided.events.isEmpty());
+        assertEquals(0, collided.undoCount);
+    }
+
+    @Test
+    void pairsMatchReferenceAfterManyUpdates() {
+        // Arrange
+        var random = new Random(11);
+        var colliders = new ArrayList<TestCollider>();
+        for (var i = 0; i < 200; i++) {
+            colliders.add(new TestCollider(new BoundingBox(0, 0, 1, 1)));
+        }
+        var expectedTouching = new HashSet<AABBCollider>();
+
+        for (var update = 0; update < 50; update++) {
+            var touching = new HashSet<AABBCollider>();
+            for (var collider : colliders) {
+                if (random.nextBoolean()) {
+                    collider.bounds = new BoundingBox(60, 60, 5, 5);
+                    touching.add(collider);
+                } else {
+                    collider.bounds = new BoundingBox(500, 500, 5, 5);
+                }
+            }
+
+            var entered = new HashSet<>(touching);
+            entered.removeAll(expectedTouching);
+            var exited = new HashSet<>(expectedTouching);
+            exited.removeAll(touching);
+
+            collided.entered.clear();
+            collided.exited.clear();
+
+            // Act
+            runUpdate(new LinkedHashSet<>(colliders));
+
+            // Assert
+            assertEquals(entered, collided.entered);
+            assertEquals(exited, collided.exited);
+            assertEquals(touching.size(), sut.size());
+            expectedTouching = touching;
+        }
+    }
+
+    private void runUpdate(final Set<AABBCollider> colliders) {
+        sut.beginUpdate();
+        sut.check(collided, colliders);
+        sut.endUpdate();
+    }
+
+    private static class TestCollider implements AABBCollider {
+
+        private Bounds bounds;
+        private long collisionCategory = DEFAULT_COLLISION_CATEGORY;
+
+        TestCollider(final Bounds bounds) {
+            this.bounds = bounds;
+        }
+
+        @Override
+        public long getCollisionCategory() {
+            return collisionCategory;
+        }
+
+        @Override
+        public Bounds getTransformedBounds() {
+            return bounds;
+        }
+
+        @Override
+        public Optional<Node> getGameNode() {
+            return Optional.empty();
+        }
+    }
+
+    private static class TestContactAwareCollided implements AABBContactAwareCollided {
+
+        private final Bounds bounds;
+        private final List<String> events = new ArrayList<>();
+        private final Set<AABBCollider> entered = new HashSet<>();
+        private final Set<AABBCollider> exited = new HashSet<>();
+        private AABBCollider lastCollider;
+        private long collisionMask = ALL_COLLISION_CATEGORIES;
+        private int undoCount;
+        private MotionApplier motionApplier;
+
+        TestContactAwareCollided(final Bounds bounds) {
+            this.bounds = bounds;
+        }
+
+        @Override
+        public void onCollisionEnter(final AABBCollider collidingObject) {
+            events.add("enter");
+            entered.add(collidingObject);
+            lastCollider = collidingObject;
+        }
+
+        @Override
+        public void onCollisionStay(final AABBCollider collidingObject) {
+            events.add("stay");
+            lastCollider = collidingObject;
+        }
+
+        @Override
+        public void onCollisionExit(final AABBCollider collidingObject) {
+            events.add("exit");
+            exited.add(collidingObject);
+            lastCollider = collidingObject;
+        }
+
+        @Override
+        public void undoUpdate() {
+            undoCount++;
+        }
+
+        @Override
+        public Bounds getTransformedBounds() {
+            return bounds;
+        }
+
+        @Override
+        public long getCollisionMask() {
+            return collisionMask;
+        }
+
+        @Override
+        public Optional<Node> getGameNode() {
+            return Optional.empty();
+        }
+
+        @Override
+        public void setMotionApplier(DefaultMotionApplier motionApplier) {
+            this.motionApplier = motionApplier;
+        }
+
+        @Override
+        public MotionApplier getMotionApplier() {
+            return motionApplier;
+        }
+
+        @Override
+        public void setReferenceX(double x) {
+            // Not required here.
+        }
+
+        @Override
+        public void setReferenceY(double y) {
+            // Not required here.
+        }
+
+        @Override
+        public void placeOnScene() {
+            // Not required here.
+        }
+
+        @Override
+        public void setAnchorPoint(AnchorPoint anchorPoint) {
+            // Not required here.
+        }
+
+        @Override
+        public AnchorPoint getAnchorPoint() {
+            return null;
+        }
+    }
+}
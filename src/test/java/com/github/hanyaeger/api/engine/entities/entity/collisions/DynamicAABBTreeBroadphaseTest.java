@@ -0,0 +1,242 @@
+package com.github.hanyaeger.api.engine.entities.entity.collisions;
+
+import com.github.hanyaeger.api.engine.exceptions.YaegerEngineException;
+import javafx.geometry.BoundingBox;
+import javafx.geometry.Bounds;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class DynamicAABBTreeBroadphaseTest {
+
+    private DynamicAABBTreeBroadphase sut;
+    private List<AABBCollider> result;
+
+    @BeforeEach
+    void setup() {
+        sut = new DynamicAABBTreeBroadphase();
+        result = new ArrayList<>();
+    }
+
+    @Test
+    void negativeMarginThrowsException() {
+        // Arrange
+
+        // Act & Assert
+        assertThrows(YaegerEngineException.class, () -> new DynamicAABBTreeBroadphase(-1));
+    }
+
+    @Test
+    void emptyTreeHasNoHeight() {
+        // Arrange
+
+        // Act
+        var height = sut.getHeight();
+
+        // Assert
+        assertEquals(-1, height);
+    }
+
+    @Test
+    void queryOnEmptyTreeReturnsNoCandidates() {
+        // Arrange
+
+        // Act
+        sut.query(new BoundingBox(0, 0, 10, 10), result);
+
+        // Assert
+        assertTrue(result.isEmpty());
+    }
+
+    @Test
+    void queryReturnsOverlappingCollider() {
+        // Arrange
+        var collider = createCollider(new BoundingBox(10, 10, 20, 20));
+        sut.register(collider);
+
+        // Act
+        sut.query(new BoundingBox(15, 15, 20, 20), result);
+
+        // Assert
+        assertEquals(List.of(collider), result);
+    }
+
+    @Test
+    void queryDoesNotReturnDistantCollider() {
+        // Arrange
+        sut.register(createCollider(new BoundingBox(500, 500, 20, 20)));
+        sut.register(createCollider(new BoundingBox(800, 500, 20, 20)));
+
+        // Act
+        sut.query(new BoundingBox(15, 15, 20, 20), result);
+
+        // Assert
+        assertTrue(result.isEmpty());
+    }
+
+    @Test
+    void registeringTwiceAddsColliderOnce() {
+        // Arrange
+        var collider = createCollider(new BoundingBox(10, 10, 20, 20));
+        sut.register(collider);
+
+        // Act
+        sut.register(collider);
+        sut.query(new BoundingBox(15, 15, 20, 20), result);
+
+        // Assert
+        assertEquals(1, result.size());
+    }
+
+    @Test
+    void removedColliderIsNotReturned() {
+        // Arrange
+        var collider = createCollider(new BoundingBox(10, 10, 20, 20));
+        var other = createCollider(new BoundingBox(12, 12, 20, 20));
+        sut.register(collider);
+        sut.register(other);
+
+        // Act
+        sut.remove(collider);
+        sut.query(new BoundingBox(15, 15, 20, 20), result);
+
+        // Assert
+        assertEquals(List.of(other), result);
+    }
+
+    @Test
+    void colliderMovingWithinMarginIsNotReinserted() {
+        // Arrange
+        var collider = mock(AABBCollider.class);
+        when(collider.getTransformedBounds()).thenReturn(new BoundingBox(0, 0, 10, 10));
+        sut.register(collider);
+        when(collider.getTransformedBounds()).thenReturn(new BoundingBox(2, 2, 10, 10));
+
+        // Act
+        sut.invalidate(collider);
+        sut.update();
+        sut.query(new BoundingBox(-5, -5, 2, 2), result);
+
+        // Assert
+        assertEquals(List.of(collider), result);
+    }
+
+    @Test
+    void colliderMovingBeyondMarginIsFoundAtNewLocation() {
+        // Arrange
+        var collider = mock(AABBCollider.class);
+        when(collider.getTransformedBounds()).thenReturn(new BoundingBox(0, 0, 10, 10));
+        sut.register(collider);
+        when(collider.getTransformedBounds()).thenReturn(new BoundingBox(400, 400, 10, 10));
+
+        // Act
+        sut.invalidate(collider);
+        sut.update();
+
+        // Assert
+        sut.query(new BoundingBox(0, 0, 10, 10), result);
+        assertTrue(result.isEmpty());
+        sut.query(new BoundingBox(405, 405, 10, 10), result);
+        assertEquals(List.of(collider), result);
+    }
+
+    @Test
+    void colliderThatIsNotInvalidatedIsNotRead() {
+        // Arrange
+        var moved = createCollider(new BoundingBox(0, 0, 10, 10));
+        var unchanged = createCollider(new BoundingBox(100, 100, 10, 10));
+        sut.register(moved);
+        sut.register(unchanged);
+        when(moved.getTransformedBounds()).thenReturn(new BoundingBox(400, 400, 10, 10));
+
+        // Act
+        sut.invalidate(moved);
+        sut.update();
+
+        // Assert
+        verify(moved, times(2)).getTransformedBounds();
+        verify(unchanged, times(1)).getTransformedBounds();
+        sut.query(new BoundingBox(405, 405, 10, 10), result);
+        assertEquals(List.of(moved), result);
+    }
+
+    @Test
+    void invalidatedColliderThatIsRemovedIsSkipped() {
+        // Arrange
+        var collider = createCollider(new BoundingBox(0, 0, 10, 10));
+        sut.register(collider);
+        sut.invalidate(collider);
+
+        // Act
+        sut.remove(collider);
+        sut.update();
+
+        // Assert
+        assertEquals(-1, sut.getHeight());
+        verify(collider, times(1)).getTransformedBounds();
+    }
+
+    @Test
+    void treeStaysBalancedForSortedInsertions() {
+        // Arrange
+        var count = 1024;
+
+        // Act
+        for (var i = 0; i < count; i++) {
+            sut.register(createCollider(new BoundingBox(i * 20, 0, 10, 10)));
+        }
+
+        // Assert
+        assertTrue(sut.getHeight() <= 2 * (int) Math.ceil(Math.log(count) / Math.log(2)));
+    }
+
+    @Test
+    void queryMatchesBruteForceAfterRandomInsertionsAndRemovals() {
+        // Arrange
+        var random = new Random(42);
+        var colliders = new ArrayList<AABBCollider>();
+        var bounds = new ArrayList<Bounds>();
+
+        for (var i = 0; i < 300; i++) {
+            var size = random.nextBoolean() ? 4 : 400;
+            var box = new BoundingBox(random.nextInt(2000), random.nextInt(2000), size, size);
+            var collider = createCollider(box);
+            colliders.add(collider);
+            bounds.add(box);
+            sut.register(collider);
+        }
+        for (var i = 0; i < 100; i++) {
+            sut.remove(colliders.get(i));
+        }
+
+        var query = new BoundingBox(500, 500, 300, 300);
+        var expected = new HashSet<AABBCollider>();
+        for (var i = 100; i < colliders.size(); i++) {
+            if (bounds.get(i).intersects(query)) {
+                expected.add(colliders.get(i));
+            }
+        }
+
+        // Act
+        sut.query(query, result);
+
+        // Assert
+        assertTrue(new HashSet<>(result).containsAll(expected));
+        for (var i = 0; i < 100; i++) {
+            assertFalse(result.contains(colliders.get(i)));
+        }
+    }
+
+    private AABBCollider createCollider(final Bounds bounds) {
+        var collider = mock(AABBCollider.class);
+        when(collider.getTransformedBounds()).thenReturn(bounds);
+        return collider;
+    }
+}
@@ -0,0 +1,206 @@
+package com.github.hanyaeger.api.engine.entities.entity.collisions;
+
+import com.github.hanyaeger.api.engine.entities.entity.Bounded;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class NarrowphaseTest {
+
+    @Test
+    void touchingCirclesIntersect() {
+        // Arrange
+
+        // Act
+        var intersect = Narrowphase.circlesIntersect(0, 0, 10, 20, 0, 10);
+
+        // Assert
+        assertTrue(intersect);
+    }
+
+    @Test
+    void circlesWithOverlappingBoundsDoNotIntersect() {
+        // Arrange
+
+        // Act
+        var intersect = Narrowphase.circlesIntersect(0, 0, 10, 15, 15, 10);
+
+        // Assert
+        assertFalse(intersect);
+    }
+
+    @Test
+    void circleNearCornerOfBoxDoesNotIntersect() {
+        // Arrange
+
+        // Act
+        var intersect = Narrowphase.circleIntersectsBox(18, 18, 10, 0, 0, 10, 10, 0);
+
+        // Assert
+        assertFalse(intersect);
+    }
+
+    @Test
+    void circleNearEdgeOfBoxIntersects() {
+        // Arrange
+
+        // Act
+        var intersect = Narrowphase.circleIntersectsBox(18, 0, 10, 0, 0, 10, 10, 0);
+
+        // Assert
+        assertTrue(intersect);
+    }
+
+    @Test
+    void circleNearCornerOfRotatedBoxIntersects() {
+        // Arrange
+        // Rotated by 45 degrees, the corner of the box points along the x-axis, at a distance of 14.14.
+
+        // Act
+        var intersect = Narrowphase.circleIntersectsBox(22, 0, 10, 0, 0, 10, 10, 45);
+
+        // Assert
+        assertTrue(intersect);
+    }
+
+    @Test
+    void rotatedBoxesWithOverlappingBoundsDoNotIntersect() {
+        // Arrange
+        // Two thin boxes rotated by 45 degrees, lying parallel to each other.
+
+        // Act
+        var intersect = Narrowphase.boxesIntersect(0, 0, 50, 2, 45, 20, -20, 50, 2, 45);
+
+        // Assert
+        assertFalse(intersect);
+    }
+
+    @Test
+    void crossingRotatedBoxesIntersect() {
+        // Arrange
+
+        // Act
+        var intersect = Narrowphase.boxesIntersect(0, 0, 50, 2, 45, 0, 0, 50, 2, -45);
+
+        // Assert
+        assertTrue(intersect);
+    }
+
+    @Test
+    void boxNearTipOfEllipseIntersects() {
+        // Arrange
+
+        // Act
+        var intersect = Narrowphase.ellipseIntersectsBox(0, 0, 40, 10, 0, 45, 0, 6, 6, 0);
+
+        // Assert
+        assertTrue(intersect);
+    }
+
+    @Test
+    void boxNearCornerOfEllipseBoundsDoesNotIntersect() {
+        // Arrange
+
+        // Act
+        var intersect = Narrowphase.ellipseIntersectsBox(0, 0, 40, 10, 0, 38, 9, 2, 2, 0);
+
+        // Assert
+        assertFalse(intersect);
+    }
+
+    @Test
+    void boxAlongRotatedEllipseIntersects() {
+        // Arrange
+
+        // Act
+        var intersect = Narrowphase.ellipseIntersectsBox(0, 0, 40, 10, 90, 0, 45, 6, 6, 0);
+
+        // Assert
+        assertTrue(intersect);
+    }
+
+    @Test
+    void ellipseWithEqualRadiiMatchesCircle() {
+        // Arrange
+        var random = new Random(7);
+
+        for (var i = 0; i < 1000; i++) {
+            var cx = random.nextDouble() * 100 - 50;
+            var cy = random.nextDouble() * 100 - 50;
+            var radius = random.nextDouble() * 30 + 1;
+            var halfWidth = random.nextDouble() * 30 + 1;
+            var halfHeight = random.nextDouble() * 30 + 1;
+            var rotation = random.nextDouble() * 360;
+
+            // Act
+            var ellipse = Narrowphase.ellipseIntersectsBox(cx, cy, radius, radius, 0, 0, 0, halfWidth, halfHeight, rotation);
+            var circle = Narrowphase.circleIntersectsBox(cx, cy, radius, 0, 0, halfWidth, halfHeight, rotation);
+
+            // Assert
+            assertEquals(circle, ellipse);
+        }
+    }
+
+    @Test
+    void circlePairIsTestedAsCircles() {
+        // Arrange
+
+        // Act
+        var intersect = Narrowphase.shapesIntersect(CollisionShape.CIRCLE, 0, 0, 10, 10, 0,
+                CollisionShape.CIRCLE, 15, 15, 10, 10, 0);
+
+        // Assert
+        assertFalse(intersect);
+    }
+
+    @Test
+    void ellipsesFarApartWithOverlappingBoundsDoNotIntersect() {
+        // Arrange
+
+        // Act
+        var intersect = Narrowphase.shapesIntersect(CollisionShape.ELLIPSE, 0, 0, 40, 10, 0,
+                CollisionShape.ELLIPSE, 70, 18, 40, 10, 0);
+
+        // Assert
+        assertFalse(intersect);
+    }
+
+    @Test
+    void firstBoundedWithEmptyBoundsDoesNotIntersect() {
+        // Arrange
+        var a = createBounded(10, 10, 0, 0);
+        var b = createBounded(0, 0, 10, 10);
+
+        // Act
+        var intersect = Narrowphase.intersect(a, b);
+
+        // Assert
+        assertFalse(intersect);
+    }
+
+    @Test
+    void secondBoundedWithEmptyBoundsDoesNotIntersect() {
+        // Arrange
+        var a = createBounded(0, 0, 10, 10);
+        var b = createBounded(10, 10, 0, 0);
+
+        // Act
+        var intersect = Narrowphase.intersect(a, b);
+
+        // Assert
+        assertFalse(intersect);
+    }
+
+    private Bounded createBounded(final double minX, final double minY, final double maxX, final double maxY) {
+        var bounded = mock(Bounded.class);
+        when(bounded.getTransformedMinX()).thenReturn(minX);
+        when(bounded.getTransformedMinY()).thenReturn(minY);
+        when(bounded.getTransformedMaxX()).thenReturn(maxX);
+        when(bounded.getTransformedMaxY()).thenReturn(maxY);
+        return bounded;
+    }
+}
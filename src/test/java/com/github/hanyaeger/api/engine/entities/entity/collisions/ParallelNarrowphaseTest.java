@@ -0,0 +1,147 @@
+package com.github.hanyaeger.api.engine.entities.entity.collisions;
+
+import javafx.geometry.BoundingBox;
+import javafx.geometry.Bounds;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.mockito.Mockito.*;
+
+class ParallelNarrowphaseTest {
+
+    private ParallelNarrowphase sut;
+    private Set<AABBCollided> collideds;
+    private Set<AABBCollider> colliders;
+
+    @BeforeEach
+    void setup() {
+        sut = new ParallelNarrowphase(new ForkJoinPool(4), new ContactPairCache());
+        collideds = new LinkedHashSet<>();
+        colliders = new LinkedHashSet<>();
+    }
+
+    @Test
+    void overlappingPairIsReported() {
+        // Arrange
+        var collider = createCollider(new BoundingBox(0, 0, 10, 10), AABBCollider.DEFAULT_COLLISION_CATEGORY);
+        var collided = createCollided(new BoundingBox(5, 5, 10, 10), AABBCollided.ALL_COLLISION_CATEGORIES);
+        colliders.add(collider);
+        collideds.add(collided);
+
+        // Act
+        sut.checkCollisions(collideds, colliders);
+
+        // Assert
+        verify(collided).onCollision(collider);
+        verify(collided).undoUpdate();
+    }
+
+    @Test
+    void separatePairIsNotReported() {
+        // Arrange
+        var collider = createCollider(new BoundingBox(100, 100, 10, 10), AABBCollider.DEFAULT_COLLISION_CATEGORY);
+        var collided = createCollided(new BoundingBox(5, 5, 10, 10), AABBCollided.ALL_COLLISION_CATEGORIES);
+        colliders.add(collider);
+        collideds.add(collided);
+
+        // Act
+        sut.checkCollisions(collideds, colliders);
+
+        // Assert
+        verify(collided, never()).onCollision(any(AABBCollider.class));
+    }
+
+    @Test
+    void pairOutsideCollisionMaskIsNotReported() {
+        // Arrange
+        var collider = createCollider(new BoundingBox(0, 0, 10, 10), 0b10L);
+        var collided = createCollided(new BoundingBox(5, 5, 10, 10), 0b01L);
+        colliders.add(collider);
+        collideds.add(collided);
+
+        // Act
+        sut.checkCollisions(collideds, colliders);
+
+        // Assert
+        verify(collided, never()).onCollision(any(AABBCollider.class));
+    }
+
+    @Test
+    void onlyFirstColliderInIterationOrderIsReported() {
+        // Arrange
+        var first = createCollider(new BoundingBox(0, 0, 10, 10), AABBCollider.DEFAULT_COLLISION_CATEGORY);
+        var second = createCollider(new BoundingBox(2, 2, 10, 10), AABBCollider.DEFAULT_COLLISION_CATEGORY);
+        var collided = createCollided(new BoundingBox(5, 5, 10, 10), AABBCollided.ALL_COLLISION_CATEGORIES);
+        colliders.add(first);
+        colliders.add(second);
+        collideds.add(collided);
+
+        // Act
+        sut.checkCollisions(collideds, colliders);
+
+        // Assert
+        verify(collided).onCollision(first);
+        verify(collided, never()).onCollision(second);
+    }
+
+    @Test
+    void collisionsAreDispatchedInIterationOrderOfCollideds() {
+        // Arrange
+        var collider = createCollider(new BoundingBox(0, 0, 1000, 1000), AABBCollider.DEFAULT_COLLISION_CATEGORY);
+        colliders.add(collider);
+
+        List<AABBCollided> ordered = new ArrayList<>();
+        for (var i = 0; i < 500; i++) {
+            var collided = createCollided(new BoundingBox(i, i, 5, 5), AABBCollided.ALL_COLLISION_CATEGORIES);
+            ordered.add(collided);
+            collideds.add(collided);
+        }
+
+        InOrder inOrder = inOrder(ordered.toArray());
+
+        // Act
+        sut.checkCollisions(collideds, colliders);
+
+        // Assert
+        for (var collided : ordered) {
+            inOrder.verify(collided).onCollision(collider);
+        }
+    }
+
+    @Test
+    void sweptCollidedIsCheckedOnCallingThread() {
+        // Arrange
+        var collider = createCollider(new BoundingBox(0, 0, 10, 10), AABBCollider.DEFAULT_COLLISION_CATEGORY);
+        var collided = mock(SweptAABBCollided.class);
+        colliders.add(collider);
+        collideds.add(collided);
+
+        // Act
+        sut.checkCollisions(collideds, colliders);
+
+        // Assert
+        verify(collided).checkForCollisions(colliders);
+        verify(collided, never()).getTransformedBounds();
+    }
+
+    private AABBCollider createCollider(final Bounds bounds, final long category) {
+        var collider = mock(AABBCollider.class);
+        when(collider.getTransformedBounds()).thenReturn(bounds);
+        when(collider.getCollisionCategory()).thenReturn(category);
+        return collider;
+    }
+
+    private AABBCollided createCollided(final Bounds bounds, final long mask) {
+        var collided = mock(AABBCollided.class);
+        when(collided.getTransformedBounds()).thenReturn(bounds);
+        when(collided.getCollisionMask()).thenReturn(mask);
+        return collided;
+    }
+}
@@ -13,9 +13,12 @@ import java.util.Optional;
 import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 class SideAABBCollidedTest {
 
+    private static final double DELTA = 0.000001;
     private static final Bounds TEST_NOT_COLLIDING_BOUNDINGBOX = new BoundingBox(0, 0, 0, 1, 1, 0);
     private static final Bounds TEST_COLLIDED_BOUNDINGBOX = new BoundingBox(50, 50, 0, 25, 25, 0);
     private static final Bounds TEST_COLLIDED_BOTTOM_BOUNDINGBOX = new BoundingBox(55, 49, 0, 10, 2, 0);
@@ -118,6 +121,72 @@ class SideAABBCollidedTest {
         assertEquals(CollisionSide.RIGHT, sut.getCollisionSide());
     }
 
+    @Test
+    void penetrationDepthIsReported() {
+        // Arrange
+        var leftCollisionCollider = new CollidingAABBCollider();
+        leftCollisionCollider.setBounds(new BoundingBox(40, 55, 0, 14, 10, 0));
+
+        // Act
+        sut.checkForCollisions(Set.of(leftCollisionCollider));
+
+        // Assert
+        assertEquals(CollisionSide.LEFT, sut.getCollisionSide());
+        assertEquals(4, sut.getPenetration(), DELTA);
+    }
+
+    @Test
+    void cornerCollisionWithoutVelocityUsesSmallestPenetration() {
+        // Arrange
+        var cornerCollider = new CollidingAABBCollider();
+        cornerCollider.setBounds(new BoundingBox(40, 45, 0, 12, 20, 0));
+
+        // Act
+        sut.checkForCollisions(Set.of(cornerCollider));
+
+        // Assert
+        assertEquals(CollisionSide.LEFT, sut.getCollisionSide());
+        assertEquals(2, sut.getPenetration(), DELTA);
+    }
+
+    @Test
+    void cornerCollisionUsesRelativeVelocity() {
+        // Arrange
+        var motionApplier = mock(DefaultMotionApplier.class);
+        when(motionApplier.getSpeed()).thenReturn(10d);
+        when(motionApplier.getDirection()).thenReturn(180d);
+        sut.setMotionApplier(motionApplier);
+
+        var cornerCollider = new CollidingAABBCollider();
+        cornerCollider.setBounds(new BoundingBox(40, 45, 0, 12, 20, 0));
+
+        // Act
+        sut.checkForCollisions(Set.of(cornerCollider));
+
+        // Assert
+        assertEquals(CollisionSide.BOTTOM, sut.getCollisionSide());
+        assertEquals(15, sut.getPenetration(), DELTA);
+    }
+
+    @Test
+    void fastMoverInsideColliderUsesRelativeVelocity() {
+        // Arrange
+        var motionApplier = mock(DefaultMotionApplier.class);
+        when(motionApplier.getSpeed()).thenReturn(30d);
+        when(motionApplier.getDirection()).thenReturn(90d);
+        sut.setMotionApplier(motionApplier);
+
+        var bodyCollider = new CollidingAABBCollider();
+        bodyCollider.setBounds(TEST_COLLIDED_BODY_BOUNDINGBOX);
+
+        // Act
+        sut.checkForCollisions(Set.of(bodyCollider));
+
+        // Assert
+        assertEquals(CollisionSide.RIGHT, sut.getCollisionSide());
+        assertEquals(9, sut.getPenetration(), DELTA);
+    }
+
     private class CollidingAABBCollider implements AABBCollider {
 
         private Bounds bounds;
@@ -156,6 +225,14 @@ class SideAABBCollidedTest {
 
         private AABBCollider AABBCollider;
         private CollisionSide collisionSide;
+        private double penetration;
+        private MotionApplier motionApplier;
+
+        @Override
+        public void onCollision(AABBCollider collidingObject, CollisionSide side, double penetration) {
+            this.penetration = penetration;
+            AABBSideAwareCollided.super.onCollision(collidingObject, side, penetration);
+        }
 
         @Override
         public void onCollision(AABBCollider collidingObject, CollisionSide side) {
@@ -187,14 +264,18 @@ class SideAABBCollidedTest {
             return AABBCollider;
         }
 
+        public double getPenetration() {
+            return penetration;
+        }
+
         @Override
         public void setMotionApplier(DefaultMotionApplier motionApplier) {
-            // Not required here
+            this.motionApplier = motionApplier;
         }
 
         @Override
         public MotionApplier getMotionApplier() {
-            return null;
+            return motionApplier;
         }
 
         @Override
@@ -0,0 +1,221 @@
+package com.github.hanyaeger.api.engine.entities.entity.collisions;
+
+import com.github.hanyaeger.api.engine.exceptions.YaegerEngineException;
+import javafx.geometry.BoundingBox;
+import javafx.geometry.Bounds;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SpatialHashBroadphaseTest {
+
+    private static final double CELL_SIZE = 50;
+
+    private SpatialHashBroadphase sut;
+    private List<AABBCollider> result;
+
+    @BeforeEach
+    void setup() {
+        sut = new SpatialHashBroadphase(CELL_SIZE);
+        result = new ArrayList<>();
+    }
+
+    @Test
+    void cellSizeOfZeroThrowsException() {
+        // Arrange
+
+        // Act & Assert
+        assertThrows(YaegerEngineException.class, () -> new SpatialHashBroadphase(0));
+    }
+
+    @Test
+    void getCellSizeReturnsCellSize() {
+        // Arrange
+
+        // Act
+        var cellSize = sut.getCellSize();
+
+        // Assert
+        assertEquals(CELL_SIZE, cellSize);
+    }
+
+    @Test
+    void queryOnEmptyBroadphaseReturnsNoCandidates() {
+        // Arrange
+        sut.update();
+
+        // Act
+        sut.query(new BoundingBox(0, 0, 10, 10), result);
+
+        // Assert
+        assertTrue(result.isEmpty());
+    }
+
+    @Test
+    void queryReturnsOverlappingCollider() {
+        // Arrange
+        var collider = createCollider(new BoundingBox(10, 10, 20, 20));
+        sut.register(collider);
+        sut.update();
+
+        // Act
+        sut.query(new BoundingBox(15, 15, 20, 20), result);
+
+        // Assert
+        assertEquals(List.of(collider), result);
+    }
+
+    @Test
+    void queryDoesNotReturnDistantCollider() {
+        // Arrange
+        var collider = createCollider(new BoundingBox(500, 500, 20, 20));
+        sut.register(collider);
+        sut.update();
+
+        // Act
+        sut.query(new BoundingBox(15, 15, 20, 20), result);
+
+        // Assert
+        assertTrue(result.isEmpty());
+    }
+
+    @Test
+    void colliderSpanningMultipleCellsIsReturnedOnce() {
+        // Arrange
+        var collider = createCollider(new BoundingBox(0, 0, 300, 300));
+        sut.register(collider);
+        sut.update();
+
+        // Act
+        sut.query(new BoundingBox(10, 10, 200, 200), result);
+
+        // Assert
+        assertEquals(1, result.size());
+    }
+
+    @Test
+    void colliderOnNegativeCoordinatesIsReturned() {
+        // Arrange
+        var collider = createCollider(new BoundingBox(-80, -80, 20, 20));
+        sut.register(collider);
+        sut.update();
+
+        // Act
+        sut.query(new BoundingBox(-70, -70, 5, 5), result);
+
+        // Assert
+        assertEquals(List.of(collider), result);
+    }
+
+    @Test
+    void movedColliderIsFoundAtNewLocationAfterUpdate() {
+        // Arrange
+        var collider = mock(AABBCollider.class);
+        when(collider.getTransformedBounds()).thenReturn(new BoundingBox(0, 0, 10, 10));
+        sut.register(collider);
+        sut.update();
+        when(collider.getTransformedBounds()).thenReturn(new BoundingBox(400, 400, 10, 10));
+
+        // Act
+        sut.update();
+        sut.query(new BoundingBox(0, 0, 10, 10), result);
+
+        // Assert
+        assertTrue(result.isEmpty());
+    }
+
+    @Test
+    void removedColliderIsNotReturned() {
+        // Arrange
+        var collider = createCollider(new BoundingBox(10, 10, 20, 20));
+        sut.register(collider);
+        sut.remove(collider);
+        sut.update();
+
+        // Act
+        sut.query(new BoundingBox(15, 15, 20, 20), result);
+
+        // Assert
+        assertTrue(result.isEmpty());
+    }
+
+    @Test
+    void removingAColliderKeepsTheOthers() {
+        // Arrange
+        var first = createCollider(new BoundingBox(10, 10, 20, 20));
+        var second = createCollider(new BoundingBox(100, 100, 20, 20));
+        var third = createCollider(new BoundingBox(200, 200, 20, 20));
+        sut.register(first);
+        sut.register(second);
+        sut.register(third);
+        sut.remove(first);
+        sut.update();
+
+        // Act
+        sut.query(new BoundingBox(0, 0, 300, 300), result);
+
+        // Assert
+        assertEquals(2, result.size());
+        assertTrue(result.containsAll(List.of(second, third)));
+    }
+
+    @Test
+    void colliderRegisteredTwiceIsReturnedOnce() {
+        // Arrange
+        var collider = createCollider(new BoundingBox(10, 10, 20, 20));
+        sut.register(collider);
+        sut.register(collider);
+        sut.update();
+
+        // Act
+        sut.query(new BoundingBox(15, 15, 20, 20), result);
+
+        // Assert
+        assertEquals(List.of(collider), result);
+    }
+
+    @Test
+    void colliderBeyondTheGridIsReturned() {
+        // Arrange
+        var bounds = new BoundingBox(1e15, -1e15, 10, 10);
+        var collider = createCollider(bounds);
+        sut.register(collider);
+        sut.update();
+
+        // Act
+        sut.query(bounds, result);
+
+        // Assert
+        assertEquals(List.of(collider), result);
+    }
+
+    @Test
+    void manyCollidersAreAllFound() {
+        // Arrange
+        var colliders = new ArrayList<AABBCollider>();
+        for (var i = 0; i < 500; i++) {
+            var collider = createCollider(new BoundingBox(i * 7, i * 3, 5, 5));
+            colliders.add(collider);
+            sut.register(collider);
+        }
+        sut.update();
+
+        // Act
+        sut.query(new BoundingBox(0, 0, 4000, 2000), result);
+
+        // Assert
+        assertEquals(colliders.size(), result.size());
+    }
+
+    private AABBCollider createCollider(final Bounds bounds) {
+        var collider = mock(AABBCollider.class);
+        when(collider.getTransformedBounds()).thenReturn(bounds);
+        return collider;
+    }
+}
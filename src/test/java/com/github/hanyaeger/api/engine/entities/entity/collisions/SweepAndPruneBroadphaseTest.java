@@ -0,0 +1,164 @@
+package com.github.hanyaeger.api.engine.entities.entity.collisions;
+
+import javafx.geometry.BoundingBox;
+import javafx.geometry.Bounds;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SweepAndPruneBroadphaseTest {
+
+    private SweepAndPruneBroadphase sut;
+    private List<AABBCollider> result;
+
+    @BeforeEach
+    void setup() {
+        sut = new SweepAndPruneBroadphase();
+        result = new ArrayList<>();
+    }
+
+    @Test
+    void queryOnEmptyBroadphaseReturnsNoCandidates() {
+        // Arrange
+        sut.update();
+
+        // Act
+        sut.query(new BoundingBox(0, 0, 10, 10), result);
+
+        // Assert
+        assertTrue(result.isEmpty());
+    }
+
+    @Test
+    void queryReturnsOverlappingCollider() {
+        // Arrange
+        var collider = createCollider(new BoundingBox(10, 10, 20, 20));
+        sut.register(collider);
+        sut.update();
+
+        // Act
+        sut.query(new BoundingBox(15, 15, 20, 20), result);
+
+        // Assert
+        assertEquals(List.of(collider), result);
+    }
+
+    @Test
+    void colliderOverlappingOnlyOnXAxisIsNotReturned() {
+        // Arrange
+        var collider = createCollider(new BoundingBox(10, 500, 20, 20));
+        sut.register(collider);
+        sut.update();
+
+        // Act
+        sut.query(new BoundingBox(15, 15, 20, 20), result);
+
+        // Assert
+        assertTrue(result.isEmpty());
+    }
+
+    @Test
+    void wideColliderStartingLeftOfQueryIsReturned() {
+        // Arrange
+        var wide = createCollider(new BoundingBox(0, 0, 1000, 20));
+        var small = createCollider(new BoundingBox(100, 0, 5, 5));
+        sut.register(small);
+        sut.register(wide);
+        sut.update();
+
+        // Act
+        sut.query(new BoundingBox(900, 0, 10, 10), result);
+
+        // Assert
+        assertEquals(List.of(wide), result);
+    }
+
+    @Test
+    void removedColliderIsNotReturned() {
+        // Arrange
+        var collider = createCollider(new BoundingBox(10, 10, 20, 20));
+        sut.register(collider);
+        sut.update();
+
+        // Act
+        sut.remove(collider);
+        sut.update();
+        sut.query(new BoundingBox(15, 15, 20, 20), result);
+
+        // Assert
+        assertTrue(result.isEmpty());
+    }
+
+    @Test
+    void collidersThatSwapPlacesAreResorted() {
+        // Arrange
+        var first = mock(AABBCollider.class);
+        var second = mock(AABBCollider.class);
+        when(first.getTransformedBounds()).thenReturn(new BoundingBox(0, 0, 10, 10));
+        when(second.getTransformedBounds()).thenReturn(new BoundingBox(100, 0, 10, 10));
+        sut.register(first);
+        sut.register(second);
+        sut.update();
+
+        when(first.getTransformedBounds()).thenReturn(new BoundingBox(200, 0, 10, 10));
+        when(second.getTransformedBounds()).thenReturn(new BoundingBox(50, 0, 10, 10));
+
+        // Act
+        sut.update();
+
+        // Assert
+        sut.query(new BoundingBox(195, 0, 10, 10), result);
+        assertEquals(List.of(first), result);
+        result.clear();
+        sut.query(new BoundingBox(45, 0, 10, 10), result);
+        assertEquals(List.of(second), result);
+    }
+
+    @Test
+    void queryMatchesBruteForceAfterRandomInsertionsAndRemovals() {
+        // Arrange
+        var random = new Random(7);
+        var colliders = new ArrayList<AABBCollider>();
+        var bounds = new ArrayList<Bounds>();
+
+        for (var i = 0; i < 300; i++) {
+            var box = new BoundingBox(random.nextInt(3000), random.nextInt(600), 5 + random.nextInt(60), 5 + random.nextInt(60));
+            var collider = createCollider(box);
+            colliders.add(collider);
+            bounds.add(box);
+            sut.register(collider);
+        }
+        for (var i = 0; i < 100; i++) {
+            sut.remove(colliders.get(i));
+        }
+        sut.update();
+
+        var query = new BoundingBox(1000, 100, 300, 300);
+        var expected = new HashSet<AABBCollider>();
+        for (var i = 100; i < colliders.size(); i++) {
+            if (bounds.get(i).intersects(query)) {
+                expected.add(colliders.get(i));
+            }
+        }
+
+        // Act
+        sut.query(query, result);
+
+        // Assert
+        assertEquals(expected, new HashSet<>(result));
+    }
+
+    private AABBCollider createCollider(final Bounds bounds) {
+        var collider = mock(AABBCollider.class);
+        when(collider.getTransformedBounds()).thenReturn(bounds);
+        return collider;
+    }
+}
@@ -0,0 +1,245 @@
+package com.github.hanyaeger.api.engine.entities.entity.collisions;
+
+import com.github.hanyaeger.api.engine.entities.entity.AnchorPoint;
+import com.github.hanyaeger.api.engine.entities.entity.motion.DefaultMotionApplier;
+import com.github.hanyaeger.api.engine.entities.entity.motion.MotionApplier;
+import javafx.geometry.BoundingBox;
+import javafx.geometry.Bounds;
+import javafx.geometry.Point2D;
+import javafx.scene.Node;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SweptAABBCollidedTest {
+
+    private static final double DELTA = 0.000001;
+    private static final double SIZE = 10;
+
+    private TestSweptCollided sut;
+    private DefaultMotionApplier motionApplier;
+
+    @BeforeEach
+    void setup() {
+        sut = new TestSweptCollided();
+        motionApplier = mock(DefaultMotionApplier.class);
+        sut.setMotionApplier(motionApplier);
+    }
+
+    @Test
+    void fastMoverHitsThinColliderItPassedThrough() {
+        // Arrange
+        moveFromTo(0, 0, 200, 0);
+        var wall = createCollider(new BoundingBox(100, -50, 2, 100));
+
+        // Act
+        sut.checkForCollisions(Set.of(wall));
+
+        // Assert
+        assertEquals(wall, sut.lastCollider);
+        assertEquals(0.45, sut.lastTimeOfImpact, DELTA);
+        assertEquals(90, sut.x, DELTA);
+        assertEquals(0, sut.y, DELTA);
+    }
+
+    @Test
+    void earliestColliderIsReported() {
+        // Arrange
+        moveFromTo(0, 0, 300, 0);
+        var near = createCollider(new BoundingBox(100, -50, 2, 100));
+        var far = createCollider(new BoundingBox(200, -50, 2, 100));
+
+        // Act
+        sut.checkForCollisions(Set.of(far, near));
+
+        // Assert
+        assertEquals(near, sut.lastCollider);
+    }
+
+    @Test
+    void colliderBehindMotionIsNotHit() {
+        // Arrange
+        moveFromTo(100, 0, 300, 0);
+        var wall = createCollider(new BoundingBox(50, -50, 2, 100));
+
+        // Act
+        sut.checkForCollisions(Set.of(wall));
+
+        // Assert
+        assertNull(sut.lastCollider);
+    }
+
+    @Test
+    void colliderNextToPathIsNotHit() {
+        // Arrange
+        moveFromTo(0, 0, 200, 0);
+        var wall = createCollider(new BoundingBox(100, 50, 2, 100));
+
+        // Act
+        sut.checkForCollisions(Set.of(wall));
+
+        // Assert
+        assertNull(sut.lastCollider);
+    }
+
+    @Test
+    void diagonalMoverHitsCollider() {
+        // Arrange
+        moveFromTo(0, 0, 100, 100);
+        var block = createCollider(new BoundingBox(50, 50, 5, 5));
+
+        // Act
+        sut.checkForCollisions(Set.of(block));
+
+        // Assert
+        assertEquals(block, sut.lastCollider);
+        assertEquals(0.4, sut.lastTimeOfImpact, DELTA);
+    }
+
+    @Test
+    void colliderOutsideCollisionMaskIsIgnored() {
+        // Arrange
+        moveFromTo(0, 0, 200, 0);
+        var wall = createCollider(new BoundingBox(100, -50, 2, 100));
+        when(wall.getCollisionCategory()).thenReturn(0b10L);
+        sut.collisionMask = 0b01L;
+
+        // Act
+        sut.checkForCollisions(Set.of(wall));
+
+        // Assert
+        assertNull(sut.lastCollider);
+    }
+
+    @Test
+    void sweptBoundsContainStartAndEnd() {
+        // Arrange
+        moveFromTo(100, 100, 40, 130);
+
+        // Act
+        var bounds = sut.getSweptBounds();
+
+        // Assert
+        assertEquals(40, bounds.getMinX(), DELTA);
+        assertEquals(100, bounds.getMinY(), DELTA);
+        assertEquals(110, bounds.getMaxX(), DELTA);
+        assertEquals(140, bounds.getMaxY(), DELTA);
+    }
+
+    @Test
+    void withoutMotionRegularCollisionDetectionIsUsed() {
+        // Arrange
+        sut.x = 0;
+        sut.y = 0;
+        when(motionApplier.getSpeed()).thenReturn(0d);
+        when(motionApplier.getPreviousLocation()).thenReturn(Optional.empty());
+        var block = createCollider(new BoundingBox(5, 5, 10, 10));
+
+        // Act
+        sut.checkForCollisions(Set.of(block));
+
+        // Assert
+        assertEquals(block, sut.lastCollider);
+        assertEquals(1, sut.lastTimeOfImpact, DELTA);
+    }
+
+    private void moveFromTo(final double fromX, final double fromY, final double toX, final double toY) {
+        sut.x = toX;
+        sut.y = toY;
+        when(motionApplier.getSpeed()).thenReturn(Math.hypot(toX - fromX, toY - fromY));
+        when(motionApplier.getPreviousLocation()).thenReturn(Optional.of(new Point2D(fromX, fromY)));
+    }
+
+    private AABBCollider createCollider(final Bounds bounds) {
+        var collider = mock(AABBCollider.class);
+        when(collider.getTransformedBounds()).thenReturn(bounds);
+        when(collider.getTransformedMinX()).thenReturn(bounds.getMinX());
+        when(collider.getTransformedMinY()).thenReturn(bounds.getMinY());
+        when(collider.getTransformedMaxX()).thenReturn(bounds.getMaxX());
+        when(collider.getTransformedMaxY()).thenReturn(bounds.getMaxY());
+        when(collider.getCollisionCategory()).thenReturn(AABBCollider.DEFAULT_COLLISION_CATEGORY);
+        return collider;
+    }
+
+    private static class TestSweptCollided implements SweptAABBCollided {
+
+        private double x;
+        private double y;
+        private long collisionMask = ALL_COLLISION_CATEGORIES;
+        private MotionApplier motionApplier;
+        private AABBCollider lastCollider;
+        private double lastTimeOfImpact;
+
+        @Override
+        public void onCollision(AABBCollider collidingObject, double timeOfImpact) {
+            lastCollider = collidingObject;
+            lastTimeOfImpact = timeOfImpact;
+        }
+
+        @Override
+        public Bounds getTransformedBounds() {
+            return new BoundingBox(x, y, SIZE, SIZE);
+        }
+
+        @Override
+        public double getOriginX() {
+            return x;
+        }
+
+        @Override
+        public double getOriginY() {
+            return y;
+        }
+
+        @Override
+        public long getCollisionMask() {
+            return collisionMask;
+        }
+
+        @Override
+        public Optional<Node> getGameNode() {
+            return Optional.empty();
+        }
+
+        @Override
+        public void setMotionApplier(DefaultMotionApplier motionApplier) {
+            this.motionApplier = motionApplier;
+        }
+
+        @Override
+        public MotionApplier getMotionApplier() {
+            return motionApplier;
+        }
+
+        @Override
+        public void setReferenceX(double x) {
+            this.x = x;
+        }
+
+        @Override
+        public void setReferenceY(double y) {
+            this.y = y;
+        }
+
+        @Override
+        public void placeOnScene() {
+            // Not required here.
+        }
+
+        @Override
+        public void setAnchorPoint(AnchorPoint anchorPoint) {
+            // Not required here.
+        }
+
+        @Override
+        public AnchorPoint getAnchorPoint() {
+            return null;
+        }
+    }
+}
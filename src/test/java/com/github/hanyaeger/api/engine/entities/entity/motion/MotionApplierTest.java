@@ -0,0 +1,44 @@
+package com.github.hanyaeger.api.engine.entities.entity.motion;
+
+import javafx.geometry.Point2D;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class MotionApplierTest {
+
+    private MotionApplier sut;
+
+    @BeforeEach
+    void setup() {
+        sut = mock(MotionApplier.class, CALLS_REAL_METHODS);
+    }
+
+    @Test
+    void getDeltaXAndGetDeltaYAreReadFromTransformation() {
+        // Arrange
+        doReturn(new Point2D(37, 42)).when(sut).get();
+
+        // Act
+        var deltaX = sut.getDeltaX();
+        var deltaY = sut.getDeltaY();
+
+        // Assert
+        assertEquals(37, deltaX);
+        assertEquals(42, deltaY);
+    }
+
+    @Test
+    void setPreviousLocationDoesNothingByDefault() {
+        // Arrange
+
+        // Act
+        sut.setPreviousLocation(37, 42);
+
+        // Assert
+        verify(sut).setPreviousLocation(37, 42);
+        verifyNoMoreInteractions(sut);
+    }
+}
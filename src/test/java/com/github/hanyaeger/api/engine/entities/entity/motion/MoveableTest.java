@@ -137,12 +137,12 @@ class MoveableTest {
     @Test
     void callingTheUpdatableModifiesPosition() {
         // Arrange
-        var UPDATED_LOCATION = new Point2D(37, 42);
         Updatable updatable = sut.updateLocation();
         Node node = mock(Node.class, withSettings().withoutAnnotations());
-        Bounds bounds = new BoundingBox(0, 0, 10, 10);
+        Bounds bounds = new BoundingBox(5, 6, 10, 10);
         when(node.getBoundsInLocal()).thenReturn(bounds);
-        when(motionApplier.updateLocation(any(Point2D.class))).thenReturn(UPDATED_LOCATION);
+        when(motionApplier.getDeltaX()).thenReturn(32d);
+        when(motionApplier.getDeltaY()).thenReturn(36d);
         when(motionApplier.getSpeed()).thenReturn(1d);
 
         ((MoveableImpl) sut).setGameNode(node);
@@ -150,7 +150,43 @@ class MoveableTest {
         updatable.update(TIMESTAMP);
 
         // Assert
-        verify(motionApplier).updateLocation(any(Point2D.class));
+        verify(motionApplier).setPreviousLocation(5, 6);
+        Assertions.assertEquals(37, ((MoveableImpl) sut).referenceX, DELTA);
+        Assertions.assertEquals(42, ((MoveableImpl) sut).referenceY, DELTA);
+    }
+
+    @Test
+    void callingTheUpdatableWithSubclassOfDefaultMotionApplierUsesItsDeltas() {
+        // Arrange
+        sut.setMotionApplier(new DefaultMotionApplier() {
+            @Override
+            public double getDeltaX() {
+                return 32;
+            }
+
+            @Override
+            public double getDeltaY() {
+                return 36;
+            }
+
+            @Override
+            public Point2D updateLocation(final Point2D currentLocation) {
+                return new Point2D(0, 0);
+            }
+        });
+        sut.setMotionTo(1, Direction.RIGHT.getValue());
+        Updatable updatable = sut.updateLocation();
+        Node node = mock(Node.class, withSettings().withoutAnnotations());
+        Bounds bounds = new BoundingBox(5, 6, 10, 10);
+        when(node.getBoundsInLocal()).thenReturn(bounds);
+
+        ((MoveableImpl) sut).setGameNode(node);
+        // Act
+        updatable.update(TIMESTAMP);
+
+        // Assert
+        Assertions.assertEquals(37, ((MoveableImpl) sut).referenceX, DELTA);
+        Assertions.assertEquals(42, ((MoveableImpl) sut).referenceY, DELTA);
     }
 
     @Test
@@ -169,12 +205,15 @@ class MoveableTest {
 
         // Assert
         verify(motionApplier, never()).updateLocation(any(Point2D.class));
+        verify(motionApplier, never()).setPreviousLocation(anyDouble(), anyDouble());
     }
 
     private class MoveableImpl implements Moveable {
 
         DefaultMotionApplier motionApplier;
         Node node;
+        double referenceX;
+        double referenceY;
 
         @Override
         public void setMotionApplier(DefaultMotionApplier motionApplier) {
@@ -207,12 +246,12 @@ class MoveableTest {
 
         @Override
         public void setReferenceX(double x) {
-            // Not required here.
+            referenceX = x;
         }
 
         @Override
         public void setReferenceY(double y) {
-            // Not required here.
+            referenceY = y;
         }
 
         @Override
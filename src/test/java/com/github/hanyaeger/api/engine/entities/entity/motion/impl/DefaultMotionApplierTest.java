@@ -368,4 +368,46 @@ class DefaultMotionApplierTest {
         // Assert
         Assertions.assertEquals(expected, actual);
     }
+
+    @Test
+    void setPreviousLocationSetsPreviousLocation() {
+        // Arrange
+        var expected = new Point2D(37, 42);
+
+        // Act
+        sut.setPreviousLocation(expected.getX(), expected.getY());
+        var actual = sut.getPreviousLocation().get();
+
+        // Assert
+        Assertions.assertEquals(expected, actual);
+    }
+
+    @Test
+    void deltaEqualsTransformation() {
+        // Arrange
+        sut.setMotionTo(3.7, 42);
+
+        // Act
+        var deltaX = sut.getDeltaX();
+        var deltaY = sut.getDeltaY();
+
+        // Assert
+        assertEquals(sut.get().getX(), deltaX, DELTA);
+        assertEquals(sut.get().getY(), deltaY, DELTA);
+    }
+
+    @Test
+    void getDirectionFollowsChangedMotion() {
+        // Arrange
+        sut.setMotionTo(1, Direction.RIGHT.getValue());
+        var before = sut.getDirection();
+
+        // Act
+        sut.multiplySpeedWith(-1);
+        var after = sut.getDirection();
+
+        // Assert
+        assertEquals(Direction.RIGHT.getValue(), before, DELTA);
+        assertEquals(Direction.LEFT.getValue(), after, DELTA);
+    }
 }
@@ -0,0 +1,285 @@
+package com.github.hanyaeger.api.engine.entities.entity.physics;
+
+import com.github.hanyaeger.api.engine.entities.entity.AnchorPoint;
+import com.github.hanyaeger.api.engine.entities.entity.motion.DefaultMotionApplier;
+import com.github.hanyaeger.api.engine.entities.entity.motion.MotionApplier;
+import com.github.hanyaeger.api.engine.entities.entity.motion.Moveable;
+import com.github.hanyaeger.api.engine.exceptions.YaegerEngineException;
+import javafx.scene.Node;
+import javafx.scene.shape.Rectangle;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PhysicsWorldTest {
+
+    private static final long STEP = Math.round(1_000_000_000d / PhysicsWorld.DEFAULT_STEP_RATE);
+
+    private PhysicsWorld sut;
+    private long timestamp;
+
+    @BeforeEach
+    void setup() {
+        sut = new PhysicsWorld();
+        timestamp = 0;
+    }
+
+    @Test
+    void stepRateShouldBeLargerThanZero() {
+        // Arrange
+
+        // Act & Assert
+        assertThrows(YaegerEngineException.class, () -> new PhysicsWorld(0, PhysicsWorld.DEFAULT_PIXELS_PER_METER));
+    }
+
+    @Test
+    void pixelsPerMeterShouldBeLargerThanZero() {
+        // Arrange
+
+        // Act & Assert
+        assertThrows(YaegerEngineException.class, () -> new PhysicsWorld(PhysicsWorld.DEFAULT_STEP_RATE, 0));
+    }
+
+    @Test
+    void updateRateShouldBeLargerThanZero() {
+        // Arrange
+
+        // Act & Assert
+        assertThrows(YaegerEngineException.class, () -> sut.setUpdateRate(0));
+    }
+
+    @Test
+    void speedOfMoveableIsConvertedUsingTheUpdateRate() {
+        // Arrange
+        var box = new MovingBox(0, 0, 32, 32);
+        box.setMotionTo(2, 90d);
+        sut.setUpdateRate(30);
+
+        // Act
+        sut.register(box);
+
+        // Assert
+        var velocity = sut.getBody(box).getLinearVelocity();
+        assertEquals(60d / PhysicsWorld.DEFAULT_PIXELS_PER_METER, velocity.x, 1e-9);
+        assertEquals(0, velocity.y, 1e-9);
+        assertEquals(0, box.getSpeed());
+    }
+
+    @Test
+    void registeredPhysicalReceivesBody() {
+        // Arrange
+        var box = new Box(10, 20, 32, 32, PhysicsBodyType.DYNAMIC);
+
+        // Act
+        sut.register(box);
+
+        // Assert
+        assertEquals(1, sut.size());
+        var body = sut.getBody(box);
+        assertNotNull(body);
+        assertEquals(26d / PhysicsWorld.DEFAULT_PIXELS_PER_METER, body.getTransform().getTranslationX(), 1e-9);
+        assertEquals(36d / PhysicsWorld.DEFAULT_PIXELS_PER_METER, body.getTransform().getTranslationY(), 1e-9);
+    }
+
+    @Test
+    void firstUpdateDoesNotMovePhysical() {
+        // Arrange
+        var box = new Box(0, 0, 32, 32, PhysicsBodyType.DYNAMIC);
+        sut.register(box);
+
+        // Act
+        sut.update(1_000_000_000L);
+
+        // Assert
+        assertEquals(0, box.getTopY());
+    }
+
+    @Test
+    void dynamicPhysicalFallsDown() {
+        // Arrange
+        var box = new Box(0, 0, 32, 32, PhysicsBodyType.DYNAMIC);
+        sut.register(box);
+
+        // Act
+        simulate(60);
+
+        // Assert
+        var expected = 0.5 * 9.8 * PhysicsWorld.DEFAULT_PIXELS_PER_METER;
+        assertEquals(expected, box.getTopY(), expected * 0.05);
+        assertEquals(0, box.getLeftX(), 1e-6);
+    }
+
+    @Test
+    void staticPhysicalDoesNotMove() {
+        // Arrange
+        var ground = new Box(0, 200, 400, 20, PhysicsBodyType.STATIC);
+        sut.register(ground);
+
+        // Act
+        simulate(60);
+
+        // Assert
+        assertEquals(200, ground.getTopY());
+    }
+
+    @Test
+    void dynamicPhysicalComesToRestOnStaticPhysical() {
+        // Arrange
+        var ground = new Box(0, 200, 400, 20, PhysicsBodyType.STATIC);
+        var box = new Box(100, 100, 32, 32, PhysicsBodyType.DYNAMIC);
+        sut.register(ground);
+        sut.register(box);
+
+        // Act
+        simulate(180);
+
+        // Assert
+        assertEquals(200, box.getBottomY(), 1);
+        assertEquals(0, box.getRectangle().getRotate(), 1);
+    }
+
+    @Test
+    void setVelocityUsesPixelsPerSecond() {
+        // Arrange
+        var box = new Box(0, 0, 32, 32, PhysicsBodyType.DYNAMIC);
+        sut.setGravity(0, 0);
+        sut.register(box);
+
+        // Act
+        sut.setVelocity(box, 60, 0);
+        simulate(60);
+
+        // Assert
+        assertEquals(60, box.getLeftX(), 1);
+        assertEquals(0, box.getTopY(), 1e-6);
+    }
+
+    @Test
+    void placedPhysicalIsMovedWithinSimulation() {
+        // Arrange
+        var box = new Box(0, 0, 32, 32, PhysicsBodyType.DYNAMIC);
+        sut.setGravity(0, 0);
+        sut.register(box);
+        simulate(1);
+
+        // Act
+        box.setReferenceX(300);
+        simulate(1);
+
+        // Assert
+        assertEquals(300, box.getLeftX(), 1e-6);
+        assertEquals(316d / PhysicsWorld.DEFAULT_PIXELS_PER_METER, sut.getBody(box).getTransform().getTranslationX(), 1e-9);
+    }
+
+    @Test
+    void removedPhysicalIsNoLongerSimulated() {
+        // Arrange
+        var first = new Box(0, 0, 32, 32, PhysicsBodyType.DYNAMIC);
+        var second = new Box(100, 0, 32, 32, PhysicsBodyType.DYNAMIC);
+        sut.register(first);
+        sut.register(second);
+
+        // Act
+        sut.remove(first);
+        simulate(30);
+
+        // Assert
+        assertEquals(1, sut.size());
+        assertNull(sut.getBody(first));
+        assertEquals(0, first.getTopY());
+        assertTrue(second.getTopY() > 0);
+    }
+
+    @Test
+    void clearRemovesAllPhysicals() {
+        // Arrange
+        sut.register(new Box(0, 0, 32, 32, PhysicsBodyType.DYNAMIC));
+        sut.register(new Box(100, 0, 32, 32, PhysicsBodyType.STATIC));
+
+        // Act
+        sut.clear();
+
+        // Assert
+        assertEquals(0, sut.size());
+    }
+
+    private void simulate(final int steps) {
+        if (timestamp == 0) {
+            sut.update(timestamp);
+        }
+        for (var i = 0; i < steps; i++) {
+            timestamp += STEP;
+            sut.update(timestamp);
+        }
+    }
+
+    private static class Box implements Physical {
+
+        private final Rectangle rectangle;
+        private final PhysicsBodyType type;
+
+        Box(final double x, final double y, final double width, final double height, final PhysicsBodyType type) {
+            this.rectangle = new Rectangle(x, y, width, height);
+            this.type = type;
+        }
+
+        Rectangle getRectangle() {
+            return rectangle;
+        }
+
+        @Override
+        public PhysicsBodyType getPhysicsBodyType() {
+            return type;
+        }
+
+        @Override
+        public void setReferenceX(final double x) {
+            rectangle.setX(x);
+        }
+
+        @Override
+        public void setReferenceY(final double y) {
+            rectangle.setY(y);
+        }
+
+        @Override
+        public void placeOnScene() {
+        }
+
+        @Override
+        public void setAnchorPoint(final AnchorPoint anchorPoint) {
+        }
+
+        @Override
+        public AnchorPoint getAnchorPoint() {
+            return AnchorPoint.TOP_LEFT;
+        }
+
+        @Override
+        public Optional<Node> getGameNode() {
+            return Optional.of(rectangle);
+        }
+    }
+
+    private static class MovingBox extends Box implements Moveable {
+
+        private DefaultMotionApplier motionApplier = new DefaultMotionApplier();
+
+        MovingBox(final double x, final double y, final double width, final double height) {
+            super(x, y, width, height, PhysicsBodyType.DYNAMIC);
+        }
+
+        @Override
+        public void setMotionApplier(final DefaultMotionApplier motionApplier) {
+            this.motionApplier = motionApplier;
+        }
+
+        @Override
+        public MotionApplier getMotionApplier() {
+            return motionApplier;
+        }
+    }
+}
@@ -2,12 +2,15 @@ package com.github.hanyaeger.api.engine.entities.entity.sprite;
 
 import com.github.hanyaeger.api.engine.Size;
 import com.github.hanyaeger.api.engine.entities.entity.Coordinate2D;
+import com.github.hanyaeger.api.engine.entities.entity.collisions.AlphaMask;
+import com.github.hanyaeger.api.engine.entities.entity.collisions.PixelPerfectCollidable;
 import com.github.hanyaeger.api.engine.entities.entity.events.system.RemoveEntityEvent;
 import com.github.hanyaeger.api.engine.entities.entity.sprite.delegates.SpriteAnimationDelegate;
 import com.github.hanyaeger.api.engine.media.repositories.ImageRepository;
 import com.github.hanyaeger.api.guice.factories.SpriteAnimationDelegateFactory;
 import com.github.hanyaeger.api.javafx.image.ImageViewFactory;
 import com.google.inject.Injector;
+import javafx.beans.property.SimpleDoubleProperty;
 import javafx.geometry.Point2D;
 import javafx.scene.Node;
 import javafx.scene.image.Image;
@@ -237,6 +240,91 @@ class SpriteEntityTest {
         verify(spriteAnimationDelegate).setSpriteIndex(frames);
     }
 
+    @Test
+    void pixelPerfectSpriteReturnsAlphaMaskOfCurrentFrame() {
+        // Setup
+        var frames = 2;
+        var sut = new PixelPerfectSpriteEntityImpl(DEFAULT_RESOURCE, DEFAULT_LOCATION, DEFAULT_SIZE, frames);
+        var imageView = setupImageView(sut, frames, 1);
+        var alphaMasks = AlphaMask.create(new int[]{0xFF000000, 0}, 2, 1, frames);
+        when(imageRepository.getAlphaMasks(DEFAULT_RESOURCE, WIDTH * frames, HEIGHT, true, frames)).thenReturn(alphaMasks);
+        when(spriteAnimationDelegateFactory.create(imageView, frames)).thenReturn(spriteAnimationDelegate);
+        when(spriteAnimationDelegate.getFrameIndex()).thenReturn(1);
+
+        // Test
+        sut.init(injector);
+
+        // Assert
+        Assertions.assertSame(alphaMasks[1], sut.getAlphaMask());
+    }
+
+    @Test
+    void pixelPerfectSpriteCreatesAlphaMasksWhenImageIsLoaded() {
+        // Setup
+        var sut = new PixelPerfectSpriteEntityImpl(DEFAULT_RESOURCE, DEFAULT_LOCATION, DEFAULT_SIZE, 1);
+        var progress = new SimpleDoubleProperty(0.5);
+        var imageView = setupImageView(sut, 1, progress.get());
+        when(imageView.getImage().progressProperty()).thenReturn(progress);
+        var alphaMasks = AlphaMask.create(new int[]{0xFF000000}, 1, 1, 1);
+        when(imageRepository.getAlphaMasks(DEFAULT_RESOURCE, WIDTH, HEIGHT, true, 1)).thenReturn(null, alphaMasks);
+        sut.init(injector);
+
+        // Test
+        progress.set(1);
+
+        // Assert
+        Assertions.assertSame(alphaMasks[0], sut.getAlphaMask());
+    }
+
+    @Test
+    void pixelPerfectSpriteStopsListeningWhenImageIsLoaded() {
+        // Setup
+        var sut = new PixelPerfectSpriteEntityImpl(DEFAULT_RESOURCE, DEFAULT_LOCATION, DEFAULT_SIZE, 1);
+        var progress = new SimpleDoubleProperty(0.5);
+        var imageView = setupImageView(sut, 1, progress.get());
+        when(imageView.getImage().progressProperty()).thenReturn(progress);
+        var alphaMasks = AlphaMask.create(new int[]{0xFF000000}, 1, 1, 1);
+        when(imageRepository.getAlphaMasks(DEFAULT_RESOURCE, WIDTH, HEIGHT, true, 1)).thenReturn(null, alphaMasks);
+        sut.init(injector);
+        progress.set(1);
+
+        // Test
+        progress.set(0.5);
+        progress.set(1);
+
+        // Assert
+        verify(imageRepository, times(2)).getAlphaMasks(DEFAULT_RESOURCE, WIDTH, HEIGHT, true, 1);
+    }
+
+    @Test
+    void spriteThatIsNotPixelPerfectCreatesNoAlphaMasks() {
+        // Setup
+        var sut = new SpriteEntityWithDefaultFramesImpl(DEFAULT_RESOURCE, DEFAULT_LOCATION, DEFAULT_SIZE);
+        setupImageView(sut, 1, 1);
+
+        // Test
+        sut.init(injector);
+
+        // Assert
+        Assertions.assertNull(sut.getAlphaMask());
+        verify(imageRepository, never()).getAlphaMasks(anyString(), anyDouble(), anyDouble(), anyBoolean(), anyInt());
+    }
+
+    private ImageView setupImageView(final SpriteEntity sut, final int frames, final double progress) {
+        sut.setSpriteAnimationDelegateFactory(spriteAnimationDelegateFactory);
+        sut.setImageRepository(imageRepository);
+        sut.setImageViewFactory(imageViewFactory);
+
+        var image = mock(Image.class);
+        when(image.getProgress()).thenReturn(progress);
+        when(imageRepository.get(DEFAULT_RESOURCE, WIDTH * frames, HEIGHT, true)).thenReturn(image);
+
+        var imageView = mock(ImageView.class);
+        when(imageView.getImage()).thenReturn(image);
+        when(imageViewFactory.create(image)).thenReturn(imageView);
+        return imageView;
+    }
+
     private class SpriteEntityWithDefaultFramesImpl extends SpriteEntity {
 
         SpriteEntityWithDefaultFramesImpl(String resource, Coordinate2D location, Size size) {
@@ -254,4 +342,11 @@ class SpriteEntityTest {
             super(resource, location, size, frames);
         }
     }
+
+    private class PixelPerfectSpriteEntityImpl extends SpriteEntity implements PixelPerfectCollidable {
+
+        PixelPerfectSpriteEntityImpl(String resource, Coordinate2D location, Size size, int frames) {
+            super(resource, location, size, frames);
+        }
+    }
 }
@@ -2,6 +2,7 @@ package com.github.hanyaeger.api.engine.media.repositories;
 
 import com.github.hanyaeger.api.javafx.image.ImageFactory;
 import javafx.scene.image.Image;
+import javafx.scene.image.PixelReader;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -109,5 +110,65 @@ class ImageRepositoryTest {
         Assertions.assertSame(firstImage, secondImage);
         Assertions.assertEquals(1, imageRepository.size());
     }
-}
 
+    @Test
+    void getAlphaMasksOfLoadedImageCreatesMasksOnce() {
+        // Arrange
+        imageRepository.destroy();
+        var pixelReader = mock(PixelReader.class);
+        Image image = mock(Image.class);
+        when(image.getProgress()).thenReturn(1d);
+        when(image.getWidth()).thenReturn(4d);
+        when(image.getHeight()).thenReturn(2d);
+        when(image.getPixelReader()).thenReturn(pixelReader);
+        when(imageFactory.create(anyString(), anyDouble(), anyDouble(), anyBoolean())).thenReturn(image);
+
+        // Act
+        var firstMasks = imageRepository.getAlphaMasks("waterworld/images/bubble.png", 4, 2, true, 2);
+        var secondMasks = imageRepository.getAlphaMasks("waterworld/images/bubble.png", 4, 2, true, 2);
+
+        // Assert
+        Assertions.assertEquals(2, firstMasks.length);
+        Assertions.assertEquals(2, firstMasks[0].getWidth());
+        Assertions.assertSame(firstMasks, secondMasks);
+        verify(image, times(1)).getPixelReader();
+    }
+
+    @Test
+    void afterDestroyAlphaMasksAreCreatedAgain() {
+        // Arrange
+        var pixelReader = mock(PixelReader.class);
+        Image image = mock(Image.class);
+        when(image.getProgress()).thenReturn(1d);
+        when(image.getWidth()).thenReturn(4d);
+        when(image.getHeight()).thenReturn(2d);
+        when(image.getPixelReader()).thenReturn(pixelReader);
+        when(imageFactory.create(anyString(), anyDouble(), anyDouble(), anyBoolean())).thenReturn(image);
+        var firstMasks = imageRepository.getAlphaMasks("waterworld/images/bubble.png", 4, 2, true, 2);
+
+        // Act
+        imageRepository.destroy();
+        var secondMasks = imageRepository.getAlphaMasks("waterworld/images/bubble.png", 4, 2, true, 2);
+
+        // Assert
+        Assertions.assertNotSame(firstMasks, secondMasks);
+        verify(imageFactory, times(2)).create(anyString(), anyDouble(), anyDouble(), anyBoolean());
+        verify(image, times(2)).getPixelReader();
+    }
+
+    @Test
+    void getAlphaMasksOfImageThatIsLoadingReturnsNull() {
+        // Arrange
+        imageRepository.destroy();
+        Image image = mock(Image.class);
+        when(image.getProgress()).thenReturn(0.5d);
+        when(imageFactory.create(anyString(), anyDouble(), anyDouble(), anyBoolean())).thenReturn(image);
+
+        // Act
+        var masks = imageRepository.getAlphaMasks("waterworld/images/bubble.png", 4, 2, true, 2);
+
+        // Assert
+        Assertions.assertNull(masks);
+        verify(image, never()).getPixelReader();
+    }
+}
@@ -6,11 +6,13 @@ import com.github.hanyaeger.api.engine.Updater;
 import com.github.hanyaeger.api.engine.debug.Debugger;
 import com.github.hanyaeger.api.engine.entities.EntityCollection;
 import com.github.hanyaeger.api.engine.entities.EntitySupplier;
+import com.github.hanyaeger.api.engine.entities.entity.physics.PhysicsWorld;
 import com.github.hanyaeger.api.engine.scenes.delegates.BackgroundDelegate;
 import com.github.hanyaeger.api.engine.scenes.delegates.KeyListenerDelegate;
 import com.github.hanyaeger.api.guice.factories.EntityCollectionFactory;
 import com.github.hanyaeger.api.guice.factories.SceneFactory;
 import com.github.hanyaeger.api.javafx.animationtimer.AnimationTimerFactory;
+import com.github.hanyaeger.api.javafx.animationtimer.AnimationTimerHandler;
 import com.google.inject.Injector;
 import javafx.animation.AnimationTimer;
 import javafx.collections.ObservableList;
@@ -19,6 +21,7 @@ import javafx.scene.layout.Pane;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 
 import java.util.List;
 
@@ -148,6 +151,38 @@ class DynamicSceneTest {
         verify(entityCollection).update(0L);
     }
 
+    @Test
+    void setFixedTimestepUpdatesAtFixedRate() {
+        // Arrange
+        sut.updatesPerSecond = 60;
+        sut.activate();
+        var handler = ArgumentCaptor.forClass(AnimationTimerHandler.class);
+        verify(animationTimerFactory).create(handler.capture());
+
+        // Act
+        handler.getValue().handle(0L);
+        handler.getValue().handle(51_000_000L);
+
+        // Verify
+        verify(entityCollection).setRenderInterpolation(true);
+        verify(updater, times(3)).update(anyLong());
+        verify(entityCollection, times(2)).interpolate(anyDouble());
+    }
+
+    @Test
+    void setFixedTimestepSetsUpdateRateOfPhysicsWorld() {
+        // Arrange
+        var physicsWorld = mock(PhysicsWorld.class);
+        when(entityCollection.getPhysicsWorld()).thenReturn(physicsWorld);
+        sut.updatesPerSecond = 30;
+
+        // Act
+        sut.activate();
+
+        // Verify
+        verify(physicsWorld).setUpdateRate(30);
+    }
+
     @Test
     void setUpdaterIsUsed() {
         // Arrange
@@ -161,9 +196,13 @@ class DynamicSceneTest {
 
     private class DynamicSceneImpl extends DynamicScene {
 
+        private int updatesPerSecond;
+
         @Override
         public void setupScene() {
-            // Not required here
+            if (updatesPerSecond > 0) {
+                setFixedTimestep(updatesPerSecond);
+            }
         }
 
         @Override
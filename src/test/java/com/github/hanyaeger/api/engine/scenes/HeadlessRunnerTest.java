@@ -0,0 +1,148 @@
+package com.github.hanyaeger.api.engine.scenes;
+
+import com.github.hanyaeger.api.engine.Size;
+import com.github.hanyaeger.api.engine.entities.entity.Coordinate2D;
+import com.github.hanyaeger.api.engine.entities.entity.SceneBorderCrossingWatcher;
+import com.github.hanyaeger.api.engine.entities.entity.motion.Direction;
+import com.github.hanyaeger.api.engine.entities.entity.shape.rectangle.DynamicRectangleEntity;
+import com.github.hanyaeger.api.engine.exceptions.YaegerEngineException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HeadlessRunnerTest {
+
+    private static final Size SIZE = new Size(800, 600);
+
+    private HeadlessRunner sut;
+
+    @BeforeEach
+    void setup() {
+        sut = new HeadlessRunner(SIZE);
+    }
+
+    @Test
+    void updatesPerSecondShouldBeLargerThanZero() {
+        // Arrange
+
+        // Act & Assert
+        assertThrows(YaegerEngineException.class, () -> new HeadlessRunner(SIZE, 0));
+    }
+
+    @Test
+    void updateBeforeStartThrowsException() {
+        // Arrange
+
+        // Act & Assert
+        assertThrows(YaegerEngineException.class, () -> sut.update(1));
+    }
+
+    @Test
+    void startedSceneUsesGivenSize() {
+        // Arrange
+        var scene = new MovingRectangleScene();
+
+        // Act
+        sut.start(scene);
+
+        // Assert
+        assertSame(scene, sut.getScene());
+        assertEquals(800, scene.getWidth());
+        assertEquals(600, scene.getHeight());
+    }
+
+    @Test
+    void updatesMoveEntitiesWithSyntheticTimestamps() {
+        // Arrange
+        var scene = new MovingRectangleScene();
+        sut.start(scene);
+
+        // Act
+        sut.update(60);
+
+        // Assert
+        assertEquals(60, sut.getUpdates());
+        assertEquals(Math.round(1_000_000_000d / HeadlessRunner.DEFAULT_UPDATES_PER_SECOND) * 60, sut.getTimestamp());
+        assertEquals(120, scene.rectangle.getLeftX(), 1e-6);
+    }
+
+    @Test
+    void sceneBorderCrossingWatcherIsNotifiedWithoutScene() {
+        // Arrange
+        var scene = new BorderCrossingScene();
+        sut.start(scene);
+
+        // Act
+        sut.update(60 * 10);
+
+        // Assert
+        assertEquals(SIZE.getWidth(), scene.watcher.getSceneWidth());
+        assertEquals(SIZE.getHeight(), scene.watcher.getSceneHeight());
+        assertEquals(SceneBorder.RIGHT, scene.watcher.crossedBorder);
+    }
+
+    @Test
+    void stopDestroysScene() {
+        // Arrange
+        sut.start(new MovingRectangleScene());
+
+        // Act
+        sut.stop();
+
+        // Assert
+        assertNull(sut.getScene());
+    }
+
+    private static class MovingRectangleScene extends DynamicScene {
+
+        private MovingRectangle rectangle;
+
+        @Override
+        public void setupScene() {
+            // Not required here
+        }
+
+        @Override
+        public void setupEntities() {
+            rectangle = new MovingRectangle();
+            addEntity(rectangle);
+        }
+    }
+
+    private static class BorderCrossingScene extends DynamicScene {
+
+        private BorderCrossingRectangle watcher;
+
+        @Override
+        public void setupScene() {
+            // Not required here
+        }
+
+        @Override
+        public void setupEntities() {
+            watcher = new BorderCrossingRectangle();
+            addEntity(watcher);
+        }
+    }
+
+    private static class BorderCrossingRectangle extends MovingRectangle implements SceneBorderCrossingWatcher {
+
+        private SceneBorder crossedBorder;
+
+        @Override
+        public void notifyBoundaryCrossing(final SceneBorder border) {
+            crossedBorder = border;
+        }
+    }
+
+    private static class MovingRectangle extends DynamicRectangleEntity {
+
+        MovingRectangle() {
+            super(new Coordinate2D(0, 0));
+            setWidth(10);
+            setHeight(10);
+            setMotionTo(2, Direction.RIGHT.getValue());
+        }
+    }
+}